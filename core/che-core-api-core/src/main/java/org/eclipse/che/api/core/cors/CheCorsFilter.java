@@ -13,6 +13,7 @@ package org.eclipse.che.api.core.cors;
 import com.google.inject.Singleton;
 
 import org.apache.catalina.filters.CorsFilter;
+import org.eclipse.che.api.core.rest.CheJsonProvider;
 
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
@@ -83,7 +84,8 @@ public class CheCorsFilter implements Filter {
                                                          "Origin," +
                                                          "Authorization," +
                                                          "Access-Control-Request-Method," +
-                                                         "Access-Control-Request-Headers");
+                                                         "Access-Control-Request-Headers," +
+                                                         CheJsonProvider.COMPACT_JSON_HEADER);
             filterParams.put(PARAM_CORS_EXPOSED_HEADERS, "JAXRS-Body-Provided");
             filterParams.put(PARAM_CORS_SUPPORT_CREDENTIALS, "true");
             // preflight cache is available for 10 minutes
@@ -11,6 +11,7 @@
 package org.eclipse.che.api.core.notification;
 
 import org.eclipse.che.commons.lang.NameGenerator;
+import org.eclipse.che.everrest.JsonChannelBroadcastMessage;
 import org.everrest.core.impl.provider.json.JsonGenerator;
 import org.everrest.core.impl.provider.json.JsonParser;
 import org.everrest.core.impl.provider.json.JsonValue;
@@ -20,11 +21,11 @@ import org.everrest.core.impl.provider.json.StringValue;
 import org.everrest.websockets.message.ChannelBroadcastMessage;
 import org.everrest.websockets.message.InputMessage;
 import org.everrest.websockets.message.RestInputMessage;
-import org.everrest.websockets.message.RestOutputMessage;
 
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.Iterator;
 
 import javax.ws.rs.HttpMethod;
 import javax.ws.rs.core.MediaType;
@@ -49,14 +50,43 @@ class Messages {
     }
 
     static ChannelBroadcastMessage broadcastMessage(String channel, Object event) throws Exception {
-        final ChannelBroadcastMessage message = new ChannelBroadcastMessage();
-        message.setBody(toJson(event));
-        message.setChannel(channel);
-        return message;
+        return new JsonChannelBroadcastMessage(channel, toJson(event));
+    }
+
+    static JsonValue parseMessage(String message) throws Exception {
+        final JsonParser parser = new JsonParser();
+        parser.parse(new StringReader(message));
+        return parser.getJsonObject();
     }
 
-    static Object restoreEventFromBroadcastMessage(RestOutputMessage message) throws Exception {
-        return fromJson(message.getBody());
+    static String getChannel(JsonValue message) {
+        final JsonValue headers = message.getElement("headers");
+        if (headers != null && headers.isArray()) {
+            for (Iterator<JsonValue> i = headers.getElements(); i.hasNext(); ) {
+                final JsonValue header = i.next();
+                final JsonValue name = header.getElement("name");
+                if (name != null && "x-everrest-websocket-channel".equals(name.getStringValue())) {
+                    final JsonValue value = header.getElement("value");
+                    return value == null ? null : value.getStringValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Restores event from the parsed broadcast message. Event is either embedded into the message as JSON object or
+     * sent as JSON string by servers which don't embed it.
+     */
+    static Object restoreEventFromBroadcastMessage(JsonValue message) throws Exception {
+        final JsonValue body = message.getElement("body");
+        if (body == null || body.isNull()) {
+            return null;
+        }
+        if (body.isString()) {
+            return fromJson(body.getStringValue());
+        }
+        return fromJson(body);
     }
 
     static Object restoreEventFromClientMessage(String message) throws Exception {
@@ -79,9 +109,10 @@ class Messages {
         if (json == null || json.isEmpty()) {
             return null;
         }
-        final JsonParser parser = new JsonParser();
-        parser.parse(new StringReader(json));
-        final JsonValue node = parser.getJsonObject();
+        return fromJson(parseMessage(json));
+    }
+
+    private static Object fromJson(JsonValue node) throws Exception {
         final JsonValue typeNode = node.getElement("$type");
         final String type;
         if (typeNode == null || (type = typeNode.getStringValue()) == null) {
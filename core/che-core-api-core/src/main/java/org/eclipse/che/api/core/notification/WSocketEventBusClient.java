@@ -14,10 +14,10 @@ import org.eclipse.che.commons.lang.Pair;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
+import org.everrest.core.impl.provider.json.JsonValue;
 import org.everrest.websockets.client.BaseClientMessageListener;
 import org.everrest.websockets.client.WSClient;
 import org.everrest.websockets.message.JsonMessageConverter;
-import org.everrest.websockets.message.RestOutputMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -199,18 +199,12 @@ public final class WSocketEventBusClient {
         @Override
         public void onMessage(String data) {
             try {
-                final RestOutputMessage message = messageConverter.fromString(data, RestOutputMessage.class);
-                if (message != null && message.getHeaders() != null) {
-                    for (org.everrest.websockets.message.Pair header : message.getHeaders()) {
-                        if ("x-everrest-websocket-channel".equals(header.getName())) {
-                            final String channel = header.getValue();
-                            if (channel != null && channels.contains(channel)) {
-                                final Object event = Messages.restoreEventFromBroadcastMessage(message);
-                                if (event != null) {
-                                    eventService.publish(event);
-                                }
-                            }
-                        }
+                final JsonValue message = Messages.parseMessage(data);
+                final String channel = Messages.getChannel(message);
+                if (channel != null && channels.contains(channel)) {
+                    final Object event = Messages.restoreEventFromBroadcastMessage(message);
+                    if (event != null) {
+                        eventService.publish(event);
                     }
                 }
             } catch (Exception e) {
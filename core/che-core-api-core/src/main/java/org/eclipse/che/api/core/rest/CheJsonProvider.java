@@ -14,6 +14,8 @@ import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.dto.server.DtoFactory;
 import org.eclipse.che.dto.server.JsonSerializable;
 import org.eclipse.che.dto.shared.DTO;
+import org.everrest.core.ApplicationContext;
+import org.everrest.core.impl.ApplicationContextImpl;
 import org.everrest.core.impl.provider.JsonEntityProvider;
 
 import javax.inject.Inject;
@@ -53,6 +55,12 @@ import java.util.Set;
 @Produces({MediaType.APPLICATION_JSON})
 @Consumes({MediaType.APPLICATION_JSON})
 public class CheJsonProvider<T> implements MessageBodyReader<T>, MessageBodyWriter<T> {
+    /**
+     * Request header which asks to write DTOs in compact form, see {@link JsonSerializable#toCompactJson()}. Compact form is used
+     * when value of the header is {@code true}.
+     */
+    public static final String COMPACT_JSON_HEADER = "X-Che-Compact-Json";
+
     private Set<Class> ignoredClasses;
     private final JsonEntityProvider delegate = new JsonEntityProvider<>();
 
@@ -79,9 +87,25 @@ public class CheJsonProvider<T> implements MessageBodyReader<T>, MessageBodyWrit
                         MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException, WebApplicationException {
         // Add Cache-Control before start write body.
         httpHeaders.putSingle(HttpHeaders.CACHE_CONTROL, "public, no-cache, no-store, no-transform");
+        final boolean compactJson = isCompactJsonRequested();
         if (t instanceof JsonSerializable) {
+            httpHeaders.add(HttpHeaders.VARY, COMPACT_JSON_HEADER);
             try (Writer w = new OutputStreamWriter(entityStream, Charset.forName("UTF-8"))) {
-                w.write(((JsonSerializable)t).toJson());
+                w.write(compactJson ? ((JsonSerializable)t).toCompactJson() : ((JsonSerializable)t).toJson());
+            }
+        } else if (compactJson && isListOfJsonSerializable(t)) {
+            httpHeaders.add(HttpHeaders.VARY, COMPACT_JSON_HEADER);
+            try (Writer w = new OutputStreamWriter(entityStream, Charset.forName("UTF-8"))) {
+                w.write('[');
+                boolean first = true;
+                for (Object item : (List<?>)t) {
+                    if (!first) {
+                        w.write(',');
+                    }
+                    w.write(((JsonSerializable)item).toCompactJson());
+                    first = false;
+                }
+                w.write(']');
             }
         } else {
             delegate.writeTo(t, type, genericType, annotations, mediaType, httpHeaders, entityStream);
@@ -114,6 +138,23 @@ public class CheJsonProvider<T> implements MessageBodyReader<T>, MessageBodyWrit
         return (T)delegate.readFrom(type, genericType, annotations, mediaType, httpHeaders, entityStream);
     }
 
+    private static boolean isCompactJsonRequested() {
+        final ApplicationContext context = ApplicationContextImpl.getCurrent();
+        return context != null && Boolean.parseBoolean(context.getHttpHeaders().getRequestHeaders().getFirst(COMPACT_JSON_HEADER));
+    }
+
+    private static boolean isListOfJsonSerializable(Object entity) {
+        if (!(entity instanceof List)) {
+            return false;
+        }
+        for (Object item : (List<?>)entity) {
+            if (!(item instanceof JsonSerializable)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Get Set of classes that we never try to serialize or deserialize. Returned Set is mutable and new classes may be added in ignored
      * Set.
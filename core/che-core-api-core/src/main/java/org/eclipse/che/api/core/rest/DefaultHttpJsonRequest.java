@@ -45,6 +45,8 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static java.util.Objects.requireNonNull;
@@ -72,13 +74,25 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
     private Object                body;
     private List<Pair<String, ?>> queryParams;
     private String                authorizationHeaderValue;
+    private long                  cacheTtl;
+
+    private final HttpJsonResponseCache responseCache;
 
     DefaultHttpJsonRequest(String url) {
-        this.url = requireNonNull(url, "Required non-null url");
+        this(url, null);
     }
 
     DefaultHttpJsonRequest(Link link) {
-        this(requireNonNull(link, "Required non-null link").getHref());
+        this(link, null);
+    }
+
+    DefaultHttpJsonRequest(String url, HttpJsonResponseCache responseCache) {
+        this.url = requireNonNull(url, "Required non-null url");
+        this.responseCache = responseCache;
+    }
+
+    DefaultHttpJsonRequest(Link link, HttpJsonResponseCache responseCache) {
+        this(requireNonNull(link, "Required non-null link").getHref(), responseCache);
         this.method = link.getMethod();
     }
 
@@ -130,6 +144,13 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
         return this;
     }
 
+    @Override
+    public HttpJsonRequest cacheFor(long ttl, @NotNull TimeUnit unit) {
+        requireNonNull(unit, "Required non-null time unit");
+        this.cacheTtl = unit.toMillis(ttl);
+        return this;
+    }
+
     @Override
     public String getUrl() {
         final UriBuilder ub = UriBuilder.fromUri(url);
@@ -160,7 +181,9 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
      *
      * <p>Uses {@link HttpHeaders#AUTHORIZATION} header with value from {@link EnvironmentContext}.
      * <br>uses {@link HttpHeaders#ACCEPT} header with "application/json" value.
+     * <br>Accepts gzipped responses.
      * <br>Encodes query parameters in "UTF-8".
+     * <br>Takes response from {@link HttpJsonResponseCache} if caching is requested with {@link #cacheFor(long, TimeUnit)}.
      *
      * @param timeout
      *         request timeout, used only if it is greater than 0
@@ -216,17 +239,56 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
             }
             url = ub.build().toString();
         }
+        final String authorization = isNullOrEmpty(authorizationHeaderValue) ? authToken : authorizationHeaderValue;
+        HttpJsonResponseCache.Key cacheKey = null;
+        HttpJsonResponseCache.Entry cached = null;
+        if (responseCache != null && cacheTtl > 0 && body == null && isCacheable(method)) {
+            cacheKey = new HttpJsonResponseCache.Key(method, url, authorization);
+            cached = responseCache.get(cacheKey);
+            if (cached != null && cached.isFresh()) {
+                responseCache.hit();
+                return new DefaultHttpJsonResponse(cached.getBody(), cached.getResponseCode());
+            }
+        }
+        try {
+            return doRequest(timeout, url, method, body, authorization, cacheKey, cached);
+        } finally {
+            // request with body may change resource even if it is sent with GET method
+            if (responseCache != null && (body != null || !isCacheable(method))) {
+                responseCache.invalidate(url);
+            }
+        }
+    }
+
+    private DefaultHttpJsonResponse doRequest(int timeout,
+                                              String url,
+                                              String method,
+                                              Object body,
+                                              String authorization,
+                                              HttpJsonResponseCache.Key cacheKey,
+                                              HttpJsonResponseCache.Entry cached) throws IOException,
+                                                                                         ServerException,
+                                                                                         ForbiddenException,
+                                                                                         NotFoundException,
+                                                                                         UnauthorizedException,
+                                                                                         ConflictException,
+                                                                                         BadRequestException {
         final HttpURLConnection conn = (HttpURLConnection)new URL(url).openConnection();
         conn.setConnectTimeout(timeout > 0 ? timeout : 60000);
         conn.setReadTimeout(timeout > 0 ? timeout : 60000);
+        if (responseCache != null) {
+            responseCache.requested();
+        }
         try {
             conn.setRequestMethod(method);
             //drop a hint for server side that we want to receive application/json
             conn.addRequestProperty(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON);
-            if (!isNullOrEmpty(authorizationHeaderValue)) {
-                conn.setRequestProperty(HttpHeaders.AUTHORIZATION, authorizationHeaderValue);
-            } else if (authToken != null) {
-                conn.setRequestProperty(HttpHeaders.AUTHORIZATION, authToken);
+            conn.addRequestProperty(HttpHeaders.ACCEPT_ENCODING, "gzip");
+            if (authorization != null) {
+                conn.setRequestProperty(HttpHeaders.AUTHORIZATION, authorization);
+            }
+            if (cached != null && cached.getETag() != null) {
+                conn.setRequestProperty(HttpHeaders.IF_NONE_MATCH, cached.getETag());
             }
             if (body != null) {
                 conn.addRequestProperty(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
@@ -243,15 +305,18 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
             }
 
             final int responseCode = conn.getResponseCode();
+            if (responseCode == Response.Status.NOT_MODIFIED.getStatusCode() && cached != null) {
+                readBody(conn, conn.getInputStream());
+                responseCache.revalidated();
+                responseCache.put(cacheKey, cached.prolong(cacheTtl));
+                return new DefaultHttpJsonResponse(cached.getBody(), cached.getResponseCode());
+            }
             if ((responseCode / 100) != 2) {
                 InputStream in = conn.getErrorStream();
                 if (in == null) {
                     in = conn.getInputStream();
                 }
-                final String str;
-                try (Reader reader = new InputStreamReader(in)) {
-                    str = CharStreams.toString(reader);
-                }
+                final String str = readBody(conn, in);
                 final String contentType = conn.getContentType();
                 if (contentType != null && contentType.startsWith(MediaType.APPLICATION_JSON)) {
                     final ServiceError serviceError = DtoFactory.getInstance().createDtoFromJson(str, ServiceError.class);
@@ -281,14 +346,42 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
                 throw new IOException(conn.getResponseMessage());
             }
 
-            try (Reader reader = new InputStreamReader(conn.getInputStream())) {
-                return new DefaultHttpJsonResponse(CharStreams.toString(reader), responseCode);
+            final String responseBody = readBody(conn, conn.getInputStream());
+            if (cacheKey != null) {
+                responseCache.miss();
+                final String cacheControl = conn.getHeaderField(HttpHeaders.CACHE_CONTROL);
+                if (cacheControl == null || !cacheControl.contains("no-store")) {
+                    responseCache.put(cacheKey, new HttpJsonResponseCache.Entry(responseBody,
+                                                                                responseCode,
+                                                                                conn.getHeaderField(HttpHeaders.ETAG),
+                                                                                cacheTtl));
+                }
             }
-        } finally {
+            return new DefaultHttpJsonResponse(responseBody, responseCode);
+        } catch (IOException | RuntimeException e) {
+            // connection may be in inconsistent state, so don't let it be reused
             conn.disconnect();
+            throw e;
         }
     }
 
+    /**
+     * Reads response body till the end and closes the stream, so the connection is returned to the keep-alive cache
+     * of {@link HttpURLConnection} and reused by the next request to the same server.
+     */
+    private String readBody(HttpURLConnection conn, InputStream in) throws IOException {
+        if ("gzip".equalsIgnoreCase(conn.getContentEncoding())) {
+            in = new GZIPInputStream(in);
+        }
+        try (Reader reader = new InputStreamReader(in)) {
+            return CharStreams.toString(reader);
+        }
+    }
+
+    private static boolean isCacheable(String method) {
+        return HttpMethod.GET.equals(method) || HttpMethod.OPTIONS.equals(method);
+    }
+
     private String getAuthenticationToken() {
         final Subject subject = EnvironmentContext.getCurrent().getSubject();
         if (subject != null) {
@@ -18,18 +18,28 @@ import javax.validation.constraints.NotNull;
 /**
  * Creates {@link DefaultHttpJsonRequest} instances.
  *
+ * <p>Requests created by the same factory share {@link HttpJsonResponseCache}, responses are cached only for requests
+ * which opt in with {@link HttpJsonRequest#cacheFor(long, java.util.concurrent.TimeUnit)}.
+ *
  * @author Yevhenii Voevodin
  */
 @Singleton
 public class DefaultHttpJsonRequestFactory implements HttpJsonRequestFactory {
 
+    private final HttpJsonResponseCache responseCache = new HttpJsonResponseCache();
+
     @Override
     public HttpJsonRequest fromUrl(@NotNull String url) {
-        return new DefaultHttpJsonRequest(url);
+        return new DefaultHttpJsonRequest(url, responseCache);
     }
 
     @Override
     public HttpJsonRequest fromLink(@NotNull Link link) {
-        return new DefaultHttpJsonRequest(link);
+        return new DefaultHttpJsonRequest(link, responseCache);
+    }
+
+    /** Returns cache of responses shared by requests of this factory, e.g. to check its statistics. */
+    public HttpJsonResponseCache getResponseCache() {
+        return responseCache;
     }
 }
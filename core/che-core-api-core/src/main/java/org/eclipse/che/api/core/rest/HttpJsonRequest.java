@@ -27,6 +27,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Defines simple set of methods for requesting json objects.
@@ -141,6 +142,24 @@ public interface HttpJsonRequest {
      */
     HttpJsonRequest setTimeout(int timeoutMs);
 
+    /**
+     * Allows to take response of this request from the cache of the factory which created the request. Cached
+     * response is used without request to the server during {@code ttl}, after that it is revalidated with
+     * conditional request if server supports ETags. Only GET and OPTIONS requests without body are cached.
+     *
+     * <p>By default caching isn't supported and this method does nothing.
+     *
+     * @param ttl
+     *         time to live of cached response
+     * @param unit
+     *         unit of {@code ttl}
+     * @return this request instance
+     * @see HttpJsonResponseCache
+     */
+    default HttpJsonRequest cacheFor(long ttl, @NotNull TimeUnit unit) {
+        return this;
+    }
+
     /**
      * Returns HTTP URL built from source URL
      * and query parameters added to this request.
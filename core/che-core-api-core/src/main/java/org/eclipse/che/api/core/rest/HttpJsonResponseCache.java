@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.rest;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of responses of {@link DefaultHttpJsonRequest}s created by the same {@link DefaultHttpJsonRequestFactory}.
+ * <p/>
+ * Only responses of GET and OPTIONS requests without body are cached and only if caching is requested with
+ * {@link HttpJsonRequest#cacheFor(long, TimeUnit)}. Cached response is returned without any request to the server
+ * until its time to live expires, after that it is revalidated with conditional request if server sent ETag for it.
+ * Any other request, e.g. POST or DELETE or request with body, evicts cached responses of the URL it is sent to and
+ * of its parent and child URLs, so changes made through the same factory are visible immediately.
+ */
+public final class HttpJsonResponseCache {
+    static final int MAX_SIZE = 1000;
+
+    private final Cache<Key, Entry> entries;
+    private final AtomicLong        hits;
+    private final AtomicLong        revalidations;
+    private final AtomicLong        misses;
+    private final AtomicLong        requests;
+
+    HttpJsonResponseCache() {
+        entries = CacheBuilder.newBuilder()
+                              .concurrencyLevel(8)
+                              .maximumSize(MAX_SIZE)
+                              .build();
+        hits = new AtomicLong();
+        revalidations = new AtomicLong();
+        misses = new AtomicLong();
+        requests = new AtomicLong();
+    }
+
+    /** Returns number of responses taken from the cache without request to the server. */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /** Returns number of cached responses confirmed by the server with <i>304 Not Modified</i>. */
+    public long getRevalidations() {
+        return revalidations.get();
+    }
+
+    /** Returns number of requests which could be cached but required full response from the server. */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /** Returns number of requests sent to the server, both cacheable and not. */
+    public long getRequests() {
+        return requests.get();
+    }
+
+    /** Returns number of cached responses. */
+    public long size() {
+        return entries.size();
+    }
+
+    /** Evicts all cached responses. */
+    public void invalidateAll() {
+        entries.invalidateAll();
+    }
+
+    Entry get(Key key) {
+        return entries.getIfPresent(key);
+    }
+
+    void put(Key key, Entry entry) {
+        entries.put(key, entry);
+    }
+
+    /** Evicts responses of the URL and of URLs which are its parents or children, query is ignored. */
+    void invalidate(String url) {
+        final String path = withoutQuery(url);
+        entries.asMap().keySet().removeIf(key -> isSameOrNested(key.path, path) || isSameOrNested(path, key.path));
+    }
+
+    void hit() {
+        hits.incrementAndGet();
+    }
+
+    void revalidated() {
+        revalidations.incrementAndGet();
+    }
+
+    void miss() {
+        misses.incrementAndGet();
+    }
+
+    void requested() {
+        requests.incrementAndGet();
+    }
+
+    private static boolean isSameOrNested(String path, String parent) {
+        return path.startsWith(parent) && (path.length() == parent.length() || path.charAt(parent.length()) == '/');
+    }
+
+    private static String withoutQuery(String url) {
+        final int query = url.indexOf('?');
+        String path = query == -1 ? url : url.substring(0, query);
+        if (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        return path;
+    }
+
+    /** Key of cached response, responses for different users are cached separately. */
+    static final class Key {
+        private final String method;
+        private final String url;
+        private final String authorization;
+        private final String path;
+
+        Key(String method, String url, String authorization) {
+            this.method = method;
+            this.url = url;
+            this.authorization = authorization;
+            this.path = withoutQuery(url);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key)o;
+            return method.equals(other.method)
+                   && url.equals(other.url)
+                   && Objects.equals(authorization, other.authorization);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(method, url, authorization);
+        }
+    }
+
+    /** Cached response. */
+    static final class Entry {
+        private final String body;
+        private final int    responseCode;
+        private final String eTag;
+        private final long   expirationTime;
+
+        Entry(String body, int responseCode, String eTag, long ttlMs) {
+            this.body = body;
+            this.responseCode = responseCode;
+            this.eTag = eTag;
+            this.expirationTime = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        }
+
+        String getBody() {
+            return body;
+        }
+
+        int getResponseCode() {
+            return responseCode;
+        }
+
+        String getETag() {
+            return eTag;
+        }
+
+        boolean isFresh() {
+            return System.nanoTime() - expirationTime < 0;
+        }
+
+        /** Returns copy of this entry with prolonged time to live. */
+        Entry prolong(long ttlMs) {
+            return new Entry(body, responseCode, eTag, ttlMs);
+        }
+    }
+}
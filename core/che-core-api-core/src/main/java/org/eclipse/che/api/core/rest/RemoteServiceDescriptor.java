@@ -27,6 +27,7 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Provides basic functionality to access remote {@link Service Service}. Basically provides next information about {@code Service}:
@@ -44,6 +45,9 @@ import java.util.List;
 public class RemoteServiceDescriptor {
     private static final Logger LOG = LoggerFactory.getLogger(RemoteServiceDescriptor.class);
 
+    /** Descriptors are rarely changed, callers usually create new instance of this class for each call of service. */
+    private static final long DESCRIPTOR_CACHE_TTL_SECONDS = 60;
+
     protected final String                 baseUrl;
     private final   HttpJsonRequestFactory requestFactory;
 
@@ -97,6 +101,7 @@ public class RemoteServiceDescriptor {
                     try {
                         serviceDescriptor = requestFactory.fromUrl(baseUrl)
                                                           .useOptionsMethod()
+                                                          .cacheFor(DESCRIPTOR_CACHE_TTL_SECONDS, TimeUnit.SECONDS)
                                                           .request()
                                                           .as(getServiceDescriptorClass(), null);
                     } catch (NotFoundException | ConflictException | UnauthorizedException | BadRequestException | ForbiddenException e) {
@@ -14,6 +14,7 @@ import org.eclipse.che.api.core.rest.shared.Links;
 import org.eclipse.che.dto.shared.DTO;
 import org.eclipse.che.dto.shared.DelegateRule;
 import org.eclipse.che.dto.shared.DelegateTo;
+import org.eclipse.che.dto.shared.SerializationIndex;
 
 import java.util.List;
 
@@ -22,6 +23,7 @@ import java.util.List;
  */
 @DTO
 public interface Hyperlinks {
+    @SerializationIndex(1)
     List<Link> getLinks();
 
     Hyperlinks withLinks(List<Link> links);
@@ -13,6 +13,7 @@ package org.eclipse.che.api.core.rest.shared.dto;
 import org.eclipse.che.dto.shared.DTO;
 import org.eclipse.che.dto.shared.DelegateRule;
 import org.eclipse.che.dto.shared.DelegateTo;
+import org.eclipse.che.dto.shared.SerializationIndex;
 
 import java.util.List;
 
@@ -28,6 +29,7 @@ public interface Link {
      *
      * @return URL of resource link.
      */
+    @SerializationIndex(1)
     String getHref();
 
     Link withHref(String href);
@@ -45,6 +47,7 @@ public interface Link {
      *
      * @return short description of resource link
      */
+    @SerializationIndex(2)
     String getRel();
 
     Link withRel(String rel);
@@ -62,6 +65,7 @@ public interface Link {
      *
      * @return HTTP method to use with resource
      */
+    @SerializationIndex(3)
     String getMethod();
 
     Link withMethod(String method);
@@ -79,6 +83,7 @@ public interface Link {
      *
      * @return media type produced by resource
      */
+    @SerializationIndex(4)
     String getProduces();
 
     Link withProduces(String produces);
@@ -96,6 +101,7 @@ public interface Link {
      *
      * @return media type consumed by resource
      */
+    @SerializationIndex(5)
     String getConsumes();
 
     Link withConsumes(String consumes);
@@ -113,6 +119,7 @@ public interface Link {
      *
      * @return description of the query parameters (if any) of request
      */
+    @SerializationIndex(6)
     List<LinkParameter> getParameters();
 
     @DelegateTo(client = @DelegateRule(type = LinkParameterResolver.class, method = "getParameter"),
@@ -134,6 +141,7 @@ public interface Link {
      *
      * @return request body description
      */
+    @SerializationIndex(7)
     RequestBodyDescriptor getRequestBody();
 
     Link withRequestBody(RequestBodyDescriptor requestBody);
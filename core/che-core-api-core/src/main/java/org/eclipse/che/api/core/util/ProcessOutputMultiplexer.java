@@ -0,0 +1,438 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Reads stdout and stderr of many processes with a small fixed group of threads.
+ * <p/>
+ * Pipes of a process can't be registered in a {@link java.nio.channels.Selector}, so each thread of the group polls
+ * the streams assigned to it and reads only as much as is available without blocking. Read bytes are buffered in
+ * {@link ProcessOutput} until the consumer takes them, at most {@link #MAX_PENDING_BYTES} per stream. When the buffer is
+ * full the stream isn't read, so the process blocks on writing instead of filling the memory. Stdout and stderr are read
+ * independently, so a process which writes a lot to stderr doesn't stall because nobody reads it.
+ * <p/>
+ * Thread of the group sleeps for a few milliseconds between polls only while it has streams which may get new data. It is
+ * parked until it is woken up when no streams are assigned to it or buffers of all its streams are full.
+ * <p/>
+ * Stream is considered to be finished when the process is terminated and everything it wrote is read, output written by
+ * descendants of the process after its termination is ignored.
+ */
+public final class ProcessOutputMultiplexer {
+    private static final Logger LOG = LoggerFactory.getLogger(ProcessOutputMultiplexer.class);
+
+    static final int MAX_PENDING_BYTES = 64 * 1024;
+    static final int MAX_LINE_LENGTH   = 1024 * 1024;
+
+    private static final int  BUFFER_SIZE          = 8192;
+    private static final int  SHORT_SLEEPS         = 10;
+    private static final long SLEEP_AFTER_ACTIVITY = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLEEP_WHEN_IDLE      = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private static final ProcessOutputMultiplexer DEFAULT =
+            new ProcessOutputMultiplexer(Math.min(2, Runtime.getRuntime().availableProcessors()), "ProcessOutput-%d");
+
+    /** Returns multiplexer shared by all users of {@link ProcessUtil}. */
+    public static ProcessOutputMultiplexer getDefault() {
+        return DEFAULT;
+    }
+
+    private final Worker[]      workers;
+    private final AtomicInteger nextWorker;
+
+    /**
+     * @param threads
+     *         number of threads which read streams
+     * @param nameFormat
+     *         format of thread names, e.g. <i>ProcessOutput-%d</i>
+     */
+    public ProcessOutputMultiplexer(int threads, String nameFormat) {
+        final ThreadFactory threadFactory = new ThreadFactoryBuilder().setNameFormat(nameFormat).setDaemon(true).build();
+        workers = new Worker[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Worker();
+            final Thread thread = threadFactory.newThread(workers[i]);
+            workers[i].thread = thread;
+            thread.start();
+        }
+        nextWorker = new AtomicInteger();
+    }
+
+    /**
+     * Starts reading of stdout and stderr of the process. Output must be consumed with
+     * {@link ProcessOutput#readLines(LineConsumer, LineConsumer)} or {@link ProcessOutput#readBytes(OutputStream, OutputStream)}
+     * otherwise the process is blocked once the buffer is full.
+     */
+    public ProcessOutput attach(Process process) {
+        final ProcessOutput output = new ProcessOutput();
+        final Worker worker = workers[Math.abs(nextWorker.getAndIncrement() % workers.length)];
+        output.reader = worker.thread;
+        worker.add(new Source(process, process.getInputStream(), output, ProcessOutput.STDOUT));
+        worker.add(new Source(process, process.getErrorStream(), output, ProcessOutput.STDERR));
+        return output;
+    }
+
+    /** Output of a process which is buffered until it is consumed. */
+    public static final class ProcessOutput {
+        private static final int STDOUT = 0;
+        private static final int STDERR = 1;
+
+        /** Wakes up consumer when reading is cancelled. */
+        private static final Chunk CANCELLED = new Chunk(-1, null);
+
+        private final BlockingQueue<Chunk> chunks;
+        private final AtomicInteger[]      pending;
+
+        private volatile boolean cancelled;
+        /** Thread which reads streams of the process. */
+        private volatile Thread  reader;
+
+        private ProcessOutput() {
+            chunks = new LinkedBlockingQueue<>();
+            pending = new AtomicInteger[]{new AtomicInteger(), new AtomicInteger()};
+        }
+
+        /**
+         * Writes lines of stdout and stderr to consumers until both streams are finished. Consumers are called in the
+         * current thread.
+         *
+         * @throws IOException
+         *         if consumer fails or current thread is interrupted
+         */
+        public void readLines(LineConsumer stdout, LineConsumer stderr) throws IOException {
+            final LineDecoder[] decoders = {new LineDecoder(stdout), new LineDecoder(stderr)};
+            drain(new ChunkHandler() {
+                @Override
+                public void data(int stream, byte[] data) throws IOException {
+                    decoders[stream].decode(data);
+                }
+
+                @Override
+                public void end(int stream) throws IOException {
+                    decoders[stream].finish();
+                }
+            });
+        }
+
+        /**
+         * Writes raw bytes of stdout and stderr to streams until both process streams are finished. Streams aren't closed.
+         *
+         * @throws IOException
+         *         if writing fails or current thread is interrupted
+         */
+        public void readBytes(OutputStream stdout, OutputStream stderr) throws IOException {
+            final OutputStream[] streams = {stdout, stderr};
+            drain(new ChunkHandler() {
+                @Override
+                public void data(int stream, byte[] data) throws IOException {
+                    streams[stream].write(data);
+                }
+
+                @Override
+                public void end(int stream) throws IOException {
+                    streams[stream].flush();
+                }
+            });
+        }
+
+        /**
+         * Stops reading of the process output, buffered output is discarded. Consumer which waits for the output returns
+         * without notification about the end of the streams.
+         */
+        public void cancel() {
+            cancelled = true;
+            chunks.clear();
+            chunks.add(CANCELLED);
+            // streams of the process are closed by the reader
+            LockSupport.unpark(reader);
+        }
+
+        private void drain(ChunkHandler handler) throws IOException {
+            int finished = 0;
+            try {
+                while (finished < 2) {
+                    final Chunk chunk = chunks.take();
+                    if (chunk == CANCELLED) {
+                        return;
+                    }
+                    if (chunk.data == null) {
+                        finished++;
+                        handler.end(chunk.stream);
+                    } else {
+                        final int left = pending[chunk.stream].addAndGet(-chunk.data.length);
+                        if (left < MAX_PENDING_BYTES && left + chunk.data.length >= MAX_PENDING_BYTES) {
+                            // reader may be parked because buffer of the stream was full
+                            LockSupport.unpark(reader);
+                        }
+                        handler.data(chunk.stream, chunk.data);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while reading output of process");
+            } finally {
+                if (finished < 2 && !cancelled) {
+                    cancel();
+                }
+            }
+        }
+
+        private boolean isFull(int stream) {
+            return pending[stream].get() >= MAX_PENDING_BYTES;
+        }
+
+        private void add(int stream, byte[] data) {
+            pending[stream].addAndGet(data.length);
+            chunks.add(new Chunk(stream, data));
+        }
+
+        private void end(int stream) {
+            chunks.add(new Chunk(stream, null));
+        }
+    }
+
+    private interface ChunkHandler {
+        void data(int stream, byte[] data) throws IOException;
+
+        void end(int stream) throws IOException;
+    }
+
+    private static final class Chunk {
+        final int    stream;
+        /** {@code null} if the stream is finished. */
+        final byte[] data;
+
+        Chunk(int stream, byte[] data) {
+            this.stream = stream;
+            this.data = data;
+        }
+    }
+
+    /** Splits decoded output to lines in the same way as {@link java.io.BufferedReader#readLine()} does. */
+    private static final class LineDecoder {
+        private final LineConsumer   consumer;
+        private final CharsetDecoder decoder;
+        private final StringBuilder  line;
+
+        private ByteBuffer leftover;
+        private boolean    skipLF;
+
+        LineDecoder(LineConsumer consumer) {
+            this.consumer = consumer;
+            this.decoder = Charset.defaultCharset()
+                                  .newDecoder()
+                                  .onMalformedInput(CodingErrorAction.REPLACE)
+                                  .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            this.line = new StringBuilder();
+        }
+
+        void decode(byte[] data) throws IOException {
+            ByteBuffer in = ByteBuffer.wrap(data);
+            if (leftover != null) {
+                in = ByteBuffer.allocate(leftover.remaining() + data.length).put(leftover).put(data);
+                in.flip();
+                leftover = null;
+            }
+            final CharBuffer out = CharBuffer.allocate((int)(in.remaining() * decoder.maxCharsPerByte()) + 1);
+            decoder.decode(in, out, false);
+            if (in.hasRemaining()) {
+                leftover = in;
+            }
+            out.flip();
+            split(out);
+        }
+
+        void finish() throws IOException {
+            final CharBuffer out = CharBuffer.allocate(16);
+            decoder.decode(leftover == null ? ByteBuffer.allocate(0) : leftover, out, true);
+            decoder.flush(out);
+            out.flip();
+            split(out);
+            if (line.length() > 0) {
+                writeLine();
+            }
+        }
+
+        private void split(CharBuffer chars) throws IOException {
+            while (chars.hasRemaining()) {
+                final char c = chars.get();
+                if (skipLF) {
+                    skipLF = false;
+                    if (c == '\n') {
+                        continue;
+                    }
+                }
+                if (c == '\n' || c == '\r') {
+                    skipLF = c == '\r';
+                    writeLine();
+                } else {
+                    line.append(c);
+                    if (line.length() >= MAX_LINE_LENGTH) {
+                        writeLine();
+                    }
+                }
+            }
+        }
+
+        private void writeLine() throws IOException {
+            consumer.writeLine(line.toString());
+            line.setLength(0);
+        }
+    }
+
+    /** Stream of a process which is read by the multiplexer. */
+    private static final class Source {
+        static final int READ = 0;
+        static final int IDLE = 1;
+        static final int FULL = 2;
+        static final int DONE = 3;
+
+        final Process       process;
+        final InputStream   in;
+        final ProcessOutput output;
+        final int           stream;
+
+        Source(Process process, InputStream in, ProcessOutput output, int stream) {
+            this.process = process;
+            this.in = in;
+            this.output = output;
+            this.stream = stream;
+        }
+
+        int poll(byte[] buf) {
+            if (output.cancelled) {
+                close();
+                return DONE;
+            }
+            if (output.isFull(stream)) {
+                return FULL;
+            }
+            try {
+                int available = in.available();
+                if (available == 0) {
+                    if (process.isAlive()) {
+                        return IDLE;
+                    }
+                    // everything written before termination of the process is already in the pipe
+                    available = in.available();
+                    if (available == 0) {
+                        finish();
+                        return DONE;
+                    }
+                }
+                final int read = in.read(buf, 0, Math.min(available, buf.length));
+                if (read == -1) {
+                    finish();
+                    return DONE;
+                }
+                output.add(stream, Arrays.copyOf(buf, read));
+                return READ;
+            } catch (IOException e) {
+                // stream is closed when process is killed
+                LOG.debug(e.getMessage(), e);
+                finish();
+                return DONE;
+            }
+        }
+
+        private void finish() {
+            close();
+            output.end(stream);
+        }
+
+        private void close() {
+            try {
+                in.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private static final class Worker implements Runnable {
+        private final Queue<Source> added   = new ConcurrentLinkedQueue<>();
+        private final List<Source>  sources = new ArrayList<>();
+        private final byte[]        buf     = new byte[BUFFER_SIZE];
+
+        private volatile Thread thread;
+
+        void add(Source source) {
+            added.add(source);
+            LockSupport.unpark(thread);
+        }
+
+        @Override
+        public void run() {
+            int idleRounds = 0;
+            for (; ; ) {
+                Source source;
+                while ((source = added.poll()) != null) {
+                    sources.add(source);
+                }
+                if (sources.isEmpty()) {
+                    LockSupport.park(this);
+                    continue;
+                }
+
+                boolean active = false;
+                boolean full = true;
+                for (Iterator<Source> it = sources.iterator(); it.hasNext(); ) {
+                    switch (it.next().poll(buf)) {
+                        case Source.READ:
+                            active = true;
+                            full = false;
+                            break;
+                        case Source.IDLE:
+                            full = false;
+                            break;
+                        case Source.DONE:
+                            it.remove();
+                            break;
+                    }
+                }
+                if (active) {
+                    idleRounds = 0;
+                } else if (full) {
+                    // nothing can be read until consumers take buffered output or new streams are added
+                    LockSupport.park(this);
+                } else {
+                    // streams which were active recently are likely to get new data soon
+                    LockSupport.parkNanos(this, idleRounds++ < SHORT_SLEEPS ? SLEEP_AFTER_ACTIVITY : SLEEP_WHEN_IDLE);
+                }
+            }
+        }
+    }
+}
@@ -10,9 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.api.core.util;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
 
 /**
  * Helpers to manage system processes.
@@ -25,7 +23,7 @@ public final class ProcessUtil {
 
     /**
      * Writes stdout and stderr of the process to consumers.<br>
-     * Supposes that stderr of the process is redirected to stdout.
+     * Both streams are read at the same time by {@link ProcessOutputMultiplexer}, consumers are called in the current thread.
      *
      * @param p
      *         process to read output from
@@ -36,16 +34,7 @@ public final class ProcessUtil {
      * @throws IOException
      */
     public static void process(Process p, LineConsumer stdout, LineConsumer stderr) throws IOException {
-        try (BufferedReader inputReader = new BufferedReader(new InputStreamReader(p.getInputStream()));
-             BufferedReader errorReader = new BufferedReader(new InputStreamReader(p.getErrorStream()))) {
-            String line;
-            while ((line = inputReader.readLine()) != null) {
-                stdout.writeLine(line);
-            }
-            while ((line = errorReader.readLine()) != null) {
-                stderr.writeLine(line);
-            }
-        }
+        ProcessOutputMultiplexer.getDefault().attach(p).readLines(stdout, stderr);
     }
 
     /**
@@ -59,12 +48,7 @@ public final class ProcessUtil {
      * @throws IOException
      */
     public static void process(Process p, LineConsumer stdout) throws IOException {
-        try (BufferedReader inputReader = new BufferedReader(new InputStreamReader(p.getInputStream()))) {
-            String line;
-            while ((line = inputReader.readLine()) != null) {
-                stdout.writeLine(line);
-            }
-        }
+        ProcessOutputMultiplexer.getDefault().attach(p).readLines(stdout, LineConsumer.DEV_NULL);
     }
 
     /**
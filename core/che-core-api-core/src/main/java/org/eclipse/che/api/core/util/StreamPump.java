@@ -10,33 +10,34 @@
  *******************************************************************************/
 package org.eclipse.che.api.core.util;
 
-import java.io.BufferedReader;
+import org.eclipse.che.api.core.util.ProcessOutputMultiplexer.ProcessOutput;
+
 import java.io.IOException;
-import java.io.InputStreamReader;
 
-/** @author andrew00x */
+/**
+ * Writes lines of stdout of the process to consumer in the separate thread. Output is read by
+ * {@link ProcessOutputMultiplexer}, stderr of the process is read as well and discarded.
+ *
+ * @author andrew00x
+ */
 public final class StreamPump implements Runnable {
 
-    private BufferedReader bufferedReader;
-    private LineConsumer   lineConsumer;
+    private ProcessOutput output;
+    private LineConsumer  lineConsumer;
 
     private Exception exception;
     private boolean   done;
 
     public synchronized void start(Process process, LineConsumer lineConsumer) {
         this.lineConsumer = lineConsumer;
-        bufferedReader = new BufferedReader(new InputStreamReader(process.getInputStream()));
+        output = ProcessOutputMultiplexer.getDefault().attach(process);
         final Thread t = new Thread(this, "StreamPump");
         t.setDaemon(true);
         t.start();
     }
 
     public synchronized void stop() {
-        // Not clear do we need close original stream, but since it was wrapped by BufferedReader close it anyway.
-        try {
-            bufferedReader.close();
-        } catch (IOException ignored) {
-        }
+        output.cancel();
     }
 
     public synchronized void await() throws InterruptedException {
@@ -59,11 +60,8 @@ public final class StreamPump implements Runnable {
 
     @Override
     public void run() {
-        String line;
         try {
-            while ((line = bufferedReader.readLine()) != null) {
-                lineConsumer.writeLine(line);
-            }
+            output.readLines(lineConsumer, LineConsumer.DEV_NULL);
         } catch (IOException e) {
             exception = e;
         } finally {
@@ -17,6 +17,9 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * It controls the time of {@code Cancellable} invocation and if time if greater than timeout it terminates such {@code Cancellable}.
+ * <p/>
+ * Watchdogs don't start own threads, all of them share the same timer, so it is cheap to create watchdog for each short
+ * operation. Watchdog must be stopped when operation is completed.
  *
  * @author <a href="mailto:andrew00x@gmail.com">Andrey Parfonov</a>
  */
@@ -26,14 +29,15 @@ public final class Watchdog implements Runnable {
     private final String name;
     private final long   timeout;
 
-    private boolean     watch;
-    private Cancellable cancellable;
+    private boolean               watch;
+    private Cancellable           cancellable;
+    private WatchdogTimer.Timeout expiration;
 
     /**
      * Create new {@code Watchdog}.
      *
      * @param name
-     *         name for background {@code Thread}. It helps to identify out threads. This parameter is optional and may be {@code null}.
+     *         name of the watchdog. It helps to identify cancelled operations in logs. This parameter is optional and may be {@code null}.
      * @param timeout
      *         timeout
      * @param unit
@@ -51,6 +55,16 @@ public final class Watchdog implements Runnable {
         this(null, timeout, unit);
     }
 
+    /** Returns number of started watchdogs which are neither stopped nor expired. */
+    public static int getActiveWatches() {
+        return WatchdogTimer.getInstance().getActive();
+    }
+
+    /** Returns number of watchdogs which cancelled their {@code Cancellable} because of timeout. */
+    public static long getFiredTimeouts() {
+        return WatchdogTimer.getInstance().getFired();
+    }
+
     /**
      * Start watching {@code Cancellable}.
      *
@@ -58,37 +72,41 @@ public final class Watchdog implements Runnable {
      *         Cancellable
      */
     public synchronized void start(Cancellable cancellable) {
+        if (expiration != null) {
+            expiration.cancel();
+        }
         this.cancellable = cancellable;
         this.watch = true;
-        final Thread t = name == null ? new Thread(this) : new Thread(this, name);
-        t.setDaemon(true);
-        t.start();
+        this.expiration = WatchdogTimer.getInstance().schedule(this, timeout);
     }
 
     /** Stop watching. */
     public synchronized void stop() {
         watch = false;
-        notify();
+        if (expiration != null) {
+            expiration.cancel();
+            expiration = null;
+        }
     }
 
     /** NOTE: Not expected to call directly by regular users of this class. */
-    public synchronized void run() {
-        final long end = System.currentTimeMillis() + timeout;
-        long now;
-        while (watch && (end > (now = System.currentTimeMillis()))) {
-            try {
-                wait(end - now);
-            } catch (InterruptedException ignored) {
-                // Not expected to be thrown
-            }
-        }
-        if (watch) {
-            try {
-                cancellable.cancel();
-            } catch (Exception e) {
-                LOG.error(e.getMessage(), e);
+    public void run() {
+        final Cancellable toCancel;
+        synchronized (this) {
+            if (!watch) {
+                return;
             }
             watch = false;
+            expiration = null;
+            toCancel = cancellable;
+        }
+        if (name != null) {
+            LOG.debug("Timeout of {} is reached", name);
+        }
+        try {
+            toCancel.cancel();
+        } catch (Exception e) {
+            LOG.error(e.getMessage(), e);
         }
     }
 }
@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hashed timer wheel shared by all {@link Watchdog}s.
+ * <p/>
+ * Timeouts are kept in {@link #WHEEL_SIZE} buckets of the wheel which is advanced by single daemon thread every
+ * {@link #TICK_MS} milliseconds, so adding and cancelling of timeout take constant time. Expired timeouts are executed
+ * by another daemon thread, so slow {@link Cancellable} doesn't delay expiration of other timeouts.
+ */
+final class WatchdogTimer {
+    private static final Logger LOG = LoggerFactory.getLogger(WatchdogTimer.class);
+
+    static final long TICK_MS    = 50;
+    static final int  WHEEL_SIZE = 512;
+
+    private static final WatchdogTimer INSTANCE = new WatchdogTimer();
+
+    static WatchdogTimer getInstance() {
+        return INSTANCE;
+    }
+
+    private final Timeout[]       wheel;
+    private final Queue<Timeout>  added;
+    private final Queue<Timeout>  cancelled;
+    private final ExecutorService executor;
+    private final long            startTime;
+    private final AtomicInteger   active;
+    private final AtomicLong      fired;
+
+    /** Number of ticks passed since start, accessed only by timer thread. */
+    private long tick;
+
+    private WatchdogTimer() {
+        wheel = new Timeout[WHEEL_SIZE];
+        added = new ConcurrentLinkedQueue<>();
+        cancelled = new ConcurrentLinkedQueue<>();
+        active = new AtomicInteger();
+        fired = new AtomicLong();
+        executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("Watchdog")
+                                                                               .setDaemon(true)
+                                                                               .build());
+        startTime = System.nanoTime();
+        final Thread timer = new ThreadFactoryBuilder().setNameFormat("WatchdogTimer")
+                                                       .setDaemon(true)
+                                                       .build()
+                                                       .newThread(this::runTimer);
+        timer.start();
+    }
+
+    /**
+     * Schedules execution of the task after the delay.
+     *
+     * @param task
+     *         task to execute
+     * @param delay
+     *         delay in milliseconds
+     * @return timeout which may be used for cancellation of the task
+     */
+    Timeout schedule(Runnable task, long delay) {
+        final Timeout timeout = new Timeout(task, now() + delay);
+        active.incrementAndGet();
+        added.add(timeout);
+        return timeout;
+    }
+
+    /** Returns number of timeouts which are neither expired nor cancelled. */
+    int getActive() {
+        return active.get();
+    }
+
+    /** Returns number of expired timeouts since start of the application. */
+    long getFired() {
+        return fired.get();
+    }
+
+    /** Milliseconds since start of the timer. */
+    private long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+
+    private void runTimer() {
+        for (; ; ) {
+            final long deadline = (tick + 1) * TICK_MS;
+            long sleep;
+            while ((sleep = deadline - now()) > 0) {
+                try {
+                    Thread.sleep(sleep);
+                } catch (InterruptedException ignored) {
+                    // Not expected to be thrown
+                }
+            }
+            try {
+                removeCancelled();
+                transferAdded();
+                expire(deadline);
+            } catch (RuntimeException e) {
+                LOG.error(e.getMessage(), e);
+            }
+            tick++;
+        }
+    }
+
+    private void transferAdded() {
+        Timeout timeout;
+        while ((timeout = added.poll()) != null) {
+            if (timeout.state.get() != Timeout.WAITING) {
+                continue;
+            }
+            final long expirationTick = Math.max(timeout.deadline / TICK_MS, tick);
+            timeout.remainingRounds = (expirationTick - tick) / WHEEL_SIZE;
+            final int bucket = (int)(expirationTick & (WHEEL_SIZE - 1));
+            timeout.bucket = bucket;
+            timeout.next = wheel[bucket];
+            if (wheel[bucket] != null) {
+                wheel[bucket].prev = timeout;
+            }
+            wheel[bucket] = timeout;
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket >= 0) {
+                unlink(timeout);
+            }
+        }
+    }
+
+    private void expire(long deadline) {
+        Timeout timeout = wheel[(int)(tick & (WHEEL_SIZE - 1))];
+        while (timeout != null) {
+            final Timeout next = timeout.next;
+            if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                unlink(timeout);
+                if (timeout.state.compareAndSet(Timeout.WAITING, Timeout.EXPIRED)) {
+                    active.decrementAndGet();
+                    fired.incrementAndGet();
+                    try {
+                        executor.execute(timeout.task);
+                    } catch (RejectedExecutionException e) {
+                        LOG.error(e.getMessage(), e);
+                    }
+                }
+            } else {
+                timeout.remainingRounds--;
+            }
+            timeout = next;
+        }
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else if (wheel[timeout.bucket] == timeout) {
+            wheel[timeout.bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = timeout.next = null;
+        timeout.bucket = -1;
+    }
+
+    /**
+     * Scheduled task. Fields used for placing the task in the wheel are accessed only by the timer thread.
+     */
+    final class Timeout {
+        static final int WAITING   = 0;
+        static final int CANCELLED = 1;
+        static final int EXPIRED   = 2;
+
+        private final Runnable      task;
+        private final long          deadline;
+        private final AtomicInteger state;
+
+        private long    remainingRounds;
+        private int     bucket = -1;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+            this.state = new AtomicInteger(WAITING);
+        }
+
+        /**
+         * Cancels the task if it isn't executed yet.
+         *
+         * @return {@code true} if the task is cancelled and {@code false} if it is already expired or cancelled
+         */
+        boolean cancel() {
+            if (state.compareAndSet(WAITING, CANCELLED)) {
+                active.decrementAndGet();
+                cancelled.add(this);
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.everrest;
+
+import org.everrest.core.impl.provider.json.JsonUtils;
+import org.everrest.websockets.message.ChannelBroadcastMessage;
+import org.everrest.websockets.message.Pair;
+
+/**
+ * Channel broadcast message which body is JSON object or array.
+ * <p/>
+ * Body of {@link ChannelBroadcastMessage} is sent as JSON string, so payload which is JSON itself is escaped once more
+ * and clients have to parse it twice. Body of this message is embedded into the envelope as is, see {@link #toJson()}.
+ * Clients distinguish such messages by type of the body, since body of regular message is always JSON string.
+ * <p/>
+ * If the message is sent by encoder which doesn't know about this class, body is sent as JSON string as for regular
+ * message.
+ */
+public class JsonChannelBroadcastMessage extends ChannelBroadcastMessage {
+
+    /**
+     * Creates message for the channel.
+     *
+     * @param channel
+     *         channel to send message to
+     * @param json
+     *         JSON object or array
+     * @throws IllegalArgumentException
+     *         when {@code json} isn't JSON object or array
+     */
+    public JsonChannelBroadcastMessage(String channel, String json) {
+        if (json == null || json.isEmpty() || (json.charAt(0) != '{' && json.charAt(0) != '[')) {
+            throw new IllegalArgumentException("JSON object or array is expected as body of message");
+        }
+        setChannel(channel);
+        setBody(json);
+    }
+
+    /** Serializes the message to JSON, body is embedded without escaping. */
+    public String toJson() {
+        final String body = getBody();
+        final StringBuilder json = new StringBuilder(body.length() + 256);
+        json.append("{\"uuid\":");
+        appendString(json, getUuid());
+        json.append(",\"responseCode\":").append(getResponseCode());
+        json.append(",\"headers\":[");
+        final Pair[] headers = getHeaders();
+        if (headers != null) {
+            for (int i = 0; i < headers.length; i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+                json.append("{\"name\":");
+                appendString(json, headers[i].getName());
+                json.append(",\"value\":");
+                appendString(json, headers[i].getValue());
+                json.append('}');
+            }
+        }
+        json.append("],\"body\":").append(body).append('}');
+        return json.toString();
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append(value == null ? "null" : JsonUtils.getJsonString(value));
+    }
+}
@@ -37,12 +37,14 @@ import javax.websocket.Decoder;
 import javax.websocket.DeploymentException;
 import javax.websocket.EncodeException;
 import javax.websocket.Encoder;
+import javax.websocket.Extension;
 import javax.websocket.HandshakeResponse;
 import javax.websocket.server.HandshakeRequest;
 import javax.websocket.server.ServerContainer;
 import javax.websocket.server.ServerEndpointConfig;
 import javax.ws.rs.core.SecurityContext;
 import java.security.Principal;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
@@ -65,6 +67,8 @@ public class ServerContainerInitializeListener implements ServletContextListener
     public static final String EVERREST_CONFIG_ATTRIBUTE    = EverrestConfiguration.class.getName();
     public static final String EXECUTOR_ATTRIBUTE           = "everrest.Executor";
     public static final String SECURITY_CONTEXT             = SecurityContext.class.getName();
+    public static final String COMPRESSION_PARAMETER        = "org.eclipse.che.websocket.compression";
+    public static final String PERMESSAGE_DEFLATE           = "permessage-deflate";
 
     private static final AtomicLong sequence = new AtomicLong(1);
 
@@ -75,6 +79,7 @@ public class ServerContainerInitializeListener implements ServletContextListener
     private String                      websocketContext;
     private String                      websocketEndPoint;
     private String                      eventBusEndPoint;
+    private boolean                     compression;
 
     @Override
     public final void contextInitialized(ServletContextEvent sce) {
@@ -82,6 +87,7 @@ public class ServerContainerInitializeListener implements ServletContextListener
         websocketContext = MoreObjects.firstNonNull(servletContext.getInitParameter("org.everrest.websocket.context"), "");
         websocketEndPoint = MoreObjects.firstNonNull(servletContext.getInitParameter("org.eclipse.che.websocket.endpoint"), "");
         eventBusEndPoint = MoreObjects.firstNonNull(servletContext.getInitParameter("org.eclipse.che.eventbus.endpoint"), "");
+        compression = Boolean.parseBoolean(MoreObjects.firstNonNull(servletContext.getInitParameter(COMPRESSION_PARAMETER), "true"));
         webApplicationDeclaredRoles = new WebApplicationDeclaredRoles(servletContext);
         everrestConfiguration = (EverrestConfiguration)servletContext.getAttribute(EVERREST_CONFIG_ATTRIBUTE);
         if (everrestConfiguration == null) {
@@ -153,6 +159,17 @@ public class ServerContainerInitializeListener implements ServletContextListener
                 sec.getUserProperties().put(SECURITY_CONTEXT, createSecurityContext(request));
                 sec.getUserProperties().put(ENVIRONMENT_CONTEXT, EnvironmentContext.getCurrent());
             }
+
+            @Override
+            public List<Extension> getNegotiatedExtensions(List<Extension> installed, List<Extension> requested) {
+                // container accepts permessage-deflate if both it and client support the extension,
+                // so messages are compressed unless compression is disabled with init parameter
+                final List<Extension> negotiated = new ArrayList<>(super.getNegotiatedExtensions(installed, requested));
+                if (!compression) {
+                    negotiated.removeIf(extension -> PERMESSAGE_DEFLATE.equals(extension.getName()));
+                }
+                return negotiated;
+            }
         };
     }
 
@@ -241,6 +258,9 @@ public class ServerContainerInitializeListener implements ServletContextListener
 
         @Override
         public String encode(OutputMessage output) throws EncodeException {
+            if (output instanceof JsonChannelBroadcastMessage) {
+                return ((JsonChannelBroadcastMessage)output).toJson();
+            }
             try {
                 return jsonMessageConverter.toString(output);
             } catch (JsonException e) {
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.rest;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.eclipse.che.api.core.rest.shared.dto.Link;
+import org.everrest.core.ApplicationContext;
+import org.everrest.core.impl.ApplicationContextImpl;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import java.io.ByteArrayOutputStream;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.eclipse.che.api.core.rest.CheJsonProvider.COMPACT_JSON_HEADER;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests of negotiation of compact JSON form of DTOs, see {@link CheJsonProvider#COMPACT_JSON_HEADER}.
+ */
+public class CheJsonProviderTest {
+
+    private MultivaluedMap<String, String> requestHeaders;
+    private MultivaluedMap<String, Object> responseHeaders;
+    private CheJsonProvider<Object>        provider;
+
+    @BeforeMethod
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        requestHeaders = mock(MultivaluedMap.class);
+        responseHeaders = mock(MultivaluedMap.class);
+        final HttpHeaders httpHeaders = mock(HttpHeaders.class);
+        when(httpHeaders.getRequestHeaders()).thenReturn(requestHeaders);
+        final ApplicationContext context = mock(ApplicationContext.class);
+        when(context.getHttpHeaders()).thenReturn(httpHeaders);
+        ApplicationContextImpl.setCurrent(context);
+
+        provider = new CheJsonProvider<>(null);
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        ApplicationContextImpl.setCurrent(null);
+    }
+
+    @Test
+    public void shouldWriteDtoAsJsonArrayWhenCompactJsonIsRequested() throws Exception {
+        when(requestHeaders.getFirst(COMPACT_JSON_HEADER)).thenReturn("true");
+
+        final JsonArray json = write(link("http://localhost/a"), Link.class).getAsJsonArray();
+
+        assertEquals(json.get(0).getAsString(), "http://localhost/a");
+        assertEquals(json.get(1).getAsString(), "self");
+        assertEquals(json.get(2).getAsString(), "GET");
+        verify(responseHeaders).add(HttpHeaders.VARY, COMPACT_JSON_HEADER);
+    }
+
+    @Test
+    public void shouldWriteListOfDtosAsArrayOfJsonArraysWhenCompactJsonIsRequested() throws Exception {
+        when(requestHeaders.getFirst(COMPACT_JSON_HEADER)).thenReturn("true");
+
+        final JsonArray json = write(asList(link("http://localhost/a"), link("http://localhost/b")), List.class).getAsJsonArray();
+
+        assertEquals(json.size(), 2);
+        assertEquals(json.get(0).getAsJsonArray().get(0).getAsString(), "http://localhost/a");
+        assertEquals(json.get(1).getAsJsonArray().get(0).getAsString(), "http://localhost/b");
+        verify(responseHeaders).add(HttpHeaders.VARY, COMPACT_JSON_HEADER);
+    }
+
+    @Test
+    public void shouldWriteDtoAsJsonObjectWhenCompactJsonIsNotRequested() throws Exception {
+        final JsonObject json = write(link("http://localhost/a"), Link.class).getAsJsonObject();
+
+        assertEquals(json.get("href").getAsString(), "http://localhost/a");
+        assertEquals(json.get("rel").getAsString(), "self");
+        assertEquals(json.get("method").getAsString(), "GET");
+        // response still depends on the header, so caches must not reuse it for requests which send the header
+        verify(responseHeaders).add(HttpHeaders.VARY, COMPACT_JSON_HEADER);
+    }
+
+    @Test
+    public void shouldWriteDtoAsJsonObjectWhenCompactJsonIsDisabled() throws Exception {
+        when(requestHeaders.getFirst(COMPACT_JSON_HEADER)).thenReturn("false");
+
+        final JsonElement json = write(link("http://localhost/a"), Link.class);
+
+        assertTrue(json.isJsonObject());
+        assertEquals(json.getAsJsonObject().get("href").getAsString(), "http://localhost/a");
+    }
+
+    private JsonElement write(Object entity, Class<?> type) throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        provider.writeTo(entity, type, type, new Annotation[0], MediaType.APPLICATION_JSON_TYPE, responseHeaders, out);
+        return new JsonParser().parse(new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    private static Link link(String href) {
+        return newDto(Link.class).withHref(href).withRel("self").withMethod("GET");
+    }
+}
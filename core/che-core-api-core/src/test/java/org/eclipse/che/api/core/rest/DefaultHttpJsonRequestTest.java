@@ -45,6 +45,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
@@ -321,6 +322,81 @@ public class DefaultHttpJsonRequestTest {
         new DefaultHttpJsonRequest(getUrl(ctx) + "/token").usePostMethod().request();
     }
 
+    @Test
+    public void shouldTakeCachedResponseWithoutRequestToServer(ITestContext ctx) throws Exception {
+        final DefaultHttpJsonRequestFactory factory = new DefaultHttpJsonRequestFactory();
+        final int requestsBefore = TEST_SERVICE.getCounterRequests();
+
+        final Map<String, String> first = factory.fromUrl(getUrl(ctx) + "/counter")
+                                                 .useGetMethod()
+                                                 .cacheFor(1, TimeUnit.MINUTES)
+                                                 .request()
+                                                 .asProperties();
+        final Map<String, String> second = factory.fromUrl(getUrl(ctx) + "/counter")
+                                                  .useGetMethod()
+                                                  .cacheFor(1, TimeUnit.MINUTES)
+                                                  .request()
+                                                  .asProperties();
+
+        assertEquals(second, first);
+        assertEquals(TEST_SERVICE.getCounterRequests(), requestsBefore + 1);
+        assertEquals(factory.getResponseCache().getHits(), 1);
+        assertEquals(factory.getResponseCache().getMisses(), 1);
+    }
+
+    @Test
+    public void shouldNotCacheResponseIfCachingIsNotRequested(ITestContext ctx) throws Exception {
+        final DefaultHttpJsonRequestFactory factory = new DefaultHttpJsonRequestFactory();
+        final int requestsBefore = TEST_SERVICE.getCounterRequests();
+
+        factory.fromUrl(getUrl(ctx) + "/counter").useGetMethod().request();
+        factory.fromUrl(getUrl(ctx) + "/counter").useGetMethod().request();
+
+        assertEquals(TEST_SERVICE.getCounterRequests(), requestsBefore + 2);
+        assertEquals(factory.getResponseCache().size(), 0);
+    }
+
+    @Test
+    public void shouldRevalidateExpiredResponseWithConditionalRequest(ITestContext ctx) throws Exception {
+        final DefaultHttpJsonRequestFactory factory = new DefaultHttpJsonRequestFactory();
+
+        final Map<String, String> first = factory.fromUrl(getUrl(ctx) + "/counter")
+                                                 .useGetMethod()
+                                                 .cacheFor(1, TimeUnit.MILLISECONDS)
+                                                 .request()
+                                                 .asProperties();
+        Thread.sleep(10);
+        final Map<String, String> second = factory.fromUrl(getUrl(ctx) + "/counter")
+                                                  .useGetMethod()
+                                                  .cacheFor(1, TimeUnit.MILLISECONDS)
+                                                  .request()
+                                                  .asProperties();
+
+        assertEquals(second, first);
+        assertEquals(factory.getResponseCache().getRevalidations(), 1);
+        assertEquals(factory.getResponseCache().getRequests(), 2);
+    }
+
+    @Test
+    public void shouldEvictCachedResponseWhenResourceIsChangedThroughTheSameFactory(ITestContext ctx) throws Exception {
+        final DefaultHttpJsonRequestFactory factory = new DefaultHttpJsonRequestFactory();
+
+        final Map<String, String> before = factory.fromUrl(getUrl(ctx) + "/counter")
+                                                  .useGetMethod()
+                                                  .cacheFor(1, TimeUnit.MINUTES)
+                                                  .request()
+                                                  .asProperties();
+        factory.fromUrl(getUrl(ctx) + "/counter").usePostMethod().request();
+        final Map<String, String> after = factory.fromUrl(getUrl(ctx) + "/counter")
+                                                 .useGetMethod()
+                                                 .cacheFor(1, TimeUnit.MINUTES)
+                                                 .request()
+                                                 .asProperties();
+
+        assertEquals(Integer.parseInt(after.get("version")), Integer.parseInt(before.get("version")) + 1);
+        assertEquals(factory.getResponseCache().getHits(), 0);
+    }
+
     @Filter
     public static class EnvironmentFilter implements RequestFilter {
 
@@ -34,6 +34,7 @@ import java.net.URLDecoder;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
@@ -51,6 +52,9 @@ public class TestService extends Service {
 
     public static final String JSON_OBJECT = new JsonArrayImpl<>(singletonList("element")).toJson();
 
+    private final AtomicInteger counterRequests = new AtomicInteger();
+    private final AtomicInteger counterVersion  = new AtomicInteger();
+
     @GET
     @Path("/{response-code}/response-code-test")
     public Response getRequestedResponseCode(@PathParam("response-code") int responseCode) {
@@ -115,6 +119,31 @@ public class TestService extends Service {
         return URLDecoder.decode(uriInfo.getRequestUri().toString());
     }
 
+    @GET
+    @Path("/counter")
+    @Produces(APPLICATION_JSON)
+    public Response getCounter(@HeaderParam(HttpHeaders.IF_NONE_MATCH) String eTag) {
+        counterRequests.incrementAndGet();
+        final String version = Integer.toString(counterVersion.get());
+        if (('"' + version + '"').equals(eTag)) {
+            return Response.notModified().build();
+        }
+        return Response.ok(singletonMap("version", version))
+                       .header(HttpHeaders.ETAG, '"' + version + '"')
+                       .build();
+    }
+
+    @POST
+    @Path("/counter")
+    public void incrementCounter() {
+        counterVersion.incrementAndGet();
+    }
+
+    /** Returns number of GET requests of counter. */
+    public int getCounterRequests() {
+        return counterRequests.get();
+    }
+
     @GET
     @Path("/paging/{value}")
     @Produces(APPLICATION_JSON)
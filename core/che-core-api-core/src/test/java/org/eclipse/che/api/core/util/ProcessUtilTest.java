@@ -13,8 +13,10 @@ package org.eclipse.che.api.core.util;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -80,4 +82,92 @@ public class ProcessUtilTest {
         System.out.println(stdout);
         System.out.println(stderr);
     }
+
+    @Test(timeOut = 10000)
+    public void testReadBothStreamsWhenStderrIsChatty() throws Exception {
+        // writes 1MB to stderr before writing anything to stdout, process is stalled if stderr isn't read
+        final Process p = new ProcessBuilder("sh", "-c", "head -c 1000000 /dev/zero | tr '\\0' 'e' >&2; echo >&2; echo out").start();
+        final ListLineConsumer stdout = new ListLineConsumer();
+        final ListLineConsumer stderr = new ListLineConsumer();
+
+        ProcessUtil.process(p, stdout, stderr);
+
+        Assert.assertEquals(stdout.getLines(), Arrays.asList("out"));
+        Assert.assertEquals(stderr.getLines().size(), 1);
+        Assert.assertEquals(stderr.getLines().get(0).length(), 1000000);
+    }
+
+    @Test(timeOut = 10000)
+    public void testSplitLinesAsBufferedReader() throws Exception {
+        final Process p = new ProcessBuilder("sh", "-c", "printf 'first\\r\\nsecond\\rthird\\n\\nlast'").start();
+        final ListLineConsumer stdout = new ListLineConsumer();
+
+        ProcessUtil.process(p, stdout, LineConsumer.DEV_NULL);
+
+        Assert.assertEquals(stdout.getLines(), Arrays.asList("first", "second", "third", "", "last"));
+    }
+
+    @Test(timeOut = 10000)
+    public void testReadBytesOfProcessOutput() throws Exception {
+        final Process p = new ProcessBuilder("sh", "-c", "printf 'out'; printf 'err' >&2").start();
+        final ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        final ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+
+        ProcessOutputMultiplexer.getDefault().attach(p).readBytes(stdout, stderr);
+
+        Assert.assertEquals(stdout.toString(), "out");
+        Assert.assertEquals(stderr.toString(), "err");
+    }
+
+    @Test(timeOut = 30000)
+    public void testReadOutputOfManyProcessesWithFewThreads() throws Exception {
+        final ProcessOutputMultiplexer multiplexer = new ProcessOutputMultiplexer(1, "test-%d");
+        final List<Process> processes = new ArrayList<>();
+        final List<ProcessOutputMultiplexer.ProcessOutput> outputs = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            final Process p = new ProcessBuilder("sh", "-c", "sleep 0.5; seq 1 1000").start();
+            processes.add(p);
+            outputs.add(multiplexer.attach(p));
+        }
+
+        for (ProcessOutputMultiplexer.ProcessOutput output : outputs) {
+            final ListLineConsumer stdout = new ListLineConsumer();
+            output.readLines(stdout, LineConsumer.DEV_NULL);
+            Assert.assertEquals(stdout.getLines().size(), 1000);
+            Assert.assertEquals(stdout.getLines().get(999), "1000");
+        }
+        for (Process p : processes) {
+            Assert.assertEquals(p.waitFor(), 0);
+        }
+    }
+
+    @Test(timeOut = 10000)
+    public void testResumeReadingWhenConsumerTakesBufferedOutput() throws Exception {
+        // output is much bigger than the buffer, reading is paused until consumer starts
+        final Process p = new ProcessBuilder("sh", "-c", "seq 1 100000").start();
+        final ProcessOutputMultiplexer.ProcessOutput output = ProcessOutputMultiplexer.getDefault().attach(p);
+        Thread.sleep(500);
+        final ListLineConsumer stdout = new ListLineConsumer();
+
+        output.readLines(stdout, LineConsumer.DEV_NULL);
+
+        Assert.assertEquals(stdout.getLines().size(), 100000);
+        Assert.assertEquals(stdout.getLines().get(99999), "100000");
+    }
+
+    @Test(timeOut = 10000)
+    public void testCancelStopsWaitingForOutput() throws Exception {
+        final Process p = new ProcessBuilder("sh", "-c", "echo started; sleep 30").start();
+        final StreamPump pump = new StreamPump();
+        final ListLineConsumer stdout = new ListLineConsumer();
+        pump.start(p, stdout);
+        Thread.sleep(500);
+
+        pump.stop();
+        pump.await();
+
+        Assert.assertTrue(pump.isDone());
+        Assert.assertEquals(stdout.getLines(), Arrays.asList("started"));
+        ProcessUtil.kill(p);
+    }
 }
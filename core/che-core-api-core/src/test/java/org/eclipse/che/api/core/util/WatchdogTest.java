@@ -35,4 +35,38 @@ public class WatchdogTest {
         latch.await(2, TimeUnit.SECONDS); // wait 2 sec
         Assert.assertTrue(cancel[0], "cancellation failed"); // should be cancelled
     }
+
+    @Test
+    public void testStoppedWatchDogDoesNotCancel() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        final Watchdog watchdog = new Watchdog(200, TimeUnit.MILLISECONDS);
+        watchdog.start(latch::countDown);
+        watchdog.stop();
+
+        Assert.assertFalse(latch.await(1, TimeUnit.SECONDS), "stopped watchdog must not cancel");
+    }
+
+    @Test
+    public void testManyWatchDogsShareTimer() throws Exception {
+        final int activeBefore = Watchdog.getActiveWatches();
+        final long firedBefore = Watchdog.getFiredTimeouts();
+        final CountDownLatch latch = new CountDownLatch(100);
+        final Watchdog[] stopped = new Watchdog[1000];
+        for (int i = 0; i < stopped.length; i++) {
+            stopped[i] = new Watchdog("stopped-" + i, 1, TimeUnit.HOURS);
+            stopped[i].start(() -> Assert.fail("stopped watchdog must not cancel"));
+        }
+        for (int i = 0; i < 100; i++) {
+            new Watchdog(100 + i, TimeUnit.MILLISECONDS).start(latch::countDown);
+        }
+        Assert.assertEquals(Watchdog.getActiveWatches(), activeBefore + 1100);
+
+        for (Watchdog watchdog : stopped) {
+            watchdog.stop();
+        }
+        Assert.assertTrue(latch.await(2, TimeUnit.SECONDS), "cancellation failed");
+        Assert.assertEquals(Watchdog.getActiveWatches(), activeBefore);
+        Assert.assertEquals(Watchdog.getFiredTimeouts(), firedBefore + 100);
+    }
 }
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.everrest;
+
+import org.everrest.core.impl.provider.json.JsonParser;
+import org.everrest.core.impl.provider.json.JsonValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+import java.util.Iterator;
+
+public class JsonChannelBroadcastMessageTest {
+
+    @Test
+    public void shouldEmbedBodyWithoutEscaping() throws Exception {
+        final JsonChannelBroadcastMessage message = new JsonChannelBroadcastMessage("test-channel", "{\"name\":\"a \\\"b\\\"\"}");
+
+        final JsonParser parser = new JsonParser();
+        parser.parse(new StringReader(message.toJson()));
+        final JsonValue json = parser.getJsonObject();
+
+        Assert.assertTrue(json.getElement("body").isObject());
+        Assert.assertEquals(json.getElement("body").getElement("name").getStringValue(), "a \"b\"");
+        Assert.assertEquals(json.getElement("uuid").getStringValue(), message.getUuid());
+        Assert.assertEquals(json.getElement("responseCode").getIntValue(), message.getResponseCode());
+        boolean channelFound = false;
+        for (Iterator<JsonValue> i = json.getElement("headers").getElements(); i.hasNext(); ) {
+            final JsonValue header = i.next();
+            if ("x-everrest-websocket-channel".equals(header.getElement("name").getStringValue())) {
+                Assert.assertEquals(header.getElement("value").getStringValue(), "test-channel");
+                channelFound = true;
+            }
+        }
+        Assert.assertTrue(channelFound);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldRejectBodyWhichIsNotJsonObjectOrArray() throws Exception {
+        new JsonChannelBroadcastMessage("test-channel", "\"text\"");
+    }
+}
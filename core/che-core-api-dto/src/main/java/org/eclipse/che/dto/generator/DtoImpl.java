@@ -35,7 +35,8 @@ import java.util.Map;
 
 /** Abstract base class for the source generating template for a single DTO. */
 abstract class DtoImpl {
-    protected static final String COPY_JSONS_PARAM = "copyJsons";
+    protected static final String COPY_JSONS_PARAM   = "copyJsons";
+    protected static final String COMPACT_JSON_PARAM = "compactJson";
 
     private final Class<?>     dtoInterface;
     private final DtoTemplate  enclosingTemplate;
@@ -387,6 +388,39 @@ abstract class DtoImpl {
         return result;
     }
 
+    /**
+     * Returns getters ordered corresponding to {@link org.eclipse.che.dto.shared.SerializationIndex} annotation or {@code null} if
+     * some of getters aren't annotated.
+     * <p/>
+     * <p>DTO which getters are all annotated may be serialized to compact JSON on demand, even if it isn't {@link
+     * org.eclipse.che.dto.shared.CompactJsonDto}. Gaps in index sequence are filled with {@code null}s.
+     */
+    protected List<Method> getIndexedGetters(List<Method> getters) {
+        if (getters.isEmpty()) {
+            return null;
+        }
+        Map<Integer, Method> methodsMap = new HashMap<>();
+        int maxIndex = 0;
+        for (Method getter : getters) {
+            SerializationIndex serializationIndex = getter.getAnnotation(SerializationIndex.class);
+            if (serializationIndex == null) {
+                return null;
+            }
+            int index = serializationIndex.value();
+            Preconditions.checkState(index > 0 && index <= 53, "Serialization index out of range [1..53] for %s in %s",
+                                     getter.getName(), dtoInterface.getSimpleName());
+            Preconditions.checkState(!methodsMap.containsKey(index), "Duplicate serialization index for %s in %s",
+                                     getter.getName(), dtoInterface.getSimpleName());
+            maxIndex = Math.max(index, maxIndex);
+            methodsMap.put(index, getter);
+        }
+        List<Method> result = new ArrayList<>(maxIndex);
+        for (int index = 0; index < maxIndex; index++) {
+            result.add(methodsMap.get(index + 1));
+        }
+        return result;
+    }
+
     protected boolean isLastMethod(Method method) {
         Preconditions.checkNotNull(method);
         return method == dtoMethods.get(dtoMethods.size() - 1);
@@ -458,6 +458,16 @@ public class DtoImplClientTemplate extends DtoImpl {
                 emitDeserializeFieldForMethodCompact(method, builder);
             }
         } else {
+            if (getIndexedGetters(getters) != null) {
+                // server sends this DTO as JSON array when compact JSON is requested
+                builder.append("      if (jsonValue.isArray() != null) {\n");
+                builder.append("        JSONArray json = jsonValue.isArray();\n");
+                for (Method method : getters) {
+                    emitDeserializeFieldForMethodCompact(method, builder);
+                }
+                builder.append("        return dto;\n");
+                builder.append("      }\n");
+            }
             builder.append("      JSONObject json = jsonValue.isObject();\n");
             for (Method getter : getters) {
                 emitDeserializeFieldForMethod(getter, builder);
@@ -503,7 +513,8 @@ public class DtoImplClientTemplate extends DtoImpl {
         SerializationIndex serializationIndex = Preconditions.checkNotNull(method.getAnnotation(SerializationIndex.class));
         int index = serializationIndex.value() - 1;
         builder.append("\n");
-        builder.append("      if (").append(index).append(" < json.size()) {\n");
+        // null element means that field isn't set, the same as missed field of JSON object
+        builder.append("      if (").append(index).append(" < json.size() && json.get(").append(index).append(").isNull() == null) {\n");
         List<Type> expandedTypes = expandType(method.getGenericReturnType());
         builder.append("        JSONValue ").append(fieldNameIn).append(" = json.get(").append(index).append(");\n");
         emitDeserializerImpl(expandedTypes, 0, builder, fieldNameIn, fieldNameOut, baseIndentation);
@@ -285,12 +285,23 @@ public class DtoImplServerTemplate extends DtoImpl {
         builder.append("      return toJsonElementInt(true);\n");
         builder.append("    }\n");
         builder.append("    public JsonElement toJsonElementInt(boolean ").append(COPY_JSONS_PARAM).append(") {\n");
+        builder.append("      return toJsonElementInt(").append(COPY_JSONS_PARAM).append(", false);\n");
+        builder.append("    }\n");
+        // Compact form is requested at run-time, it is applied to this DTO and to all nested DTOs which support it
+        builder.append("    public JsonElement toJsonElementInt(boolean ").append(COPY_JSONS_PARAM).append(", boolean ")
+               .append(COMPACT_JSON_PARAM).append(") {\n");
+        final List<Method> indexedGetters = getIndexedGetters(getters);
         if (isCompactJson()) {
-            builder.append("      JsonArray result = new JsonArray();\n");
-            for (Method method : getters) {
-                emitSerializeFieldForMethodCompact(method, builder);
-            }
+            Preconditions.checkNotNull(indexedGetters, "Serialization index is not specified for all getters of %s",
+                                       getDtoInterface().getSimpleName());
+            emitCompactSerializer(indexedGetters, "      ", builder);
         } else {
+            if (indexedGetters != null) {
+                builder.append("      if (").append(COMPACT_JSON_PARAM).append(") {\n");
+                emitCompactSerializer(indexedGetters, "        ", builder);
+                builder.append("        return result;\n");
+                builder.append("      }\n");
+            }
             builder.append("      JsonObject result = new JsonObject();\n");
             for (Method getter : getters) {
                 emitSerializeFieldForMethod(getter, builder);
@@ -306,6 +317,16 @@ public class DtoImplServerTemplate extends DtoImpl {
         builder.append("    }\n");
         builder.append("\n");
         builder.append("    @Override\n");
+        builder.append("    public JsonElement toCompactJsonElement() {\n");
+        builder.append("      return toJsonElementInt(true, true);\n");
+        builder.append("    }\n");
+        builder.append("\n");
+        builder.append("    @Override\n");
+        builder.append("    public String toCompactJson() {\n");
+        builder.append("      return gson.toJson(toJsonElementInt(false, true));\n");
+        builder.append("    }\n");
+        builder.append("\n");
+        builder.append("    @Override\n");
         builder.append("    public String toString() {\n");
         builder.append("      return toJson();\n");
         builder.append("    }\n\n");
@@ -326,26 +347,32 @@ public class DtoImplServerTemplate extends DtoImpl {
         builder.append(");\n");
     }
 
-    private void emitSerializeFieldForMethodCompact(Method getter, StringBuilder builder) {
+    /** Emits serialization of fields to JSON array, position of field in array is defined by its serialization index. */
+    private void emitCompactSerializer(List<Method> indexedGetters, String i, StringBuilder builder) {
+        builder.append(i).append("JsonArray result = new JsonArray();\n");
+        for (int index = 0; index < indexedGetters.size(); index++) {
+            emitSerializeFieldForMethodCompact(indexedGetters.get(index), index == indexedGetters.size() - 1, i, builder);
+        }
+    }
+
+    private void emitSerializeFieldForMethodCompact(Method getter, boolean last, String i, StringBuilder builder) {
         if (getter == null) {
-            builder.append("      result.add(JsonNull.INSTANCE);\n");
+            builder.append(i).append("result.add(JsonNull.INSTANCE);\n");
             return;
         }
-        final String jsonFieldName = getJsonFieldName(getter);
-        final String fieldNameOut = jsonFieldName + "Out";
-        final String baseIndentation = "      ";
+        final String fieldNameOut = getFieldNameFromGetterName(getter.getName()) + "Out";
         builder.append("\n");
         List<Type> expandedTypes = expandType(getter.getGenericReturnType());
-        emitSerializerImpl(expandedTypes, 0, builder, getJavaFieldName(getter.getName()), fieldNameOut, baseIndentation);
-        if (isLastMethod(getter)) {
+        emitSerializerImpl(expandedTypes, 0, builder, getJavaFieldName(getter.getName()), fieldNameOut, i);
+        if (last) {
             if (isList(getRawClass(expandedTypes.get(0)))) {
-                builder.append("      if (").append(fieldNameOut).append(".size() != 0) {\n");
-                builder.append("        result.add(").append(fieldNameOut).append(");\n");
-                builder.append("      }\n");
+                builder.append(i).append("if (").append(fieldNameOut).append(".size() != 0) {\n");
+                builder.append(i).append("  result.add(").append(fieldNameOut).append(");\n");
+                builder.append(i).append("}\n");
                 return;
             }
         }
-        builder.append("      result.add(").append(fieldNameOut).append(");\n");
+        builder.append(i).append("result.add(").append(fieldNameOut).append(");\n");
     }
 
     /**
@@ -397,7 +424,8 @@ public class DtoImplServerTemplate extends DtoImpl {
         } else if (getEnclosingTemplate().isDtoInterface(rawClass)) {
             builder.append(i).append("JsonElement ").append(outVar).append(" = ").append(depth == 0 ? "this." + inVar : inVar).append(
                     " == null ? JsonNull.INSTANCE : ((").append(getImplNameForDto((Class<?>)expandedTypes.get(depth))).append(")")
-                   .append(depth == 0 ? "this." + inVar : inVar).append(").toJsonElementInt(").append(COPY_JSONS_PARAM).append(");\n");
+                   .append(depth == 0 ? "this." + inVar : inVar).append(").toJsonElementInt(").append(COPY_JSONS_PARAM).append(", ")
+                   .append(COMPACT_JSON_PARAM).append(");\n");
         } else if (rawClass.equals(String.class)) {
             builder.append(i).append("JsonElement ").append(outVar).append(" = (").append(depth == 0 ? "this." + inVar : inVar).append(
                     " == null) ? JsonNull.INSTANCE : new JsonPrimitive(").append(depth == 0 ? "this." + inVar : inVar).append(");\n");
@@ -468,6 +496,16 @@ public class DtoImplServerTemplate extends DtoImpl {
                 emitDeserializeFieldForMethodCompact(method, builder);
             }
         } else {
+            if (getIndexedGetters(getters) != null) {
+                // DTO which may be serialized to compact form accepts both forms of JSON
+                builder.append("      if (jsonElem.isJsonArray()) {\n");
+                builder.append("        JsonArray json = jsonElem.getAsJsonArray();\n");
+                for (Method method : getters) {
+                    emitDeserializeFieldForMethodCompact(method, builder);
+                }
+                builder.append("        return dto;\n");
+                builder.append("      }\n");
+            }
             builder.append("      JsonObject json = jsonElem.getAsJsonObject();\n");
             for (Method getter : getters) {
                 emitDeserializeFieldForMethod(getter, builder);
@@ -507,14 +545,15 @@ public class DtoImplServerTemplate extends DtoImpl {
     }
 
     private void emitDeserializeFieldForMethodCompact(Method method, final StringBuilder builder) {
-        final String fieldName = getJsonFieldName(method);
+        final String fieldName = getFieldNameFromGetterName(method.getName());
         final String fieldNameIn = fieldName + "In";
         final String fieldNameOut = fieldName + "Out";
         final String baseIndentation = "        ";
         SerializationIndex serializationIndex = Preconditions.checkNotNull(method.getAnnotation(SerializationIndex.class));
         int index = serializationIndex.value() - 1;
         builder.append("\n");
-        builder.append("      if (").append(index).append(" < json.size()) {\n");
+        // null element means that field isn't set, the same as missed field of JSON object
+        builder.append("      if (").append(index).append(" < json.size() && !json.get(").append(index).append(").isJsonNull()) {\n");
         List<Type> expandedTypes = expandType(method.getGenericReturnType());
         builder.append("        JsonElement ").append(fieldNameIn).append(" = json.get(").append(index).append(");\n");
         emitDeserializerImpl(expandedTypes, 0, builder, fieldNameIn, fieldNameOut, baseIndentation);
@@ -269,6 +269,9 @@ public class DtoTemplate {
                 builder.append("        }\n\n");
                 builder.append("        public ").append(dtoInterface).append(" fromJson(String json) {\n")
                        .append("            return ").append(dto.getImplClassName()).append(".fromJsonString(json);\n");
+                builder.append("        }\n\n");
+                builder.append("        public ").append(dtoInterface).append(" fromJson(com.google.gwt.json.client.JSONValue json) {\n")
+                       .append("            return ").append(dto.getImplClassName()).append(".fromJsonObject(json);\n");
                 builder.append("        }\n");
                 builder.append("    });\n");
             }
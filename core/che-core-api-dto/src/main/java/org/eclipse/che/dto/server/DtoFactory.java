@@ -150,6 +150,18 @@ public final class DtoFactory {
         throw new IllegalArgumentException("JsonSerializable instance required. ");
     }
 
+    /**
+     * Serializes DTO to compact JSON.
+     *
+     * @see JsonSerializable#toCompactJson()
+     */
+    public <T> String toCompactJson(T dto) {
+        if (dto instanceof JsonSerializable) {
+            return ((JsonSerializable)dto).toCompactJson();
+        }
+        throw new IllegalArgumentException("JsonSerializable instance required. ");
+    }
+
     /**
      * Creates new instance of class which implements specified DTO interface.
      *
@@ -25,4 +25,17 @@ public interface JsonSerializable extends Serializable {
 
     /** Serializes DTO to JSON object. */
     JsonElement toJsonElement();
+
+    /**
+     * Serializes DTO to compact JSON. DTOs which have {@link org.eclipse.che.dto.shared.SerializationIndex} on all getters are
+     * serialized to JSON arrays, other DTOs are serialized as usual.
+     */
+    default String toCompactJson() {
+        return toJson();
+    }
+
+    /** Serializes DTO to compact JSON element, see {@link #toCompactJson()}. */
+    default JsonElement toCompactJsonElement() {
+        return toJsonElement();
+    }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import org.eclipse.che.dto.definitions.DTOHierarchy;
 import org.eclipse.che.dto.definitions.DtoWithAny;
 import org.eclipse.che.dto.definitions.DtoWithDelegate;
 import org.eclipse.che.dto.definitions.DtoWithFieldNames;
+import org.eclipse.che.dto.definitions.DtoWithSerializationIndex;
 import org.eclipse.che.dto.definitions.SimpleDto;
 import org.eclipse.che.dto.definitions.model.Model;
 import org.eclipse.che.dto.definitions.model.ModelComponentDto;
@@ -35,6 +36,7 @@ import java.util.List;
 import java.util.Map;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
@@ -364,4 +366,65 @@ public class ServerDtoTest {
         assertEquals(childDto.getChildField(), "child-field");
         assertEquals(childDto.getParentField(), "parent-field");
     }
+
+    @Test
+    public void shouldSerializeDtoWithSerializationIndexToCompactJson() {
+        final DtoWithSerializationIndex dto = createDtoWithSerializationIndex();
+
+        final JsonArray json = new JsonParser().parse(dtoFactory.toCompactJson(dto)).getAsJsonArray();
+
+        assertEquals(json.size(), 7);
+        assertEquals(json.get(0).getAsString(), "root");
+        assertEquals(json.get(1).getAsString(), "FOLDER");
+        assertTrue(json.get(2).isJsonNull());
+        assertEquals(json.get(3).getAsLong(), 0L);
+        assertEquals(json.get(4).getAsJsonObject().get("key").getAsString(), "value");
+        // nested DTO which doesn't support compact JSON is serialized as usual
+        assertEquals(json.get(5).getAsJsonObject().get("name").getAsString(), "simple");
+        final JsonArray child = json.get(6).getAsJsonArray().get(0).getAsJsonArray();
+        assertEquals(child.get(0).getAsString(), "child");
+        assertEquals(child.get(3).getAsLong(), 42L);
+        // empty list in the last position is omitted
+        assertEquals(child.size(), 6);
+    }
+
+    @Test
+    public void shouldSerializeDtoWithSerializationIndexToJsonObjectByDefault() {
+        final DtoWithSerializationIndex dto = createDtoWithSerializationIndex();
+
+        final JsonObject json = new JsonParser().parse(dtoFactory.toJson(dto)).getAsJsonObject();
+
+        assertEquals(json.get("name").getAsString(), "root");
+        assertTrue(json.get("children").getAsJsonArray().get(0).isJsonObject());
+    }
+
+    @Test
+    public void shouldDeserializeDtoWithSerializationIndexFromBothForms() {
+        final DtoWithSerializationIndex dto = createDtoWithSerializationIndex();
+
+        assertEquals(dtoFactory.createDtoFromJson(dtoFactory.toCompactJson(dto), DtoWithSerializationIndex.class), dto);
+        assertEquals(dtoFactory.createDtoFromJson(dtoFactory.toJson(dto), DtoWithSerializationIndex.class), dto);
+        assertEquals(dtoFactory.createListDtoFromJson("[" + dtoFactory.toCompactJson(dto) + "]", DtoWithSerializationIndex.class)
+                               .get(0), dto);
+    }
+
+    @Test
+    public void shouldSerializeDtoWithoutSerializationIndexAsUsualWhenCompactJsonIsRequested() {
+        final SimpleDto dto = dtoFactory.createDto(SimpleDto.class).withName("name").withId(1);
+
+        assertEquals(dtoFactory.toCompactJson(dto), dtoFactory.toJson(dto));
+    }
+
+    private DtoWithSerializationIndex createDtoWithSerializationIndex() {
+        final DtoWithSerializationIndex child = dtoFactory.createDto(DtoWithSerializationIndex.class)
+                                                          .withName("child")
+                                                          .withKind(DtoWithSerializationIndex.Kind.FILE)
+                                                          .withSize(42);
+        return dtoFactory.createDto(DtoWithSerializationIndex.class)
+                         .withName("root")
+                         .withKind(DtoWithSerializationIndex.Kind.FOLDER)
+                         .withAttributes(singletonMap("key", "value"))
+                         .withSimple(dtoFactory.createDto(SimpleDto.class).withName("simple"))
+                         .withChildren(asList(child));
+    }
 }
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.dto.definitions;
+
+import org.eclipse.che.dto.shared.DTO;
+import org.eclipse.che.dto.shared.SerializationIndex;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO which may be serialized to compact JSON on demand.
+ */
+@DTO
+public interface DtoWithSerializationIndex {
+
+    enum Kind {
+        FILE,
+        FOLDER
+    }
+
+    @SerializationIndex(1)
+    String getName();
+
+    void setName(String name);
+
+    DtoWithSerializationIndex withName(String name);
+
+    @SerializationIndex(2)
+    Kind getKind();
+
+    void setKind(Kind kind);
+
+    DtoWithSerializationIndex withKind(Kind kind);
+
+    @SerializationIndex(4)
+    long getSize();
+
+    void setSize(long size);
+
+    DtoWithSerializationIndex withSize(long size);
+
+    @SerializationIndex(5)
+    Map<String, String> getAttributes();
+
+    void setAttributes(Map<String, String> attributes);
+
+    DtoWithSerializationIndex withAttributes(Map<String, String> attributes);
+
+    @SerializationIndex(6)
+    SimpleDto getSimple();
+
+    void setSimple(SimpleDto simple);
+
+    DtoWithSerializationIndex withSimple(SimpleDto simple);
+
+    @SerializationIndex(7)
+    List<DtoWithSerializationIndex> getChildren();
+
+    void setChildren(List<DtoWithSerializationIndex> children);
+
+    DtoWithSerializationIndex withChildren(List<DtoWithSerializationIndex> children);
+}
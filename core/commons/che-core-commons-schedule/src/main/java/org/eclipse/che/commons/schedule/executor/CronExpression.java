@@ -19,6 +19,7 @@ package org.eclipse.che.commons.schedule.executor;
 
 import java.io.Serializable;
 import java.text.ParseException;
+import java.util.BitSet;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
@@ -253,6 +254,21 @@ public final class CronExpression implements Serializable, Cloneable {
     protected transient boolean nearestWeekday = false;
     protected transient int lastdayOffset = 0;
     protected transient boolean expressionParsed = false;
+
+    // bit masks of the parsed fields, bit N is set if value N is allowed
+    private transient long    secondsMask;
+    private transient long    minutesMask;
+    private transient long    hoursMask;
+    private transient long    daysOfMonthMask;
+    private transient long    monthsMask;
+    private transient long    daysOfWeekMask;
+    private transient BitSet  yearsMask;
+    // true if days are defined by plain day-of-month or day-of-week values, without 'L', 'W' or '#'
+    private transient boolean simpleDays;
+
+    private static final long SECOND_MS     = 1000L;
+    private static final long DAY_MS        = 86400000L;
+    private static final long DST_MARGIN_MS = 3 * 3600000L;
     
     public static final int MAX_YEAR = Calendar.getInstance().get(Calendar.YEAR) + 100;
 
@@ -331,7 +347,211 @@ public final class CronExpression implements Serializable, Cloneable {
      * @return the next valid date/time
      */
     public Date getNextValidTimeAfter(Date date) {
-        return getTimeAfter(date);
+        long time = getNextValidTimeAfter(date.getTime());
+        return time == -1 ? null : new Date(time);
+    }
+
+    /**
+     * Returns the next time <I>after</I> the given time which satisfies the
+     * cron expression.
+     * <p>
+     * Expressions without 'L', 'W' and '#' are evaluated over bit masks of
+     * the fields with plain integer date arithmetic, so the computation doesn't
+     * allocate objects. Other expressions, as well as times close to daylight
+     * saving transitions of the time zone, are evaluated with {@link Calendar}.
+     *
+     * @param time the time in milliseconds at which to begin the search for
+     *             the next valid time
+     * @return the next valid time in milliseconds or -1 if there is no such time
+     */
+    public long getNextValidTimeAfter(long time) {
+        if (!simpleDays) {
+            return getTimeAfterWithCalendar(time);
+        }
+
+        final TimeZone tz = getTimeZone();
+        // move ahead one second, since we're computing the time *after* the
+        // given time, milliseconds are not taken into account
+        final long start = Math.floorDiv(time + SECOND_MS, SECOND_MS) * SECOND_MS;
+        final long startLocal = start + tz.getOffset(start);
+        final long startDay = Math.floorDiv(startLocal, DAY_MS);
+        final int startSecondOfDay = (int)((startLocal - startDay * DAY_MS) / SECOND_MS);
+
+        // civil date from the days since epoch
+        long z = startDay + 719468;
+        final long era = Math.floorDiv(z, 146097);
+        final long doe = z - era * 146097;
+        final long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        final long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        final long mp = (5 * doy + 2) / 153;
+        int day = (int)(doy - (153 * mp + 2) / 5 + 1);
+        int month = (int)(mp < 10 ? mp + 3 : mp - 9);
+        int year = (int)(yoe + era * 400 + (month <= 2 ? 1 : 0));
+        int hour = startSecondOfDay / 3600;
+        int minute = startSecondOfDay / 60 % 60;
+        int second = startSecondOfDay % 60;
+
+        while (true) {
+            if (year > MAX_YEAR) {
+                return -1;
+            }
+            final int y = yearsMask.nextSetBit(year);
+            if (y < 0) {
+                return -1; // ran out of years...
+            }
+            if (y != year) {
+                year = y;
+                month = 1;
+                day = 1;
+                hour = minute = second = 0;
+            }
+
+            final int mon = nextBit(monthsMask, month);
+            if (mon < 0) {
+                year++;
+                month = 1;
+                day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (mon != month) {
+                month = mon;
+                day = 1;
+                hour = minute = second = 0;
+            }
+
+            final int d = nextDay(year, month, day);
+            if (d < 0) {
+                month++;
+                day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (d != day) {
+                day = d;
+                hour = minute = second = 0;
+            }
+
+            final int hr = nextBit(hoursMask, hour);
+            if (hr < 0) {
+                day++;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (hr != hour) {
+                hour = hr;
+                minute = second = 0;
+            }
+
+            final int min = nextBit(minutesMask, minute);
+            if (min < 0) {
+                hour++;
+                minute = second = 0;
+                continue;
+            }
+            if (min != minute) {
+                minute = min;
+                second = 0;
+            }
+
+            final int sec = nextBit(secondsMask, second);
+            if (sec < 0) {
+                minute++;
+                second = 0;
+                continue;
+            }
+            second = sec;
+            break;
+        }
+
+        final long local = (daysFromCivil(year, month, day) * 86400 + hour * 3600 + minute * 60 + second) * SECOND_MS;
+        long result = local - tz.getOffset(local - tz.getRawOffset());
+        final int offset = tz.getOffset(result);
+        result = local - offset;
+        if (result + tz.getOffset(result) != local
+            || tz.getOffset(result - DST_MARGIN_MS) != offset
+            || tz.getOffset(result + DST_MARGIN_MS) != offset
+            || tz.getOffset(start) != tz.getOffset(start - DST_MARGIN_MS)) {
+            // local time is shifted or ambiguous near daylight saving transition
+            return getTimeAfterWithCalendar(time);
+        }
+        return result;
+    }
+
+    private long getTimeAfterWithCalendar(long time) {
+        Date date = getTimeAfter(new Date(time));
+        return date == null ? -1 : date.getTime();
+    }
+
+    /**
+     * Returns the first day of the month on or after the given one which
+     * satisfies the day-of-month or day-of-week field, -1 if there is no such day.
+     */
+    private int nextDay(int year, int month, int day) {
+        final int lastDay = getLastDayOfMonth(month, year);
+        if (day > lastDay) {
+            return -1;
+        }
+        if (daysOfWeekMask == 0) {
+            final int d = nextBit(daysOfMonthMask, day);
+            return d > lastDay ? -1 : d;
+        }
+        // 1 - Sunday ... 7 - Saturday, 1970-01-01 was Thursday
+        int dow = (int)Math.floorMod(daysFromCivil(year, month, day) + 4, 7) + 1;
+        for (int d = day; d <= lastDay; d++) {
+            if ((daysOfWeekMask & (1L << dow)) != 0) {
+                return d;
+            }
+            dow = dow == 7 ? 1 : dow + 1;
+        }
+        return -1;
+    }
+
+    /** Returns the smallest value of the mask which is not less than the given one, -1 if there is no such value. */
+    private static int nextBit(long mask, int from) {
+        if (from > 63) {
+            return -1;
+        }
+        final long tail = mask & (-1L << from);
+        return tail == 0 ? -1 : Long.numberOfTrailingZeros(tail);
+    }
+
+    /** Returns the number of days since 1970-01-01 of the given date. */
+    private static long daysFromCivil(int year, int month, int day) {
+        final int y = month <= 2 ? year - 1 : year;
+        final long era = Math.floorDiv(y, 400);
+        final long yoe = y - era * 400;
+        final long doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        final long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097 + doe - 719468;
+    }
+
+    private static long toMask(TreeSet<Integer> set) {
+        long mask = 0;
+        for (Integer value : set) {
+            if (value >= 0 && value < 64 && value != ALL_SPEC_INT && value != NO_SPEC_INT) {
+                mask |= 1L << value;
+            }
+        }
+        return mask;
+    }
+
+    private void buildMasks() {
+        secondsMask = toMask(seconds);
+        minutesMask = toMask(minutes);
+        hoursMask = toMask(hours);
+        monthsMask = toMask(months);
+        boolean dayOfMSpec = !daysOfMonth.contains(NO_SPEC);
+        daysOfMonthMask = dayOfMSpec ? toMask(daysOfMonth) : 0;
+        daysOfWeekMask = dayOfMSpec ? 0 : toMask(daysOfWeek);
+        yearsMask = new BitSet();
+        for (Integer year : years) {
+            if (year >= 0) {
+                yearsMask.set(year);
+            }
+        }
+        simpleDays = !lastdayOfMonth && !nearestWeekday && !lastdayOfWeek && nthdayOfWeek == 0
+                     && (dayOfMSpec ? daysOfMonthMask != 0 : daysOfWeekMask != 0);
     }
     
     /**
@@ -512,6 +732,8 @@ public final class CronExpression implements Serializable, Cloneable {
                             "Support for specifying both a day-of-week AND a day-of-month parameter is not implemented.", 0);
                 }
             }
+
+            buildMasks();
         } catch (ParseException pe) {
             throw pe;
         } catch (Exception e) {
@@ -25,7 +25,7 @@ import com.google.inject.Module;
 public class ScheduleModule implements Module {
     @Override
     public void configure(Binder binder) {
-        binder.bind(Launcher.class).to(ThreadPullLauncher.class).asEagerSingleton();
+        binder.bind(Launcher.class).to(TimerWheelLauncher.class).asEagerSingleton();
         binder.install(new InternalScheduleModule());
 
     }
@@ -0,0 +1,389 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.commons.schedule.executor;
+
+import org.eclipse.che.commons.schedule.Launcher;
+import org.eclipse.che.inject.ConfigurationException;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.text.ParseException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Execute method marked with @ScheduleCron @ScheduleDelay and @ScheduleRate annotations using
+ * hashed timer wheel.
+ * <p/>
+ * All jobs are kept in the single wheel of {@link #WHEEL_SIZE} buckets which is advanced by one timer thread every
+ * {@link #TICK_MS} milliseconds, job is placed to the bucket of its next execution time, so scheduling and cancelling
+ * of a job take constant time regardless of the number of jobs. Expired jobs are dispatched to the pool of
+ * {@code schedule.core_pool_size} workers. The next execution of a job is scheduled when the current one is completed,
+ * so the same job is never executed concurrently and doesn't occupy more than one worker. Cron jobs don't occupy any
+ * thread while they are waiting for the next execution.
+ */
+@Singleton
+public class TimerWheelLauncher implements Launcher {
+    private static final Logger LOG = LoggerFactory.getLogger(TimerWheelLauncher.class);
+
+    static final long TICK_MS    = 100;
+    static final int  WHEEL_SIZE = 512;
+
+    private final Job[]              wheel;
+    private final Queue<Job>         scheduled;
+    private final Queue<Job>         cancelled;
+    private final ThreadPoolExecutor workers;
+    private final Thread             timer;
+    private final long               startTime;
+    private final AtomicInteger      jobsCount;
+
+    private volatile boolean stopped;
+    /** Number of ticks passed since start, accessed only by timer thread. */
+    private long tick;
+
+    /**
+     * @param corePoolSize
+     *         the number of threads which execute jobs
+     */
+    @Inject
+    public TimerWheelLauncher(@Named("schedule.core_pool_size") Integer corePoolSize) {
+        this.wheel = new Job[WHEEL_SIZE];
+        this.scheduled = new ConcurrentLinkedQueue<>();
+        this.cancelled = new ConcurrentLinkedQueue<>();
+        this.jobsCount = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(corePoolSize, corePoolSize, 0L, TimeUnit.MILLISECONDS,
+                                              new LinkedBlockingQueue<>(),
+                                              new ThreadFactoryBuilder().setNameFormat("Annotated-scheduler-%d")
+                                                                        .setDaemon(false)
+                                                                        .build());
+        this.startTime = System.nanoTime();
+        this.timer = new ThreadFactoryBuilder().setNameFormat("Annotated-scheduler-timer")
+                                               .setDaemon(true)
+                                               .build()
+                                               .newThread(this::runTimer);
+        this.timer.start();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        stopped = true;
+        timer.interrupt();
+        // Tell threads to finish off.
+        workers.shutdown(); // Disable new tasks from being submitted
+        try {
+            // Wait a while for existing tasks to terminate
+            if (!workers.awaitTermination(60, TimeUnit.SECONDS)) {
+                workers.shutdownNow(); // Cancel currently executing tasks
+                // Wait a while for tasks to respond to being cancelled
+                if (!workers.awaitTermination(60, TimeUnit.SECONDS))
+                    LOG.warn("Pool did not terminate");
+            }
+        } catch (InterruptedException ie) {
+            // (Re-)Cancel if current thread also interrupted
+            workers.shutdownNow();
+            // Preserve interrupt status
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void scheduleCron(Runnable runnable, String cron) {
+        if (cron == null || cron.isEmpty()) {
+            throw new ConfigurationException("Cron parameter can't be null");
+        }
+        try {
+            CronExpression expression = new CronExpression(cron);
+            long next = expression.getNextValidTimeAfter(System.currentTimeMillis());
+            if (next == -1) {
+                LOG.warn("Cron expression {} doesn't have valid execution time, method {} won't be executed", cron, runnable);
+                return;
+            }
+            schedule(new CronJob(runnable, expression), next - System.currentTimeMillis());
+            LOG.debug("Schedule method {} with cron  {} schedule", runnable, cron);
+        } catch (ParseException e) {
+            LOG.error(e.getLocalizedMessage(), e);
+            throw new ConfigurationException(e.getLocalizedMessage());
+        }
+    }
+
+    @Override
+    public void scheduleWithFixedDelay(Runnable runnable, long initialDelay, long delay, TimeUnit unit) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("Delay must be positive");
+        }
+        schedule(new DelayJob(runnable, unit.toMillis(delay)), unit.toMillis(initialDelay));
+        LOG.debug("Schedule method {} with fixed initial delay {} delay {} unit {}",
+                  runnable,
+                  initialDelay,
+                  delay, unit);
+    }
+
+    @Override
+    public void scheduleAtFixedRate(Runnable runnable, long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive");
+        }
+        schedule(new RateJob(runnable, unit.toMillis(period)), unit.toMillis(initialDelay));
+        LOG.debug("Schedule method {} with fixed rate. Initial delay {} period {} unit {}",
+                  runnable,
+                  initialDelay,
+                  period,
+                  unit);
+    }
+
+    /** Returns the number of jobs which are waiting for the next execution or are being executed. */
+    int getJobsCount() {
+        return jobsCount.get();
+    }
+
+    /**
+     * Cancels all the next executions of the job. Execution which is in progress is not interrupted.
+     */
+    private void cancel(Job job) {
+        if (!job.cancelled) {
+            job.cancelled = true;
+            cancelled.add(job);
+            jobsCount.decrementAndGet();
+        }
+    }
+
+    private void schedule(Job job, long delayMs) {
+        if (stopped) {
+            throw new RejectedExecutionException("Scheduler is stopped");
+        }
+        jobsCount.incrementAndGet();
+        reschedule(job, delayMs);
+    }
+
+    /** Adds job to the queue which is drained to the wheel by the timer thread on the next tick. */
+    private void reschedule(Job job, long delayMs) {
+        job.deadline = now() + Math.max(0, delayMs);
+        scheduled.add(job);
+    }
+
+    /** Milliseconds since start of the launcher. */
+    private long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+
+    private void runTimer() {
+        while (!stopped) {
+            final long deadline = (tick + 1) * TICK_MS;
+            long sleepMs;
+            while ((sleepMs = deadline - now()) > 0) {
+                try {
+                    Thread.sleep(sleepMs);
+                } catch (InterruptedException e) {
+                    if (stopped) {
+                        return;
+                    }
+                }
+            }
+
+            removeCancelled();
+            transferScheduled();
+            expire(wheel[(int)(tick & (WHEEL_SIZE - 1))], deadline);
+            tick++;
+        }
+    }
+
+    private void transferScheduled() {
+        Job job;
+        while ((job = scheduled.poll()) != null) {
+            if (job.cancelled) {
+                continue;
+            }
+            final long expirationTick = Math.max(job.deadline / TICK_MS, tick);
+            job.remainingRounds = (expirationTick - tick) / WHEEL_SIZE;
+            final int bucket = (int)(expirationTick & (WHEEL_SIZE - 1));
+            job.bucket = bucket;
+            job.next = wheel[bucket];
+            job.prev = null;
+            if (wheel[bucket] != null) {
+                wheel[bucket].prev = job;
+            }
+            wheel[bucket] = job;
+        }
+    }
+
+    private void removeCancelled() {
+        Job job;
+        while ((job = cancelled.poll()) != null) {
+            if (job.bucket >= 0) {
+                unlink(job);
+            }
+        }
+    }
+
+    private void expire(Job job, long deadline) {
+        while (job != null) {
+            final Job next = job.next;
+            if (job.remainingRounds <= 0 && job.deadline <= deadline) {
+                unlink(job);
+                dispatch(job);
+            } else {
+                job.remainingRounds--;
+            }
+            job = next;
+        }
+    }
+
+    private void unlink(Job job) {
+        if (job.prev != null) {
+            job.prev.next = job.next;
+        } else if (wheel[job.bucket] == job) {
+            wheel[job.bucket] = job.next;
+        }
+        if (job.next != null) {
+            job.next.prev = job.prev;
+        }
+        job.prev = job.next = null;
+        job.bucket = -1;
+    }
+
+    private void dispatch(Job job) {
+        try {
+            workers.execute(job);
+        } catch (RejectedExecutionException e) {
+            if (!stopped) {
+                LOG.error(e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Scheduled job, it is linked to the other jobs of the same wheel bucket.
+     * Fields used for placing job in the wheel are accessed only by the timer thread.
+     */
+    private abstract class Job implements Runnable {
+        final Runnable runnable;
+
+        volatile boolean cancelled;
+        volatile long    deadline;
+
+        long remainingRounds;
+        int  bucket = -1;
+        Job  prev;
+        Job  next;
+
+        Job(Runnable runnable) {
+            this.runnable = runnable;
+        }
+
+        @Override
+        public void run() {
+            if (cancelled || stopped) {
+                return;
+            }
+            final long startedAt = now();
+            try {
+                runnable.run();
+            } catch (RuntimeException e) {
+                onFailure(e);
+                return;
+            }
+            if (!cancelled && !stopped) {
+                final long delay = nextDelay(startedAt);
+                if (delay < 0) {
+                    cancel(this);
+                } else {
+                    reschedule(this, delay);
+                }
+            }
+        }
+
+        /**
+         * Returns delay before the next execution counting from the end of the current one, or -1 if the job mustn't
+         * be executed anymore.
+         */
+        abstract long nextDelay(long startedAt);
+
+        void onFailure(RuntimeException e) {
+            // as ScheduledExecutorService does, subsequent executions are suppressed
+            LOG.error("Method " + runnable + " has failed, subsequent executions are cancelled", e);
+            cancel(this);
+        }
+
+        @Override
+        public String toString() {
+            return runnable.toString();
+        }
+    }
+
+    private class DelayJob extends Job {
+        private final long delay;
+
+        DelayJob(Runnable runnable, long delay) {
+            super(runnable);
+            this.delay = delay;
+        }
+
+        @Override
+        long nextDelay(long startedAt) {
+            return delay;
+        }
+    }
+
+    private class RateJob extends Job {
+        private final long period;
+
+        RateJob(Runnable runnable, long period) {
+            super(runnable);
+            this.period = period;
+        }
+
+        @Override
+        long nextDelay(long startedAt) {
+            // executions which take longer than the period delay the next one, but never overlap
+            return Math.max(0, deadline + period - now());
+        }
+    }
+
+    private class CronJob extends Job {
+        private final CronExpression expression;
+
+        CronJob(Runnable runnable, CronExpression expression) {
+            super(runnable);
+            this.expression = expression;
+        }
+
+        @Override
+        long nextDelay(long startedAt) {
+            final long currentTime = System.currentTimeMillis();
+            final long next = expression.getNextValidTimeAfter(currentTime);
+            return next == -1 ? -1 : next - currentTime;
+        }
+
+        @Override
+        void onFailure(RuntimeException e) {
+            // failed execution doesn't affect the next ones, as each cron execution is independent
+            LOG.error(e.getMessage(), e);
+            final long delay = nextDelay(now());
+            if (delay < 0) {
+                cancel(this);
+            } else if (!cancelled && !stopped) {
+                reschedule(this, delay);
+            }
+        }
+    }
+}
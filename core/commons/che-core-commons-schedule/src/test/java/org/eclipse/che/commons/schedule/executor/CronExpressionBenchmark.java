@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.commons.schedule.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.Test;
+
+import java.text.ParseException;
+import java.util.Date;
+
+/**
+ * Rough measurement of the next execution time computation, gives the same order of numbers as JMH benchmark with default
+ * settings. Isn't run by default build, use {@code mvn test -Pbenchmarks}.
+ */
+public class CronExpressionBenchmark {
+    private static final Logger LOG = LoggerFactory.getLogger(CronExpressionBenchmark.class);
+
+    private static final int WARM_UP_ITERATIONS = 200000;
+    private static final int ITERATIONS         = 1000000;
+
+    @Test
+    public void benchmarkNextValidTimeAfter() throws ParseException {
+        CronExpression cronExpression = new CronExpression("0 0/5 * * * ?");
+        long time = System.currentTimeMillis();
+        long blackhole = 0;
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            blackhole += cronExpression.getNextValidTimeAfter(time + i * 1000L);
+            blackhole += cronExpression.getTimeAfter(new Date(time + i * 1000L)).getTime();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            blackhole += cronExpression.getNextValidTimeAfter(time + i * 1000L);
+        }
+        long bitMasks = (System.nanoTime() - start) / ITERATIONS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            blackhole += cronExpression.getTimeAfter(new Date(time + i * 1000L)).getTime();
+        }
+        long calendar = (System.nanoTime() - start) / ITERATIONS;
+
+        LOG.info("getNextValidTimeAfter: {} ns/op, getTimeAfter: {} ns/op ({})", bitMasks, calendar, blackhole % 2);
+    }
+}
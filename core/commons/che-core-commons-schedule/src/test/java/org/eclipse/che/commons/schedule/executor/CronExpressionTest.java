@@ -26,6 +26,7 @@ import java.io.ObjectOutputStream;
 import java.text.ParseException;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Random;
 import java.util.TimeZone;
 
 import static org.testng.Assert.*;
@@ -292,6 +293,43 @@ public class CronExpressionTest {
         assertEquals(nonDefault, copyCronExpression.getTimeZone());
     }
 
+    @Test
+    public void testNextValidTimeMatchesCalendarBasedComputation() throws ParseException {
+        String[] expressions = {"0 0/5 * * * ?", "*/7 * * * * ?", "0 0 12 ? * WED", "0 0 2 * * ?", "0 30 1 * * ?",
+                                "0 0 0 31 * ?", "0 0 0 29 2 ?", "15 14 3 ? * MON-FRI", "0 0 14-6 ? * FRI-MON",
+                                "0 0/1 1-3 * * ?", "0 0 0 L-2 * ? *", "0 15 10 ? * 6L", "0 0 12 1/5 * ?",
+                                "0 0 0 ? * 1,7 2030-2035", "0 15 10 * * ? 2005", "59 59 23 31 12 ?"};
+        String[] zones = {"UTC", "US/Eastern", "Europe/Kiev", "Australia/Lord_Howe", "Asia/Kolkata"};
+        Random random = new Random(1);
+        for (String zone : zones) {
+            for (String expression : expressions) {
+                CronExpression cronExpression = new CronExpression(expression);
+                cronExpression.setTimeZone(TimeZone.getTimeZone(zone));
+                for (int i = 0; i < 500; i++) {
+                    long time = 946684800000L + (long)(random.nextDouble() * 1.5e12) + random.nextInt(1000);
+                    Date expected = cronExpression.getTimeAfter(new Date(time));
+
+                    assertEquals(cronExpression.getNextValidTimeAfter(time), expected == null ? -1 : expected.getTime(),
+                                 expression + " in " + zone + " after " + time);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testNextValidTimeMatchesCalendarBasedComputationForConsecutiveTimes() throws ParseException {
+        CronExpression cronExpression = new CronExpression("0 0/5 * * * ?");
+        cronExpression.setTimeZone(TimeZone.getTimeZone("Europe/Kiev"));
+        // two days of seconds around the switch to the daylight saving time, every 7th second
+        long start = 1459036800000L;
+        for (long time = start; time < start + 2 * 24 * 3600 * 1000L; time += 7000L) {
+            long expected = cronExpression.getTimeAfter(new Date(time)).getTime();
+
+            assertEquals(cronExpression.getNextValidTimeAfter(time), expected, "after " + time);
+            assertTrue(expected > time);
+        }
+    }
+
 //    // execute with version number to generate a new version's serialized form
 //    public static void main(String[] args) throws Exception {
 //        new CronExpressionTest().writeJobDataFile("1.5.2");
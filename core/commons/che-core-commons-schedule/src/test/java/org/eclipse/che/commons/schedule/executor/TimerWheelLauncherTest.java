@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.commons.schedule.executor;
+
+import org.eclipse.che.inject.ConfigurationException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class TimerWheelLauncherTest {
+
+    private TimerWheelLauncher launcher;
+
+    @BeforeMethod
+    public void setUp() {
+        launcher = new TimerWheelLauncher(2);
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        launcher.shutdown();
+    }
+
+    @Test
+    public void shouldExecuteJobWithFixedDelay() throws Exception {
+        CountDownLatch latch = new CountDownLatch(3);
+
+        launcher.scheduleWithFixedDelay(latch::countDown, 0, 100, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertEquals(launcher.getJobsCount(), 1);
+    }
+
+    @Test
+    public void shouldExecuteJobAtFixedRate() throws Exception {
+        CountDownLatch latch = new CountDownLatch(3);
+
+        launcher.scheduleAtFixedRate(latch::countDown, 100, 200, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldExecuteCronJob() throws Exception {
+        CountDownLatch latch = new CountDownLatch(2);
+
+        launcher.scheduleCron(latch::countDown, "* * * * * ?");
+
+        assertTrue(latch.await(4, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldNotExecuteSameJobConcurrently() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(3);
+
+        launcher.scheduleAtFixedRate(() -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            latch.countDown();
+        }, 0, 100, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(3, TimeUnit.SECONDS));
+        assertEquals(maxRunning.get(), 1);
+    }
+
+    @Test
+    public void shouldStopExecutionOfFailedJobWithFixedDelay() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+
+        launcher.scheduleWithFixedDelay(() -> {
+            executions.incrementAndGet();
+            throw new IllegalStateException("expected");
+        }, 0, 100, TimeUnit.MILLISECONDS);
+
+        Thread.sleep(600);
+        assertEquals(executions.get(), 1);
+        assertEquals(launcher.getJobsCount(), 0);
+    }
+
+    @Test
+    public void shouldKeepExecutingFailedCronJob() throws Exception {
+        CountDownLatch latch = new CountDownLatch(2);
+
+        launcher.scheduleCron(() -> {
+            latch.countDown();
+            throw new IllegalStateException("expected");
+        }, "* * * * * ?");
+
+        assertTrue(latch.await(4, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldKeepManyJobsInWheel() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        for (int i = 0; i < 10000; i++) {
+            launcher.scheduleWithFixedDelay(executions::incrementAndGet, 1, 1, TimeUnit.HOURS);
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+
+        launcher.scheduleWithFixedDelay(latch::countDown, 0, 1, TimeUnit.HOURS);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(executions.get(), 0);
+        assertEquals(launcher.getJobsCount(), 10001);
+    }
+
+    @Test(expectedExceptions = ConfigurationException.class)
+    public void shouldRejectInvalidCron() throws Exception {
+        launcher.scheduleCron(() -> {}, "invalid");
+    }
+
+    @Test(expectedExceptions = ConfigurationException.class)
+    public void shouldRejectEmptyCron() throws Exception {
+        launcher.scheduleCron(() -> {}, "");
+    }
+
+    @Test
+    public void shouldNotExecuteJobsAfterShutdown() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        launcher.scheduleWithFixedDelay(executions::incrementAndGet, 200, 100, TimeUnit.MILLISECONDS);
+
+        launcher.shutdown();
+        Thread.sleep(400);
+
+        assertEquals(executions.get(), 0);
+    }
+}
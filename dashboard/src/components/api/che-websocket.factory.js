@@ -282,8 +282,10 @@ class MessageBus { // jshint ignore:line
       // message for a channel, look at current subscribers
       var subscribers = this.subscribersByChannel.get(channelHeader.value);
       if (subscribers) {
+        // body of channel events is embedded as JSON, older servers send it as a string
+        var body = typeof jsonMessage.body === 'string' ? JSON.parse(jsonMessage.body) : jsonMessage.body;
         subscribers.forEach((subscriber) => {
-          subscriber(JSON.parse(jsonMessage.body));
+          subscriber(body);
         });
       }
     }
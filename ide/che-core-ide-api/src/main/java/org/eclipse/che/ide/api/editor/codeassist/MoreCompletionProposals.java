@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.api.editor.codeassist;
+
+/**
+ * Placeholder of the completion proposals which aren't retrieved yet. Processor which returns only part of the proposals adds
+ * it as the last proposal of the list. Completion popup shows it as the last item and replaces it with the next part of the
+ * proposals when user reaches it, {@link #getCompletion(CompletionCallback)} isn't called for such proposal.
+ */
+public interface MoreCompletionProposals extends CompletionProposal {
+
+    /**
+     * Retrieves the next part of the proposals. The last of them may be {@link MoreCompletionProposals} again if there are
+     * still more proposals.
+     *
+     * @param callback
+     *         callback which receives retrieved proposals
+     */
+    void getMoreProposals(CompletionReadyCallback callback);
+}
@@ -11,6 +11,7 @@
 package org.eclipse.che.ide.api.project;
 
 import org.eclipse.che.api.project.shared.dto.ItemReference;
+import org.eclipse.che.api.project.shared.dto.ResourceChanges;
 import org.eclipse.che.api.project.shared.dto.SourceEstimation;
 import org.eclipse.che.api.project.shared.dto.TreeElement;
 import org.eclipse.che.api.promises.client.Promise;
@@ -248,4 +249,18 @@ public interface ProjectServiceClient {
      * @since 4.4.0
      */
     Promise<List<SourceEstimation>> resolveSources(Path path);
+
+    /**
+     * Returns items changed since the given version of the change journal of the workspace agent.
+     *
+     * @param journalId
+     *         identifier of the change journal received with the previous changes, may be {@code null}
+     * @param since
+     *         version of the change journal received with the previous changes
+     * @return {@link Promise} with the changes, if changes since the given version aren't available then the changes
+     * are marked as truncated
+     * @see ResourceChanges
+     * @since 4.5.0
+     */
+    Promise<ResourceChanges> getChanges(String journalId, long since);
 }
@@ -18,6 +18,7 @@ import org.eclipse.che.ide.api.machine.WsAgentStateController;
 import org.eclipse.che.api.project.shared.dto.CopyOptions;
 import org.eclipse.che.api.project.shared.dto.ItemReference;
 import org.eclipse.che.api.project.shared.dto.MoveOptions;
+import org.eclipse.che.api.project.shared.dto.ResourceChanges;
 import org.eclipse.che.api.project.shared.dto.SourceEstimation;
 import org.eclipse.che.api.project.shared.dto.TreeElement;
 import org.eclipse.che.api.promises.client.Operation;
@@ -49,6 +50,7 @@ import static com.google.gwt.http.client.RequestBuilder.POST;
 import static com.google.gwt.http.client.RequestBuilder.PUT;
 import static org.eclipse.che.ide.MimeType.APPLICATION_JSON;
 import static org.eclipse.che.ide.rest.HTTPHeader.ACCEPT;
+import static org.eclipse.che.ide.rest.HTTPHeader.COMPACT_JSON;
 import static org.eclipse.che.ide.rest.HTTPHeader.CONTENTTYPE;
 import static org.eclipse.che.ide.rest.HTTPHeader.CONTENT_TYPE;
 
@@ -74,6 +76,7 @@ public class ProjectServiceClientImpl implements ProjectServiceClient {
     private static final String IMPORT   = "/import";
     private static final String RESOLVE  = "/resolve";
     private static final String ESTIMATE = "/estimate";
+    private static final String CHANGES  = "/changes";
 
     private final WsAgentStateController wsAgentStateController;
     private final LoaderFactory          loaderFactory;
@@ -193,6 +196,7 @@ public class ProjectServiceClientImpl implements ProjectServiceClient {
 
         return reqFactory.createGetRequest(url + queryParameters.toString().replaceFirst("&", "?"))
                          .header(ACCEPT, MimeType.APPLICATION_JSON)
+                         .header(COMPACT_JSON, "true")
                          .loader(loaderFactory.newLoader("Searching..."))
                          .send(unmarshaller.newListUnmarshaller(ItemReference.class));
     }
@@ -295,10 +299,22 @@ public class ProjectServiceClientImpl implements ProjectServiceClient {
 
         return reqFactory.createGetRequest(url)
                          .header(ACCEPT, MimeType.APPLICATION_JSON)
+                         .header(COMPACT_JSON, "true")
                          .loader(loaderFactory.newLoader("Reading project structure..."))
                          .send(unmarshaller.newUnmarshaller(TreeElement.class));
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Promise<ResourceChanges> getChanges(String journalId, long since) {
+        final String url = getBaseUrl() + CHANGES + "?since=" + since + (isNullOrEmpty(journalId) ? "" : "&journal=" + journalId);
+
+        return reqFactory.createGetRequest(url)
+                         .header(ACCEPT, MimeType.APPLICATION_JSON)
+                         .loader(loaderFactory.newLoader("Reading changes..."))
+                         .send(unmarshaller.newUnmarshaller(ResourceChanges.class));
+    }
+
     /** {@inheritDoc} */
     @Override
     public Promise<ItemReference> getItem(Path path) {
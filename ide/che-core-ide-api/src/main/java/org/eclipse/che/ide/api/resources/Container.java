@@ -398,6 +398,19 @@ public interface Container extends Resource {
      */
     Promise<Resource[]> synchronize();
 
+    /**
+     * Synchronizes the cached container and its children with the local file system. By default only folders which
+     * children were changed since the last synchronization are read again. If {@code force} is set all children of the
+     * container are read again, e.g. when user explicitly requests refresh.
+     *
+     * @param force
+     *         {@code true} if all children of the container should be read again
+     * @return the array of resource which where affected by synchronize operation
+     * @see #synchronize()
+     * @since 4.5.0
+     */
+    Promise<Resource[]> synchronize(boolean force);
+
     /**
      * Synchronizes the given {@code deltas} with already cached resources.
      * Method is useful for third-party components which performs changes with resources outside of client side resource management.
@@ -83,12 +83,12 @@ public class RefreshPathAction extends AbstractPerspectiveAction {
         final Resource resource = resources[0];
 
         if (resource instanceof Container) {
-            ((Container)resource).synchronize();
+            ((Container)resource).synchronize(true);
         } else {
             final Optional<Container> parent = resource.getParent();
 
             if (parent.isPresent()) {
-                parent.get().synchronize();
+                parent.get().synchronize(true);
             }
         }
     }
@@ -167,6 +167,12 @@ abstract class ContainerImpl extends ResourceImpl implements Container {
         return resourceManager.synchronize(this);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Promise<Resource[]> synchronize(boolean force) {
+        return resourceManager.synchronize(this, force);
+    }
+
     /** {@inheritDoc} */
     @Override
     public Promise<ResourceDelta[]> synchronize(ResourceDelta...deltas) {
@@ -20,11 +20,14 @@ import org.eclipse.che.api.core.model.project.ProjectConfig;
 import org.eclipse.che.api.core.model.project.SourceStorage;
 import org.eclipse.che.api.core.rest.shared.dto.Link;
 import org.eclipse.che.api.project.shared.dto.ItemReference;
+import org.eclipse.che.api.project.shared.dto.ResourceChanges;
 import org.eclipse.che.api.project.shared.dto.SourceEstimation;
 import org.eclipse.che.api.project.shared.dto.TreeElement;
+import org.eclipse.che.api.project.shared.dto.event.VfsWatchEvent;
 import org.eclipse.che.api.promises.client.Function;
 import org.eclipse.che.api.promises.client.FunctionException;
 import org.eclipse.che.api.promises.client.Promise;
+import org.eclipse.che.api.promises.client.PromiseError;
 import org.eclipse.che.api.promises.client.PromiseProvider;
 import org.eclipse.che.api.workspace.shared.dto.ProjectConfigDto;
 import org.eclipse.che.api.workspace.shared.dto.ProjectProblemDto;
@@ -51,9 +54,14 @@ import org.eclipse.che.ide.dto.DtoFactory;
 import org.eclipse.che.ide.resource.Path;
 import org.eclipse.che.ide.util.Arrays;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static com.google.common.base.Optional.absent;
 import static com.google.common.base.Optional.of;
@@ -120,6 +128,14 @@ public final class ResourceManager {
 
     private static final Resource[] NO_RESOURCES = new Resource[0];
 
+    /**
+     * Max number of changed containers which are read again on synchronization, if more containers are changed all
+     * resources of synchronized container are read again.
+     *
+     * @see #synchronize(Container)
+     */
+    private static final int MAX_CHANGED_CONTAINERS = 20;
+
     private final ProjectServiceClient ps;
     private final EventBus             eventBus;
     private final ResourceFactory      resourceFactory;
@@ -144,6 +160,12 @@ public final class ResourceManager {
      */
     private ProjectConfigDto[] cachedConfigs;
 
+    /**
+     * Identifier and version of the server change journal at the last synchronization.
+     */
+    private String journalId;
+    private long   journalVersion = -1;
+
     @Inject
     public ResourceManager(@Assisted DevMachine devMachine,
                            ProjectServiceClient ps,
@@ -846,6 +868,18 @@ public final class ResourceManager {
     }
 
     protected Promise<Resource[]> synchronize(final Container container) {
+        return synchronize(container, false);
+    }
+
+    /**
+     * Synchronizes cached resources of the given {@code container}. Only cached folders which children were changed since
+     * the last synchronization are read again, unless the change journal is truncated or {@code force} is set, in this case
+     * all resources of the container are read again.
+     * <p/>
+     * Journal version is shared by all cached resources, so it is advanced only when changes were applied to the whole
+     * cache, i.e. they were read incrementally or the workspace root was read again.
+     */
+    protected Promise<Resource[]> synchronize(final Container container, final boolean force) {
         return ps.getProjects().thenPromise(new Function<List<ProjectConfigDto>, Promise<Resource[]>>() {
             @Override
             public Promise<Resource[]> apply(List<ProjectConfigDto> updatedConfiguration) throws FunctionException {
@@ -867,6 +901,7 @@ public final class ResourceManager {
                     }
                 }
 
+                final int depth = maxDepth;
                 final Container[] holder = new Container[]{container};
 
                 if (holder[0].isProject()) {
@@ -881,16 +916,138 @@ public final class ResourceManager {
                     }
                 }
 
-                return getRemoteResources(holder[0], maxDepth, true).then(
-                        new Function<Resource[], Resource[]>() {
+                return getChanges().thenPromise(new Function<ResourceChanges, Promise<Resource[]>>() {
+                    @Override
+                    public Promise<Resource[]> apply(final ResourceChanges changes) throws FunctionException {
+                        final Optional<List<Container>> changed = force || changes.isTruncated()
+                                                                  ? Optional.<List<Container>>absent()
+                                                                  : getChangedContainers(changes.getChanges());
+                        final boolean wholeTree = holder[0].getLocation().isRoot();
+                        final boolean[] advance = new boolean[]{wholeTree};
+
+                        final Promise<Resource[]> reloaded;
+
+                        if (changed.isPresent()) {
+                            advance[0] = true;
+                            reloaded = reloadChanged(holder[0], changed.get()).catchErrorPromise(
+                                    new Function<PromiseError, Promise<Resource[]>>() {
+                                        @Override
+                                        public Promise<Resource[]> apply(PromiseError ignored) throws FunctionException {
+                                            advance[0] = wholeTree;
+                                            return getRemoteResources(holder[0], depth, true);
+                                        }
+                                    });
+                        } else {
+                            reloaded = getRemoteResources(holder[0], depth, true);
+                        }
+
+                        return reloaded.then(new Function<Resource[], Resource[]>() {
                             @Override
                             public Resource[] apply(Resource[] resources) throws FunctionException {
+                                // resources outside of partially read container may be stale, so changes since the old
+                                // version are requested again on the next synchronization
+                                if (advance[0]) {
+                                    journalId = changes.getJournalId();
+                                    journalVersion = changes.getVersion();
+                                }
 
                                 eventBus.fireEvent(new ResourceChangedEvent(new ResourceDeltaImpl(holder[0], SYNCHRONIZED | DERIVED)));
 
                                 return resources;
                             }
                         });
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Returns changes since the last synchronization. If the changes can't be read they are reported as truncated, so
+     * the caller reads all its resources again.
+     */
+    private Promise<ResourceChanges> getChanges() {
+        return ps.getChanges(journalId, journalVersion).catchError(new Function<PromiseError, ResourceChanges>() {
+            @Override
+            public ResourceChanges apply(PromiseError error) throws FunctionException {
+                return dtoFactory.createDto(ResourceChanges.class).withTruncated(true);
+            }
+        });
+    }
+
+    /**
+     * Returns containers which children were changed and are cached. Changes of not cached containers are skipped, their
+     * children are read from the server when they are requested for the first time. Returns absent value if there are
+     * too many changed containers and it is cheaper to read all resources again.
+     */
+    private Optional<List<Container>> getChangedContainers(List<VfsWatchEvent> changes) {
+        final Set<Path> parents = new HashSet<>();
+        final List<Container> containers = new ArrayList<>();
+
+        for (VfsWatchEvent change : changes) {
+            final Path path = Path.valueOf(change.getPath());
+            final Path parent = path.segmentCount() == 1 ? Path.ROOT : path.parent();
+
+            if (!store.get(parent).isPresent() || !parents.add(parent)) {
+                continue;
+            }
+
+            if (parent.isRoot()) {
+                containers.add(workspaceRoot);
+            } else {
+                final Optional<Resource> resource = store.getResource(parent);
+
+                if (resource.isPresent() && resource.get() instanceof Container) {
+                    containers.add((Container)resource.get());
+                }
+            }
+
+            if (containers.size() > MAX_CHANGED_CONTAINERS) {
+                return absent();
+            }
+        }
+
+        // parents go first, so children of removed folder are dropped from the store before they are read
+        Collections.sort(containers, new Comparator<Container>() {
+            @Override
+            public int compare(Container o1, Container o2) {
+                return o1.getLocation().segmentCount() - o2.getLocation().segmentCount();
+            }
+        });
+
+        return of(containers);
+    }
+
+    /**
+     * Reads children of the changed containers again and returns cached descendants of the given {@code container}.
+     */
+    private Promise<Resource[]> reloadChanged(final Container container, List<Container> changed) {
+        Promise<Void> promise = promises.resolve(null);
+
+        for (final Container changedContainer : changed) {
+            promise = promise.thenPromise(new Function<Void, Promise<Void>>() {
+                @Override
+                public Promise<Void> apply(Void ignored) throws FunctionException {
+                    if (!changedContainer.getLocation().isRoot() && !store.getResource(changedContainer.getLocation()).isPresent()) {
+                        return promises.resolve(null);
+                    }
+
+                    return getRemoteResources(changedContainer, DEPTH_ONE, true).then(new Function<Resource[], Void>() {
+                        @Override
+                        public Void apply(Resource[] ignored) throws FunctionException {
+                            return null;
+                        }
+                    });
+                }
+            });
+        }
+
+        return promise.then(new Function<Void, Resource[]>() {
+            @Override
+            public Resource[] apply(Void ignored) throws FunctionException {
+                final Optional<Resource[]> descendants = store.getAll(container.getLocation());
+
+                return descendants.isPresent() ? descendants.get() : NO_RESOURCES;
             }
         });
     }
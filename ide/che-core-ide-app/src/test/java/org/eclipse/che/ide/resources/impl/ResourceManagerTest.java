@@ -0,0 +1,331 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.resources.impl;
+
+import com.google.common.base.Optional;
+import com.google.gwtmockito.GwtMockitoTestRunner;
+import com.google.web.bindery.event.shared.EventBus;
+
+import org.eclipse.che.api.project.shared.dto.ResourceChanges;
+import org.eclipse.che.api.project.shared.dto.TreeElement;
+import org.eclipse.che.api.project.shared.dto.event.VfsWatchEvent;
+import org.eclipse.che.api.promises.client.Function;
+import org.eclipse.che.api.promises.client.FunctionException;
+import org.eclipse.che.api.promises.client.Operation;
+import org.eclipse.che.api.promises.client.OperationException;
+import org.eclipse.che.api.promises.client.Promise;
+import org.eclipse.che.api.promises.client.PromiseError;
+import org.eclipse.che.api.promises.client.PromiseProvider;
+import org.eclipse.che.api.promises.client.Thenable;
+import org.eclipse.che.api.workspace.shared.dto.ProjectConfigDto;
+import org.eclipse.che.ide.api.machine.DevMachine;
+import org.eclipse.che.ide.api.machine.WsAgentURLModifier;
+import org.eclipse.che.ide.api.project.ProjectServiceClient;
+import org.eclipse.che.ide.api.project.type.ProjectTypeRegistry;
+import org.eclipse.che.ide.api.resources.Container;
+import org.eclipse.che.ide.api.resources.Resource;
+import org.eclipse.che.ide.dto.DtoFactory;
+import org.eclipse.che.ide.resource.Path;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.Collections;
+
+import static java.util.Collections.singletonList;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for synchronization of cached resources with the change journal of the workspace agent.
+ */
+@RunWith(GwtMockitoTestRunner.class)
+public class ResourceManagerTest {
+    private static final Path ROOT    = Path.ROOT;
+    private static final Path PROJECT = Path.valueOf("/project");
+    private static final Path SRC     = Path.valueOf("/project/src");
+
+    @Mock
+    private ProjectServiceClient ps;
+    @Mock
+    private EventBus             eventBus;
+    @Mock
+    private ResourceFactory      resourceFactory;
+    @Mock
+    private PromiseProvider      promises;
+    @Mock
+    private DtoFactory           dtoFactory;
+    @Mock
+    private ResourceStore        store;
+
+    private Container       root;
+    private Container       project;
+    private Container       src;
+    private ResourceManager manager;
+
+    @Before
+    public void setUp() throws Exception {
+        root = container(ROOT);
+        project = container(PROJECT);
+        src = container(SRC);
+
+        when(ps.getProjects()).thenReturn(ImmediatePromise.resolved(Collections.<ProjectConfigDto>emptyList()));
+        when(ps.getTree(any(Path.class), anyInt(), anyBoolean())).thenReturn(ImmediatePromise.resolved(mock(TreeElement.class)));
+        when(promises.resolve(any())).thenAnswer(new Answer<Promise<Object>>() {
+            @Override
+            public Promise<Object> answer(InvocationOnMock invocation) throws Throwable {
+                return ImmediatePromise.resolved(invocation.getArguments()[0]);
+            }
+        });
+
+        // the project and its source folder are cached
+        when(store.get(any(Path.class))).thenReturn(Optional.<Resource[]>absent());
+        when(store.getAll(any(Path.class))).thenReturn(Optional.<Resource[]>absent());
+        when(store.getResource(any(Path.class))).thenReturn(Optional.<Resource>absent());
+        when(store.get(ROOT)).thenReturn(Optional.<Resource[]>of(new Resource[]{project}));
+        when(store.get(PROJECT)).thenReturn(Optional.<Resource[]>of(new Resource[]{src}));
+        when(store.get(SRC)).thenReturn(Optional.of(new Resource[0]));
+        when(store.getAll(ROOT)).thenReturn(Optional.<Resource[]>of(new Resource[]{project, src}));
+        when(store.getAll(PROJECT)).thenReturn(Optional.<Resource[]>of(new Resource[]{src}));
+        when(store.getResource(PROJECT)).thenReturn(Optional.<Resource>of(project));
+        when(store.getResource(SRC)).thenReturn(Optional.<Resource>of(src));
+
+        manager = new ResourceManager(mock(DevMachine.class),
+                                      ps,
+                                      eventBus,
+                                      resourceFactory,
+                                      promises,
+                                      dtoFactory,
+                                      mock(ProjectTypeRegistry.class),
+                                      store,
+                                      mock(WsAgentURLModifier.class));
+    }
+
+    @Test
+    public void shouldReadAllResourcesOfContainerWhenJournalIsTruncated() throws Exception {
+        returnChanges(truncated("journal", 5));
+
+        manager.synchronize(project);
+
+        verify(ps).getTree(PROJECT, 1, true);
+    }
+
+    @Test
+    public void shouldNotAdvanceJournalVersionWhenOnlyPartOfWorkspaceIsRead() throws Exception {
+        returnChanges(truncated("journal", 5));
+
+        manager.synchronize(project);
+        manager.synchronize(project);
+
+        // changes outside of the project are still not applied, so they are requested again
+        verify(ps, times(2)).getChanges(null, -1);
+        verify(ps, never()).getChanges("journal", 5);
+    }
+
+    @Test
+    public void shouldAdvanceJournalVersionWhenWorkspaceRootIsRead() throws Exception {
+        returnChanges(truncated("journal", 5));
+
+        manager.synchronize(root);
+        manager.synchronize(root);
+
+        verify(ps, times(2)).getTree(ROOT, 2, true);
+        verify(ps).getChanges(null, -1);
+        verify(ps).getChanges("journal", 5);
+    }
+
+    @Test
+    public void shouldReadOnlyChangedContainersWhenJournalHasChanges() throws Exception {
+        returnChanges(truncated("journal", 5));
+        manager.synchronize(root);
+        returnChanges(changes("journal", 7, "/project/src/A.java"));
+
+        manager.synchronize(project);
+        manager.synchronize(project);
+
+        verify(ps, times(2)).getTree(SRC, 1, true);
+        verify(ps, never()).getTree(eq(PROJECT), anyInt(), anyBoolean());
+        // changes were applied to all cached containers, not only to the synchronized one
+        verify(ps).getChanges("journal", 7);
+    }
+
+    @Test
+    public void shouldNotAdvanceJournalVersionWhenReadOfChangedContainersFailedAndOnlyPartOfWorkspaceIsRead() throws Exception {
+        returnChanges(truncated("journal", 5));
+        manager.synchronize(root);
+        returnChanges(changes("journal", 7, "/project/src/A.java"));
+        when(ps.getTree(SRC, 1, true)).thenReturn(ImmediatePromise.<TreeElement>rejected(mock(PromiseError.class)));
+
+        manager.synchronize(project);
+        manager.synchronize(project);
+
+        verify(ps, times(2)).getTree(PROJECT, 1, true);
+        verify(ps, times(2)).getChanges("journal", 5);
+        verify(ps, never()).getChanges("journal", 7);
+    }
+
+    @Test
+    public void shouldReadAllResourcesOfContainerWhenSynchronizationIsForced() throws Exception {
+        returnChanges(truncated("journal", 5));
+        manager.synchronize(root);
+        returnChanges(changes("journal", 7, "/project/src/A.java"));
+
+        manager.synchronize(project, true);
+
+        verify(ps).getTree(PROJECT, 1, true);
+        verify(ps, never()).getTree(SRC, 1, true);
+    }
+
+    private void returnChanges(ResourceChanges changes) {
+        when(ps.getChanges(anyString(), anyLong())).thenReturn(ImmediatePromise.resolved(changes));
+    }
+
+    private static ResourceChanges truncated(String journalId, long version) {
+        final ResourceChanges changes = mock(ResourceChanges.class);
+        when(changes.getJournalId()).thenReturn(journalId);
+        when(changes.getVersion()).thenReturn(version);
+        when(changes.isTruncated()).thenReturn(true);
+        return changes;
+    }
+
+    private static ResourceChanges changes(String journalId, long version, String path) {
+        final VfsWatchEvent change = mock(VfsWatchEvent.class);
+        when(change.getPath()).thenReturn(path);
+        final ResourceChanges changes = mock(ResourceChanges.class);
+        when(changes.getJournalId()).thenReturn(journalId);
+        when(changes.getVersion()).thenReturn(version);
+        when(changes.getChanges()).thenReturn(singletonList(change));
+        return changes;
+    }
+
+    private static Container container(Path location) {
+        final Container container = mock(Container.class);
+        when(container.getLocation()).thenReturn(location);
+        return container;
+    }
+
+    /** Promise which is settled on creation and calls its callbacks immediately. */
+    private static final class ImmediatePromise<V> implements Promise<V> {
+        private final V            value;
+        private final PromiseError error;
+
+        private ImmediatePromise(V value, PromiseError error) {
+            this.value = value;
+            this.error = error;
+        }
+
+        static <V> Promise<V> resolved(V value) {
+            return new ImmediatePromise<>(value, null);
+        }
+
+        static <V> Promise<V> rejected(PromiseError error) {
+            return new ImmediatePromise<>(null, error);
+        }
+
+        @Override
+        public <B> Promise<B> then(Function<V, B> onFulfilled) {
+            return then(onFulfilled, null);
+        }
+
+        @Override
+        public <B> Promise<B> thenPromise(Function<V, Promise<B>> onFulfilled) {
+            if (error != null) {
+                return rejected(error);
+            }
+            return apply(onFulfilled, value);
+        }
+
+        @Override
+        public <B> Promise<B> then(Function<V, B> onFulfilled, Function<PromiseError, B> onRejected) {
+            if (error != null) {
+                return onRejected == null ? ImmediatePromise.<B>rejected(error) : resolved(apply(onRejected, error));
+            }
+            return resolved(apply(onFulfilled, value));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <B> Promise<B> catchError(Function<PromiseError, B> onRejected) {
+            return error != null ? resolved(apply(onRejected, error)) : (Promise<B>)this;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <B> Promise<B> catchErrorPromise(Function<PromiseError, Promise<B>> onRejected) {
+            return error != null ? apply(onRejected, error) : (Promise<B>)this;
+        }
+
+        @Override
+        public Promise<V> then(Operation<V> onFulfilled) {
+            if (error == null) {
+                run(onFulfilled, value);
+            }
+            return this;
+        }
+
+        @Override
+        public Promise<V> then(Operation<V> onFulfilled, Function<PromiseError, V> onRejected) {
+            if (error != null) {
+                return resolved(apply(onRejected, error));
+            }
+            return then(onFulfilled);
+        }
+
+        @Override
+        public Promise<V> then(Operation<V> onFulfilled, Operation<PromiseError> onRejected) {
+            if (error != null) {
+                run(onRejected, error);
+            }
+            return then(onFulfilled);
+        }
+
+        @Override
+        public <B> Promise<B> then(Thenable<B> thenable) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Promise<V> catchError(Operation<PromiseError> onRejected) {
+            if (error != null) {
+                run(onRejected, error);
+            }
+            return this;
+        }
+
+        private static <A, B> B apply(Function<A, B> function, A arg) {
+            try {
+                return function.apply(arg);
+            } catch (FunctionException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static <A> void run(Operation<A> operation, A arg) {
+            try {
+                operation.apply(arg);
+            } catch (OperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
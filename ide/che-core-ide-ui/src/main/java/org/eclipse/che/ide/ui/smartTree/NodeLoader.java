@@ -42,6 +42,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -177,15 +178,15 @@ public class NodeLoader implements LoaderHandler.HasLoaderHandlers {
             return loadedChildren;
         }
 
+        final Set<Node> existedNodes = new HashSet<>(existed.size());
+        for (NodeDescriptor nodeDescriptor : existed) {
+            existedNodes.add(nodeDescriptor.getNode());
+        }
+
         Iterable<Node> newItems = Iterables.filter(loadedChildren, new Predicate<Node>() {
             @Override
             public boolean apply(Node loadedChild) {
-                for (NodeDescriptor nodeDescriptor : existed) {
-                    if (nodeDescriptor.getNode().equals(loadedChild)) {
-                        return false;
-                    }
-                }
-                return true;
+                return !existedNodes.contains(loadedChild);
             }
         });
 
@@ -199,16 +200,12 @@ public class NodeLoader implements LoaderHandler.HasLoaderHandlers {
             return Collections.emptyList();
         }
 
+        final Set<Node> loadedNodes = new HashSet<>(loadedChildren);
+
         Iterable<NodeDescriptor> removedItems = Iterables.filter(existed, new Predicate<NodeDescriptor>() {
             @Override
             public boolean apply(NodeDescriptor existedChild) {
-                boolean found = false;
-                for (Node loadedChild : loadedChildren) {
-                    if (existedChild.getNode().equals(loadedChild)) {
-                        found = true;
-                    }
-                }
-                return !found;
+                return !loadedNodes.contains(existedChild.getNode());
             }
         });
 
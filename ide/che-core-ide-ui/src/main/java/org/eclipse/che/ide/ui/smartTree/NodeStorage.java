@@ -34,9 +34,10 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Hierarchical type storage. Based on Parent-Child relationship,
@@ -179,11 +180,7 @@ public class NodeStorage implements StoreHandlers.HasStoreHandlers {
      * @return
      */
     public List<Node> getAll() {
-        List<NodeDescriptor> allChildren = new LinkedList<>(roots.getChildren());
-        for (int i = 0; i < allChildren.size(); i++) {
-            allChildren.addAll(allChildren.get(i).getChildren());
-        }
-        return unwrap(allChildren);
+        return unwrap(getDescendants(roots));
     }
 
     /**
@@ -194,11 +191,7 @@ public class NodeStorage implements StoreHandlers.HasStoreHandlers {
      * @return
      */
     public List<Node> getAllChildren(Node parent) {
-        List<NodeDescriptor> allChildren = new LinkedList<>(getWrapper(parent).getChildren());
-        for (int i = 0; i < allChildren.size(); i++) {
-            allChildren.addAll(allChildren.get(i).getChildren());
-        }
-        return unwrap(allChildren);
+        return unwrap(getDescendants(getWrapper(parent)));
     }
 
     /**
@@ -207,12 +200,22 @@ public class NodeStorage implements StoreHandlers.HasStoreHandlers {
      * @return
      */
     public int getAllItemsCount() {
-        List<NodeDescriptor> allChildren = new LinkedList<>(roots.getChildren());
-        for (int i = 0; i < allChildren.size(); i++) {
-            allChildren.addAll(allChildren.get(i).getChildren());
-        }
+        return getDescendants(roots).size();
+    }
 
-        return allChildren.size();
+    /**
+     * Collects all descendants of the given descriptor in breadth-first order. Collected descriptors are kept in array
+     * list which is walked by index, so the whole traversal takes linear time.
+     *
+     * @param parent
+     * @return
+     */
+    private List<NodeDescriptor> getDescendants(NodeDescriptor parent) {
+        List<NodeDescriptor> descendants = new ArrayList<>(parent.getChildren());
+        for (int i = 0; i < descendants.size(); i++) {
+            descendants.addAll(descendants.get(i).getChildren());
+        }
+        return descendants;
     }
 
     /**
@@ -404,29 +407,22 @@ public class NodeStorage implements StoreHandlers.HasStoreHandlers {
      */
     public void insert(NodeDescriptor parent, int index, List<Node> children) {
         int initialCount = parent.getChildren().size();
-        parent.addChildren(index, wrap(children));
+        List<NodeDescriptor> wrapped = wrap(children);
+        parent.addChildren(index, wrapped);
 
         if (initialCount != parent.getChildren().size()) {
             List<Node> addedChildren = new ArrayList<>();
-            List<NodeDescriptor> currentChildren = parent.getChildren();
             if (isSorted()) {
-                int currentChildrenSize = currentChildren.size();
-                for (int i = 0; i < currentChildrenSize; i++) {
-                    int childrenSize = children.size();
-                    for (int j = 0; j < childrenSize; j++) {
-                        Node currentData = currentChildren.get(i).getNode();
-                        Node child = children.get(j);
-                        if (child == currentData) {
-                            addedChildren.add(child);
-                            break;
-                        }
+                // added descriptors are spread among existed ones, keep them in the sorted order
+                Set<NodeDescriptor> added = new HashSet<>(wrapped);
+                for (NodeDescriptor currentChild : parent.getChildren()) {
+                    if (added.contains(currentChild)) {
+                        addedChildren.add(currentChild.getNode());
                     }
                 }
             } else {
-                for (NodeDescriptor currentChild : currentChildren) {
-                    if (children.contains(currentChild.getNode())) {
-                        addedChildren.add(currentChild.getNode());
-                    }
+                for (NodeDescriptor child : wrapped) {
+                    addedChildren.add(child.getNode());
                 }
             }
             if (addedChildren.size() != 0) {
@@ -476,7 +472,7 @@ public class NodeStorage implements StoreHandlers.HasStoreHandlers {
             if (visibleIndex != -1) {
                 fireEvent(new StoreRemoveEvent(visibleIndex, node, parent, children));
             } else {
-                List<NodeDescriptor> descriptors = new LinkedList<>();
+                List<NodeDescriptor> descriptors = new ArrayList<>();
                 descriptors.add(nodeDescriptor);
                 for (int i = 0; i < descriptors.size(); i++) {
                     nodeDescriptor = descriptors.get(i);
@@ -496,20 +492,17 @@ public class NodeStorage implements StoreHandlers.HasStoreHandlers {
 
     private void removeChildren(NodeDescriptor parent) {
         if (parent.getChildren().size() != 0) {
-            List<NodeDescriptor> models = new LinkedList<>();
-            models.addAll(parent.getChildren());
+            List<NodeDescriptor> models = getDescendants(parent);
             parent.clear();
-            for (int i = 0; i < models.size(); i++) {
-                NodeDescriptor wrapper = models.get(i);
-                models.addAll(wrapper.getChildren());
-
-                List<Node> children = getAllChildren(wrapper.getNode());
-
-                idToNodeMap.remove(getKeyProvider().getKey(wrapper.getNode()));
+            for (NodeDescriptor wrapper : models) {
                 if (wrapper.getParent() == parent) {
-                    fireEvent(new StoreRemoveEvent(0, wrapper.getNode(), parent.getNode(), children));
+                    // fire event while removed nodes are still registered, so listeners are able to find them
+                    fireEvent(new StoreRemoveEvent(0, wrapper.getNode(), parent.getNode(), unwrap(getDescendants(wrapper))));
                 }
             }
+            for (NodeDescriptor wrapper : models) {
+                idToNodeMap.remove(getKeyProvider().getKey(wrapper.getNode()));
+            }
         }
     }
 
@@ -521,13 +514,8 @@ public class NodeStorage implements StoreHandlers.HasStoreHandlers {
             roots.addChildren(0, wrap(children));
         } else {
             NodeDescriptor parentNodeDescriptor = getWrapper(parent);
-            List<NodeDescriptor> models = new LinkedList<>();
-            models.addAll(parentNodeDescriptor.getChildren());
-            for (int i = 0; i < models.size(); i++) {
-                NodeDescriptor wrapper = models.get(i);
-                models.addAll(wrapper.getChildren());
+            for (NodeDescriptor wrapper : getDescendants(parentNodeDescriptor)) {
                 idToNodeMap.remove(getKeyProvider().getKey(wrapper.getNode()));
-                remove(wrapper.getNode());
             }
             parentNodeDescriptor.clear();
 
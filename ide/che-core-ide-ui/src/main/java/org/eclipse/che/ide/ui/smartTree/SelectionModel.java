@@ -91,6 +91,9 @@ public class SelectionModel implements HasSelectionHandlers<Node>, HasBeforeSele
         @Override
         public void onRemove(StoreRemoveEvent event) {
             SelectionModel.this.onRemove(event.getNode());
+            for (Node child : event.getChildren()) {
+                SelectionModel.this.onRemove(child);
+            }
         }
 
         @Override
@@ -264,6 +264,11 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
      */
     private DelayedTask updateTask;
 
+    /**
+     * Delayed task to replace rendered rows which are far away from the visible area with empty placeholders.
+     */
+    private DelayedTask cleanTask;
+
     /**
      * Experimental feature that allow tree to simulate "Go Into" on non-leaf node if one's allow this by checking Node#supportGoInto().
      */
@@ -1024,23 +1029,28 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
                         List<Node> visible = getAllChildNodes(rootItems, true);
                         int[] vr = getVisibleRows(visible, count);
 
-                        for (int i = vr[0]; i <= vr[1]; i++) {
-                            if (goInto.isActive()) {
+                        //rows around visible area are rendered in advance to avoid blank rows on short scroll
+                        int first = Math.max(vr[0] - view.getCacheSize(), 0);
+                        int last = Math.min(vr[1] + view.getCacheSize(), visible.size() - 1);
+
+                        for (int i = first; i <= last; i++) {
+                            boolean rendered = isRowRendered(i, visible);
+                            boolean inView = i >= vr[0] && i <= vr[1];
+                            if (!rendered) {
+                                renderRow(visible.get(i));
+                            } else if (inView) {
+                                refresh(visible.get(i));
+                            }
+                            if (goInto.isActive() && (!rendered || inView)) {
                                 //constraint node indention
                                 int goIntoDirDepth = nodeStorage.getDepth(goInto.getLastUsed());
                                 int currentNodeDepth = nodeStorage.getDepth(visible.get(i));
 
                                 view.onDepthUpdated(getNodeDescriptor(visible.get(i)), currentNodeDepth - goIntoDirDepth);
                             }
-                            if (!isRowRendered(i, visible)) {
-                                Node parent = nodeStorage.getParent(visible.get(i));
-                                Element html = renderNode(visible.get(i), nodeStorage.getDepth(parent));
-                                Element rootContainer = view.getRootContainer(getNodeDescriptor(visible.get(i)));
-                                rootContainer.replaceChild(rootContainer.getFirstChildElement(), html);
-                            } else {
-                                refresh(visible.get(i));
-                            }
                         }
+
+                        clean();
                     }
                 }
             };
@@ -1048,6 +1058,35 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
         updateTask.delay(view.getScrollDelay());
     }
 
+    /**
+     * Schedules replacing of rendered rows which are out of visible area and cache with empty placeholders, so amount
+     * of rendered DOM elements doesn't grow while user scrolls through large tree.
+     */
+    protected void clean() {
+        if (cleanTask == null) {
+            cleanTask = new DelayedTask() {
+                @Override
+                public void onExecute() {
+                    int count = getVisibleRowCount();
+                    if (count > 0) {
+                        List<Node> visible = getAllChildNodes(getRootNodes(), true);
+                        int[] vr = getVisibleRows(visible, count);
+
+                        int first = vr[0] - view.getCacheSize();
+                        int last = vr[1] + view.getCacheSize();
+
+                        for (int i = 0; i < visible.size(); i++) {
+                            if ((i < first || i > last) && isRowRendered(i, visible)) {
+                                clearRow(visible.get(i));
+                            }
+                        }
+                    }
+                }
+            };
+        }
+        cleanTask.delay(view.getCleanDelay());
+    }
+
     protected Element getContainer(Node node) {
         if (node == null) {
             return rootContainer;
@@ -1206,8 +1245,15 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
             return;
         }
 
-        for (Node child : children) {
-            Element element = renderNode(child, depth);
+        //large amount of children is rendered lazily, rows which are out of visible area are rendered as empty
+        //placeholders and then rendered by update() when they are scrolled into view
+        int visibleRowCount = getVisibleRowCount();
+        int renderedCount = children.size() > view.getCacheSize() && visibleRowCount > 0 ? visibleRowCount + view.getCacheSize()
+                                                                                          : children.size();
+
+        for (int i = 0; i < children.size(); i++) {
+            Node child = children.get(i);
+            Element element = i < renderedCount ? renderNode(child, depth) : renderPlaceholder(child);
             container.appendChild(element);
         }
 
@@ -1245,9 +1291,7 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
 
         nodeDescriptor.setLoaded(false);
 
-        for (Node toRemove : nodeStorage.getAllChildren(node)) {
-            nodeStorage.remove(toRemove);
-        }
+        nodeStorage.removeChildren(node);
 
         Scheduler.get().scheduleDeferred(new Scheduler.ScheduledCommand() {
             @Override
@@ -1257,6 +1301,52 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
         });
     }
 
+    /**
+     * Renders row without content, row keeps the height of the node, so scroll bar reflects the size of the tree.
+     */
+    private Element renderPlaceholder(Node node) {
+        Element rootContainer = getPresentationRenderer().getRootContainer(register(node));
+        rootContainer.appendChild(renderEmptyNodeContainer());
+        rootContainer.appendChild(getPresentationRenderer().getDescendantsContainer());
+        return rootContainer;
+    }
+
+    private Element renderEmptyNodeContainer() {
+        Element nodeContainer = getPresentationRenderer().getNodeContainer();
+        nodeContainer.getStyle().setHeight(view.getCalculatedRowHeight(), Style.Unit.PX);
+        return nodeContainer;
+    }
+
+    /**
+     * Renders content of the placeholder row, unlike {@link #renderNode(Node, int)} keeps state of the registered node.
+     */
+    private void renderRow(Node node) {
+        NodeDescriptor nodeDescriptor = getNodeDescriptor(node);
+        if (nodeDescriptor == null || view.getRootContainer(nodeDescriptor) == null) {
+            return;
+        }
+        Element el = getPresentationRenderer().render(node, nodeDescriptor.getDomId(), getJoint(node), nodeStorage.getDepth(node) - 1);
+        view.onElementChanged(nodeDescriptor, el);
+    }
+
+    /**
+     * Replaces content of the rendered row with empty placeholder. Selected and loading rows are kept as is.
+     */
+    private void clearRow(Node node) {
+        NodeDescriptor nodeDescriptor = getNodeDescriptor(node);
+        if (nodeDescriptor == null || nodeDescriptor.isLoading() || selectionModel.isSelected(node)) {
+            return;
+        }
+
+        Element rootContainer = view.getRootContainer(nodeDescriptor);
+        if (rootContainer == null) {
+            return;
+        }
+
+        rootContainer.replaceChild(renderEmptyNodeContainer(), rootContainer.getFirstChildElement());
+        nodeDescriptor.clearElements();
+    }
+
     private String register(Node node) {
         String id = getUniqueId(node);
         if (nodeStorage.getNodeMap().containsKey(id)) {
@@ -1386,8 +1476,8 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
                     } else {
                         container.insertBefore(renderNode(child, 0), container.getChild(index));
                     }
-                    scrollIntoView(child);
                 }
+                scrollIntoView(event.getNodes().get(event.getNodes().size() - 1));
             } else {
                 NodeDescriptor descriptor = getNodeDescriptor(parent);
                 if (descriptor != null && descriptor.isChildrenRendered()) {
@@ -1406,8 +1496,8 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
                         } else {
                             container.insertBefore(renderNode(child, parentDepth), container.getChild(index));
                         }
-                        scrollIntoView(child);
                     }
+                    scrollIntoView(event.getNodes().get(event.getNodes().size() - 1));
                 } else {
                     redraw(parent);
                 }
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.ui.smartTree;
+
+import org.eclipse.che.api.promises.client.Promise;
+import org.eclipse.che.ide.api.data.tree.Node;
+import org.eclipse.che.ide.ui.smartTree.event.StoreRemoveEvent;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link NodeStorage}. Doesn't need GWT environment, cost of traversal is measured as number of visited
+ * descriptors, so it doesn't depend on speed of the machine.
+ */
+public class NodeStorageTest {
+
+    private NodeStorage storage;
+    private int         visitedDescriptors;
+
+    @Before
+    public void setUp() throws Exception {
+        storage = new NodeStorage(new NodeUniqueKeyProvider() {
+            @Override
+            public String getKey(Node item) {
+                return item.getName();
+            }
+        }) {
+            @Override
+            public NodeDescriptor wrap(Node node) {
+                NodeDescriptor nodeDescriptor = new NodeDescriptor(this, node) {
+                    @Override
+                    public List<NodeDescriptor> getChildren() {
+                        visitedDescriptors++;
+                        return super.getChildren();
+                    }
+                };
+                getNodeMap().put(getKeyProvider().getKey(node), nodeDescriptor);
+                return nodeDescriptor;
+            }
+        };
+    }
+
+    @Test
+    public void shouldReturnAllChildrenInBreadthFirstOrder() throws Exception {
+        TestNode root = new TestNode("root");
+        TestNode a = new TestNode("a");
+        TestNode b = new TestNode("b");
+        TestNode a1 = new TestNode("a1");
+        TestNode a2 = new TestNode("a2");
+        TestNode b1 = new TestNode("b1");
+        TestNode a11 = new TestNode("a11");
+
+        storage.add(root);
+        storage.add(root, asList((Node)a, b));
+        storage.add(a, asList((Node)a1, a2));
+        storage.add(b, b1);
+        storage.add(a1, a11);
+
+        assertEquals(asList(a, b, a1, a2, b1, a11), storage.getAllChildren(root));
+        assertEquals(asList(root, a, b, a1, a2, b1, a11), storage.getAll());
+        assertEquals(7, storage.getAllItemsCount());
+    }
+
+    @Test
+    public void shouldRemoveAllDescendantsAndNotifyAboutDirectChildren() throws Exception {
+        TestNode root = new TestNode("root");
+        TestNode a = new TestNode("a");
+        TestNode b = new TestNode("b");
+        TestNode a1 = new TestNode("a1");
+
+        storage.add(root);
+        storage.add(root, asList((Node)a, b));
+        storage.add(a, a1);
+
+        final List<StoreRemoveEvent> events = new ArrayList<>();
+        storage.addStoreRemoveHandler(new StoreRemoveEvent.StoreRemoveHandler() {
+            @Override
+            public void onRemove(StoreRemoveEvent event) {
+                //removed nodes should be still registered while listeners are notified
+                assertNotNull(storage.findNode(event.getNode()));
+                events.add(event);
+            }
+        });
+
+        storage.removeChildren(root);
+
+        assertEquals(2, events.size());
+        assertEquals(a, events.get(0).getNode());
+        assertEquals(asList((Node)a1), events.get(0).getChildren());
+        assertEquals(b, events.get(1).getNode());
+        assertTrue(events.get(1).getChildren().isEmpty());
+
+        assertNull(storage.findNode(a));
+        assertNull(storage.findNode(b));
+        assertNull(storage.findNode(a1));
+        assertEquals(0, storage.getChildCount(root));
+        assertEquals(1, storage.getAllItemsCount());
+    }
+
+    @Test
+    public void shouldVisitEachDescriptorOnceWhileTraversingTree() throws Exception {
+        TestNode root = buildTree(1000);
+
+        visitedDescriptors = 0;
+        assertEquals(1000, storage.getAllChildren(root).size());
+        assertEquals(1001, visitedDescriptors);
+
+        visitedDescriptors = 0;
+        assertEquals(1001, storage.getAllItemsCount());
+        assertEquals(1001, visitedDescriptors);
+    }
+
+    @Test
+    public void shouldVisitEachDescriptorFixedNumberOfTimesWhileRemovingChildren() throws Exception {
+        TestNode root = buildTree(1000);
+
+        visitedDescriptors = 0;
+        storage.removeChildren(root);
+
+        assertEquals(1, storage.getAllItemsCount());
+        //the whole subtree is collected once and subtree of each direct child once more
+        assertTrue("Removal visited " + visitedDescriptors + " descriptors of 1001", visitedDescriptors <= 2 * 1001 + 1);
+    }
+
+    /** Builds tree of the given size which contains 10 folders with children in the storage. */
+    private TestNode buildTree(int size) {
+        storage.clear();
+
+        TestNode root = new TestNode("root");
+        storage.add(root);
+
+        List<Node> folders = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            folders.add(new TestNode("folder" + i));
+        }
+        storage.add(root, folders);
+
+        for (int i = 0; i < folders.size(); i++) {
+            List<Node> files = new ArrayList<>();
+            for (int j = i; j < size - folders.size(); j += folders.size()) {
+                files.add(new TestNode("file" + j));
+            }
+            storage.add(folders.get(i), files);
+        }
+        return root;
+    }
+
+    private static class TestNode implements Node {
+        private final String name;
+
+        private Node       parent;
+        private List<Node> children;
+
+        TestNode(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Node getParent() {
+            return parent;
+        }
+
+        @Override
+        public void setParent(Node parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public Promise<List<Node>> getChildren(boolean forceUpdate) {
+            return null;
+        }
+
+        @Override
+        public void setChildren(List<Node> children) {
+            this.children = children;
+        }
+
+        @Override
+        public boolean isLeaf() {
+            return false;
+        }
+
+        @Override
+        public boolean supportGoInto() {
+            return false;
+        }
+    }
+}
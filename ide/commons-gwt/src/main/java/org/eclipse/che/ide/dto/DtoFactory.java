@@ -12,6 +12,7 @@ package org.eclipse.che.ide.dto;
 
 import com.google.gwt.json.client.JSONArray;
 import com.google.gwt.json.client.JSONParser;
+import com.google.gwt.json.client.JSONValue;
 import com.google.inject.Singleton;
 
 import java.util.ArrayList;
@@ -57,6 +58,22 @@ public class DtoFactory {
         return getDtoProvider(dtoInterface).fromJson(json);
     }
 
+    /**
+     * Creates new instance of class which implements specified DTO interface and uses parsed JSON data for initializing
+     * fields of DTO object.
+     *
+     * @param json
+     *         parsed JSON data
+     * @param dtoInterface
+     *         DTO interface
+     * @return new instance of DTO implementation
+     * @throws IllegalArgumentException
+     *         if can't provide any implementation for specified interface
+     */
+    public <T> T createDtoFromJson(JSONValue json, Class<T> dtoInterface) {
+        return getDtoProvider(dtoInterface).fromJson(json);
+    }
+
     /**
      * Parses the JSON data from the specified sting into list of objects of the specified type.
      *
@@ -69,12 +86,25 @@ public class DtoFactory {
      *         if can't provide any implementation for specified interface
      */
     public <T> List<T> createListDtoFromJson(String json, Class<T> dtoInterface) {
+        return createListDtoFromJson(JSONParser.parseStrict(json).isArray(), dtoInterface);
+    }
+
+    /**
+     * Converts the parsed JSON array into list of objects of the specified type.
+     *
+     * @param jsonArray
+     *         parsed JSON array
+     * @param dtoInterface
+     *         DTO interface
+     * @return list of DTO
+     * @throws IllegalArgumentException
+     *         if can't provide any implementation for specified interface
+     */
+    public <T> List<T> createListDtoFromJson(JSONArray jsonArray, Class<T> dtoInterface) {
         final DtoProvider<T> dtoProvider = getDtoProvider(dtoInterface);
-        final JSONArray jsonArray = JSONParser.parseStrict(json).isArray();
-        final List<T> result = new ArrayList<>();
+        final List<T> result = new ArrayList<>(jsonArray.size());
         for (int i = 0; i < jsonArray.size(); i++) {
-            String payload = jsonArray.get(i).isObject().toString();
-            result.add(dtoProvider.fromJson(payload));
+            result.add(dtoProvider.fromJson(jsonArray.get(i)));
         }
         return result;
     }
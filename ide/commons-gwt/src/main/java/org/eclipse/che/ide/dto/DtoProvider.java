@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.eclipse.che.ide.dto;
 
+import com.google.gwt.json.client.JSONValue;
+
 /**
  * Provides implementation of DTO interface.
  *
@@ -24,6 +26,9 @@ public interface DtoProvider<DTO> {
     /** Provides implementation of DTO interface from the specified JSON string. */
     DTO fromJson(String json);
 
+    /** Provides implementation of DTO interface from the specified parsed JSON. */
+    DTO fromJson(JSONValue json);
+
     /** Get new implementation of DTO interface. */
     DTO newInstance();
 }
@@ -233,4 +233,10 @@ public interface HTTPHeader {
 
     String JAXRS_BODY_PROVIDED = "JAXRS-Body-Provided";
 
+    /**
+     * Asks server to serialize DTOs which have serialization indexes to compact JSON arrays. Generated DTO
+     * implementations read both compact and regular JSON.
+     */
+    String COMPACT_JSON = "X-Che-Compact-Json";
+
 }
@@ -45,6 +45,7 @@ abstract class AbstractMessageBus implements MessageBus {
     /** Max. number of attempts to reconnect for every <code>RECONNECTION_PERIOD</code> ms. */
     private final static int    MAX_RECONNECTION_ATTEMPTS = 5;
     private final static String MESSAGE_TYPE_HEADER_NAME  = "x-everrest-websocket-message-type";
+    private final static String CHANNEL_HEADER            = "x-everrest-websocket-channel";
 
     /** Timer for sending heartbeat pings to prevent autoclosing an idle WebSocket connection. */
     private final Timer                                    heartbeatTimer;
@@ -194,18 +195,22 @@ abstract class AbstractMessageBus implements MessageBus {
         }
 
         //TODO Should be revised to remove
+        String channel = null;
         List<Pair> headers = message.getHeaders().toList();
         if (headers != null) {
             for (Pair header : headers) {
                 if (HTTPHeader.LOCATION.equals(header.getName()) && header.getValue().contains("async/")) {
                     return;
                 }
+                if (CHANNEL_HEADER.equals(header.getName())) {
+                    channel = header.getValue();
+                }
             }
         }
 
-        if (getChannel(message) != null) {
+        if (channel != null) {
             // this is a message received by subscription
-            processSubscriptionMessage(message);
+            processSubscriptionMessage(channel, message);
         } else {
             String uuid = message.getStringField(MessageBuilder.UUID_FIELD);
             ReplyHandler replyCallback = replyCallbackMap.remove(uuid);
@@ -223,19 +228,25 @@ abstract class AbstractMessageBus implements MessageBus {
     /**
      * Process the {@link Message} that received by subscription.
      *
+     * @param channel
+     *         channel from which message was received
      * @param message
      *         {@link Message}
      */
-    private void processSubscriptionMessage(Message message) {
-        String channel = getChannel(message);
+    private void processSubscriptionMessage(String channel, Message message) {
         List<MessageHandler> subscribersSet = channelToSubscribersMap.get(channel);
         if (subscribersSet != null) {
+            // body is serialized at most once for all handlers of the channel
+            String body = null;
             for (MessageHandler handler : subscribersSet) {
                 //TODO this is nasty, need refactor this
                 if (handler instanceof SubscriptionHandler) {
                     ((SubscriptionHandler)handler).onMessage(message);
                 } else {
-                    handler.onMessage(message.getBody());
+                    if (body == null) {
+                        body = message.getBody();
+                    }
+                    handler.onMessage(body);
                 }
             }
         }
@@ -261,27 +272,6 @@ abstract class AbstractMessageBus implements MessageBus {
         return heartbeatMessage;
     }
 
-    /**
-     * Get channel from which {@link Message} was received.
-     *
-     * @param message
-     *         {@link Message}
-     * @return channel identifier or <code>null</code> if message is invalid.
-     */
-    private String getChannel(Message message) {
-        List<Pair> headers = message.getHeaders().toList();
-
-        if (headers != null) {
-            for (Pair header : headers) {
-                if ("x-everrest-websocket-channel".equals(header.getName())) {
-                    return header.getValue();
-                }
-            }
-        }
-
-        return null;
-    }
-
     /** {@inheritDoc} */
     @Override
     public void send(Message message, RequestCallback callback) throws WebSocketException {
@@ -10,6 +10,12 @@
  *******************************************************************************/
 package org.eclipse.che.ide.websocket;
 
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.json.client.JSONArray;
+import com.google.gwt.json.client.JSONObject;
+import com.google.gwt.json.client.JSONParser;
+import com.google.gwt.json.client.JSONValue;
+
 import org.eclipse.che.ide.collections.Jso;
 import org.eclipse.che.ide.collections.js.JsoArray;
 import org.eclipse.che.ide.websocket.rest.Pair;
@@ -25,14 +31,42 @@ public class Message extends Jso {
     }
 
     /**
-     * Get message body.
+     * Get message body. Body which is embedded into the message as JSON object or array is serialized to string,
+     * use {@link #getJsonBody()} to get it without serialization.
      *
      * @return message body
      */
     public final String getBody() {
+        if (hasJsonBody()) {
+            return serialize(getJsObjectField("body"));
+        }
         return getStringField("body");
     }
 
+    /**
+     * Get message body as JSON. Body which is embedded into the message as JSON object or array is returned as is,
+     * body which is sent as string is parsed.
+     *
+     * @return message body or {@code null} if message has no body
+     */
+    public final JSONValue getJsonBody() {
+        if (hasJsonBody()) {
+            final JavaScriptObject body = getJsObjectField("body");
+            return isArray(body) ? new JSONArray(body) : new JSONObject(body);
+        }
+        final String body = getStringField("body");
+        return body == null ? null : JSONParser.parseStrict(body);
+    }
+
+    /** Returns {@code true} if body is embedded into the message as JSON object or array rather than sent as string. */
+    public final native boolean hasJsonBody() /*-{
+        return this.body !== null && typeof this.body === 'object';
+    }-*/;
+
+    private static native boolean isArray(JavaScriptObject object) /*-{
+        return Array.isArray(object);
+    }-*/;
+
     /**
      * Set message body.
      *
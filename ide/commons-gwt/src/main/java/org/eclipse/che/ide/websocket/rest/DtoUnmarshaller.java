@@ -12,7 +12,7 @@ package org.eclipse.che.ide.websocket.rest;
 
 import org.eclipse.che.ide.dto.DtoFactory;
 import org.eclipse.che.ide.websocket.Message;
-import com.google.gwt.json.client.JSONParser;
+import com.google.gwt.json.client.JSONValue;
 
 /**
  * DTO unmarshaller for websocket messages.
@@ -32,11 +32,12 @@ public class DtoUnmarshaller<T> implements Unmarshallable<T> {
     /** {@inheritDoc} */
     @Override
     public void unmarshal(Message message) {
-        if (message.getBody() != null) {
-            if (isJsonArray(message)) {
-                payload = (T)dtoFactory.createListDtoFromJson(message.getBody(), dtoInterface);
+        final JSONValue body = message.getJsonBody();
+        if (body != null) {
+            if (body.isArray() != null) {
+                payload = (T)dtoFactory.createListDtoFromJson(body.isArray(), dtoInterface);
             } else {
-                payload = (T)dtoFactory.createDtoFromJson(message.getBody(), dtoInterface);
+                payload = (T)dtoFactory.createDtoFromJson(body, dtoInterface);
             }
         }
     }
@@ -46,8 +47,4 @@ public class DtoUnmarshaller<T> implements Unmarshallable<T> {
     public T getPayload() {
         return payload;
     }
-
-    private boolean isJsonArray(Message message) {
-        return JSONParser.parseStrict(message.getBody()).isArray() != null;
-    }
 }
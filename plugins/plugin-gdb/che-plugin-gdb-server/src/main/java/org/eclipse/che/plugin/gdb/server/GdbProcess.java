@@ -10,19 +10,18 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.gdb.server;
 
-import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.plugin.gdb.server.parser.GdbOutput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 
-import static java.lang.Math.min;
-
 /**
  * @author Anatoliy Bazko
  */
@@ -30,20 +29,32 @@ public abstract class GdbProcess {
     private static final Logger LOG          = LoggerFactory.getLogger(GdbProcess.class);
     private static final int    MAX_CAPACITY = 1000;
     private static final int    MAX_OUTPUT   = 4096;
+    private static final long   JOIN_TIMEOUT = 1000;
 
     protected final Process                  process;
     protected final String                   outputSeparator;
     protected final BlockingQueue<GdbOutput> outputs;
     protected final Thread                   outputReader;
+    protected final Thread                   errorReader;
+
+    /** Output of the process which isn't terminated by {@link #outputSeparator} yet. */
+    private final StringBuilder buf;
+
+    private volatile boolean stopped;
 
     public GdbProcess(String outputSeparator, String... commands) throws IOException {
         this.outputSeparator = outputSeparator;
         this.outputs = new ArrayBlockingQueue<>(MAX_CAPACITY);
+        this.buf = new StringBuilder();
 
         ProcessBuilder processBuilder = new ProcessBuilder(commands);
         process = processBuilder.start();
 
-        outputReader = new OutputReader(commands[0] + " output reader");
+        errorReader = new OutputReader(commands[0] + " error reader", process.getErrorStream(), false);
+        errorReader.setDaemon(true);
+        errorReader.start();
+
+        outputReader = new OutputReader(commands[0] + " output reader", process.getInputStream(), true);
         outputReader.setDaemon(true);
         outputReader.start();
     }
@@ -52,93 +63,112 @@ public abstract class GdbProcess {
      * Stops process.
      */
     protected void stop() {
+        stopped = true;
         outputReader.interrupt();
-        outputs.clear();
+        errorReader.interrupt();
         process.destroyForcibly();
+        outputs.clear();
+    }
+
+    /**
+     * Appends text of one of the process streams and stores every complete output in the {@code #outputs}.
+     * Only the tail of the buffer, which may contain the beginning of the separator, and the new text are scanned.
+     */
+    private void onText(CharSequence text, int length) {
+        synchronized (buf) {
+            int fromIndex = Math.max(0, buf.length() - outputSeparator.length() + 1);
+            buf.append(text, 0, length);
+
+            int indexOf;
+            while ((indexOf = buf.indexOf(outputSeparator, fromIndex)) >= 0) {
+                GdbOutput gdbOutput = GdbOutput.of(buf.substring(0, indexOf));
+                outputs.add(gdbOutput);
+
+                LOG.debug(gdbOutput.getOutput());
+
+                buf.delete(0, indexOf + outputSeparator.length());
+                fromIndex = 0;
+            }
+
+            if (buf.length() > MAX_OUTPUT) {
+                buf.delete(0, buf.length() - MAX_OUTPUT);
+            }
+        }
     }
 
     /**
-     * Continuously reads process output and store in the {@code #outputs}.
+     * Continuously reads one of the process streams. Reading blocks until data is available, so output is handled as soon
+     * as the process writes it. Each reader keeps its own pending text and passes only complete lines, or for the standard
+     * output the text up to the separator, to the shared buffer, so lines of both streams are never mixed. The reader of
+     * the standard output reports termination of the process when its stream is closed.
      */
     private class OutputReader extends Thread {
+        private final InputStream   in;
+        private final boolean       standardOutput;
+        private final StringBuilder pending;
 
-        public OutputReader(String name) {
+        public OutputReader(String name, InputStream in, boolean standardOutput) {
             super(name);
+            this.in = in;
+            this.standardOutput = standardOutput;
+            this.pending = new StringBuilder();
         }
 
         @Override
         public void run() {
-            StringBuilder buf = new StringBuilder();
-
-            while (!isInterrupted()) {
-                if (!process.isAlive()) {
-                    outputs.add(GdbOutput.of(buf.toString(), true));
-                    break;
-                }
+            char[] data = new char[MAX_OUTPUT];
 
-                try {
-                    InputStream in = getInput();
-                    if (in != null) {
-                        String data = read(in);
-                        if (!data.isEmpty()) {
-                            buf.append(data);
-                            if (buf.length() > MAX_OUTPUT) {
-                                buf.delete(0, buf.length() - MAX_OUTPUT);
-                            }
-                        }
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                int read;
+                while ((read = reader.read(data)) != -1) {
+                    if (read > 0) {
+                        onData(data, read);
                     }
-                } catch (IOException e) {
+                }
+            } catch (IOException e) {
+                if (!stopped) {
                     LOG.error(e.getMessage(), e);
                 }
+            }
 
-                if (buf.length() > 0) {
-                    extractOutput(buf);
-                }
+            if (pending.length() > 0) {
+                onText(pending, pending.length());
+            }
 
+            if (standardOutput && !stopped) {
                 try {
-                    Thread.sleep(100);
+                    process.waitFor();
+                    errorReader.join(JOIN_TIMEOUT);
                 } catch (InterruptedException e) {
-                    break;
+                    Thread.currentThread().interrupt();
+                }
+
+                synchronized (buf) {
+                    outputs.add(GdbOutput.of(buf.toString(), true));
                 }
             }
 
             LOG.debug(getName() + " has been stopped");
         }
 
-        private InputStream getInput() throws IOException {
-            return hasError() ? process.getErrorStream()
-                              : (hasInput() ? (hasError() ? process.getErrorStream() : process.getInputStream())
-                                            : null);
-        }
-
-        private void extractOutput(StringBuilder buf) {
-            int indexOf;
-            while ((indexOf = buf.indexOf(outputSeparator)) >= 0) {
-                GdbOutput gdbOutput = GdbOutput.of(buf.substring(0, indexOf));
-                outputs.add(gdbOutput);
+        private void onData(char[] data, int length) {
+            pending.append(data, 0, length);
 
-                LOG.debug(gdbOutput.getOutput());
-
-                buf.delete(0, indexOf + outputSeparator.length());
+            int end = pending.lastIndexOf("\n") + 1;
+            if (standardOutput) {
+                int separator = pending.lastIndexOf(outputSeparator);
+                if (separator >= 0) {
+                    end = Math.max(end, separator + outputSeparator.length());
+                }
+            }
+            if (pending.length() > MAX_OUTPUT) {
+                end = pending.length();
             }
-        }
-
-        private boolean hasError() throws IOException {
-            return process.getErrorStream().available() != 0;
-        }
-
-        private boolean hasInput() throws IOException {
-            return process.getInputStream().available() != 0;
-        }
-
-        @Nullable
-        private String read(InputStream in) throws IOException {
-            int available = min(in.available(), MAX_OUTPUT);
-            byte[] buf = new byte[available];
-            int read = in.read(buf, 0, available);
 
-            return new String(buf, 0, read, StandardCharsets.UTF_8);
+            if (end > 0) {
+                onText(pending, end);
+                pending.delete(0, end);
+            }
         }
     }
-
 }
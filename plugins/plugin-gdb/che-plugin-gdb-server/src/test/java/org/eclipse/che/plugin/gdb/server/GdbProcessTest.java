@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.gdb.server;
+
+import org.eclipse.che.plugin.gdb.server.parser.GdbOutput;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests reading of output of the process, which emulates gdb with shell script. Runs with other gdb tests in the gdb-tests
+ * profile only.
+ */
+public class GdbProcessTest {
+    private static final String SEPARATOR = "(gdb) ";
+
+    private FakeGdb gdb;
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        if (gdb != null) {
+            gdb.stop();
+        }
+    }
+
+    @Test
+    public void shouldSplitOutputBySeparator() throws Exception {
+        gdb = new FakeGdb("printf 'version\\n(gdb) '; while read l; do echo \"$l\"; printf '(gdb) '; done");
+
+        assertEquals(take().getOutput(), "version\n");
+
+        send("info locals");
+        assertEquals(take().getOutput(), "info locals\n");
+    }
+
+    @Test
+    public void shouldFindSeparatorSplitBetweenReads() throws Exception {
+        gdb = new FakeGdb("printf 'first\\n(gd'; sleep 0.2; printf 'b) second\\n(g'; sleep 0.2; printf 'db) '");
+
+        assertEquals(take().getOutput(), "first\n");
+        assertEquals(take().getOutput(), "second\n");
+    }
+
+    @Test
+    public void shouldReportTermination() throws Exception {
+        gdb = new FakeGdb("printf '(gdb) '; read l; echo bye; exit 0");
+
+        assertEquals(take().getOutput(), "");
+
+        send("quit");
+        GdbOutput output = take();
+        assertTrue(output.isTerminated());
+        assertEquals(output.getOutput(), "bye\n");
+    }
+
+    @Test
+    public void shouldDeliverEveryOutputInOrder() throws Exception {
+        gdb = new FakeGdb("printf '(gdb) '; while read l; do echo \"$l\"; printf '(gdb) '; done");
+        take();
+
+        for (int i = 0; i < 100; i++) {
+            send("print " + i);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(take().getOutput(), "print " + i + "\n");
+        }
+        assertNull(gdb.outputs.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void shouldNotMixLinesOfOutputAndErrorStreams() throws Exception {
+        final int lines = 100;
+        gdb = new FakeGdb("i=0; while [ $i -lt " + lines + " ]; do echo \"output line $i\"; echo \"error line $i\" >&2; i=$((i+1)); done");
+
+        StringBuilder all = new StringBuilder();
+        GdbOutput output;
+        do {
+            output = take();
+            all.append(output.getOutput());
+        } while (!output.isTerminated());
+
+        List<String> outputLines = new ArrayList<>();
+        List<String> errorLines = new ArrayList<>();
+        for (String line : all.toString().split("\n")) {
+            if (line.startsWith("output line ")) {
+                outputLines.add(line);
+            } else {
+                assertTrue(line.startsWith("error line "), "Unexpected line: " + line);
+                errorLines.add(line);
+            }
+        }
+        assertEquals(outputLines.size(), lines);
+        assertEquals(errorLines.size(), lines);
+        for (int i = 0; i < lines; i++) {
+            assertEquals(outputLines.get(i), "output line " + i);
+            assertEquals(errorLines.get(i), "error line " + i);
+        }
+    }
+
+    /** Reports command round-trip latency, reader used to poll process output every 100 ms. */
+    @Test
+    public void benchmarkOutputLatency() throws Exception {
+        gdb = new FakeGdb("printf '(gdb) '; while read l; do echo \"$l\"; printf '(gdb) '; done");
+        gdb.outputs.poll(5, TimeUnit.SECONDS);
+
+        final int commands = 100;
+        long total = 0;
+        long max = 0;
+        for (int i = 0; i < commands; i++) {
+            long start = System.nanoTime();
+            send("print " + i);
+            gdb.outputs.poll(5, TimeUnit.SECONDS);
+            long time = System.nanoTime() - start;
+            total += time;
+            max = Math.max(max, time);
+        }
+
+        System.out.printf("GDB output latency: average %d us, max %d us%n",
+                          TimeUnit.NANOSECONDS.toMicros(total / commands),
+                          TimeUnit.NANOSECONDS.toMicros(max));
+    }
+
+    private void send(String command) throws IOException {
+        OutputStream out = gdb.process.getOutputStream();
+        out.write((command + "\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private GdbOutput take() throws InterruptedException {
+        GdbOutput output = gdb.outputs.poll(5, TimeUnit.SECONDS);
+        assertNotNull(output, "Output wasn't read in time");
+        return output;
+    }
+
+    private static class FakeGdb extends GdbProcess {
+        FakeGdb(String script) throws IOException {
+            super(SEPARATOR, "sh", "-c", script);
+        }
+    }
+}
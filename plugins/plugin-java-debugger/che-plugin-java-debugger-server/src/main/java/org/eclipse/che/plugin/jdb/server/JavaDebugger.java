@@ -57,6 +57,7 @@ import org.eclipse.che.api.debug.shared.model.impl.event.SuspendEventImpl;
 import org.eclipse.che.api.debugger.server.Debugger;
 import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
 import org.eclipse.che.plugin.jdb.server.exceptions.DebuggerAbsentInformationException;
+import org.eclipse.che.plugin.jdb.server.expression.BreakpointCondition;
 import org.eclipse.che.plugin.jdb.server.expression.Evaluator;
 import org.eclipse.che.plugin.jdb.server.expression.ExpressionException;
 import org.eclipse.che.plugin.jdb.server.expression.ExpressionParser;
@@ -93,6 +94,8 @@ public class JavaDebugger implements EventsHandler, Debugger {
     private static final Logger            LOG          = LoggerFactory.getLogger(JavaDebugger.class);
     private static final JavaDebuggerUtils debuggerUtil = new JavaDebuggerUtils();
 
+    private static final String BREAKPOINT_CONDITION_PROPERTY = "org.eclipse.che.ide.java.debug.condition";
+
     private final String           host;
     private final int              port;
     private final DebuggerCallback debuggerCallback;
@@ -248,11 +251,14 @@ public class JavaDebugger implements EventsHandler, Debugger {
 
         try {
             EventRequest breakPointRequest = requestManager.createBreakpointRequest(location);
-            breakPointRequest.setSuspendPolicy(EventRequest.SUSPEND_ALL);
             String expression = breakpoint.getCondition();
             if (!(expression == null || expression.isEmpty())) {
-                ExpressionParser parser = ExpressionParser.newInstance(expression);
-                breakPointRequest.putProperty("org.eclipse.che.ide.java.debug.condition.expression.parser", parser);
+                // Only thread which hits breakpoint is suspended while condition is evaluated,
+                // other threads are suspended if result of evaluation is true.
+                breakPointRequest.setSuspendPolicy(EventRequest.SUSPEND_EVENT_THREAD);
+                breakPointRequest.putProperty(BREAKPOINT_CONDITION_PROPERTY, new BreakpointCondition(expression));
+            } else {
+                breakPointRequest.setSuspendPolicy(EventRequest.SUSPEND_ALL);
             }
             breakPointRequest.setEnabled(true);
         } catch (NativeMethodException | IllegalThreadStateException | InvalidRequestStateException e) {
@@ -502,9 +508,17 @@ public class JavaDebugger implements EventsHandler, Debugger {
 
     @Override
     public void setValue(Variable variable) throws DebuggerException {
+        evaluate(assignmentExpression(variable.getVariablePath().getPath(), variable.getValue()));
+    }
+
+    /**
+     * Builds expression which assigns {@code value} to variable with specified path. Pages of big arrays, see {@link JdiArrayPage},
+     * aren't part of java expression and are skipped, e.g. path ['arr', '[100..199]', '[150]'] gives <i>arr[150]</i>.
+     */
+    static String assignmentExpression(List<String> path, String value) {
         StringBuilder expression = new StringBuilder();
-        for (String s : variable.getVariablePath().getPath()) {
-            if ("static".equals(s)) {
+        for (String s : path) {
+            if ("static".equals(s) || JdiArrayPage.isPageName(s)) {
                 continue;
             }
             // Here we need !s.startsWith("[") condition because
@@ -516,8 +530,8 @@ public class JavaDebugger implements EventsHandler, Debugger {
             expression.append(s);
         }
         expression.append('=');
-        expression.append(variable.getValue());
-        evaluate(expression.toString());
+        expression.append(value);
+        return expression.toString();
     }
 
     @Override
@@ -554,19 +568,26 @@ public class JavaDebugger implements EventsHandler, Debugger {
     }
 
     private boolean processBreakPointEvent(com.sun.jdi.event.BreakpointEvent event) throws DebuggerException {
-        setCurrentThread(event.thread());
         boolean hitBreakpoint;
-        ExpressionParser parser =
-                (ExpressionParser)event.request().getProperty("org.eclipse.che.ide.java.debug.condition.expression.parser");
-        if (parser != null) {
-            com.sun.jdi.Value result = evaluate(parser);
-            hitBreakpoint = result instanceof com.sun.jdi.BooleanValue && ((com.sun.jdi.BooleanValue)result).value();
+        BreakpointCondition condition = (BreakpointCondition)event.request().getProperty(BREAKPOINT_CONDITION_PROPERTY);
+        boolean eventThreadSuspended = event.request().suspendPolicy() == EventRequest.SUSPEND_EVENT_THREAD;
+        if (condition != null) {
+            try {
+                hitBreakpoint = condition.evaluate(vm, event.thread(), eventThreadSuspended);
+            } catch (ExpressionException e) {
+                throw new DebuggerException(e.getMessage());
+            }
         } else {
             // If there is no expression.
             hitBreakpoint = true;
         }
 
         if (hitBreakpoint) {
+            setCurrentThread(event.thread());
+            if (eventThreadSuspended) {
+                // Suspend all threads, thread which hits breakpoint is suspended twice now, so event set must be resumed.
+                vm.suspend();
+            }
             com.sun.jdi.Location jdiLocation = event.location();
 
             Location location = debuggerUtil.getLocation(jdiLocation);
@@ -575,7 +596,7 @@ public class JavaDebugger implements EventsHandler, Debugger {
 
         // Left target JVM in suspended state if result of evaluation of expression is boolean value and true
         // or if condition expression is not set.
-        return !hitBreakpoint;
+        return !hitBreakpoint || eventThreadSuspended;
     }
 
     private boolean processStepEvent(com.sun.jdi.event.StepEvent event) throws DebuggerException {
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server;
+
+import com.sun.jdi.ArrayReference;
+
+import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
+
+/**
+ * Range of elements of big array. Name of page is: <i>[from..to]</i>, where <i>from</i> and <i>to</i> - indexes of the first and
+ * the last elements of range. Elements of page are fetched from debuggee JVM only when nested variables of its value are requested.
+ *
+ * @see JdiValueImpl#getArrayVariables(ArrayReference, int, int)
+ */
+public class JdiArrayPage implements JdiVariable {
+    private final ArrayReference array;
+    private final int            from;
+    private final int            length;
+    private final String         name;
+
+    public JdiArrayPage(ArrayReference array, int from, int length) {
+        this.array = array;
+        this.from = from;
+        this.length = length;
+        this.name = "[" + from + ".." + (from + length - 1) + "]";
+    }
+
+    /** Checks whether {@code name} is name of page, see {@link JdiArrayPage}, and not name of array element. */
+    public static boolean isPageName(String name) {
+        return name.startsWith("[") && name.endsWith("]") && name.contains("..");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean isArray() {
+        return true;
+    }
+
+    @Override
+    public boolean isPrimitive() {
+        return false;
+    }
+
+    @Override
+    public JdiValue getValue() {
+        return new JdiValue() {
+            private JdiVariable[] variables;
+
+            @Override
+            public String getAsString() {
+                return name;
+            }
+
+            @Override
+            public JdiVariable[] getVariables() {
+                if (variables == null) {
+                    variables = JdiValueImpl.getArrayVariables(array, from, length);
+                }
+                return variables;
+            }
+
+            @Override
+            public JdiVariable getVariableByName(String name) throws DebuggerException {
+                for (JdiVariable variable : getVariables()) {
+                    if (name.equals(variable.getName())) {
+                        return variable;
+                    }
+                }
+                return null;
+            }
+        };
+    }
+
+    @Override
+    public String getTypeName() {
+        return array.referenceType().name();
+    }
+}
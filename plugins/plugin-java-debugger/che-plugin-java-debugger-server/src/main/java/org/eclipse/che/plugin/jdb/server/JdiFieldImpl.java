@@ -22,6 +22,8 @@ public class JdiFieldImpl implements JdiField, Comparable<JdiFieldImpl> {
     private final Field           field;
     private final ReferenceType   type;
     private final ObjectReference object;
+    private       Value           value;
+    private       boolean         valueFetched;
 
     public JdiFieldImpl(Field field, ObjectReference object) {
         this.field = field;
@@ -35,6 +37,26 @@ public class JdiFieldImpl implements JdiField, Comparable<JdiFieldImpl> {
         this.object = null;
     }
 
+    /**
+     * Creates field with value which is already fetched from debuggee JVM,
+     * e.g. with {@link ObjectReference#getValues(java.util.List)} for all fields of object at once.
+     */
+    public JdiFieldImpl(Field field, ObjectReference object, Value value) {
+        this(field, object);
+        this.value = value;
+        this.valueFetched = true;
+    }
+
+    /**
+     * Creates static field with value which is already fetched from debuggee JVM,
+     * e.g. with {@link ReferenceType#getValues(java.util.List)} for all static fields of type at once.
+     */
+    public JdiFieldImpl(Field field, ReferenceType type, Value value) {
+        this(field, type);
+        this.value = value;
+        this.valueFetched = true;
+    }
+
     @Override
     public String getName() {
         return field.name();
@@ -72,7 +94,10 @@ public class JdiFieldImpl implements JdiField, Comparable<JdiFieldImpl> {
 
     @Override
     public JdiValue getValue() {
-        Value value = object == null ? type.getValue(field) : object.getValue(field);
+        if (!valueFetched) {
+            value = object == null ? type.getValue(field) : object.getValue(field);
+            valueFetched = true;
+        }
         if (value == null) {
             return new JdiNullValue();
         }
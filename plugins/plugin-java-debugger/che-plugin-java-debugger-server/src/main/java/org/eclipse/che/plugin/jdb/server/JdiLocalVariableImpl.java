@@ -20,12 +20,24 @@ import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
 public class JdiLocalVariableImpl implements JdiLocalVariable {
     private final LocalVariable variable;
     private final StackFrame    stackFrame;
+    private       Value         value;
+    private       boolean       valueFetched;
 
     public JdiLocalVariableImpl(StackFrame stackFrame, LocalVariable variable) {
         this.stackFrame = stackFrame;
         this.variable = variable;
     }
 
+    /**
+     * Creates local variable with value which is already fetched from debuggee JVM,
+     * e.g. with {@link StackFrame#getValues(java.util.List)} for all variables of frame at once.
+     */
+    public JdiLocalVariableImpl(StackFrame stackFrame, LocalVariable variable, Value value) {
+        this(stackFrame, variable);
+        this.value = value;
+        this.valueFetched = true;
+    }
+
     @Override
     public String getName() {
         return variable.name();
@@ -43,7 +55,10 @@ public class JdiLocalVariableImpl implements JdiLocalVariable {
 
     @Override
     public JdiValue getValue() {
-        Value value = stackFrame.getValue(variable);
+        if (!valueFetched) {
+            value = stackFrame.getValue(variable);
+            valueFetched = true;
+        }
         if (value == null) {
             return new JdiNullValue();
         }
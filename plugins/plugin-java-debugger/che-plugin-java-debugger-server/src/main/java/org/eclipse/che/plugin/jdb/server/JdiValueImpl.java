@@ -20,10 +20,15 @@ import com.sun.jdi.Value;
 import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /** @author andrew00x */
 public class JdiValueImpl implements JdiValue {
+    /** Max number of array elements which are fetched at once, bigger arrays are split into pages, see {@link JdiArrayPage}. */
+    static final int ARRAY_PAGE_SIZE = 100;
+
     private final Value         value;
     private       JdiVariable[] variables;
 
@@ -47,19 +52,17 @@ public class JdiValueImpl implements JdiValue {
             } else {
                 if (isArray()) {
                     ArrayReference array = (ArrayReference)value;
-                    int length = array.length();
-                    variables = new JdiVariable[length];
-                    for (int i = 0; i < length; i++) {
-                        variables[i] = new JdiArrayElementImpl(i, array.getValue(i));
-                    }
+                    variables = getArrayVariables(array, 0, array.length());
                 } else {
                     ObjectReference object = (ObjectReference)value;
                     ReferenceType type = object.referenceType();
                     List<Field> fields = type.allFields();
+                    // Values of all fields are fetched with one request to debuggee JVM.
+                    Map<Field, Value> values = object.getValues(fields);
                     variables = new JdiVariable[fields.size()];
                     int i = 0;
                     for (Field f : fields) {
-                        variables[i++] = new JdiFieldImpl(f, object);
+                        variables[i++] = new JdiFieldImpl(f, object, values.get(f));
                     }
                     // See JdiFieldImpl#compareTo(JdiFieldImpl).
                     Arrays.sort(variables);
@@ -74,6 +77,20 @@ public class JdiValueImpl implements JdiValue {
         if (name == null) {
             throw new IllegalArgumentException("Variable name may not be null. ");
         }
+        if (isArray() && name.startsWith("[") && name.endsWith("]") && !JdiArrayPage.isPageName(name)) {
+            // Get element of array directly, without fetching of all the elements.
+            ArrayReference array = (ArrayReference)value;
+            int index;
+            try {
+                index = Integer.parseInt(name.substring(1, name.length() - 1));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            if (index < 0 || index >= array.length()) {
+                return null;
+            }
+            return new JdiArrayElementImpl(index, array.getValue(index));
+        }
         for (JdiVariable variable : getVariables()) {
             if (name.equals(variable.getName())) {
                 return variable;
@@ -82,6 +99,32 @@ public class JdiValueImpl implements JdiValue {
         return null;
     }
 
+    /**
+     * Returns elements of array in the given range if there are not more than {@link #ARRAY_PAGE_SIZE} of them,
+     * otherwise splits range into at most {@link #ARRAY_PAGE_SIZE} pages. Elements are fetched with one request
+     * to debuggee JVM.
+     */
+    static JdiVariable[] getArrayVariables(ArrayReference array, int from, int length) {
+        if (length <= ARRAY_PAGE_SIZE) {
+            List<Value> values = length == 0 ? Collections.<Value>emptyList() : array.getValues(from, length);
+            JdiVariable[] elements = new JdiVariable[length];
+            for (int i = 0; i < length; i++) {
+                elements[i] = new JdiArrayElementImpl(from + i, values.get(i));
+            }
+            return elements;
+        }
+        int pageSize = ARRAY_PAGE_SIZE;
+        while ((long)pageSize * ARRAY_PAGE_SIZE < length) {
+            pageSize *= ARRAY_PAGE_SIZE;
+        }
+        JdiVariable[] pages = new JdiVariable[(length + pageSize - 1) / pageSize];
+        for (int i = 0; i < pages.length; i++) {
+            int pageFrom = from + i * pageSize;
+            pages[i] = new JdiArrayPage(array, pageFrom, Math.min(pageSize, from + length - pageFrom));
+        }
+        return pages;
+    }
+
     private boolean isArray() {
         return value instanceof ArrayReference;
     }
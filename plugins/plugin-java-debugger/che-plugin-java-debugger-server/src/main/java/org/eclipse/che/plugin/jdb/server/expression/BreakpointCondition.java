@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server.expression;
+
+import com.sun.jdi.BooleanValue;
+import com.sun.jdi.ObjectReference;
+import com.sun.jdi.ThreadReference;
+import com.sun.jdi.Value;
+import com.sun.jdi.VirtualMachine;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Condition of breakpoint. Expression is parsed once and handles of local variables, fields and methods used in the
+ * expression are resolved on the first hit and reused for all the next hits, since breakpoint is always hit at the same
+ * location.
+ */
+public class BreakpointCondition {
+    private static final Logger LOG = LoggerFactory.getLogger(BreakpointCondition.class);
+
+    private final ExpressionParser parser;
+    private final HandleCache      handles;
+
+    private long hits;
+    private long totalTime;
+
+    public BreakpointCondition(String expression) {
+        this.parser = ExpressionParser.newInstance(expression);
+        this.handles = new HandleCache();
+    }
+
+    public String getExpression() {
+        return parser.getExpression();
+    }
+
+    /**
+     * Evaluates condition in the top frame of the thread.
+     *
+     * @param singleThreaded
+     *         if {@code true} only the thread is resumed while methods used in the condition are invoked,
+     *         must be used when other threads are not suspended
+     * @return {@code true} if result of evaluation is boolean value and true
+     * @throws ExpressionException
+     *         if condition is invalid or another error occurs when try to evaluate it
+     */
+    public boolean evaluate(VirtualMachine vm, ThreadReference thread, boolean singleThreaded) {
+        final long start = System.nanoTime();
+        try {
+            Value result = parser.evaluate(new Evaluator(vm, thread, handles, singleThreaded ? ObjectReference.INVOKE_SINGLE_THREADED : 0));
+            return result instanceof BooleanValue && ((BooleanValue)result).value();
+        } finally {
+            final long time = System.nanoTime() - start;
+            hits++;
+            totalTime += time;
+            LOG.debug("==>> Condition {} evaluated in {} us, average for {} hits: {} us",
+                      parser.getExpression(), time / 1000, hits, totalTime / hits / 1000);
+        }
+    }
+}
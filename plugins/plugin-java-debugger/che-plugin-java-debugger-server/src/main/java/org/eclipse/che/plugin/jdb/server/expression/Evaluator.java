@@ -69,10 +69,25 @@ public class Evaluator {
 
     private final VirtualMachine  vm;
     private final ThreadReference thread;
+    private final HandleCache     handles;
+    private final int             invokeOptions;
+    private       StackFrame      frame;
 
     public Evaluator(VirtualMachine vm, ThreadReference thread) {
+        this(vm, thread, new HandleCache(), 0);
+    }
+
+    /**
+     * @param handles
+     *         cache of handles of local variables, fields and methods, may be shared by evaluations at the same location
+     * @param invokeOptions
+     *         options for invocation of methods, see {@link ObjectReference#invokeMethod(ThreadReference, Method, List, int)}
+     */
+    public Evaluator(VirtualMachine vm, ThreadReference thread, HandleCache handles, int invokeOptions) {
         this.vm = vm;
         this.thread = thread;
+        this.handles = handles;
+        this.invokeOptions = invokeOptions;
     }
 
     private static boolean isPrimitive(Type type) {
@@ -228,7 +243,7 @@ public class Evaluator {
 
     public ExpressionValue getThisObject() {
         try {
-            return new ReadOnlyValue(thread.frame(0).thisObject());
+            return new ReadOnlyValue(frame().thisObject());
         } catch (IncompatibleThreadStateException e) {
             throw new ExpressionException(e.getMessage(), e);
         }
@@ -241,7 +256,7 @@ public class Evaluator {
         ExpressionValue value = null;
         try {
             ObjectReference object = (ObjectReference)parent;
-            Field field = object.referenceType().fieldByName(name);
+            Field field = handles.getField(object.referenceType(), name);
             if (field != null) {
                 value = new InstanceValue(object, field);
             }
@@ -255,8 +270,7 @@ public class Evaluator {
     public ExpressionValue getLocalVariable(String text) {
         ExpressionValue value = null;
         try {
-            StackFrame frame = thread.frame(0);
-            LocalVariable var = frame.visibleVariableByName(text);
+            LocalVariable var = handles.getLocalVariable(frame(), text);
             if (var != null) {
                 value = new LocalValue(thread, var);
             }
@@ -391,16 +405,25 @@ public class Evaluator {
         }
         ObjectReference object = (ObjectReference)value;
         ReferenceType type = object.referenceType();
-        List<Method> methods = type.methodsByName(name);
-        Method method = findMethod(methods, arguments);
+        Method method = handles.getMethod(type, name, arguments, () -> findMethod(type.methodsByName(name), arguments));
         if (method == null) {
             throw new ExpressionException("No method with name " + name + " matched to specified arguments for " + type.name());
         }
         try {
-            return new ReadOnlyValue(object.invokeMethod(thread, method, arguments, 0));
+            return new ReadOnlyValue(object.invokeMethod(thread, method, arguments, invokeOptions));
         } catch (InvalidTypeException | ClassNotLoadedException | IncompatibleThreadStateException | InvocationException e) {
             throw new ExpressionException(e.getMessage(), e);
+        } finally {
+            // thread is resumed while method is invoked, so its frames are not valid any more
+            frame = null;
+        }
+    }
+
+    private StackFrame frame() throws IncompatibleThreadStateException {
+        if (frame == null) {
+            frame = thread.frame(0);
         }
+        return frame;
     }
 
     public ExpressionValue unaryOperation(ExpressionValue expression, int op) {
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server.expression;
+
+import com.sun.jdi.AbsentInformationException;
+import com.sun.jdi.Field;
+import com.sun.jdi.LocalVariable;
+import com.sun.jdi.Method;
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.StackFrame;
+import com.sun.jdi.Value;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Keeps handles of local variables, fields and methods resolved by {@link Evaluator}, so repeated evaluation of the same
+ * expression doesn't look them up by name again. Local variables are cached by name only, so one cache must not be used
+ * for evaluation in different locations.
+ */
+public class HandleCache {
+    private final Map<String, Optional<LocalVariable>>             localVariables = new HashMap<>();
+    private final Map<ReferenceType, Map<String, Optional<Field>>> fields         = new HashMap<>();
+    private final Map<ReferenceType, Map<String, Method>>          methods        = new HashMap<>();
+
+    /** Returns local variable visible in the frame or {@code null} if there is no such variable. */
+    LocalVariable getLocalVariable(StackFrame frame, String name) throws AbsentInformationException {
+        Optional<LocalVariable> variable = localVariables.get(name);
+        if (variable == null) {
+            variable = Optional.ofNullable(frame.visibleVariableByName(name));
+            localVariables.put(name, variable);
+        }
+        return variable.orElse(null);
+    }
+
+    /** Returns field of the type or {@code null} if there is no such field. */
+    Field getField(ReferenceType type, String name) {
+        Map<String, Optional<Field>> typeFields = fields.computeIfAbsent(type, t -> new HashMap<>());
+        Optional<Field> field = typeFields.get(name);
+        if (field == null) {
+            field = Optional.ofNullable(type.fieldByName(name));
+            typeFields.put(name, field);
+        }
+        return field.orElse(null);
+    }
+
+    /**
+     * Returns method of the type which matches to the arguments. Method is looked up with the finder if types of arguments
+     * differ from types used in previous calls.
+     */
+    Method getMethod(ReferenceType type, String name, List<Value> arguments, Supplier<Method> finder) {
+        StringBuilder key = new StringBuilder(name).append('(');
+        for (Value argument : arguments) {
+            key.append(argument == null ? "null" : argument.type().name()).append(',');
+        }
+        Map<String, Method> typeMethods = methods.computeIfAbsent(type, t -> new HashMap<>());
+        Method method = typeMethods.get(key.toString());
+        if (method == null) {
+            method = finder.get();
+            if (method != null) {
+                typeMethods.put(key.toString(), method);
+            }
+        }
+        return method;
+    }
+}
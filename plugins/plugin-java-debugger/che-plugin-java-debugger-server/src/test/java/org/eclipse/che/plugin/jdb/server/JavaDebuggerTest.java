@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server;
+
+import org.testng.annotations.Test;
+
+import static java.util.Arrays.asList;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests of expressions which are evaluated by {@link JavaDebugger#setValue}.
+ */
+public class JavaDebuggerTest {
+
+    @Test
+    public void shouldSetElementOfArrayBeyondFirstPage() throws Exception {
+        assertEquals(JavaDebugger.assignmentExpression(asList("arr", "[100..199]", "[150]"), "42"), "arr[150]=42");
+    }
+
+    @Test
+    public void shouldSetElementOfArrayInNestedPages() throws Exception {
+        assertEquals(JavaDebugger.assignmentExpression(asList("this", "arr", "[10000..19999]", "[15000..15099]", "[15050]"), "1"),
+                     "this.arr[15050]=1");
+    }
+
+    @Test
+    public void shouldSetElementOfSmallArray() throws Exception {
+        assertEquals(JavaDebugger.assignmentExpression(asList("arr", "[5]"), "7"), "arr[5]=7");
+    }
+
+    @Test
+    public void shouldSetStaticField() throws Exception {
+        assertEquals(JavaDebugger.assignmentExpression(asList("static", "counter"), "0"), "counter=0");
+    }
+}
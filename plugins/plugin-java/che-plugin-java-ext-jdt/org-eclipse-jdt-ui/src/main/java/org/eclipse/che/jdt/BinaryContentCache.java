@@ -0,0 +1,297 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.jdt;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Persistent cache of content generated for binary java elements, e.g. stub sources of class files or rendered javadoc.
+ * <p/>
+ * Entry is identified by the kind of content, SHA-1 hash of the jar which contains the element and the key of
+ * the element inside the jar, so the same entry is reused by every project and every workspace which use the same
+ * jar when the cache directory is shared between them. Entries are stored gzipped, one file per entry. When total size
+ * of entries exceeds the limit the least recently used entries are removed.
+ */
+@Singleton
+public class BinaryContentCache {
+    private static final Logger LOG = LoggerFactory.getLogger(BinaryContentCache.class);
+
+    private static final String TMP_SUFFIX = ".tmp";
+
+    private static BinaryContentCache instance;
+
+    private final Path                      cacheDir;
+    private final long                      maxSize;
+    /** Size of the entries in the access order. */
+    private final LinkedHashMap<Path, Long> entries;
+    private final Map<String, JarHash>      jarHashes;
+
+    private long size;
+
+    @Inject
+    public BinaryContentCache(@Named("che.jdt.binary.cache.dir") String cacheDir,
+                              @Named("che.jdt.binary.cache.max_size") long maxSize) {
+        this.cacheDir = Paths.get(cacheDir);
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.jarHashes = new ConcurrentHashMap<>();
+        loadEntries();
+        instance = this;
+    }
+
+    /**
+     * Returns the cache or {@code null} if the cache isn't configured.
+     */
+    public static BinaryContentCache getDefault() {
+        return instance;
+    }
+
+    /**
+     * Returns cached content of the element or {@code null} if there is no such content in the cache
+     * or the element isn't located in a jar.
+     *
+     * @param kind
+     *         kind of the content, e.g. <i>source</i>
+     * @param element
+     *         binary element
+     * @param key
+     *         key of the element inside the jar, must include everything what affects the content
+     */
+    public String get(String kind, IJavaElement element, String key) {
+        Path entry = getEntryPath(kind, element, key);
+        if (entry == null) {
+            return null;
+        }
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(entry))) {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            byte[] buf = new byte[8192];
+            int read;
+            while ((read = in.read(buf)) != -1) {
+                content.write(buf, 0, read);
+            }
+            touch(entry);
+            return new String(content.toByteArray(), StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            // not cached yet or removed by another process which shares the cache
+            remove(entry);
+            return null;
+        } catch (IOException e) {
+            LOG.warn("Can't read cache entry {}: {}", entry, e.getMessage());
+            remove(entry);
+            return null;
+        }
+    }
+
+    /**
+     * Stores content of the element. Does nothing if the element isn't located in a jar.
+     *
+     * @see #get(String, IJavaElement, String)
+     */
+    public void put(String kind, IJavaElement element, String key, String content) {
+        Path entry = getEntryPath(kind, element, key);
+        if (entry == null || content == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(entry.getParent());
+            Path tmp = Files.createTempFile(entry.getParent(), entry.getFileName().toString(), TMP_SUFFIX);
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tmp))) {
+                out.write(content.getBytes(StandardCharsets.UTF_8));
+            }
+            Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            add(entry, Files.size(entry));
+        } catch (IOException e) {
+            LOG.warn("Can't write cache entry {}: {}", entry, e.getMessage());
+        }
+    }
+
+    private Path getEntryPath(String kind, IJavaElement element, String key) {
+        String jarHash = getJarHash(element);
+        if (jarHash == null) {
+            return null;
+        }
+        String entryHash = sha1(jarHash + '\n' + key);
+        return cacheDir.resolve(kind).resolve(entryHash.substring(0, 2)).resolve(entryHash);
+    }
+
+    /**
+     * Content hash of the jar is computed once and recomputed only when size or modification time of the jar is changed.
+     */
+    private String getJarHash(IJavaElement element) {
+        IPackageFragmentRoot root = (IPackageFragmentRoot)element.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+        if (root == null || !root.isArchive()) {
+            return null;
+        }
+        File jar = getJarFile(root);
+        if (jar == null || !jar.isFile()) {
+            return null;
+        }
+
+        String jarPath = jar.getAbsolutePath();
+        JarHash jarHash = jarHashes.get(jarPath);
+        if (jarHash == null || jarHash.length != jar.length() || jarHash.lastModified != jar.lastModified()) {
+            try {
+                jarHash = new JarHash(jar);
+            } catch (IOException e) {
+                LOG.warn("Can't compute hash of {}: {}", jarPath, e.getMessage());
+                return null;
+            }
+            jarHashes.put(jarPath, jarHash);
+        }
+        return jarHash.hash;
+    }
+
+    private File getJarFile(IPackageFragmentRoot root) {
+        IResource resource = root.getResource();
+        IPath path = resource != null ? resource.getLocation() : root.getPath();
+        return path == null ? null : path.toFile();
+    }
+
+    private synchronized void add(Path entry, long entrySize) {
+        Long previous = entries.put(entry, entrySize);
+        size += entrySize - (previous == null ? 0 : previous);
+        evict();
+    }
+
+    private synchronized void remove(Path entry) {
+        Long previous = entries.remove(entry);
+        if (previous != null) {
+            size -= previous;
+        }
+    }
+
+    private void touch(Path entry) {
+        synchronized (this) {
+            entries.get(entry);
+        }
+        try {
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ignored) {
+            // modification time is used only for ordering of entries after restart
+        }
+    }
+
+    private synchronized void evict() {
+        Iterator<Map.Entry<Path, Long>> iterator = entries.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            Map.Entry<Path, Long> eldest = iterator.next();
+            iterator.remove();
+            size -= eldest.getValue();
+            try {
+                Files.deleteIfExists(eldest.getKey());
+            } catch (IOException e) {
+                LOG.warn("Can't remove cache entry {}: {}", eldest.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Restores entries stored by previous runs, the least recently used entries go first.
+     */
+    private synchronized void loadEntries() {
+        if (!Files.isDirectory(cacheDir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            List<Path> found = files.filter(Files::isRegularFile).collect(Collectors.toList());
+            found.stream()
+                 .filter(file -> file.getFileName().toString().endsWith(TMP_SUFFIX))
+                 .forEach(file -> file.toFile().delete());
+            found.stream()
+                 .filter(file -> !file.getFileName().toString().endsWith(TMP_SUFFIX))
+                 .sorted(Comparator.comparingLong(file -> file.toFile().lastModified()))
+                 .forEach(file -> {
+                     long entrySize = file.toFile().length();
+                     entries.put(file, entrySize);
+                     size += entrySize;
+                 });
+        } catch (IOException e) {
+            LOG.warn("Can't read cache directory {}: {}", cacheDir, e.getMessage());
+        }
+        evict();
+    }
+
+    private static String sha1(String value) {
+        MessageDigest digest = newDigest();
+        return toHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    private static class JarHash {
+        final long   length;
+        final long   lastModified;
+        final String hash;
+
+        JarHash(File jar) throws IOException {
+            length = jar.length();
+            lastModified = jar.lastModified();
+
+            MessageDigest digest = newDigest();
+            try (InputStream in = Files.newInputStream(jar.toPath())) {
+                byte[] buf = new byte[65536];
+                int read;
+                while ((read = in.read(buf)) != -1) {
+                    digest.update(buf, 0, read);
+                }
+            }
+            hash = toHex(digest.digest());
+        }
+    }
+}
@@ -19,6 +19,8 @@ import org.eclipse.core.resources.IResourceChangeEvent;
 import org.eclipse.core.resources.IResourceDelta;
 
 import java.io.File;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * @author Evgen Vidolob
@@ -38,6 +40,15 @@ public class ResourceChangedEvent implements IResourceChangeEvent {
 
     }
 
+    /**
+     * Creates event which describes changes of several resources, delta of each resource is a child of the workspace root delta.
+     */
+    public ResourceChangedEvent(File workspace, List<ProjectItemModifiedEvent> events) {
+        resourceDelta = new ResourceDeltaImpl(workspace, events.stream()
+                                                               .map(event -> new ResourceDeltaImpl(workspace, event))
+                                                               .collect(Collectors.toList()));
+    }
+
     @Override
     public IMarkerDelta[] findMarkerDeltas(String s, boolean b) {
         return new IMarkerDelta[0];
@@ -23,6 +23,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Path;
 
 import java.io.File;
+import java.util.List;
 
 /**
  * @author Evgen Vidolob
@@ -33,6 +34,7 @@ public class ResourceDeltaImpl implements IResourceDelta {
     private File workspace;
     private String path;
     protected int status;
+    private IResourceDelta[] children = new IResourceDelta[0];
 
     public ResourceDeltaImpl(File workspace, ProjectItemModifiedEvent event) {
         this.workspace = workspace;
@@ -57,6 +59,16 @@ public class ResourceDeltaImpl implements IResourceDelta {
 
     }
 
+    /**
+     * Creates workspace root delta which holds deltas of several resources changed at once.
+     */
+    public ResourceDeltaImpl(File workspace, List<ResourceDeltaImpl> children) {
+        this.workspace = workspace;
+        path = "/";
+        status |= CHANGED;
+        this.children = children.toArray(new IResourceDelta[children.size()]);
+    }
+
     @Override
     public File getFile() {
         return new File(workspace, path);
@@ -82,7 +94,11 @@ public class ResourceDeltaImpl implements IResourceDelta {
 //            return;
 //        if (!visitor.visit(this))
 //            return;
-        visitor.visit(this);
+        if (visitor.visit(this)) {
+            for (IResourceDelta child : children) {
+                child.accept(visitor, memberFlags);
+            }
+        }
     }
 
     @Override
@@ -92,7 +108,7 @@ public class ResourceDeltaImpl implements IResourceDelta {
 
     @Override
     public org.eclipse.core.resources.IResourceDelta[] getAffectedChildren() {
-        return new IResourceDelta[0];
+        return children.clone();
     }
 
     @Override
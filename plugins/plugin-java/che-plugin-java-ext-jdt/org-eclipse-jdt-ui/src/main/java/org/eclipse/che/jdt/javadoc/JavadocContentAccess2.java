@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.che.jdt.javadoc;
 
+import org.eclipse.che.jdt.BinaryContentCache;
 import org.eclipse.che.jdt.dom.ASTNodes;
 import org.eclipse.che.jdt.util.JavaModelUtil;
 import org.eclipse.che.jdt.util.JdtFlags;
@@ -115,6 +116,11 @@ public class JavadocContentAccess2 {
 
     private static final String PARAM_NAME_START = "<b>"; //$NON-NLS-1$
     private static final String PARAM_NAME_END   = "</b> "; //$NON-NLS-1$
+
+    /** Kind of entries in the {@link BinaryContentCache}, must be changed when format of rendered javadoc is changed. */
+    private static final String CACHE_KIND       = "javadoc-v1"; //$NON-NLS-1$
+    /** Stands for the url prefix in the cached javadoc, since the prefix is different for every project and workspace. */
+    private static final String CACHE_URL_PREFIX = "@@urlPrefix@@"; //$NON-NLS-1$
     /**
      * Either an IMember or an IPackageFragment.
      */
@@ -172,6 +178,48 @@ public class JavadocContentAccess2 {
      *         is thrown when the element's Javadoc cannot be accessed
      */
     public static String getHTMLContent(IMember member, boolean useAttachedJavadoc, String urlPrefix) throws JavaModelException {
+        BinaryContentCache cache = BinaryContentCache.getDefault();
+        if (cache == null || !member.isBinary()) {
+            return doGetHTMLContent(member, useAttachedJavadoc, urlPrefix);
+        }
+
+        // javadoc of binary members doesn't change while the jar is the same, so it is rendered only once for every jar
+        String key = getCacheKey(member, useAttachedJavadoc);
+        String content = cache.get(CACHE_KIND, member, key);
+        if (content != null) {
+            return isNullOrEmpty(urlPrefix) ? content : content.replace(CACHE_URL_PREFIX, urlPrefix);
+        }
+
+        content = doGetHTMLContent(member, useAttachedJavadoc, urlPrefix);
+        if (content != null) {
+            cache.put(CACHE_KIND, member, key, isNullOrEmpty(urlPrefix) ? content : content.replace(urlPrefix, CACHE_URL_PREFIX));
+        }
+        return content;
+    }
+
+    private static String getCacheKey(IMember member, boolean useAttachedJavadoc) throws JavaModelException {
+        StringBuilder key = new StringBuilder();
+        IType type = member instanceof IType ? (IType)member : member.getDeclaringType();
+        if (type != null) {
+            key.append(type.getFullyQualifiedName('$'));
+        }
+        if (member != type) {
+            key.append('#').append(member.getElementName());
+            if (member instanceof IMethod) {
+                key.append('(').append(String.join(",", ((IMethod)member).getParameterTypes())).append(')');
+            }
+        }
+        IPackageFragmentRoot root = (IPackageFragmentRoot)member.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+        key.append(';').append(useAttachedJavadoc)
+           .append(';').append(root != null && root.getSourceAttachmentPath() != null);
+        return key.toString();
+    }
+
+    private static boolean isNullOrEmpty(String value) {
+        return value == null || value.isEmpty();
+    }
+
+    private static String doGetHTMLContent(IMember member, boolean useAttachedJavadoc, String urlPrefix) throws JavaModelException {
         String sourceJavadoc = getHTMLContentFromSource(member, urlPrefix);
         if (sourceJavadoc == null || sourceJavadoc.length() == 0 || sourceJavadoc.trim().equals("{@inheritDoc}")) { //$NON-NLS-1$
             if (useAttachedJavadoc) {
@@ -14,16 +14,28 @@ package org.eclipse.che.jdt.javaeditor;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
+import org.eclipse.che.commons.env.EnvironmentContext;
+import org.eclipse.che.commons.subject.Subject;
 import org.eclipse.che.dto.server.DtoFactory;
 import org.eclipse.che.ide.ext.java.shared.dto.HighlightedPosition;
 import org.eclipse.che.ide.ext.java.shared.dto.Problem;
 import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.jdt.core.ElementChangedEvent;
 import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaModelStatusConstants;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IProblemRequestor;
 import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.WorkingCopyOwner;
 import org.eclipse.jdt.core.compiler.IProblem;
@@ -33,28 +45,125 @@ import org.eclipse.jdt.internal.core.ClassFileWorkingCopy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
+ * Reconciles java sources and computes semantic highlighting for them.
+ * <p/>
+ * Working copies are kept open between requests in a bounded LRU per user and file. Content of the file is compared with
+ * the content of the cached working copy and only changed region is replaced in its buffer before reconciling. If neither
+ * the file nor the java model changed since the last request the result computed from the last AST is reused. Reconcile
+ * request which is still in progress is cancelled when newer request for the same file arrives.
+ *
  * @author Evgen Vidolob
  */
 @Singleton
 public class JavaReconciler {
     private static final Logger LOG = LoggerFactory.getLogger(JavaReconciler.class);
 
+    private static final int MAX_WORKING_COPIES = 50;
 
-    private SemanticHighlightingReconciler semanticHighlighting;
+    private final SemanticHighlightingReconciler semanticHighlighting;
+    private final Map<String, CachedWorkingCopy> workingCopies;
+    private final AtomicLong                     modelVersion;
+    private final IElementChangedListener        modelListener;
 
     @Inject
     public JavaReconciler(SemanticHighlightingReconciler semanticHighlighting) {
         this.semanticHighlighting = semanticHighlighting;
+        this.workingCopies = new LinkedHashMap<>(16, 0.75f, true);
+        this.modelVersion = new AtomicLong();
+        this.modelListener = event -> onJavaModelChanged();
+    }
+
+    @PostConstruct
+    public void start() {
+        JavaCore.addElementChangedListener(modelListener, ElementChangedEvent.POST_CHANGE);
+    }
+
+    @PreDestroy
+    public void stop() {
+        JavaCore.removeElementChangedListener(modelListener);
+        discardWorkingCopies();
+    }
+
+    void discardWorkingCopies() {
+        final List<CachedWorkingCopy> copies;
+        synchronized (workingCopies) {
+            copies = new ArrayList<>(workingCopies.values());
+            workingCopies.clear();
+        }
+        for (CachedWorkingCopy copy : copies) {
+            copy.discard();
+        }
+    }
+
+    /** Invalidates results of all cached working copies, they may depend on changed elements of the java model. */
+    void onJavaModelChanged() {
+        modelVersion.incrementAndGet();
     }
 
     public ReconcileResult reconcile(IJavaProject javaProject, String fqn) throws JavaModelException {
-        final ProblemRequestor requestor = new ProblemRequestor();
-        WorkingCopyOwner wcOwner = new WorkingCopyOwner() {
+        final CachedWorkingCopy workingCopy = getWorkingCopy(javaProject, fqn);
+        final IProgressMonitor monitor = new NullProgressMonitor();
+        final IProgressMonitor previous = workingCopy.inProgress.getAndSet(monitor);
+        if (previous != null) {
+            // result of previous request is stale, newer content is going to be reconciled
+            previous.setCanceled(true);
+        }
+
+        try {
+            synchronized (workingCopy) {
+                if (monitor.isCanceled()) {
+                    return null;
+                }
+                return workingCopy.reconcile(javaProject, fqn, monitor);
+            }
+        } catch (OperationCanceledException e) {
+            return null;
+        } catch (JavaModelException e) {
+            LOG.error("Can't reconcile class: " + fqn + " in project:" + javaProject.getPath().toOSString(), e);
+            throw e;
+        } finally {
+            workingCopy.inProgress.compareAndSet(monitor, null);
+        }
+    }
+
+    private CachedWorkingCopy getWorkingCopy(IJavaProject javaProject, String fqn) {
+        final Subject subject = EnvironmentContext.getCurrent().getSubject();
+        final String key = (subject == null ? "" : subject.getUserId()) + ':' + javaProject.getPath().toString() + ':' + fqn;
+        final List<CachedWorkingCopy> evicted = new ArrayList<>();
+        final CachedWorkingCopy workingCopy;
+        synchronized (workingCopies) {
+            workingCopy = workingCopies.computeIfAbsent(key, k -> new CachedWorkingCopy());
+            final Iterator<CachedWorkingCopy> iterator = workingCopies.values().iterator();
+            while (workingCopies.size() > MAX_WORKING_COPIES && iterator.hasNext()) {
+                evicted.add(iterator.next());
+                iterator.remove();
+            }
+        }
+        for (CachedWorkingCopy copy : evicted) {
+            copy.discard();
+        }
+        return workingCopy;
+    }
+
+    private class CachedWorkingCopy {
+        final AtomicReference<IProgressMonitor> inProgress = new AtomicReference<>();
+
+        private final ProblemRequestor requestor = new ProblemRequestor();
+        private final WorkingCopyOwner wcOwner   = new WorkingCopyOwner() {
             public IProblemRequestor getProblemRequestor(ICompilationUnit unit) {
                 return requestor;
             }
@@ -66,45 +175,116 @@ public class JavaReconciler {
                 return new org.eclipse.jdt.internal.ui.javaeditor.DocumentAdapter(workingCopy, (IFile)workingCopy.getResource());
             }
         };
-        List<HighlightedPosition> positions = null;
-        ICompilationUnit compilationUnit = null;
-        try {
-            IType type = javaProject.findType(fqn);
-            if (type == null) {
-                return null;
-            }
-            if (type.isBinary()) {
-                throw new IllegalArgumentException("Can't reconcile binary type: " + fqn);
-            } else {
+
+        private ICompilationUnit compilationUnit;
+        private ReconcileResult  lastResult;
+        private long             lastModelVersion;
+        private boolean          discarded;
+
+        /** Must be called when holding lock of this object. */
+        ReconcileResult reconcile(IJavaProject javaProject, String fqn, IProgressMonitor monitor) throws JavaModelException {
+            // copy was evicted from the cache while this request was waiting for it, so working copy opened here
+            // is used only once and must not stay open after reconcile
+            final boolean evicted = discarded;
+            if (compilationUnit == null) {
+                IType type = javaProject.findType(fqn);
+                if (type == null) {
+                    return null;
+                }
+                if (type.isBinary()) {
+                    throw new IllegalArgumentException("Can't reconcile binary type: " + fqn);
+                }
+                // buffer is initialized with the current content of the file
                 compilationUnit = type.getCompilationUnit().getWorkingCopy(wcOwner, null);
+            } else {
+                final IResource resource = compilationUnit.getResource();
+                if (resource == null || !resource.exists()) {
+                    discardWorkingCopy();
+                    return null;
+                }
+                if (!syncBuffer(resource) && lastResult != null && lastModelVersion == modelVersion.get()) {
+                    return lastResult;
+                }
             }
-            requestor.reset();
-            CompilationUnit unit = compilationUnit.reconcile(AST.JLS8, true, wcOwner, null);
-            positions = semanticHighlighting.reconcileSemanticHighlight(unit);
-            if (compilationUnit instanceof ClassFileWorkingCopy) {
-                //we don't wont to show any errors from ".class" files
+
+            final long version = modelVersion.get();
+
+            List<HighlightedPosition> positions;
+            try {
                 requestor.reset();
+                CompilationUnit unit = compilationUnit.reconcile(AST.JLS8, true, wcOwner, monitor);
+                positions = semanticHighlighting.reconcileSemanticHighlight(unit);
+                if (compilationUnit instanceof ClassFileWorkingCopy) {
+                    //we don't wont to show any errors from ".class" files
+                    requestor.reset();
+                }
+            } finally {
+                if (evicted) {
+                    discardWorkingCopy();
+                }
             }
 
-        } catch (JavaModelException e) {
-            LOG.error("Can't reconcile class: " + fqn + " in project:" + javaProject.getPath().toOSString(), e);
-            throw e;
-        } finally {
-            if(compilationUnit!= null && compilationUnit.isWorkingCopy()){
+            ReconcileResult result = DtoFactory.getInstance().createDto(ReconcileResult.class);
+            result.setProblems(convertProblems(requestor.problems));
+            result.setHighlightedPositions(positions);
+            lastResult = result;
+            lastModelVersion = version;
+            return result;
+        }
+
+        /**
+         * Replaces the changed region of the working copy buffer with the current content of the file.
+         *
+         * @return {@code true} if buffer is changed and {@code false} if it is up to date
+         */
+        private boolean syncBuffer(IResource resource) throws JavaModelException {
+            final String content;
+            try {
+                final String charset = resource instanceof IFile ? ((IFile)resource).getCharset() : ResourcesPlugin.getEncoding();
+                content = new String(Files.readAllBytes(resource.getLocation().toFile().toPath()), charset);
+            } catch (IOException e) {
+                throw new JavaModelException(e, IJavaModelStatusConstants.IO_EXCEPTION);
+            } catch (CoreException e) {
+                throw new JavaModelException(e);
+            }
+
+            final IBuffer buffer = compilationUnit.getBuffer();
+            final String old = buffer.getContents();
+            if (content.equals(old)) {
+                return false;
+            }
+            final int maxPrefix = Math.min(old.length(), content.length());
+            int prefix = 0;
+            while (prefix < maxPrefix && old.charAt(prefix) == content.charAt(prefix)) {
+                prefix++;
+            }
+            final int maxSuffix = maxPrefix - prefix;
+            int suffix = 0;
+            while (suffix < maxSuffix
+                   && old.charAt(old.length() - 1 - suffix) == content.charAt(content.length() - 1 - suffix)) {
+                suffix++;
+            }
+            buffer.replace(prefix, old.length() - suffix - prefix, content.substring(prefix, content.length() - suffix));
+            return true;
+        }
+
+        synchronized void discard() {
+            discarded = true;
+            discardWorkingCopy();
+        }
+
+        private void discardWorkingCopy() {
+            if (compilationUnit != null && compilationUnit.isWorkingCopy()) {
                 try {
-                    //todo close buffer
                     compilationUnit.getBuffer().close();
                     compilationUnit.discardWorkingCopy();
                 } catch (JavaModelException e) {
                     //ignore
                 }
             }
+            compilationUnit = null;
+            lastResult = null;
         }
-
-        ReconcileResult result = DtoFactory.getInstance().createDto(ReconcileResult.class);
-        result.setProblems(convertProblems(requestor.problems));
-        result.setHighlightedPositions(positions);
-        return result;
     }
 
     private List<Problem> convertProblems(List<IProblem> problems) {
@@ -49,12 +49,19 @@ import org.eclipse.jdt.internal.core.util.Util;
 
 import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.zip.CRC32;
 
 public class IndexManager extends JobManager implements IIndexConstants {
@@ -67,6 +74,9 @@ public class IndexManager extends JobManager implements IIndexConstants {
     // should JDT manage (update, delete as needed) pre-built indexes?
     public static final  String            MANAGE_PRODUCT_INDEXES_PROPERTY      = "jdt.core.manageProductIndexes"; //$NON-NLS-1$
     private static final boolean           IS_MANAGING_PRODUCT_INDEXES_PROPERTY = Boolean.getBoolean(MANAGE_PRODUCT_INDEXES_PROPERTY);
+    // directory with indexes of library jars shared between workspaces (e.g. pre-built in the machine image),
+    // index of jar is named by SHA-1 of the jar content, so it is never used for changed jar
+    public static final  String            SHARED_INDEX_LOCATION_PROPERTY       = "jdt.core.sharedIndexLocation"; //$NON-NLS-1$
     // Debug
     public static        boolean           DEBUG                                = false;
     // key = containerPath, value = indexLocation path
@@ -91,9 +101,18 @@ public class IndexManager extends JobManager implements IIndexConstants {
     private SimpleLookupTable participantsContainers = null;
     private boolean           participantUpdated     = false;
     private String indexLocation;
+    // directory with shared indexes or null, see SHARED_INDEX_LOCATION_PROPERTY
+    private final String sharedIndexLocation;
+    // key = jar path, value = content hash of the jar, see SHARED_INDEX_LOCATION_PROPERTY
+    private final Map<IPath, JarHash> jarHashes = new ConcurrentHashMap<>();
 
     public IndexManager(String indexLocation) {
+        this(indexLocation, System.getProperty(SHARED_INDEX_LOCATION_PROPERTY));
+    }
+
+    public IndexManager(String indexLocation, String sharedIndexLocation) {
         this.indexLocation = indexLocation;
+        this.sharedIndexLocation = sharedIndexLocation;
         indexNamesMapFile = new File(getSavedIndexesDirectory(), "indexNamesMap.txt");
         savedIndexNamesFile = new File(getSavedIndexesDirectory(), "savedIndexNames.txt");
         participantIndexNamesFile = new File(getSavedIndexesDirectory(), "participantsIndexNames.txt");
@@ -201,6 +220,107 @@ public class IndexManager extends JobManager implements IIndexConstants {
         return indexLocation;
     }
 
+    /**
+     * Returns URL of the shared index for the current content of the jar or null if there is no such index.
+     * <p/>
+     * If the container is still bound to the shared index of the previous content of the jar, it is detached from that index,
+     * so the index of the changed jar is built in the workspace index directory and the shared index is never modified.
+     */
+    URL computeSharedIndexURL(IPath containerPath) {
+        // hashing of big jars takes time, don't hold the lock meanwhile
+        String hash = computeJarHash(containerPath);
+        File sharedIndex = hash == null ? null : new File(this.sharedIndexLocation, hash + ".index"); //$NON-NLS-1$
+        if (sharedIndex != null && sharedIndex.isFile()) {
+            try {
+                return sharedIndex.toURI().toURL();
+            } catch (IOException e) {
+                if (JobManager.VERBOSE)
+                    Util.verbose("-> invalid shared index location " + sharedIndex); //$NON-NLS-1$
+            }
+        }
+        synchronized (this) {
+            IndexLocation current = (IndexLocation)this.indexLocations.get(containerPath);
+            if (isSharedIndex(current)) {
+                if (JobManager.VERBOSE)
+                    Util.verbose("-> detaching shared index " + current + " from changed jar " + containerPath); //$NON-NLS-1$ //$NON-NLS-2$
+                Index index = getIndex(current);
+                if (index != null) {
+                    index.monitor = null;
+                }
+                current.close();
+                this.indexes.removeKey(current);
+                this.indexLocations.removeKey(containerPath);
+                updateIndexState(current, null);
+            }
+        }
+        return null;
+    }
+
+    private boolean isSharedIndex(IndexLocation location) {
+        if (this.sharedIndexLocation == null || location == null) return false;
+        File file = location.getIndexFile();
+        return file != null && new File(this.sharedIndexLocation).getAbsoluteFile().equals(file.getAbsoluteFile().getParentFile());
+    }
+
+    /*
+     * Returns SHA-1 of the jar content or null if the container isn't a jar in the file system.
+     * Hash is recomputed only when size or modification time of the jar changes.
+     */
+    private String computeJarHash(IPath containerPath) {
+        File jar = containerPath.toFile();
+        if (!jar.isFile()) {
+            this.jarHashes.remove(containerPath);
+            return null;
+        }
+        JarHash jarHash = this.jarHashes.get(containerPath);
+        if (jarHash == null || jarHash.length != jar.length() || jarHash.lastModified != jar.lastModified()) {
+            try {
+                jarHash = new JarHash(jar);
+            } catch (IOException e) {
+                if (JobManager.VERBOSE)
+                    Util.verbose("-> failed to compute hash of " + jar + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+                return null;
+            }
+            this.jarHashes.put(containerPath, jarHash);
+        }
+        return jarHash.hash;
+    }
+
+    /*
+     * Copies just built index of the jar to the shared index location, so other workspaces don't need to index the same jar.
+     * Does nothing if the shared location isn't writable or already has index for this content.
+     */
+    private void publishSharedIndex(IPath containerPath, Index index) {
+        if (this.sharedIndexLocation == null || !index.isIndexForJar() || isSharedIndex(index.getIndexLocation())) return;
+        publishSharedIndex(containerPath, index.getIndexFile());
+    }
+
+    /*
+     * Copies the index file of the jar to the shared index location. Several workspaces may publish index of the same jar
+     * at the same time, each of them writes own temporary file which is atomically renamed, so readers never see partial index.
+     */
+    void publishSharedIndex(IPath containerPath, File indexFile) {
+        String hash = computeJarHash(containerPath);
+        File sharedDir = new File(this.sharedIndexLocation);
+        if (hash == null || indexFile == null || !indexFile.isFile() || !sharedDir.canWrite()) return;
+        java.nio.file.Path target = new File(sharedDir, hash + ".index").toPath(); //$NON-NLS-1$
+        if (Files.exists(target)) return;
+        try {
+            java.nio.file.Path tmp = Files.createTempFile(sharedDir.toPath(), hash, ".tmp"); //$NON-NLS-1$
+            try {
+                Files.copy(indexFile.toPath(), tmp, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            if (JobManager.VERBOSE)
+                Util.verbose("-> published shared index " + target + " for " + containerPath); //$NON-NLS-1$ //$NON-NLS-2$
+        } catch (IOException e) {
+            if (JobManager.VERBOSE)
+                Util.verbose("-> failed to publish shared index for " + containerPath + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    }
+
     public synchronized IndexLocation computeIndexLocation(IPath containerPath) {
         IndexLocation indexLocation = (IndexLocation)this.indexLocations.get(containerPath);
         if (indexLocation == null) {
@@ -602,7 +722,12 @@ public class IndexManager extends JobManager implements IIndexConstants {
     public void indexLibrary(IPath path, IProject requestingProject, URL indexURL, final boolean updateIndex) {
         // requestingProject is no longer used to cancel jobs but leave it here just in case
         IndexLocation indexFile = null;
-        if (indexURL != null) {
+        if (indexURL == null && this.sharedIndexLocation != null) {
+            URL sharedIndexURL = computeSharedIndexURL(path);
+            if (sharedIndexURL != null) {
+                indexFile = computeIndexLocation(path, sharedIndexURL);
+            }
+        } else if (indexURL != null) {
             if (IS_MANAGING_PRODUCT_INDEXES_PROPERTY) {
                 indexFile = computeIndexLocation(path, indexURL);
             } else {
@@ -948,6 +1073,7 @@ public class IndexManager extends JobManager implements IIndexConstants {
             IndexLocation indexLocation = computeIndexLocation(containerPath);
             updateIndexState(indexLocation, SAVED_STATE);
         }
+        publishSharedIndex(new Path(index.containerPath), index);
     }
 
     /**
@@ -1301,4 +1427,33 @@ public class IndexManager extends JobManager implements IIndexConstants {
             }
         }
     }
+
+    private static class JarHash {
+        final long   length;
+        final long   lastModified;
+        final String hash;
+
+        JarHash(File jar) throws IOException {
+            this.length = jar.length();
+            this.lastModified = jar.lastModified();
+            MessageDigest digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-1"); //$NON-NLS-1$
+            } catch (NoSuchAlgorithmException e) {
+                throw new IOException(e);
+            }
+            try (InputStream in = new FileInputStream(jar)) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            this.hash = hex.toString();
+        }
+    }
 }
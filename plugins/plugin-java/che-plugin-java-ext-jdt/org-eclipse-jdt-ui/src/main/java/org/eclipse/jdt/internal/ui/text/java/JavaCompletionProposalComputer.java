@@ -190,12 +190,13 @@ public class JavaCompletionProposalComputer implements IJavaCompletionProposalCo
     public List<ICompletionProposal> computeCompletionProposals(ContentAssistInvocationContext context, IProgressMonitor monitor) {
         if (context instanceof JavaContentAssistInvocationContext) {
             JavaContentAssistInvocationContext javaContext = (JavaContentAssistInvocationContext)context;
-            return internalComputeCompletionProposals(context.getInvocationOffset(), javaContext);
+            return internalComputeCompletionProposals(context.getInvocationOffset(), javaContext, monitor);
         }
         return Collections.emptyList();
     }
 
-    private List<ICompletionProposal> internalComputeCompletionProposals(int offset, JavaContentAssistInvocationContext context) {
+    private List<ICompletionProposal> internalComputeCompletionProposals(int offset, JavaContentAssistInvocationContext context,
+                                                                         IProgressMonitor monitor) {
         ICompilationUnit unit = context.getCompilationUnit();
         if (unit == null)
             return Collections.emptyList();
@@ -228,8 +229,13 @@ public class JavaCompletionProposalComputer implements IJavaCompletionProposalCo
 			Point selection= viewer.getSelectedRange();
 			if (selection.y > 0)
 				collector.setReplacementLength(selection.y);
-			unit.codeComplete(offset, collector, fTimeoutProgressMonitor);
+			unit.codeComplete(offset, collector, monitor == null ? fTimeoutProgressMonitor
+			                                                    : createTimeoutProgressMonitor(JAVA_CODE_ASSIST_TIMEOUT, monitor));
 		} catch (OperationCanceledException x) {
+			if (monitor != null && monitor.isCanceled()) {
+				// cancelled by the caller, e.g. superseded by newer request
+				throw x;
+			}
 //			IBindingService bindingSvc= (IBindingService)PlatformUI.getWorkbench().getAdapter(IBindingService.class);
 //			String keyBinding= bindingSvc.getBestActiveBindingFormattedFor(IWorkbenchCommandConstants.EDIT_CONTENT_ASSIST);
 //			fErrorMessage= Messages.format(JavaTextMessages.CompletionProcessor_error_javaCompletion_took_too_long_message, keyBinding);
@@ -271,6 +277,17 @@ public class JavaCompletionProposalComputer implements IJavaCompletionProposalCo
 	 * @since 3.5
 	 */
 	private IProgressMonitor createTimeoutProgressMonitor(final long timeout) {
+		return createTimeoutProgressMonitor(timeout, null);
+	}
+
+	/**
+	 * Returns a new progress monitor that get cancelled after the given timeout or when the given monitor is cancelled.
+	 *
+	 * @param timeout the timeout in ms
+	 * @param parent the monitor of the caller, may be <code>null</code>
+	 * @return the progress monitor
+	 */
+	private IProgressMonitor createTimeoutProgressMonitor(final long timeout, final IProgressMonitor parent) {
 		return new IProgressMonitor() {
 
 			private long fEndTime;
@@ -279,7 +296,7 @@ public class JavaCompletionProposalComputer implements IJavaCompletionProposalCo
 				fEndTime= System.currentTimeMillis() + timeout;
 			}
 			public boolean isCanceled() {
-				return fEndTime <= System.currentTimeMillis();
+				return (parent != null && parent.isCanceled()) || fEndTime <= System.currentTimeMillis();
 			}
 			public void done() {
 			}
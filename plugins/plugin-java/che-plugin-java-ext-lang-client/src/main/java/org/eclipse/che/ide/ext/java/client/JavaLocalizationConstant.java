@@ -435,6 +435,9 @@ public interface JavaLocalizationConstant extends Messages {
     @Key("code.assist.errorMessage.default")
     String codeAssistDefaultErrorMessage();
 
+    @Key("code.assist.moreProposals")
+    String codeAssistMoreProposals();
+
     @Key("code.assist.errorMessage.resolvingProject")
     String codeAssistErrorMessageResolvingProject();
 }
@@ -72,6 +72,15 @@ public class JavaCodeAssistClient {
         asyncRequestFactory.createPostRequest(url, null).data(contents).send(callback);
     }
 
+    /**
+     * Retrieves next part of the completion proposals when the response of {@link #computeProposals} is incomplete.
+     */
+    public void getMoreProposals(String sessionId, int from, AsyncRequestCallback<Proposals> callback) {
+        String url = appContext.getDevMachine().getWsAgentBaseUrl() + CODE_ASSIST_URL_PREFIX + "/compute/completion/more?sessionid=" +
+                     sessionId + "&from=" + from;
+        asyncRequestFactory.createGetRequest(url).send(callback);
+    }
+
     public void computeAssistProposals(String projectPath, String fqn, int offset, List<Problem> problems,
                                        AsyncRequestCallback<Proposals> callback) {
         String url = appContext.getDevMachine().getWsAgentBaseUrl() + CODE_ASSIST_URL_PREFIX + "/compute/assist" + "/?projectpath=" +
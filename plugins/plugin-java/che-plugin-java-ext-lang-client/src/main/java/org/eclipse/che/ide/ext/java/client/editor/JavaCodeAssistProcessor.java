@@ -13,6 +13,7 @@ package org.eclipse.che.ide.ext.java.client.editor;
 import com.google.common.base.Strings;
 import com.google.common.base.Optional;
 import com.google.gwt.resources.client.ImageResource;
+import com.google.gwt.user.client.ui.Widget;
 import com.google.inject.assistedinject.Assisted;
 import com.google.inject.assistedinject.AssistedInject;
 
@@ -30,6 +31,8 @@ import org.eclipse.che.ide.ext.java.shared.dto.Proposals;
 import org.eclipse.che.ide.api.editor.codeassist.CodeAssistCallback;
 import org.eclipse.che.ide.api.editor.codeassist.CodeAssistProcessor;
 import org.eclipse.che.ide.api.editor.codeassist.CompletionProposal;
+import org.eclipse.che.ide.api.editor.codeassist.CompletionReadyCallback;
+import org.eclipse.che.ide.api.editor.codeassist.MoreCompletionProposals;
 import org.eclipse.che.ide.api.editor.link.HasLinkedMode;
 import org.eclipse.che.ide.api.editor.texteditor.TextEditor;
 import org.eclipse.che.ide.rest.AsyncRequestCallback;
@@ -181,8 +184,12 @@ public class JavaCodeAssistProcessor implements CodeAssistProcessor {
     }
 
     private void showProposals(final CodeAssistCallback callback, final Proposals respons) {
+        callback.proposalComputed(toCompletionProposals(respons));
+    }
+
+    private List<CompletionProposal> toCompletionProposals(final Proposals respons) {
         List<ProposalPresentation> presentations = respons.getProposals();
-        final List<CompletionProposal> proposals = new ArrayList<>(presentations.size());
+        final List<CompletionProposal> proposals = new ArrayList<>(presentations.size() + 1);
         HasLinkedMode linkedEditor = editor instanceof HasLinkedMode ? (HasLinkedMode)editor : null;
         for (final ProposalPresentation proposal : presentations) {
             final CompletionProposal completionProposal = new JavaCompletionProposal(proposal.getIndex(),
@@ -197,7 +204,12 @@ public class JavaCodeAssistProcessor implements CodeAssistProcessor {
             proposals.add(completionProposal);
         }
 
-        callback.proposalComputed(proposals);
+        if (respons.isIncomplete() && !presentations.isEmpty()) {
+            final int from = presentations.get(presentations.size() - 1).getIndex() + 1;
+            proposals.add(new JavaMoreCompletionProposals(respons.getSessionId(), from));
+        }
+
+        return proposals;
     }
 
     @Override
@@ -212,4 +224,51 @@ public class JavaCodeAssistProcessor implements CodeAssistProcessor {
     public void enableCodeAssistant() {
         this.errorMessage = null;
     }
+
+    /** Retrieves the proposals of the code assist session which weren't sent in the first response. */
+    private class JavaMoreCompletionProposals implements MoreCompletionProposals {
+        private final String sessionId;
+        private final int    from;
+
+        private JavaMoreCompletionProposals(String sessionId, int from) {
+            this.sessionId = sessionId;
+            this.from = from;
+        }
+
+        @Override
+        public void getMoreProposals(final CompletionReadyCallback callback) {
+            Unmarshallable<Proposals> unmarshaller = unmarshallerFactory.newUnmarshaller(Proposals.class);
+            client.getMoreProposals(sessionId, from, new AsyncRequestCallback<Proposals>(unmarshaller) {
+                @Override
+                protected void onSuccess(Proposals proposals) {
+                    callback.onCompletionReady(toCompletionProposals(proposals));
+                }
+
+                @Override
+                protected void onFailure(Throwable throwable) {
+                    Log.error(JavaCodeAssistProcessor.class, throwable);
+                }
+            });
+        }
+
+        @Override
+        public Widget getAdditionalProposalInfo() {
+            return null;
+        }
+
+        @Override
+        public String getDisplayString() {
+            return localizationConstant.codeAssistMoreProposals();
+        }
+
+        @Override
+        public Icon getIcon() {
+            return null;
+        }
+
+        @Override
+        public void getCompletion(CompletionCallback callback) {
+            // popup retrieves the next part of the proposals instead of applying this one
+        }
+    }
 }
@@ -15,8 +15,11 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.RemovalListener;
 import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Singleton;
 
+import org.eclipse.che.commons.env.EnvironmentContext;
+import org.eclipse.che.commons.subject.Subject;
 import org.eclipse.che.dto.server.DtoFactory;
 import org.eclipse.che.ide.ext.java.shared.dto.Change;
 import org.eclipse.che.ide.ext.java.shared.dto.ConflictImportDTO;
@@ -41,7 +44,9 @@ import org.eclipse.core.filebuffers.ITextFileBuffer;
 import org.eclipse.core.filebuffers.ITextFileBufferManager;
 import org.eclipse.core.filebuffers.LocationKind;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaModelStatusConstants;
@@ -76,21 +81,49 @@ import org.eclipse.text.edits.TextEdit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.PreDestroy;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
+ * Computes and applies code assist proposals.
+ * <p/>
+ * Completion proposals are computed in the bounded pool of workers, separately from reconcile and other requests. Only one
+ * completion request per user and file is computed at a time, request which is still in progress is cancelled through its
+ * progress monitor when newer request for the same file arrives. Only the first {@link #PROPOSALS_PAGE_SIZE} proposals (the
+ * most relevant ones) are returned, the rest is retrieved page by page with {@link #getProposals(String, int)} when user
+ * scrolls to the end of the completion popup.
+ *
  * @author Evgen Vidolob
  */
 @Singleton
 public class CodeAssist {
     private static final Logger LOG = LoggerFactory.getLogger(CodeAssist.class);
+
+    static final int PROPOSALS_PAGE_SIZE = 500;
+
+    private static final int WORKERS    = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private static final int QUEUE_SIZE = 50;
+
     private final Cache<String, CodeAssistContext> cache;
+    final         ThreadPoolExecutor               executor;
+    /** Progress monitors of the completion requests in progress by user id and file. */
+    private final ConcurrentHashMap<String, IProgressMonitor> inProgress;
 
     public CodeAssist() {
+        this(WORKERS, QUEUE_SIZE);
+    }
+
+    CodeAssist(int workers, int queueSize) {
         //todo configure expire time
         cache = CacheBuilder.newBuilder().expireAfterWrite(15, TimeUnit.MINUTES).removalListener(
                 new RemovalListener<String, CodeAssistContext>() {
@@ -101,9 +134,80 @@ public class CodeAssist {
                         }
                     }
                 }).build();
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                                          new ArrayBlockingQueue<>(queueSize),
+                                          new ThreadFactoryBuilder().setNameFormat("CodeAssist-%d")
+                                                                    .setDaemon(true)
+                                                                    .build());
+        inProgress = new ConcurrentHashMap<>();
     }
 
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Computes completion proposals. Returns proposals without session id if the request was cancelled by newer request
+     * of the same user for the same file.
+     */
     public Proposals computeProposals(IJavaProject project, String fqn, int offset, final String content) throws JavaModelException {
+        final EnvironmentContext environment = EnvironmentContext.getCurrent();
+        final Subject subject = environment.getSubject();
+        final String key = (subject == null ? "" : subject.getUserId()) + ':' + project.getPath().toString() + ':' + fqn;
+        final IProgressMonitor monitor = new NullProgressMonitor();
+        final IProgressMonitor previous = inProgress.put(key, monitor);
+        if (previous != null) {
+            // user continued typing, result of the previous request isn't needed anymore
+            previous.setCanceled(true);
+        }
+
+        try {
+            final Future<Proposals> future;
+            try {
+                future = executor.submit(() -> {
+                    if (monitor.isCanceled()) {
+                        throw new OperationCanceledException();
+                    }
+                    EnvironmentContext.setCurrent(environment);
+                    try {
+                        return computeProposals(project, fqn, offset, content, monitor);
+                    } finally {
+                        EnvironmentContext.reset();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                throw new JavaModelException(
+                        new JavaModelStatus(IJavaModelStatusConstants.CORE_EXCEPTION, "Too many code assist requests, try again later"));
+            }
+
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                monitor.setCanceled(true);
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+                return cancelledProposals();
+            } catch (ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof OperationCanceledException) {
+                    return cancelledProposals();
+                }
+                if (cause instanceof JavaModelException) {
+                    throw (JavaModelException)cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException)cause;
+                }
+                throw new JavaModelException(new JavaModelStatus(IJavaModelStatusConstants.CORE_EXCEPTION, cause));
+            }
+        } finally {
+            inProgress.remove(key, monitor);
+        }
+    }
+
+    Proposals computeProposals(IJavaProject project, String fqn, int offset, final String content, IProgressMonitor monitor)
+            throws JavaModelException {
 
         WorkingCopyOwner copyOwner = new WorkingCopyOwner() {
             @Override
@@ -123,34 +227,74 @@ public class CodeAssist {
             compilationUnit = type.getCompilationUnit().getWorkingCopy(copyOwner, null);
         }
 
-        IBuffer buffer = compilationUnit.getBuffer();
-        IDocument document;
-        if (buffer instanceof org.eclipse.jdt.internal.ui.javaeditor.DocumentAdapter) {
-            document = ((org.eclipse.jdt.internal.ui.javaeditor.DocumentAdapter)buffer).getDocument();
-        } else {
-            document = new DocumentAdapter(buffer);
+        try {
+            IBuffer buffer = compilationUnit.getBuffer();
+            IDocument document;
+            if (buffer instanceof org.eclipse.jdt.internal.ui.javaeditor.DocumentAdapter) {
+                document = ((org.eclipse.jdt.internal.ui.javaeditor.DocumentAdapter)buffer).getDocument();
+            } else {
+                document = new DocumentAdapter(buffer);
+            }
+            TextViewer viewer = new TextViewer(document, new Point(offset, 0));
+            JavaContentAssistInvocationContext context =
+                    new JavaContentAssistInvocationContext(viewer, offset, compilationUnit);
+
+            List<ICompletionProposal> proposals = new ArrayList<>();
+            proposals.addAll(new JavaAllCompletionProposalComputer().computeCompletionProposals(context, monitor));
+            if (monitor.isCanceled()) {
+                throw new OperationCanceledException();
+            }
+            proposals.addAll(new TemplateCompletionProposalComputer().computeCompletionProposals(context, monitor));
+            if (monitor.isCanceled()) {
+                throw new OperationCanceledException();
+            }
+
+            Collections.sort(proposals, new RelevanceSorter());
+
+            return convertProposals(offset, compilationUnit, viewer, proposals);
+        } catch (OperationCanceledException e) {
+            compilationUnit.discardWorkingCopy();
+            throw e;
         }
-        TextViewer viewer = new TextViewer(document, new Point(offset, 0));
-        JavaContentAssistInvocationContext context =
-                new JavaContentAssistInvocationContext(viewer, offset, compilationUnit);
+    }
 
-        List<ICompletionProposal> proposals = new ArrayList<>();
-        proposals.addAll(new JavaAllCompletionProposalComputer().computeCompletionProposals(context, null));
-        proposals.addAll(new TemplateCompletionProposalComputer().computeCompletionProposals(context, null));
+    private Proposals cancelledProposals() {
+        Proposals result = DtoFactory.getInstance().createDto(Proposals.class);
+        result.setProposals(Collections.emptyList());
+        return result;
+    }
 
-        Collections.sort(proposals, new RelevanceSorter());
+    Proposals convertProposals(int offset, ICompilationUnit compilationUnit, TextViewer viewer,
+                               List<ICompletionProposal> proposals) {
+        String sessionId = UUID.randomUUID().toString();
+        cache.put(sessionId, new CodeAssistContext(viewer, offset, proposals, compilationUnit));
+        return createProposals(sessionId, proposals, 0);
+    }
 
-        return convertProposals(offset, compilationUnit, viewer, proposals);
+    /**
+     * Returns next page of the proposals computed in the session.
+     *
+     * @param sessionId
+     *         id of the code assist session
+     * @param from
+     *         index of the first proposal to return
+     */
+    public Proposals getProposals(String sessionId, int from) {
+        CodeAssistContext context = cache.getIfPresent(sessionId);
+        if (context != null) {
+            return createProposals(sessionId, context.proposals, from);
+        } else {
+            throw new IllegalArgumentException("CodeAssist context doesn't exist or time of completion was expired");
+        }
     }
 
-    private Proposals convertProposals(int offset, ICompilationUnit compilationUnit, TextViewer viewer,
-                                       List<ICompletionProposal> proposals) {
+    private Proposals createProposals(String sessionId, List<ICompletionProposal> proposals, int from) {
         Proposals result = DtoFactory.getInstance().createDto(Proposals.class);
-        String sessionId = UUID.randomUUID().toString();
         result.setSessionId(sessionId);
 
+        int to = Math.min(proposals.size(), Math.max(from, 0) + PROPOSALS_PAGE_SIZE);
         ArrayList<ProposalPresentation> presentations = new ArrayList<>();
-        for (int i = 0; i < proposals.size(); i++) {
+        for (int i = Math.max(from, 0); i < to; i++) {
             ProposalPresentation presentation = DtoFactory.getInstance().createDto(ProposalPresentation.class);
             ICompletionProposal proposal = proposals.get(i);
             presentation.setIndex(i);
@@ -169,7 +313,7 @@ public class CodeAssist {
             presentations.add(presentation);
         }
         result.setProposals(presentations);
-        cache.put(sessionId, new CodeAssistContext(viewer, offset, proposals, compilationUnit));
+        result.setIncomplete(to < proposals.size());
         return result;
     }
 
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.java.server;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
@@ -34,27 +35,88 @@ import org.eclipse.jdt.internal.core.JavaModelManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.PreDestroy;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent.EventType.CREATED;
+import static org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent.EventType.DELETED;
+import static org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent.EventType.UPDATED;
 
 /**
+ * Updates java model when items of java projects are changed.
+ * <p/>
+ * Changes of project items are not applied one by one: events received within {@link #DEBOUNCE_DELAY_MS} are merged and
+ * applied to the java model as one resource delta, so burst of changes (e.g. checkout of git branch, import or refactoring)
+ * is translated into one java model delta and one notification of java model listeners. While events are merged each path
+ * is kept once, creation of item followed by its removal is dropped and removal followed by creation of file is reported as
+ * update. Removal followed by creation of folder is not merged, pending changes including removal are applied first, so
+ * the java model drops everything it knew about the old content of the folder.
+ *
  * @author Evgen Vidolob
  */
 @Singleton
 public class ProjectListeners {
     private static final Logger LOG = LoggerFactory.getLogger(ProjectListeners.class);
 
-    private final File                workspace;
-    private final ProjectRegistry     projectRegistry;
-    private final ProjectTypeRegistry projectTypeRegistry;
+    /** Time to wait for more events before changes are applied to the java model. */
+    private static final long DEBOUNCE_DELAY_MS = 100;
+    /** Max number of pending changes, when it is reached changes are applied immediately. */
+    static final         int  MAX_BATCH_SIZE    = 1000;
+
+    private final File                                  workspace;
+    private final ProjectRegistry                       projectRegistry;
+    private final ProjectTypeRegistry                   projectTypeRegistry;
+    private final Map<String, ProjectItemModifiedEvent> pending;
+    private final Object                                flushLock;
+    private final ScheduledExecutorService              executor;
+    private final long                                  debounceDelay;
+
+    private final AtomicLong receivedEvents;
+    private final AtomicLong batches;
+    private final AtomicLong appliedEvents;
+    private final AtomicLong maxBatchSize;
+    private final AtomicLong lastProcessingTime;
+    private final AtomicLong totalProcessingTime;
+
+    private ScheduledFuture<?> scheduledFlush;
 
     @Inject
     public ProjectListeners(@Named("che.user.workspaces.storage") String workspacePath,
                             EventService eventService,
                             ProjectRegistry projectRegistry,
                             ProjectTypeRegistry projectTypeRegistry) {
+        this(workspacePath, eventService, projectRegistry, projectTypeRegistry, DEBOUNCE_DELAY_MS);
+    }
+
+    ProjectListeners(String workspacePath,
+                     EventService eventService,
+                     ProjectRegistry projectRegistry,
+                     ProjectTypeRegistry projectTypeRegistry,
+                     long debounceDelay) {
+        this.debounceDelay = debounceDelay;
         this.projectRegistry = projectRegistry;
         this.projectTypeRegistry = projectTypeRegistry;
         workspace = new File(workspacePath);
+        pending = new LinkedHashMap<>();
+        flushLock = new Object();
+        receivedEvents = new AtomicLong();
+        batches = new AtomicLong();
+        appliedEvents = new AtomicLong();
+        maxBatchSize = new AtomicLong();
+        lastProcessingTime = new AtomicLong();
+        totalProcessingTime = new AtomicLong();
+        executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("JavaModelUpdater-%d")
+                                                                                        .setDaemon(true)
+                                                                                        .build());
         eventService.subscribe(new ProjectCreated());
         eventService.subscribe(new EventSubscriber<ProjectItemModifiedEvent>() {
             @Override
@@ -64,27 +126,155 @@ public class ProjectListeners {
         });
     }
 
+    /**
+     * Queues change of the project item, queued changes are applied to the java model after short delay.
+     *
+     * @see #flush()
+     */
     public void handleEvent(ProjectItemModifiedEvent event) {
-        final String eventPath = event.getPath();
         if (!isJavaProject(event.getProject())) {
             return;
         }
+        receivedEvents.incrementAndGet();
+        boolean merged = false;
+        while (!merged) {
+            final boolean flushNow;
+            synchronized (pending) {
+                merged = merge(event);
+                flushNow = !merged || pending.size() >= MAX_BATCH_SIZE;
+                if (!flushNow && scheduledFlush == null) {
+                    scheduledFlush = executor.schedule(this::flush, debounceDelay, TimeUnit.MILLISECONDS);
+                }
+            }
+            if (flushNow) {
+                flush();
+            }
+        }
+    }
+
+    /** Applies all the queued changes to the java model. */
+    public void flush() {
+        synchronized (flushLock) {
+            final List<ProjectItemModifiedEvent> events;
+            synchronized (pending) {
+                if (scheduledFlush != null) {
+                    scheduledFlush.cancel(false);
+                    scheduledFlush = null;
+                }
+                events = new ArrayList<>(pending.values());
+                pending.clear();
+            }
+            if (events.isEmpty()) {
+                return;
+            }
+
+            final long start = System.currentTimeMillis();
+            apply(events);
+            final long time = System.currentTimeMillis() - start;
+
+            batches.incrementAndGet();
+            appliedEvents.addAndGet(events.size());
+            maxBatchSize.accumulateAndGet(events.size(), Math::max);
+            lastProcessingTime.set(time);
+            totalProcessingTime.addAndGet(time);
+            LOG.debug("Java model updated with {} changed items in {} ms", events.size(), time);
+        }
+    }
+
+    /** Returns number of project item events received for java projects. */
+    public long getReceivedEventsCount() {
+        return receivedEvents.get();
+    }
+
+    /** Returns number of batches applied to the java model. */
+    public long getBatchesCount() {
+        return batches.get();
+    }
+
+    /** Returns number of changes applied to the java model, duplicated and collapsed events are not counted. */
+    public long getAppliedEventsCount() {
+        return appliedEvents.get();
+    }
+
+    /** Returns size of the biggest batch applied to the java model. */
+    public long getMaxBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    /** Returns time in milliseconds spent on applying of the last batch. */
+    public long getLastProcessingTime() {
+        return lastProcessingTime.get();
+    }
+
+    /** Returns total time in milliseconds spent on applying of all batches. */
+    public long getTotalProcessingTime() {
+        return totalProcessingTime.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /** Applies batch of changes to the java model. */
+    void apply(List<ProjectItemModifiedEvent> events) {
         try {
             JavaModelManager.getJavaModelManager().deltaState.resourceChanged(
-                    new ResourceChangedEvent(workspace, event));
+                    events.size() == 1 ? new ResourceChangedEvent(workspace, events.get(0)) : new ResourceChangedEvent(workspace, events));
         } catch (Throwable t) {
             //catch all exceptions that may be happened
-            LOG.error("Can't update java model in " + eventPath, t);
+            LOG.error("Can't update java model for " + events.size() + " changed items", t);
         }
-        if (event.getType() == ProjectItemModifiedEvent.EventType.UPDATED) {
-            ITextFileBufferManager manager = FileBuffers.getTextFileBufferManager();
-            ITextFileBuffer fileBuffer = manager.getTextFileBuffer(new Path(eventPath), LocationKind.IFILE);
-            if (fileBuffer != null) {
-                try {
-                    fileBuffer.revert(new NullProgressMonitor());
-                } catch (CoreException e) {
-                    LOG.error("Can't read file content: " + eventPath, e);
+        for (ProjectItemModifiedEvent event : events) {
+            if (event.getType() == UPDATED) {
+                revertFileBuffer(event.getPath());
+            }
+        }
+    }
+
+    /**
+     * Merges event with pending event for the same path, must be called under lock of {@link #pending}.
+     *
+     * @return {@code false} if the event can't be merged and pending changes must be applied before it
+     */
+    private boolean merge(ProjectItemModifiedEvent event) {
+        final String path = event.getPath();
+        final ProjectItemModifiedEvent previous = pending.get(path);
+        if (previous != null) {
+            if (previous.getType() == CREATED && event.getType() == DELETED) {
+                // java model never saw this item
+                pending.remove(path);
+                return true;
+            }
+            if (previous.getType() == CREATED && event.getType() == UPDATED) {
+                // still new item for java model
+                return true;
+            }
+            if (previous.getType() == DELETED && event.getType() == CREATED) {
+                if (event.isFolder()) {
+                    // content of the new folder has nothing to do with the removed one
+                    return false;
                 }
+                pending.put(path, new ProjectItemModifiedEvent(UPDATED,
+                                                               event.getWorkspace(),
+                                                               event.getProject(),
+                                                               path,
+                                                               false));
+                return true;
+            }
+        }
+        pending.put(path, event);
+        return true;
+    }
+
+    private void revertFileBuffer(String path) {
+        ITextFileBufferManager manager = FileBuffers.getTextFileBufferManager();
+        ITextFileBuffer fileBuffer = manager.getTextFileBuffer(new Path(path), LocationKind.IFILE);
+        if (fileBuffer != null) {
+            try {
+                fileBuffer.revert(new NullProgressMonitor());
+            } catch (CoreException e) {
+                LOG.error("Can't read file content: " + path, e);
             }
         }
     }
@@ -95,6 +285,8 @@ public class ProjectListeners {
             if (!isJavaProject(event.getProjectPath())) {
                 return;
             }
+            // changes made before project creation must be applied first
+            flush();
             try {
                 JavaModelManager.getJavaModelManager().deltaState.resourceChanged(new ResourceChangedEvent(workspace, event));
             } catch (Throwable t) {
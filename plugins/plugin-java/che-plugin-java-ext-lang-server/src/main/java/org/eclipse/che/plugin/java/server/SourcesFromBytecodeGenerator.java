@@ -10,8 +10,10 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.java.server;
 
+import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
+import org.eclipse.che.jdt.BinaryContentCache;
 import org.eclipse.che.jdt.dom.ASTNodes;
 import org.eclipse.che.jdt.javadoc.JavaElementLabels;
 import org.eclipse.jdt.core.BindingKey;
@@ -41,8 +43,39 @@ public class SourcesFromBytecodeGenerator {
     private static final String COMMENT     = new String(
             "\n // Failed to get sources. Instead, stub sources have been generated.\n // Implementation of methods is unavailable.\n");
     private static final String TAB         = "    ";
+    /** Kind of entries in the {@link BinaryContentCache}, must be changed when format of generated sources is changed. */
+    private static final String CACHE_KIND  = "source-v1";
 
+    private final BinaryContentCache cache;
+
+    public SourcesFromBytecodeGenerator() {
+        this(null);
+    }
+
+    @Inject
+    public SourcesFromBytecodeGenerator(BinaryContentCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Returns stub source of the binary type. Sources of types from jars are kept in the {@link BinaryContentCache}
+     * and generated only once for every jar.
+     */
     public String generateSource(IType type) throws JavaModelException {
+        if (cache == null) {
+            return doGenerateSource(type);
+        }
+
+        String key = type.getFullyQualifiedName('$');
+        String source = cache.get(CACHE_KIND, type, key);
+        if (source == null) {
+            source = doGenerateSource(type);
+            cache.put(CACHE_KIND, type, key, source);
+        }
+        return source;
+    }
+
+    private String doGenerateSource(IType type) throws JavaModelException {
         StringBuilder builder = new StringBuilder();
         builder.append(COMMENT);
         builder.append("package ").append(type.getPackageFragment().getElementName()).append(";\n");
@@ -17,6 +17,7 @@ import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 
 import org.eclipse.che.inject.DynaModule;
+import org.eclipse.che.jdt.BinaryContentCache;
 import org.eclipse.che.plugin.java.server.ProjectListeners;
 import org.eclipse.che.plugin.java.server.refactoring.RefactoringManager;
 import org.eclipse.che.plugin.java.server.rest.CodeAssistService;
@@ -49,6 +50,7 @@ public class JdtGuiceModule extends AbstractModule {
         bind(CompilerSetupService.class);
         bind(ResourcesPlugin.class).asEagerSingleton();
         bind(JavaPlugin.class).asEagerSingleton();
+        bind(BinaryContentCache.class).asEagerSingleton();
         bind(FileBuffersPlugin.class).asEagerSingleton();
         bind(ProjectListeners.class).asEagerSingleton();
         bind(RefactoringManager.class).asEagerSingleton();
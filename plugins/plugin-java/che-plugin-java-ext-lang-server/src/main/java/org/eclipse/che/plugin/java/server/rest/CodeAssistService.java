@@ -69,6 +69,14 @@ public class CodeAssistService {
 
     }
 
+    @GET
+    @Path("compute/completion/more")
+    @Produces("application/json")
+    public Proposals getCompletionProposals(@QueryParam("sessionid") String sessionId,
+                                            @QueryParam("from") int from) {
+        return codeAssist.getProposals(sessionId, from);
+    }
+
     @GET
     @Path("apply/completion")
     @Produces("application/json")
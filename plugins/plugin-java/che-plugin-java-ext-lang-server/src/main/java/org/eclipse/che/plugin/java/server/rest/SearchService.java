@@ -13,6 +13,8 @@ package org.eclipse.che.plugin.java.server.rest;
 
 import com.google.inject.Inject;
 
+import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesChunk;
 import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesRequest;
 import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesResponse;
 import org.eclipse.che.plugin.java.server.search.SearchException;
@@ -20,13 +22,23 @@ import org.eclipse.che.plugin.java.server.search.SearchManager;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.internal.core.JavaModel;
 import org.eclipse.jdt.internal.core.JavaModelManager;
+import org.everrest.websockets.WSConnectionContext;
+import org.everrest.websockets.message.ChannelBroadcastMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import javax.websocket.EncodeException;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import java.io.IOException;
 
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+import static javax.ws.rs.core.MediaType.TEXT_PLAIN;
 
 /**
  * REST service for all java project related searches.
@@ -35,6 +47,7 @@ import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
  */
 @Path("java/search")
 public class SearchService {
+    private static final Logger LOG = LoggerFactory.getLogger(SearchService.class);
 
     @Inject
     private SearchManager manager;
@@ -48,4 +61,40 @@ public class SearchService {
         IJavaProject javaProject = javaModel.getJavaProject(request.getProjectPath());
         return manager.findUsage(javaProject, request.getFQN(), request.getOffset());
     }
+
+    /**
+     * Starts find usages search in background, usages are sent to the given websocket channel by chunks
+     * (see {@link FindUsagesChunk}) as soon as they are found.
+     *
+     * @return id of the search
+     */
+    @POST
+    @Consumes(APPLICATION_JSON)
+    @Produces(TEXT_PLAIN)
+    @Path("find/usages/stream")
+    public String findUsagesStreaming(@QueryParam("channel") String channel, FindUsagesRequest request) throws SearchException {
+        if (channel == null || channel.isEmpty()) {
+            throw new SearchException("Channel for search results is not specified");
+        }
+        JavaModel javaModel = JavaModelManager.getJavaModelManager().getJavaModel();
+        IJavaProject javaProject = javaModel.getJavaProject(request.getProjectPath());
+        return manager.findUsage(javaProject, request.getFQN(), request.getOffset(), chunk -> send(channel, chunk));
+    }
+
+    @DELETE
+    @Path("find/usages/{id}")
+    public void cancelFindUsages(@PathParam("id") String searchId) {
+        manager.cancelSearch(searchId);
+    }
+
+    private void send(String channel, FindUsagesChunk chunk) {
+        try {
+            ChannelBroadcastMessage message = new ChannelBroadcastMessage();
+            message.setChannel(channel);
+            message.setBody(DtoFactory.getInstance().toJson(chunk));
+            WSConnectionContext.sendMessage(message);
+        } catch (EncodeException | IOException e) {
+            LOG.error("Can't send find usages result:", e);
+        }
+    }
 }
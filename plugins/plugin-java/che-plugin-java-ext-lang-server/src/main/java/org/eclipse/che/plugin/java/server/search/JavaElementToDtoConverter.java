@@ -74,11 +74,24 @@ public class JavaElementToDtoConverter {
 
 
     private final FastJavaElementProvider contentProvider;
+    private final Object                  result;
     private Map<Object, Set<Object>> childrens = new HashMap<>();
     private int                      level;
-    private AbstractTextSearchResult result;
 
     public JavaElementToDtoConverter(AbstractTextSearchResult result) {
+        this((Object)result);
+    }
+
+    /** Creates converter for elements which are not collected into {@link AbstractTextSearchResult}. */
+    public JavaElementToDtoConverter() {
+        this(new Object());
+    }
+
+    /**
+     * @param result
+     *         root of the converted hierarchy, top level elements are children of it
+     */
+    private JavaElementToDtoConverter(Object result) {
         this.result = result;
         contentProvider = new FastJavaElementProvider();
         level = LEVEL_PROJECT;
@@ -11,12 +11,21 @@
 
 package org.eclipse.che.plugin.java.server.search;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Singleton;
 
+import org.eclipse.che.commons.lang.NameGenerator;
 import org.eclipse.che.dto.server.DtoFactory;
 import org.eclipse.che.ide.ext.java.shared.dto.Region;
 import org.eclipse.che.ide.ext.java.shared.dto.model.JavaProject;
+import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesChunk;
 import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesResponse;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IField;
@@ -28,10 +37,18 @@ import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IPackageDeclaration;
 import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeParameter;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
 import org.eclipse.jdt.internal.core.DefaultWorkingCopyOwner;
 import org.eclipse.jdt.internal.core.DocumentAdapter;
 import org.eclipse.jdt.internal.ui.search.JavaSearchQuery;
@@ -49,13 +66,32 @@ import org.eclipse.search.ui.text.Match;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.PreDestroy;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Performs all Java related search.
+ * <p/>
+ * Find usages may be performed at once with {@link #findUsage(IJavaProject, String, int)} or in streaming mode with
+ * {@link #findUsage(IJavaProject, String, int, Consumer)}. In streaming mode usages are reported per compilation unit
+ * as soon as they are found, search scope is split into partitions by package fragment roots which are searched in
+ * parallel and search may be cancelled with {@link #cancelSearch(String)}.
  *
  * @author Evgen Vidolob
  */
@@ -73,35 +109,37 @@ public class SearchManager {
                                                                         ILocalVariable.class,
                                                                         ITypeParameter.class};
 
+    /** Max number of partitions of search scope which are searched at the same time. */
+    private static final int SEARCH_THREADS       = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    /** Max number of streaming searches which are performed at the same time. */
+    private static final int MAX_RUNNING_SEARCHES = 4;
+    /** Max number of streaming searches which wait for a free thread, newer searches are rejected. */
+    private static final int MAX_QUEUED_SEARCHES  = 16;
 
-    public FindUsagesResponse findUsage(IJavaProject javaProject, String fqn, int offset) throws SearchException {
-        try {
-            ICompilationUnit compilationUnit;
-            IType type = javaProject.findType(fqn);
-            if (type == null) {
-                throw new SearchException("Can't find type: " + fqn);
-            }
-            if (type.isBinary()) {
-                compilationUnit = type.getClassFile().getWorkingCopy(DefaultWorkingCopyOwner.PRIMARY, null);
-                if (compilationUnit == null) {
-                    throw new SearchException("Can't find sources for: " + fqn + " type");
-                }
-            } else {
-                compilationUnit = type.getCompilationUnit();
-            }
-            IJavaElement[] elements = compilationUnit.codeSelect(offset, 0);
-            if (elements != null && elements.length == 1) {
-                IJavaElement element = elements[0];
-                if (isTypeValid(element, TYPES_FOR_FIND_USAGE)) {
-                    return performFindUsageSearch(element);
-                } else {
-                    throw new SearchException("Find usage can't search for element: " + element.getElementName());
-                }
+    private final ExecutorService               searchExecutor;
+    private final ExecutorService               partitionExecutor;
+    private final Map<String, IProgressMonitor> runningSearches;
 
-            } else {
-                throw new SearchException("Can't find element to search, try to move cursor to another place and invoke search again");
-            }
+    public SearchManager() {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_RUNNING_SEARCHES,
+                                                                   MAX_RUNNING_SEARCHES,
+                                                                   60,
+                                                                   TimeUnit.SECONDS,
+                                                                   new LinkedBlockingQueue<>(MAX_QUEUED_SEARCHES),
+                                                                   new ThreadFactoryBuilder().setNameFormat("FindUsages-%d")
+                                                                                             .setDaemon(true)
+                                                                                             .build());
+        executor.allowCoreThreadTimeOut(true);
+        searchExecutor = executor;
+        partitionExecutor = Executors.newFixedThreadPool(SEARCH_THREADS, new ThreadFactoryBuilder().setNameFormat("FindUsagesPartition-%d")
+                                                                                                   .setDaemon(true)
+                                                                                                   .build());
+        runningSearches = new ConcurrentHashMap<>();
+    }
 
+    public FindUsagesResponse findUsage(IJavaProject javaProject, String fqn, int offset) throws SearchException {
+        try {
+            return performFindUsageSearch(findElementToSearch(javaProject, fqn, offset));
         } catch (JavaModelException e) {
             LOG.error(e.getMessage(), e);
             throw new SearchException(String.format("Can't find project: %s or file for FQN: %s", javaProject.getPath().toOSString(), fqn),
@@ -112,6 +150,105 @@ public class SearchManager {
         }
     }
 
+    /**
+     * Starts find usages search in background. Usages are passed to the consumer by chunks, each chunk contains usages found
+     * in one compilation unit or class file. Consumer always receives the last chunk, even if search is cancelled or failed.
+     * Consumer may be called from different threads but never at the same time.
+     *
+     * @return id of the search which may be used for cancelling it
+     * @throws SearchException
+     *         if element to search can't be found or there are too many searches in progress
+     */
+    public String findUsage(IJavaProject javaProject, String fqn, int offset, Consumer<FindUsagesChunk> consumer) throws SearchException {
+        final IJavaElement element;
+        try {
+            element = findElementToSearch(javaProject, fqn, offset);
+        } catch (JavaModelException e) {
+            LOG.error(e.getMessage(), e);
+            throw new SearchException(String.format("Can't find project: %s or file for FQN: %s", javaProject.getPath().toOSString(), fqn),
+                                      e);
+        }
+
+        final String searchId = NameGenerator.generate("search", 16);
+        final CancellableMonitor monitor = new CancellableMonitor();
+        final Consumer<FindUsagesChunk> synchronizedConsumer = chunk -> {
+            synchronized (monitor) {
+                consumer.accept(chunk);
+            }
+        };
+        runningSearches.put(searchId, monitor);
+        try {
+            searchExecutor.execute(() -> {
+                final FindUsagesChunk last = DtoFactory.newDto(FindUsagesChunk.class).withSearchId(searchId).withLast(true);
+                try {
+                    performFindUsageSearch(element, searchId, monitor, synchronizedConsumer);
+                } catch (OperationCanceledException ignored) {
+                    // reported with the last chunk
+                } catch (Exception e) {
+                    LOG.error(e.getMessage(), e);
+                    last.setError(e.getMessage());
+                } finally {
+                    runningSearches.remove(searchId);
+                }
+                last.setCancelled(last.getError() == null && monitor.isCanceled());
+                synchronizedConsumer.accept(last);
+            });
+        } catch (RejectedExecutionException e) {
+            runningSearches.remove(searchId);
+            throw new SearchException("Too many searches are in progress, try again later", e);
+        }
+        return searchId;
+    }
+
+    /**
+     * Cancels search which was started with {@link #findUsage(IJavaProject, String, int, Consumer)}.
+     *
+     * @return {@code true} if search was running, {@code false} if there is no such search or it is already finished
+     */
+    public boolean cancelSearch(String searchId) {
+        final IProgressMonitor monitor = runningSearches.get(searchId);
+        if (monitor == null) {
+            return false;
+        }
+        monitor.setCanceled(true);
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runningSearches.values().forEach(monitor -> monitor.setCanceled(true));
+        searchExecutor.shutdownNow();
+        partitionExecutor.shutdownNow();
+    }
+
+    private IJavaElement findElementToSearch(IJavaProject javaProject, String fqn, int offset) throws JavaModelException, SearchException {
+        ICompilationUnit compilationUnit;
+        IType type = javaProject.findType(fqn);
+        if (type == null) {
+            throw new SearchException("Can't find type: " + fqn);
+        }
+        if (type.isBinary()) {
+            compilationUnit = type.getClassFile().getWorkingCopy(DefaultWorkingCopyOwner.PRIMARY, null);
+            if (compilationUnit == null) {
+                throw new SearchException("Can't find sources for: " + fqn + " type");
+            }
+        } else {
+            compilationUnit = type.getCompilationUnit();
+        }
+        IJavaElement[] elements = compilationUnit.codeSelect(offset, 0);
+        if (elements != null && elements.length == 1) {
+            IJavaElement element = elements[0];
+            if (isTypeValid(element, TYPES_FOR_FIND_USAGE)) {
+                return element;
+            } else {
+                throw new SearchException("Find usage can't search for element: " + element.getElementName());
+            }
+
+        } else {
+            throw new SearchException("Can't find element to search, try to move cursor to another place and invoke search again");
+        }
+    }
+
     private FindUsagesResponse performFindUsageSearch(IJavaElement element) throws JavaModelException, BadLocationException {
         JavaSearchScopeFactory factory = JavaSearchScopeFactory.getInstance();
         boolean isInsideJRE = factory.isInsideJRE(element);
@@ -126,51 +263,125 @@ public class SearchManager {
         Map<String, List<org.eclipse.che.ide.ext.java.shared.dto.search.Match>> mapMaches = new HashMap<>();
         JavaElementToDtoConverter converter = new JavaElementToDtoConverter(javaResult);
         for (Object o : javaResult.getElements()) {
-            IJavaElement javaElement = (IJavaElement)o;
-            IDocument document = null;
-            if (javaElement instanceof IMember) {
-                IMember member = ((IMember)javaElement);
-                if (member.isBinary()) {
-                    if (member.getClassFile().getSource() != null) {
-                        document = new Document(member.getClassFile().getSource());
-                    }
-                } else {
-                    document = getDocument(member.getCompilationUnit());
+            addMatches((IJavaElement)o, javaResult.getMatches(o), converter, mapMaches);
+        }
+        List<JavaProject> projects = converter.getProjects();
+        response.setProjects(projects);
+        response.setMatches(mapMaches);
+        response.setSearchElementLabel(JavaElementLabels.getElementLabel(element, JavaElementLabels.ALL_DEFAULT));
+        return response;
+    }
+
+    private void performFindUsageSearch(IJavaElement element,
+                                        String searchId,
+                                        IProgressMonitor monitor,
+                                        Consumer<FindUsagesChunk> consumer) throws Exception {
+        JavaSearchScopeFactory factory = JavaSearchScopeFactory.getInstance();
+        boolean isInsideJRE = factory.isInsideJRE(element);
+        SearchPattern pattern = SearchPattern.createPattern(element, IJavaSearchConstants.REFERENCES);
+        if (pattern == null) {
+            return;
+        }
+        String label = JavaElementLabels.getElementLabel(element, JavaElementLabels.ALL_DEFAULT);
+        SearchParticipant[] participants = new SearchParticipant[] {SearchEngine.getDefaultSearchParticipant()};
+
+        List<Future<?>> partitions = new ArrayList<>();
+        for (IJavaSearchScope scope : createPartitionScopes(factory, isInsideJRE)) {
+            partitions.add(partitionExecutor.submit(() -> {
+                new SearchEngine().search(pattern, participants, scope, new StreamingRequestor(searchId, label, monitor, consumer), monitor);
+                return null;
+            }));
+        }
+        try {
+            for (Future<?> partition : partitions) {
+                try {
+                    partition.get();
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof Exception ? (Exception)e.getCause() : e;
                 }
-            } else if (javaElement instanceof IPackageDeclaration) {
-                ICompilationUnit ancestor = (ICompilationUnit)(javaElement).getAncestor(IJavaElement.COMPILATION_UNIT);
-                document = getDocument(ancestor);
+            }
+        } catch (Exception e) {
+            // stop searching in other partitions
+            monitor.setCanceled(true);
+            partitions.forEach(partition -> partition.cancel(true));
+            throw e;
+        }
+    }
 
+    /**
+     * Splits workspace scope into partitions by package fragment roots.
+     * Roots shared by several projects (e.g. libraries) are included into one partition only.
+     */
+    private List<IJavaSearchScope> createPartitionScopes(JavaSearchScopeFactory factory, boolean includeJRE) throws JavaModelException {
+        Map<IPath, IPackageFragmentRoot> roots = new LinkedHashMap<>();
+        for (IJavaProject project : JavaCore.create(ResourcesPlugin.getWorkspace().getRoot()).getJavaProjects()) {
+            for (IPackageFragmentRoot root : project.getAllPackageFragmentRoots()) {
+                if (includeJRE || !factory.isInsideJRE(root)) {
+                    roots.putIfAbsent(root.getPath(), root);
+                }
             }
-            converter.addElementToProjectHierarchy(javaElement);
-
-            Match[] matches = javaResult.getMatches(o);
-
-            List<org.eclipse.che.ide.ext.java.shared.dto.search.Match> matchList = new ArrayList<>();
-            for (Match match : matches) {
-                org.eclipse.che.ide.ext.java.shared.dto.search.Match dtoMatch = DtoFactory.newDto(
-                        org.eclipse.che.ide.ext.java.shared.dto.search.Match.class);
-                if (document != null) {
-                    IRegion lineInformation = document.getLineInformationOfOffset(match.getOffset());
-
-                    int offsetInLine = match.getOffset() - lineInformation.getOffset();
-                    Region matchInLine = DtoFactory.newDto(Region.class).withOffset(offsetInLine).withLength(match.getLength());
-                    dtoMatch.setMatchInLine(matchInLine);
-                    dtoMatch.setMatchLineNumber(document.getLineOfOffset(match.getOffset()));
-                    dtoMatch.setMatchedLine(document.get(lineInformation.getOffset(), lineInformation.getLength()));
+        }
+        int partitionsCount = Math.min(SEARCH_THREADS, roots.size());
+        if (partitionsCount <= 1) {
+            return Collections.singletonList(factory.createWorkspaceScope(includeJRE));
+        }
+
+        List<List<IJavaElement>> partitions = new ArrayList<>(partitionsCount);
+        for (int i = 0; i < partitionsCount; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        int i = 0;
+        for (IPackageFragmentRoot root : roots.values()) {
+            partitions.get(i++ % partitionsCount).add(root);
+        }
+        List<IJavaSearchScope> scopes = new ArrayList<>(partitionsCount);
+        for (List<IJavaElement> partition : partitions) {
+            scopes.add(SearchEngine.createJavaSearchScope(partition.toArray(new IJavaElement[partition.size()]), false));
+        }
+        return scopes;
+    }
+
+    private void addMatches(IJavaElement javaElement,
+                            Match[] matches,
+                            JavaElementToDtoConverter converter,
+                            Map<String, List<org.eclipse.che.ide.ext.java.shared.dto.search.Match>> mapMaches)
+            throws JavaModelException, BadLocationException {
+        IDocument document = null;
+        if (javaElement instanceof IMember) {
+            IMember member = ((IMember)javaElement);
+            if (member.isBinary()) {
+                if (member.getClassFile().getSource() != null) {
+                    document = new Document(member.getClassFile().getSource());
                 }
-                dtoMatch.setFileMatchRegion(
-                        DtoFactory.newDto(Region.class).withOffset(match.getOffset()).withLength(match.getLength()));
-                matchList.add(dtoMatch);
+            } else {
+                document = getDocument(member.getCompilationUnit());
+            }
+        } else if (javaElement instanceof IPackageDeclaration) {
+            ICompilationUnit ancestor = (ICompilationUnit)(javaElement).getAncestor(IJavaElement.COMPILATION_UNIT);
+            document = getDocument(ancestor);
 
+        }
+        converter.addElementToProjectHierarchy(javaElement);
+
+        List<org.eclipse.che.ide.ext.java.shared.dto.search.Match> matchList = new ArrayList<>();
+        for (Match match : matches) {
+            org.eclipse.che.ide.ext.java.shared.dto.search.Match dtoMatch = DtoFactory.newDto(
+                    org.eclipse.che.ide.ext.java.shared.dto.search.Match.class);
+            if (document != null) {
+                IRegion lineInformation = document.getLineInformationOfOffset(match.getOffset());
+
+                int offsetInLine = match.getOffset() - lineInformation.getOffset();
+                Region matchInLine = DtoFactory.newDto(Region.class).withOffset(offsetInLine).withLength(match.getLength());
+                dtoMatch.setMatchInLine(matchInLine);
+                dtoMatch.setMatchLineNumber(document.getLineOfOffset(match.getOffset()));
+                dtoMatch.setMatchedLine(document.get(lineInformation.getOffset(), lineInformation.getLength()));
             }
-            mapMaches.put(javaElement.getHandleIdentifier(), matchList);
+            dtoMatch.setFileMatchRegion(
+                    DtoFactory.newDto(Region.class).withOffset(match.getOffset()).withLength(match.getLength()));
+            matchList.add(dtoMatch);
+
         }
-        List<JavaProject> projects = converter.getProjects();
-        response.setProjects(projects);
-        response.setMatches(mapMaches);
-        response.setSearchElementLabel(JavaElementLabels.getElementLabel(element, JavaElementLabels.ALL_DEFAULT));
-        return response;
+        mapMaches.put(javaElement.getHandleIdentifier(), matchList);
     }
 
     private IDocument getDocument(ICompilationUnit ancestor) throws JavaModelException {
@@ -208,4 +419,90 @@ public class SearchManager {
             return false;
         }
     }
+
+    /**
+     * Collects matches of one compilation unit or class file and passes them to the consumer when matches
+     * of the next compilation unit or class file are reported or when search in partition is finished.
+     */
+    private class StreamingRequestor extends SearchRequestor {
+        private final String                         searchId;
+        private final String                         label;
+        private final IProgressMonitor               monitor;
+        private final Consumer<FindUsagesChunk>      consumer;
+        private final Map<IJavaElement, List<Match>> matches;
+
+        private IJavaElement currentTypeRoot;
+
+        StreamingRequestor(String searchId, String label, IProgressMonitor monitor, Consumer<FindUsagesChunk> consumer) {
+            this.searchId = searchId;
+            this.label = label;
+            this.monitor = monitor;
+            this.consumer = consumer;
+            this.matches = new LinkedHashMap<>();
+        }
+
+        @Override
+        public void acceptSearchMatch(SearchMatch match) throws CoreException {
+            IJavaElement enclosingElement = (IJavaElement)match.getElement();
+            if (enclosingElement == null) {
+                return;
+            }
+            IJavaElement typeRoot = enclosingElement.getAncestor(IJavaElement.COMPILATION_UNIT);
+            if (typeRoot == null) {
+                typeRoot = enclosingElement.getAncestor(IJavaElement.CLASS_FILE);
+            }
+            if (!Objects.equals(typeRoot, currentTypeRoot)) {
+                sendMatches();
+                currentTypeRoot = typeRoot;
+            }
+            matches.computeIfAbsent(enclosingElement, element -> new ArrayList<>())
+                   .add(new Match(enclosingElement, match.getOffset(), match.getLength()));
+        }
+
+        @Override
+        public void endReporting() {
+            sendMatches();
+        }
+
+        private void sendMatches() {
+            if (matches.isEmpty()) {
+                return;
+            }
+            if (monitor.isCanceled()) {
+                matches.clear();
+                return;
+            }
+            JavaElementToDtoConverter converter = new JavaElementToDtoConverter();
+            Map<String, List<org.eclipse.che.ide.ext.java.shared.dto.search.Match>> mapMaches = new HashMap<>();
+            try {
+                for (Map.Entry<IJavaElement, List<Match>> entry : matches.entrySet()) {
+                    addMatches(entry.getKey(), entry.getValue().toArray(new Match[entry.getValue().size()]), converter, mapMaches);
+                }
+                FindUsagesResponse usages = DtoFactory.newDto(FindUsagesResponse.class);
+                usages.setProjects(converter.getProjects());
+                usages.setMatches(mapMaches);
+                usages.setSearchElementLabel(label);
+                consumer.accept(DtoFactory.newDto(FindUsagesChunk.class).withSearchId(searchId).withUsages(usages));
+            } catch (JavaModelException | BadLocationException e) {
+                LOG.error("Can't report usages of " + label, e);
+            } finally {
+                matches.clear();
+            }
+        }
+    }
+
+    /** Progress monitor which may be cancelled from another thread. */
+    private static class CancellableMonitor extends NullProgressMonitor {
+        private volatile boolean cancelled;
+
+        @Override
+        public boolean isCanceled() {
+            return cancelled;
+        }
+
+        @Override
+        public void setCanceled(boolean cancelled) {
+            this.cancelled = cancelled;
+        }
+    }
 }
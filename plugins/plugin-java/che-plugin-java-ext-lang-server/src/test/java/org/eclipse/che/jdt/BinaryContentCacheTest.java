@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.jdt;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+public class BinaryContentCacheTest {
+
+    private File cacheDir;
+    private File jarsDir;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        cacheDir = Files.createTempDirectory("jdt-cache").toFile();
+        jarsDir = Files.createTempDirectory("jars").toFile();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        IoUtil.deleteRecursive(cacheDir);
+        IoUtil.deleteRecursive(jarsDir);
+    }
+
+    @Test
+    public void shouldReturnStoredContent() throws Exception {
+        BinaryContentCache cache = new BinaryContentCache(cacheDir.getPath(), 1024 * 1024);
+        IJavaElement element = elementInJar("lib.jar", "content of jar");
+
+        assertNull(cache.get("source", element, "a.b.C"));
+        cache.put("source", element, "a.b.C", "class C {}");
+
+        assertEquals(cache.get("source", element, "a.b.C"), "class C {}");
+        assertNull(cache.get("javadoc", element, "a.b.C"));
+        assertNull(cache.get("source", element, "a.b.D"));
+    }
+
+    @Test
+    public void shouldShareContentOfSameJarsAcrossCaches() throws Exception {
+        new BinaryContentCache(cacheDir.getPath(), 1024 * 1024)
+                .put("source", elementInJar("first.jar", "content of jar"), "a.b.C", "class C {}");
+
+        BinaryContentCache cache = new BinaryContentCache(cacheDir.getPath(), 1024 * 1024);
+
+        assertEquals(cache.get("source", elementInJar("second.jar", "content of jar"), "a.b.C"), "class C {}");
+        assertNull(cache.get("source", elementInJar("third.jar", "content of another jar"), "a.b.C"));
+    }
+
+    @Test
+    public void shouldNotCacheContentOfElementsOutsideOfJars() throws Exception {
+        BinaryContentCache cache = new BinaryContentCache(cacheDir.getPath(), 1024 * 1024);
+        IJavaElement element = mock(IJavaElement.class);
+
+        cache.put("source", element, "a.b.C", "class C {}");
+
+        assertNull(cache.get("source", element, "a.b.C"));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedEntries() throws Exception {
+        BinaryContentCache cache = new BinaryContentCache(cacheDir.getPath(), 90);
+        IJavaElement element = elementInJar("lib.jar", "content of jar");
+
+        cache.put("source", element, "first", "first");
+        cache.put("source", element, "second", "second");
+        // gzipped entry takes about 25 bytes, so only three entries fit into the cache
+        cache.get("source", element, "first");
+        cache.put("source", element, "third", "third");
+        cache.put("source", element, "fourth", "fourth");
+
+        assertEquals(cache.get("source", element, "first"), "first");
+        assertNull(cache.get("source", element, "second"));
+        assertEquals(cache.get("source", element, "fourth"), "fourth");
+    }
+
+    private IJavaElement elementInJar(String jarName, String jarContent) throws Exception {
+        File jar = new File(jarsDir, jarName);
+        Files.write(jar.toPath(), jarContent.getBytes(StandardCharsets.UTF_8));
+
+        IPackageFragmentRoot root = mock(IPackageFragmentRoot.class);
+        when(root.isArchive()).thenReturn(true);
+        when(root.getPath()).thenReturn(new Path(jar.getAbsolutePath()));
+
+        IJavaElement element = mock(IJavaElement.class);
+        when(element.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT)).thenReturn(root);
+        return element;
+    }
+}
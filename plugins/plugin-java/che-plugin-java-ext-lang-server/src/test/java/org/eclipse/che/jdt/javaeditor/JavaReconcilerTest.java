@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.jdt.javaeditor;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class JavaReconcilerTest {
+
+    private File           sourcesDir;
+    private IJavaProject   javaProject;
+    private JavaReconciler reconciler;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        sourcesDir = Files.createTempDirectory("sources").toFile();
+        javaProject = mock(IJavaProject.class);
+        when(javaProject.getPath()).thenReturn(new Path("/project"));
+        // listener of the java model isn't registered, tests notify reconciler about model changes directly
+        reconciler = new JavaReconciler(mock(SemanticHighlightingReconciler.class));
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        IoUtil.deleteRecursive(sourcesDir);
+    }
+
+    @Test
+    public void shouldReuseResultWhenNeitherFileNorModelChanged() throws Exception {
+        ICompilationUnit workingCopy = addSource("a.A", "class A {}");
+
+        ReconcileResult first = reconciler.reconcile(javaProject, "a.A");
+        ReconcileResult second = reconciler.reconcile(javaProject, "a.A");
+
+        assertNotNull(first);
+        assertSame(second, first);
+        verify(workingCopy, times(1)).reconcile(anyInt(), anyBoolean(), any(WorkingCopyOwner.class), any(IProgressMonitor.class));
+        verify(workingCopy.getBuffer(), never()).replace(anyInt(), anyInt(), anyString());
+    }
+
+    @Test
+    public void shouldReplaceOnlyChangedRegionOfBufferWhenFileChanged() throws Exception {
+        ICompilationUnit workingCopy = addSource("a.A", "class A { int a; }");
+        ReconcileResult first = reconciler.reconcile(javaProject, "a.A");
+
+        write("a.A", "class A { long a; }");
+        ReconcileResult second = reconciler.reconcile(javaProject, "a.A");
+
+        assertNotSame(second, first);
+        verify(workingCopy.getBuffer()).replace(10, 3, "long");
+        verify(workingCopy, times(2)).reconcile(anyInt(), anyBoolean(), any(WorkingCopyOwner.class), any(IProgressMonitor.class));
+    }
+
+    @Test
+    public void shouldDecodeFileWithCharsetOfResource() throws Exception {
+        ICompilationUnit workingCopy = addSource("a.A", "class A { }");
+        when(((IFile)workingCopy.getResource()).getCharset()).thenReturn("UTF-16");
+        reconciler.reconcile(javaProject, "a.A");
+
+        Files.write(new File(sourcesDir, "a.A").toPath(), "class A { String s = \"\u00e9\"; }".getBytes(StandardCharsets.UTF_16));
+        reconciler.reconcile(javaProject, "a.A");
+
+        verify(workingCopy.getBuffer()).replace(10, 0, "String s = \"\u00e9\"; ");
+    }
+
+    @Test
+    public void shouldReconcileAgainWhenJavaModelChanged() throws Exception {
+        ICompilationUnit workingCopy = addSource("a.A", "class A {}");
+        ReconcileResult first = reconciler.reconcile(javaProject, "a.A");
+
+        reconciler.onJavaModelChanged();
+        ReconcileResult second = reconciler.reconcile(javaProject, "a.A");
+
+        assertNotSame(second, first);
+        verify(workingCopy, times(2)).reconcile(anyInt(), anyBoolean(), any(WorkingCopyOwner.class), any(IProgressMonitor.class));
+    }
+
+    @Test
+    public void shouldDiscardLeastRecentlyUsedWorkingCopyWhenCacheIsFull() throws Exception {
+        List<ICompilationUnit> workingCopies = new ArrayList<>();
+        for (int i = 0; i <= 50; i++) {
+            workingCopies.add(addSource("a.A" + i, "class A" + i + " {}"));
+        }
+        for (int i = 0; i < 50; i++) {
+            reconciler.reconcile(javaProject, "a.A" + i);
+        }
+        // touch the first copy so the second one becomes the least recently used
+        reconciler.reconcile(javaProject, "a.A0");
+
+        reconciler.reconcile(javaProject, "a.A50");
+
+        verify(workingCopies.get(1)).discardWorkingCopy();
+        verify(workingCopies.get(0), never()).discardWorkingCopy();
+        verify(workingCopies.get(50), never()).discardWorkingCopy();
+    }
+
+    @Test
+    public void shouldDiscardWorkingCopyWhenFileIsRemoved() throws Exception {
+        ICompilationUnit workingCopy = addSource("a.A", "class A {}");
+        reconciler.reconcile(javaProject, "a.A");
+
+        when(workingCopy.getResource().exists()).thenReturn(false);
+
+        assertNull(reconciler.reconcile(javaProject, "a.A"));
+        verify(workingCopy).discardWorkingCopy();
+    }
+
+    @Test
+    public void shouldDiscardAllWorkingCopiesOnStop() throws Exception {
+        ICompilationUnit first = addSource("a.A", "class A {}");
+        ICompilationUnit second = addSource("a.B", "class B {}");
+        reconciler.reconcile(javaProject, "a.A");
+        reconciler.reconcile(javaProject, "a.B");
+
+        reconciler.discardWorkingCopies();
+
+        verify(first).discardWorkingCopy();
+        verify(second).discardWorkingCopy();
+    }
+
+    private ICompilationUnit addSource(String fqn, String content) throws Exception {
+        File file = write(fqn, content);
+
+        IFile resource = mock(IFile.class);
+        when(resource.exists()).thenReturn(true);
+        when(resource.getLocation()).thenReturn(new Path(file.getAbsolutePath()));
+        when(resource.getCharset()).thenReturn("UTF-8");
+
+        IBuffer buffer = mock(IBuffer.class);
+        when(buffer.getContents()).thenReturn(content);
+
+        ICompilationUnit workingCopy = mock(ICompilationUnit.class);
+        when(workingCopy.getResource()).thenReturn(resource);
+        when(workingCopy.getBuffer()).thenReturn(buffer);
+        when(workingCopy.isWorkingCopy()).thenReturn(true);
+
+        ICompilationUnit compilationUnit = mock(ICompilationUnit.class);
+        when(compilationUnit.getWorkingCopy(any(WorkingCopyOwner.class), any())).thenReturn(workingCopy);
+
+        IType type = mock(IType.class);
+        when(type.isBinary()).thenReturn(false);
+        when(type.getCompilationUnit()).thenReturn(compilationUnit);
+        when(javaProject.findType(fqn)).thenReturn(type);
+        return workingCopy;
+    }
+
+    private File write(String fqn, String content) throws Exception {
+        File file = new File(sourcesDir, fqn);
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server;
+
+import org.eclipse.che.ide.ext.java.shared.dto.ProposalPresentation;
+import org.eclipse.che.ide.ext.java.shared.dto.Proposals;
+import org.eclipse.che.jface.text.contentassist.ICompletionProposal;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaModelException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests for cancellation and bounding of completion requests in {@link CodeAssist}.
+ */
+public class CodeAssistTest {
+
+    private IJavaProject       project;
+    private ExecutorService    requests;
+    private BlockingCodeAssist codeAssist;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        project = mock(IJavaProject.class);
+        when(project.getPath()).thenReturn(new Path("/project"));
+        requests = Executors.newCachedThreadPool();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        codeAssist.release();
+        codeAssist.shutdown();
+        requests.shutdownNow();
+    }
+
+    @Test
+    public void shouldCancelRequestInProgressWhenNewRequestForSameFileArrives() throws Exception {
+        codeAssist = new BlockingCodeAssist(2, 10);
+        Future<Proposals> first = computeProposals("a.A", 1);
+        codeAssist.awaitStarted(1);
+
+        Future<Proposals> second = computeProposals("a.A", 2);
+        codeAssist.awaitStarted(2);
+
+        Proposals cancelled = first.get(5, TimeUnit.SECONDS);
+        assertNull(cancelled.getSessionId());
+        assertTrue(cancelled.getProposals().isEmpty());
+        assertTrue(codeAssist.monitors.get(1).isCanceled());
+
+        codeAssist.release();
+        assertNotNull(second.get(5, TimeUnit.SECONDS).getSessionId());
+        assertFalse(codeAssist.monitors.get(2).isCanceled());
+    }
+
+    @Test
+    public void shouldNotCancelRequestForOtherFile() throws Exception {
+        codeAssist = new BlockingCodeAssist(2, 10);
+        Future<Proposals> first = computeProposals("a.A", 1);
+        codeAssist.awaitStarted(1);
+
+        Future<Proposals> second = computeProposals("a.B", 2);
+        codeAssist.awaitStarted(2);
+        assertFalse(codeAssist.monitors.get(1).isCanceled());
+
+        codeAssist.release();
+        assertNotNull(first.get(5, TimeUnit.SECONDS).getSessionId());
+        assertNotNull(second.get(5, TimeUnit.SECONDS).getSessionId());
+    }
+
+    @Test
+    public void shouldRejectRequestWhenAllWorkersAreBusyAndQueueIsFull() throws Exception {
+        codeAssist = new BlockingCodeAssist(1, 1);
+        Future<Proposals> running = computeProposals("a.A", 1);
+        codeAssist.awaitStarted(1);
+        Future<Proposals> queued = computeProposals("a.B", 2);
+        // wait until the second request takes the only place in the queue
+        long deadline = System.currentTimeMillis() + 5000;
+        while (codeAssist.executor.getQueue().isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        try {
+            computeProposals("a.C", 3).get(5, TimeUnit.SECONDS);
+            fail("Request must be rejected when there is no free worker and place in the queue");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof JavaModelException);
+        }
+
+        codeAssist.release();
+        assertNotNull(running.get(5, TimeUnit.SECONDS).getSessionId());
+        assertNotNull(queued.get(5, TimeUnit.SECONDS).getSessionId());
+    }
+
+    @Test
+    public void shouldReturnProposalsPageByPage() throws Exception {
+        codeAssist = new BlockingCodeAssist(1, 1);
+        List<ICompletionProposal> proposals = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            ICompletionProposal proposal = mock(ICompletionProposal.class);
+            when(proposal.getDisplayString()).thenReturn("proposal" + i);
+            when(proposal.getAdditionalProposalInfo()).thenReturn("javadoc" + i);
+            proposals.add(proposal);
+        }
+
+        Proposals first = codeAssist.convertProposals(0, null, null, proposals);
+        Proposals second = codeAssist.getProposals(first.getSessionId(), CodeAssist.PROPOSALS_PAGE_SIZE);
+        Proposals last = codeAssist.getProposals(first.getSessionId(), 2 * CodeAssist.PROPOSALS_PAGE_SIZE);
+
+        assertTrue(first.isIncomplete());
+        assertTrue(second.isIncomplete());
+        assertFalse(last.isIncomplete());
+        List<ProposalPresentation> presentations = new ArrayList<>();
+        presentations.addAll(first.getProposals());
+        presentations.addAll(second.getProposals());
+        presentations.addAll(last.getProposals());
+        assertEquals(first.getProposals().size(), CodeAssist.PROPOSALS_PAGE_SIZE);
+        assertEquals(presentations.size(), 1200);
+        for (int i = 0; i < presentations.size(); i++) {
+            assertEquals(presentations.get(i).getIndex(), i);
+            assertEquals(presentations.get(i).getDisplayString(), "proposal" + i);
+        }
+        // proposals of the next pages are applied by their absolute index
+        assertEquals(codeAssist.getJavaDoc(first.getSessionId(), 1199), "javadoc1199");
+    }
+
+    @Test
+    public void shouldReturnAllProposalsAtOnceWhenTheyFitInOnePage() throws Exception {
+        codeAssist = new BlockingCodeAssist(1, 1);
+        List<ICompletionProposal> proposals = new ArrayList<>();
+        for (int i = 0; i < CodeAssist.PROPOSALS_PAGE_SIZE; i++) {
+            proposals.add(mock(ICompletionProposal.class));
+        }
+
+        Proposals result = codeAssist.convertProposals(0, null, null, proposals);
+
+        assertEquals(result.getProposals().size(), CodeAssist.PROPOSALS_PAGE_SIZE);
+        assertFalse(result.isIncomplete());
+    }
+
+    private Future<Proposals> computeProposals(String fqn, int offset) {
+        return requests.submit(() -> codeAssist.computeProposals(project, fqn, offset, ""));
+    }
+
+    /**
+     * Computation of the proposals blocks until it is cancelled or released, offset identifies the request.
+     */
+    private static class BlockingCodeAssist extends CodeAssist {
+        final Map<Integer, IProgressMonitor> monitors = new ConcurrentHashMap<>();
+
+        private final Map<Integer, CountDownLatch> started = new ConcurrentHashMap<>();
+        private final CountDownLatch               release = new CountDownLatch(1);
+
+        BlockingCodeAssist(int workers, int queueSize) {
+            super(workers, queueSize);
+        }
+
+        @Override
+        Proposals computeProposals(IJavaProject project, String fqn, int offset, String content, IProgressMonitor monitor) {
+            monitors.put(offset, monitor);
+            startedLatch(offset).countDown();
+            try {
+                while (!release.await(10, TimeUnit.MILLISECONDS)) {
+                    if (monitor.isCanceled()) {
+                        throw new OperationCanceledException();
+                    }
+                }
+            } catch (InterruptedException e) {
+                throw new OperationCanceledException();
+            }
+            return convertProposals(offset, null, null, Collections.emptyList());
+        }
+
+        void awaitStarted(int offset) throws InterruptedException {
+            assertTrue(startedLatch(offset).await(5, TimeUnit.SECONDS), "Request " + offset + " isn't started");
+        }
+
+        void release() {
+            release.countDown();
+        }
+
+        private CountDownLatch startedLatch(int offset) {
+            return started.computeIfAbsent(offset, k -> new CountDownLatch(1));
+        }
+    }
+}
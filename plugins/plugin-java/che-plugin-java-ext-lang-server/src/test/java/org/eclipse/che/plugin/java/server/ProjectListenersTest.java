@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server;
+
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.project.server.ProjectRegistry;
+import org.eclipse.che.api.project.server.RegisteredProject;
+import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent;
+import org.eclipse.che.api.project.server.type.ProjectTypeDef;
+import org.eclipse.che.api.project.server.type.ProjectTypeRegistry;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent.EventType.CREATED;
+import static org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent.EventType.DELETED;
+import static org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent.EventType.UPDATED;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for debouncing and merging of project item changes before they are applied to the java model.
+ */
+public class ProjectListenersTest {
+
+    private BlockingQueue<List<ProjectItemModifiedEvent>> batches;
+    private ProjectRegistry                               projectRegistry;
+    private ProjectTypeRegistry                           projectTypeRegistry;
+    private ProjectListeners                              listeners;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        ProjectTypeDef javaType = mock(ProjectTypeDef.class);
+        when(javaType.isTypeOf("java")).thenReturn(true);
+        projectTypeRegistry = mock(ProjectTypeRegistry.class);
+        when(projectTypeRegistry.getProjectType("java")).thenReturn(javaType);
+        RegisteredProject project = mock(RegisteredProject.class);
+        when(project.getType()).thenReturn("java");
+        projectRegistry = mock(ProjectRegistry.class);
+        when(projectRegistry.getProject(anyString())).thenReturn(project);
+
+        batches = new LinkedBlockingQueue<>();
+        // changes are applied on explicit flush only, unless the test needs debouncing
+        listeners = newListeners(TimeUnit.MINUTES.toMillis(1));
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        listeners.shutdown();
+    }
+
+    @Test
+    public void shouldApplyBurstOfChangesAsOneBatch() throws Exception {
+        listeners.shutdown();
+        listeners = newListeners(100);
+        listeners.handleEvent(event(CREATED, "/test/A.java", false));
+        listeners.handleEvent(event(UPDATED, "/test/B.java", false));
+        listeners.handleEvent(event(DELETED, "/test/C.java", false));
+
+        List<ProjectItemModifiedEvent> batch = batches.poll(5, TimeUnit.SECONDS);
+
+        assertNotNull(batch);
+        assertEquals(paths(batch), asList("CREATED /test/A.java", "UPDATED /test/B.java", "DELETED /test/C.java"));
+        assertNull(batches.poll(300, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void shouldApplyChangesImmediatelyWhenBatchIsFull() throws Exception {
+        for (int i = 0; i < ProjectListeners.MAX_BATCH_SIZE; i++) {
+            listeners.handleEvent(event(UPDATED, "/test/A" + i + ".java", false));
+        }
+
+        // applied by the thread which sent the last event, before the debounce delay
+        List<ProjectItemModifiedEvent> batch = batches.poll();
+        assertNotNull(batch);
+        assertEquals(batch.size(), ProjectListeners.MAX_BATCH_SIZE);
+        assertEquals(listeners.getBatchesCount(), 1);
+        assertEquals(listeners.getMaxBatchSize(), ProjectListeners.MAX_BATCH_SIZE);
+    }
+
+    @Test
+    public void shouldMergeChangesOfSamePath() throws Exception {
+        listeners.handleEvent(event(UPDATED, "/test/A.java", false));
+        listeners.handleEvent(event(UPDATED, "/test/A.java", false));
+        // created and then updated item is still new for the java model
+        listeners.handleEvent(event(CREATED, "/test/B.java", false));
+        listeners.handleEvent(event(UPDATED, "/test/B.java", false));
+        // java model never saw created and then deleted item
+        listeners.handleEvent(event(CREATED, "/test/C.java", false));
+        listeners.handleEvent(event(DELETED, "/test/C.java", false));
+        // file which is deleted and created again is updated
+        listeners.handleEvent(event(DELETED, "/test/D.java", false));
+        listeners.handleEvent(event(CREATED, "/test/D.java", false));
+
+        listeners.flush();
+
+        assertEquals(paths(batches.poll()), asList("UPDATED /test/A.java", "CREATED /test/B.java", "UPDATED /test/D.java"));
+        assertTrue(batches.isEmpty());
+        assertEquals(listeners.getReceivedEventsCount(), 8);
+        assertEquals(listeners.getBatchesCount(), 1);
+        assertEquals(listeners.getAppliedEventsCount(), 3);
+        assertEquals(listeners.getMaxBatchSize(), 3);
+    }
+
+    @Test
+    public void shouldApplyRemovalOfFolderBeforeItIsCreatedAgain() throws Exception {
+        listeners.handleEvent(event(UPDATED, "/test/A.java", false));
+        listeners.handleEvent(event(DELETED, "/test/src", true));
+        listeners.handleEvent(event(CREATED, "/test/src", true));
+
+        assertEquals(paths(batches.poll()), asList("UPDATED /test/A.java", "DELETED /test/src"));
+
+        listeners.flush();
+
+        assertEquals(paths(batches.poll()), asList("CREATED /test/src"));
+        assertTrue(batches.isEmpty());
+        assertEquals(listeners.getReceivedEventsCount(), 3);
+        assertEquals(listeners.getBatchesCount(), 2);
+        assertEquals(listeners.getAppliedEventsCount(), 3);
+        assertEquals(listeners.getMaxBatchSize(), 2);
+    }
+
+    @Test
+    public void shouldMeasureTimeOfApplyingChanges() throws Exception {
+        listeners.shutdown();
+        final long debounceDelay = TimeUnit.MINUTES.toMillis(1);
+        listeners = new ProjectListeners("/projects", new EventService(), projectRegistry, projectTypeRegistry, debounceDelay) {
+            @Override
+            void apply(List<ProjectItemModifiedEvent> events) {
+                try {
+                    // a bit longer than checked below, system clock may be coarse
+                    Thread.sleep(60);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        listeners.handleEvent(event(UPDATED, "/test/A.java", false));
+        listeners.flush();
+        listeners.handleEvent(event(UPDATED, "/test/B.java", false));
+        listeners.flush();
+
+        assertTrue(listeners.getLastProcessingTime() >= 50);
+        assertTrue(listeners.getTotalProcessingTime() >= 100);
+        assertTrue(listeners.getTotalProcessingTime() >= listeners.getLastProcessingTime());
+    }
+
+    @Test
+    public void shouldNotApplyAnythingWhenAllChangesCancelEachOther() throws Exception {
+        listeners.handleEvent(event(CREATED, "/test/A.java", false));
+        listeners.handleEvent(event(DELETED, "/test/A.java", false));
+
+        listeners.flush();
+
+        assertNull(batches.poll(300, TimeUnit.MILLISECONDS));
+        assertEquals(listeners.getReceivedEventsCount(), 2);
+        assertEquals(listeners.getBatchesCount(), 0);
+        assertEquals(listeners.getAppliedEventsCount(), 0);
+    }
+
+    private ProjectListeners newListeners(long debounceDelay) {
+        return new ProjectListeners("/projects", new EventService(), projectRegistry, projectTypeRegistry, debounceDelay) {
+            @Override
+            void apply(List<ProjectItemModifiedEvent> events) {
+                batches.add(events);
+            }
+        };
+    }
+
+    private static ProjectItemModifiedEvent event(ProjectItemModifiedEvent.EventType type, String path, boolean folder) {
+        return new ProjectItemModifiedEvent(type, "workspace", "test", path, folder);
+    }
+
+    private static List<String> paths(List<ProjectItemModifiedEvent> batch) {
+        assertNotNull(batch);
+        List<String> result = new ArrayList<>();
+        for (ProjectItemModifiedEvent event : batch) {
+            result.add(event.getType() + " " + event.getPath());
+        }
+        return result;
+    }
+}
@@ -14,6 +14,7 @@ package org.eclipse.che.plugin.java.server.jdt.search;
 import org.eclipse.che.ide.ext.java.shared.dto.model.CompilationUnit;
 import org.eclipse.che.ide.ext.java.shared.dto.model.PackageFragment;
 import org.eclipse.che.ide.ext.java.shared.dto.model.PackageFragmentRoot;
+import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesChunk;
 import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesResponse;
 import org.eclipse.che.plugin.java.server.che.BaseTest;
 import org.eclipse.che.plugin.java.server.search.SearchException;
@@ -33,6 +34,9 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Evgen Vidolob
@@ -171,4 +175,37 @@ public class FindReferencesTest extends BaseTest {
         Assertions.assertThat(compilationUnit.getTypes()).hasSize(2);
 
     }
+
+    @Test
+    public void testSearchManagerStreamingFindUsage() throws Exception {
+        IJavaProject aProject = JUnitSourceSetup.getProject();
+        IPackageFragmentRoot root = ((JavaProject)aProject).getPackageFragmentRoot(new Path(JUnitSourceSetup.SRC_CONTAINER));
+        IPackageFragment packageFragment = root.createPackageFragment("che", true, null);
+        packageFragment.createCompilationUnit("A.java", "package che;\npublic class A{}\n", true, null);
+        packageFragment.createCompilationUnit("B.java", "package che;\npublic class B extends A{\n   private A a = null;\n}\n", true, null);
+        packageFragment.createCompilationUnit("C.java", "package che;\npublic class C{\n   A a = new A();\n}\n", true, null);
+
+        SearchManager manager = new SearchManager();
+        BlockingQueue<FindUsagesChunk> chunks = new LinkedBlockingQueue<>();
+        String searchId = manager.findUsage(aProject, "che.A", 26, chunks::add);
+
+        int units = 0;
+        int matches = 0;
+        FindUsagesChunk chunk;
+        while (!(chunk = chunks.poll(30, TimeUnit.SECONDS)).isLast()) {
+            Assertions.assertThat(chunk.getSearchId()).isEqualTo(searchId);
+            Assertions.assertThat(chunk.getUsages().getSearchElementLabel()).isEqualTo("A");
+            units++;
+            for (List<org.eclipse.che.ide.ext.java.shared.dto.search.Match> elementMatches : chunk.getUsages().getMatches().values()) {
+                matches += elementMatches.size();
+            }
+        }
+
+        Assertions.assertThat(chunk.isCancelled()).isFalse();
+        Assertions.assertThat(chunk.getError()).isNull();
+        Assertions.assertThat(units).isEqualTo(2);
+        Assertions.assertThat(matches).isEqualTo(4);
+        Assertions.assertThat(manager.cancelSearch(searchId)).isFalse();
+        manager.shutdown();
+    }
 }
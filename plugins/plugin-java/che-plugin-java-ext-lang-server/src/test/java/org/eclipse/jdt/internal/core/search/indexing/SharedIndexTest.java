@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.search.indexing;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.internal.core.index.IndexLocation;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for indexes of jars shared between workspaces, see {@link IndexManager#SHARED_INDEX_LOCATION_PROPERTY}.
+ */
+public class SharedIndexTest {
+
+    private File root;
+    private File sharedDir;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        root = Files.createTempDirectory("shared-index").toFile();
+        sharedDir = new File(root, "shared");
+        sharedDir.mkdirs();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        IoUtil.deleteRecursive(root);
+    }
+
+    @Test
+    public void shouldUseSharedIndexOfJarWithSameContent() throws Exception {
+        IPath jar = write("lib.jar", "content of jar");
+        File sharedIndex = write("shared/" + sha1("content of jar") + ".index", "index").toFile();
+
+        assertEquals(newIndexManager("first").computeSharedIndexURL(jar), sharedIndex.toURI().toURL());
+    }
+
+    @Test
+    public void shouldDetachChangedJarFromSharedIndex() throws Exception {
+        IPath jar = write("lib.jar", "content of jar");
+        File sharedIndex = write("shared/" + sha1("content of jar") + ".index", "index").toFile();
+        IndexManager manager = newIndexManager("first");
+        manager.indexLocations.put(jar, IndexLocation.createIndexLocation(manager.computeSharedIndexURL(jar)));
+
+        write("lib.jar", "changed content of jar");
+
+        assertNull(manager.computeSharedIndexURL(jar));
+        assertNull(manager.indexLocations.get(jar));
+        // index of the previous content is still valid for other workspaces
+        assertTrue(sharedIndex.isFile());
+    }
+
+    @Test
+    public void shouldPublishIndexOnceWhenSeveralWorkspacesWriteIt() throws Exception {
+        IPath jar = write("lib.jar", "content of jar");
+        int writers = 8;
+        List<IndexManager> managers = new ArrayList<>();
+        List<File> indexFiles = new ArrayList<>();
+        for (int i = 0; i < writers; i++) {
+            managers.add(newIndexManager("workspace" + i));
+            indexFiles.add(write("workspace" + i + "/lib.index", "index of jar").toFile());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                IndexManager manager = managers.get(i);
+                File indexFile = indexFiles.get(i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    manager.publishSharedIndex(jar, indexFile);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        String[] published = sharedDir.list();
+        assertEquals(published.length, 1);
+        assertEquals(published[0], sha1("content of jar") + ".index");
+        assertEquals(new String(Files.readAllBytes(new File(sharedDir, published[0]).toPath()), StandardCharsets.UTF_8),
+                     "index of jar");
+        assertEquals(newIndexManager("reader").computeSharedIndexURL(jar), new File(sharedDir, published[0]).toURI().toURL());
+    }
+
+    private IndexManager newIndexManager(String workspace) {
+        File indexDir = new File(root, workspace);
+        indexDir.mkdirs();
+        return new IndexManager(indexDir.getAbsolutePath(), sharedDir.getAbsolutePath());
+    }
+
+    private IPath write(String path, String content) throws Exception {
+        File file = new File(root, path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return new Path(file.getAbsolutePath());
+    }
+
+    private static String sha1(String content) throws Exception {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : MessageDigest.getInstance("SHA-1").digest(content.getBytes(StandardCharsets.UTF_8))) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
@@ -27,4 +27,9 @@ public interface Proposals {
 
     void setProposals(List<ProposalPresentation> proposals);
 
+    /** @return {@code true} if only part of the proposals is returned, the rest can be retrieved by the session id */
+    boolean isIncomplete();
+
+    void setIncomplete(boolean incomplete);
+
 }
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.ext.java.shared.dto.search;
+
+import org.eclipse.che.dto.shared.DTO;
+
+/**
+ * Part of the result of streaming find usages search.
+ * Each chunk contains usages found in one compilation unit or class file,
+ * the last chunk of the search has no usages and is marked with {@link #isLast()}.
+ */
+@DTO
+public interface FindUsagesChunk {
+
+    /** @return id of the search */
+    String getSearchId();
+
+    /**
+     * Sets id of the search.
+     *
+     * @param searchId
+     *         the search id
+     */
+    void setSearchId(String searchId);
+
+    FindUsagesChunk withSearchId(String searchId);
+
+    /** @return usages found in one compilation unit or class file */
+    FindUsagesResponse getUsages();
+
+    /**
+     * Sets usages.
+     *
+     * @param usages
+     *         the usages
+     */
+    void setUsages(FindUsagesResponse usages);
+
+    FindUsagesChunk withUsages(FindUsagesResponse usages);
+
+    /** @return {@code true} if this is the last chunk of the search */
+    boolean isLast();
+
+    /**
+     * Marks chunk as the last one.
+     *
+     * @param last
+     *         {@code true} if this is the last chunk of the search
+     */
+    void setLast(boolean last);
+
+    FindUsagesChunk withLast(boolean last);
+
+    /** @return {@code true} if the search was cancelled */
+    boolean isCancelled();
+
+    /**
+     * Sets cancelled state of the search.
+     *
+     * @param cancelled
+     *         {@code true} if the search was cancelled
+     */
+    void setCancelled(boolean cancelled);
+
+    FindUsagesChunk withCancelled(boolean cancelled);
+
+    /** @return error message if the search was failed, {@code null} otherwise */
+    String getError();
+
+    /**
+     * Sets error message.
+     *
+     * @param error
+     *         the error message
+     */
+    void setError(String error);
+
+    FindUsagesChunk withError(String error);
+}
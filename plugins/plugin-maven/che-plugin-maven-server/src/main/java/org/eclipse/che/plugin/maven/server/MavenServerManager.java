@@ -14,6 +14,7 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 
+import org.eclipse.che.commons.schedule.ScheduleRate;
 import org.eclipse.che.maven.data.MavenModel;
 import org.eclipse.che.maven.server.MavenRemoteServer;
 import org.eclipse.che.maven.server.MavenServer;
@@ -39,26 +40,66 @@ import java.rmi.RemoteException;
 import java.rmi.server.UnicastRemoteObject;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * Manages pool of maven server processes.
+ * <p/>
+ * Pool has fixed number of processes, all of them are started by {@link #checkServers()} right after the manager is created,
+ * so the first import doesn't wait for JVM start. Process which isn't started yet is started lazily by the first task. Each {@link MavenServerWrapper} is bound to one process of the pool, the least loaded one.
+ * Process is restarted when it doesn't respond, when it has run configured number of tasks or when its heap usage is above
+ * the configured threshold. Process is never restarted while it runs a task, wrappers bound to the restarted process recreate
+ * their remote objects in the new process on the next call.
+ *
  * @author Evgen Vidolob
  */
 @Singleton
-public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
+public class MavenServerManager {
     private static final Logger LOG               = LoggerFactory.getLogger(MavenServerManager.class);
     private static final String MAVEN_SERVER_MAIN = "org.eclipse.che.maven.server.MavenServerMain";
 
-    private RmiClient<MavenRemoteServer> client;
-    private RmiLogger                      rmiLogger           = new RmiLogger();
-    private RmiMavenServerDownloadListener rmiDownloadListener = new RmiMavenServerDownloadListener();
+    private final RmiClient<MavenRemoteServer>   client;
+    private final List<MavenServerProcess>       processes;
+    private final AtomicInteger                  nextProcess         = new AtomicInteger();
+    private final int                            maxTasks;
+    private final int                            maxMemoryPercent;
+    private final String                         maxHeapSize;
+    private final RmiLogger                      rmiLogger           = new RmiLogger();
+    private final RmiMavenServerDownloadListener rmiDownloadListener = new RmiMavenServerDownloadListener();
+
     private boolean loggerExported;
     private boolean listenerExported;
     private String  mavenServerPath;
     private File    localRepository;
 
+    /** Creates manager with single maven server process which is never restarted unless it fails. */
+    public MavenServerManager(String mavenServerPath) {
+        this(mavenServerPath, 1, 0, 0, "512m");
+    }
+
+    /**
+     * @param mavenServerPath
+     *         path to the directory with maven server jars
+     * @param poolSize
+     *         number of maven server processes
+     * @param maxTasks
+     *         number of tasks after which process is restarted, {@code 0} means no limit
+     * @param maxMemoryPercent
+     *         percent of the heap used by process after which process is restarted, {@code 0} means no limit
+     * @param maxHeapSize
+     *         max heap size of each process in the format of {@code -Xmx} option, e.g. {@code 512m}
+     */
     @Inject
-    public MavenServerManager(@Named("che.maven.server.path") String mavenServerPath) {
+    public MavenServerManager(@Named("che.maven.server.path") String mavenServerPath,
+                              @Named("che.maven.server.pool.size") int poolSize,
+                              @Named("che.maven.server.pool.max_tasks") int maxTasks,
+                              @Named("che.maven.server.pool.max_memory_percent") int maxMemoryPercent,
+                              @Named("che.maven.server.max_heap_size") String maxHeapSize) {
         this.mavenServerPath = mavenServerPath;
+        this.maxTasks = maxTasks;
+        this.maxMemoryPercent = maxMemoryPercent;
+        this.maxHeapSize = maxHeapSize;
 
         client = new RmiClient<MavenRemoteServer>(MavenRemoteServer.class) {
             @Override
@@ -66,6 +107,11 @@ public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
                 return createExecutor();
             }
         };
+
+        processes = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, poolSize); i++) {
+            processes.add(new MavenServerProcess(i));
+        }
     }
 
     private static void addDirToClasspath(List<String> classPath, File dir) {
@@ -91,20 +137,46 @@ public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
     }
 
     public MavenServerWrapper createMavenServer() {
-        return new MavenServerWrapper() {
-            @Override
-            protected MavenServer create() throws RemoteException {
-                MavenSettings mavenSettings = new MavenSettings();
-                //TODO add more user settings
-                mavenSettings.setMavenHome(new File(System.getenv("M2_HOME")));
-                mavenSettings.setGlobalSettings(new File(System.getProperty("user.home"), ".m2/settings.xml"));
-                mavenSettings.setLoggingLevel(MavenTerminal.LEVEL_INFO);
-                if (localRepository != null) {
-                    mavenSettings.setLocalRepository(localRepository);
-                }
-                return MavenServerManager.this.getOrCreateWrappedObject().createServer(mavenSettings);
+        MavenServerProcess process = null;
+        for (MavenServerProcess candidate : processes) {
+            if (process == null || candidate.wrappers.get() < process.wrappers.get()) {
+                process = candidate;
             }
-        };
+        }
+        process.wrappers.incrementAndGet();
+        return new PooledMavenServerWrapper(process);
+    }
+
+    /**
+     * Must be called before the wrapper is used for a task, process of such wrapper isn't restarted until
+     * {@link #taskFinished(MavenServerWrapper)} is called.
+     */
+    public void taskStarted(MavenServerWrapper wrapper) {
+        if (wrapper instanceof PooledMavenServerWrapper) {
+            ((PooledMavenServerWrapper)wrapper).process.taskStarted();
+        }
+    }
+
+    /** Must be called after the wrapper has finished the task, restarts the process of the wrapper if needed. */
+    public void taskFinished(MavenServerWrapper wrapper) {
+        if (wrapper instanceof PooledMavenServerWrapper) {
+            ((PooledMavenServerWrapper)wrapper).process.taskFinished();
+        }
+    }
+
+    /** Must be called when the wrapper isn't used anymore. */
+    public void disposed(MavenServerWrapper wrapper) {
+        if (wrapper instanceof PooledMavenServerWrapper) {
+            ((PooledMavenServerWrapper)wrapper).process.wrappers.decrementAndGet();
+        }
+    }
+
+    /** Starts processes of the pool which aren't running and restarts processes which don't respond or use too much memory. */
+    @ScheduleRate(initialDelay = 0, period = 30, unit = TimeUnit.SECONDS)
+    public void checkServers() {
+        for (MavenServerProcess process : processes) {
+            process.check();
+        }
     }
 
     /**
@@ -117,23 +189,23 @@ public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
     }
 
     public MavenModel interpolateModel(MavenModel model, File projectDir) {
-        return perform(() -> getOrCreateWrappedObject().interpolateModel(model, projectDir));
+        MavenServerProcess process = processes.get(Math.floorMod(nextProcess.getAndIncrement(), processes.size()));
+        process.taskStarted();
+        try {
+            return perform(process, () -> process.getServer().interpolateModel(model, projectDir));
+        } finally {
+            process.taskFinished();
+        }
     }
 
     @PreDestroy
     public void shutdown() {
         client.stopAll(false);
-        cleanUp();
+        processes.forEach(MavenServerProcess::stop);
+        unexportCallbacks();
     }
 
-    @Override
-    protected MavenRemoteServer create() throws RemoteException {
-        MavenRemoteServer server;
-        try {
-            server = client.acquire(this, "");
-        } catch (Exception e) {
-            throw new RemoteException("Can't start maven server", e);
-        }
+    private synchronized void exportCallbacks() throws RemoteException {
         if (!loggerExported) {
             Remote loggerRemote = UnicastRemoteObject.exportObject(rmiLogger, 0);
             if (!(loggerExported = loggerRemote != null)) {
@@ -147,15 +219,9 @@ public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
             }
         }
 
-        server.configure(rmiLogger, rmiDownloadListener);
-
-        return server;
     }
 
-    @Override
-    protected synchronized void cleanUp() {
-        super.cleanUp();
-
+    private synchronized void unexportCallbacks() {
         if (loggerExported) {
             try {
                 UnicastRemoteObject.unexportObject(rmiLogger, true);
@@ -202,19 +268,29 @@ public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
 
         parameters.getClassPath().addAll(classPath);
 
-        parameters.getVmParameters().add("-Xmx512m");
+        parameters.getVmParameters().add("-Xmx" + maxHeapSize);
 
         return parameters;
     }
 
-    private <T> T perform(RunnableRemoteWithResult<T> runnable) {
+    /** Starts maven server process with the given index in the pool and connects to it. */
+    protected MavenRemoteServer acquireServer(int id) throws Exception {
+        return client.acquire(this, id);
+    }
+
+    /** Stops maven server process with the given index in the pool. */
+    protected void stopServer(int id) {
+        client.stop(this, id);
+    }
+
+    private <T> T perform(MavenServerProcess process, RunnableRemoteWithResult<T> runnable) {
         RemoteException exception = null;
         for (int i = 0; i < 2; i++) {
             try {
                 return runnable.perform();
             } catch (RemoteException e) {
                 exception = e;
-                onError();
+                process.failed();
             }
         }
         throw new RuntimeException(exception);
@@ -225,6 +301,118 @@ public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
         T perform() throws RemoteException;
     }
 
+    /** One maven server process of the pool. */
+    private class MavenServerProcess extends RmiObjectWrapper<MavenRemoteServer> {
+        private final int           id;
+        private final AtomicInteger wrappers = new AtomicInteger();
+
+        private int runningTasks;
+        private int finishedTasks;
+
+        MavenServerProcess(int id) {
+            this.id = id;
+        }
+
+        @Override
+        protected MavenRemoteServer create() throws RemoteException {
+            MavenRemoteServer server;
+            try {
+                server = acquireServer(id);
+            } catch (Exception e) {
+                throw new RemoteException("Can't start maven server", e);
+            }
+            exportCallbacks();
+            server.configure(rmiLogger, rmiDownloadListener);
+            finishedTasks = 0;
+            return server;
+        }
+
+        MavenRemoteServer getServer() throws RemoteException {
+            return getOrCreateWrappedObject();
+        }
+
+        void failed() {
+            onError();
+        }
+
+        void stop() {
+            cleanUp();
+        }
+
+        synchronized void taskStarted() {
+            runningTasks++;
+        }
+
+        synchronized void taskFinished() {
+            runningTasks--;
+            finishedTasks++;
+            if (runningTasks == 0 && maxTasks > 0 && finishedTasks >= maxTasks) {
+                restart(String.format("it has run %d tasks", finishedTasks));
+            } else if (runningTasks == 0 && maxMemoryPercent > 0) {
+                checkMemory();
+            }
+        }
+
+        synchronized void check() {
+            if (runningTasks > 0) {
+                return;
+            }
+            if (getWrapped() == null) {
+                try {
+                    getOrCreateWrappedObject();
+                } catch (RemoteException e) {
+                    LOG.warn("Can't start maven server: {}", e.getMessage());
+                }
+                return;
+            }
+            checkMemory();
+        }
+
+        private void checkMemory() {
+            MavenRemoteServer server = getWrapped();
+            if (server == null) {
+                return;
+            }
+            final int usedMemory;
+            try {
+                usedMemory = server.getUsedMemoryPercent();
+            } catch (RemoteException e) {
+                restart("it doesn't respond");
+                return;
+            }
+            if (maxMemoryPercent > 0 && usedMemory >= maxMemoryPercent) {
+                restart(String.format("it uses %d%% of the heap", usedMemory));
+            }
+        }
+
+        private void restart(String reason) {
+            LOG.info("Restarting maven server process {} because {}", id, reason);
+            cleanUp();
+            stopServer(id);
+        }
+    }
+
+    private class PooledMavenServerWrapper extends MavenServerWrapper {
+        private final MavenServerProcess process;
+
+        PooledMavenServerWrapper(MavenServerProcess process) {
+            this.process = process;
+        }
+
+        @Override
+        protected MavenServer create() throws RemoteException {
+            MavenSettings mavenSettings = new MavenSettings();
+            //TODO add more user settings
+            mavenSettings.setMavenHome(new File(System.getenv("M2_HOME")));
+            mavenSettings.setGlobalSettings(new File(System.getProperty("user.home"), ".m2/settings.xml"));
+            mavenSettings.setLoggingLevel(MavenTerminal.LEVEL_INFO);
+            if (localRepository != null) {
+                mavenSettings.setLocalRepository(localRepository);
+            }
+            return process.getServer().createServer(mavenSettings);
+        }
+    }
+
     private class RmiLogger extends RmiObject implements MavenServerLogger {
 
         @Override
@@ -13,24 +13,38 @@ package org.eclipse.che.plugin.maven.server;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
+import org.eclipse.che.plugin.maven.server.core.MavenExecutorService;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  *
- * Manages and cache MavenServerWrapper instances
+ * Manages and cache MavenServerWrapper instances.
+ * <p/>
+ * Released servers are kept in the pool of idle servers per {@link ServerType} so several projects may be resolved at the
+ * same time without creating new server for each of them. All the servers share the same local repository, access to it is
+ * guarded with {@link #getLocalRepositoryLock()}. Resolving of projects holds read lock only around the call to the maven
+ * server, so projects are resolved in parallel. Artifacts which are downloaded while resolving are written by maven to
+ * temporary files and moved into place, so parallel resolves don't see partially written files. Operations which download
+ * artifacts into the local repository on user request (e.g. sources) hold write lock.
  *
  * @author Evgen Vidolob
  */
 @Singleton
 public class MavenWrapperManager {
 
+    private static final int MAX_IDLE_SERVERS = MavenExecutorService.RESOLVE_POOL_SIZE;
 
-    private final MavenServerManager    serverManager;
-    private final Map<ServerType, MavenServerWrapper> cache = new HashMap<>();
-    private final Set<MavenServerWrapper> usedServers = new HashSet<>();
+    private final MavenServerManager                          serverManager;
+    private final Map<ServerType, Deque<MavenServerWrapper>> idleServers         = new EnumMap<>(ServerType.class);
+    private final Map<MavenServerWrapper, ServerType>         usedServers         = new HashMap<>();
+    private final ReadWriteLock                               localRepositoryLock = new ReentrantReadWriteLock();
 
 
     @Inject
@@ -39,28 +53,37 @@ public class MavenWrapperManager {
     }
 
     public synchronized MavenServerWrapper getMavenServer(ServerType type) {
-        MavenServerWrapper wrapper = cache.get(type);
+        MavenServerWrapper wrapper = idleServers.computeIfAbsent(type, t -> new ArrayDeque<>()).poll();
         if (wrapper == null) {
             wrapper = serverManager.createMavenServer();
-            cache.put(type, wrapper);
-        }
-
-        if (usedServers.contains(wrapper)) {
-            //need to warn here
-            return serverManager.createMavenServer();
         }
 
-        usedServers.add(wrapper);
+        usedServers.put(wrapper, type);
+        serverManager.taskStarted(wrapper);
         return wrapper;
     }
 
-    public synchronized void release(MavenServerWrapper wrapper) {
-        if (usedServers.contains(wrapper)) {
-            wrapper.reset();
-            usedServers.remove(wrapper);
-        } else {
-            wrapper.dispose();
+    public void release(MavenServerWrapper wrapper) {
+        synchronized (this) {
+            ServerType type = usedServers.remove(wrapper);
+            if (type != null && idleServers.get(type).size() < MAX_IDLE_SERVERS) {
+                wrapper.reset();
+                idleServers.get(type).push(wrapper);
+            } else {
+                wrapper.dispose();
+                serverManager.disposed(wrapper);
+            }
         }
+        // may check or restart maven server process, don't block other callers
+        serverManager.taskFinished(wrapper);
+    }
+
+    /**
+     * Returns lock of the local maven repository. Resolving of projects holds read lock, operations which download artifacts
+     * into the local repository on user request hold write lock.
+     */
+    public ReadWriteLock getLocalRepositoryLock() {
+        return localRepositoryLock;
     }
 
     public enum ServerType {
@@ -19,30 +19,45 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.PreDestroy;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 /**
+ * Holds executors for maven tasks. Tasks submitted with {@link #submit(Runnable)} are performed one by one, resolving of
+ * separate maven projects submitted with {@link #submitResolve(Runnable)} is performed in parallel.
+ *
  * @author Evgen Vidolob
  */
 @Singleton
 public class MavenExecutorService {
 
+    /** Max number of maven projects which are resolved at the same time. */
+    public static final int RESOLVE_POOL_SIZE = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
     private static final Logger LOG = LoggerFactory.getLogger(MavenExecutorService.class);
 
     private final ExecutorService service;
+    private final ExecutorService resolveService;
 
     public MavenExecutorService() {
         ThreadFactory threadFactory = new ThreadFactoryBuilder().setNameFormat("Maven Executor - %d").build();
         service = Executors.newFixedThreadPool(1, threadFactory);
+        ThreadFactory resolveThreadFactory = new ThreadFactoryBuilder().setNameFormat("Maven Resolver - %d").setDaemon(true).build();
+        resolveService = Executors.newFixedThreadPool(RESOLVE_POOL_SIZE, resolveThreadFactory);
     }
 
     public void submit(Runnable task) {
         service.execute(task);
     }
 
+    public Future<?> submitResolve(Runnable task) {
+        return resolveService.submit(task);
+    }
+
     @PreDestroy
     public void shutdown() throws InterruptedException {
+        resolveService.shutdownNow();
         // Tell threads to finish off.
         service.shutdown(); // Disable new tasks from being submitted
         try {
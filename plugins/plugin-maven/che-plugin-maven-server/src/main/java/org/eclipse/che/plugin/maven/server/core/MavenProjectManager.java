@@ -14,6 +14,7 @@ import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.google.inject.Singleton;
 
+import org.eclipse.che.commons.lang.Pair;
 import org.eclipse.che.maven.data.MavenArtifact;
 import org.eclipse.che.maven.data.MavenKey;
 import org.eclipse.che.maven.data.MavenWorkspaceCache;
@@ -21,17 +22,22 @@ import org.eclipse.che.maven.server.MavenTerminal;
 import org.eclipse.che.plugin.maven.server.MavenServerManager;
 import org.eclipse.che.plugin.maven.server.MavenServerWrapper;
 import org.eclipse.che.plugin.maven.server.MavenWrapperManager;
+import org.eclipse.che.plugin.maven.server.core.project.MavenModelCache;
+import org.eclipse.che.plugin.maven.server.core.project.MavenModelReader;
+import org.eclipse.che.plugin.maven.server.core.project.MavenModelReaderResult;
 import org.eclipse.che.plugin.maven.server.core.project.MavenProject;
 import org.eclipse.che.plugin.maven.server.core.project.MavenProjectModifications;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IWorkspace;
 
+import java.io.File;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -66,6 +72,7 @@ public class MavenProjectManager {
     private final MavenTerminal         terminal;
     private final MavenProgressNotifier mavenNotifier;
     private final Provider<IWorkspace>  workspaceProvider;
+    private final MavenModelCache       modelCache;
 
     private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
     private final Lock                   readLock      = readWriteLock.readLock();
@@ -78,12 +85,14 @@ public class MavenProjectManager {
                                MavenServerManager serverManager,
                                MavenTerminal terminal,
                                MavenProgressNotifier mavenNotifier,
-                               EclipseWorkspaceProvider workspaceProvider) {
+                               EclipseWorkspaceProvider workspaceProvider,
+                               MavenModelCache modelCache) {
         this.wrapperManager = wrapperManager;
         this.serverManager = serverManager;
         this.terminal = terminal;
         this.mavenNotifier = mavenNotifier;
         this.workspaceProvider = workspaceProvider;
+        this.modelCache = modelCache;
         mavenWorkspaceCache = new MavenWorkspaceCache();
         keyToProjectMap = new HashMap<>();
         projectToMavenProjectMap = new HashMap<>();
@@ -114,17 +123,77 @@ public class MavenProjectManager {
 
     public void resolveMavenProject(IProject project, MavenProject mavenProject) {
         MavenServerWrapper mavenServer = wrapperManager.getMavenServer(MavenWrapperManager.ServerType.RESOLVE);
+        MavenProjectModifications modifications;
         try {
-
             mavenNotifier.setText("Resolving project: " + mavenProject.getName());
             mavenServer.customize(copyWorkspaceCache(), terminal, mavenNotifier, false, true);
-            MavenProjectModifications modifications = mavenProject.resolve(project, mavenServer, serverManager);
-            dispatcher.projectResolved(mavenProject, modifications);
-
+            Lock localRepositoryLock = wrapperManager.getLocalRepositoryLock().readLock();
+            localRepositoryLock.lock();
+            try {
+                modifications = mavenProject.resolve(project, mavenServer, serverManager);
+            } finally {
+                localRepositoryLock.unlock();
+            }
         } finally {
             wrapperManager.release(mavenServer);
         }
+        dispatcher.projectResolved(mavenProject, modifications);
+    }
 
+    /**
+     * Resolves several projects with one maven server. Projects with the same profiles are resolved in one call to the maven
+     * server.
+     *
+     * @return time in milliseconds spent on resolving of each project
+     */
+    public Map<MavenProject, Long> resolveMavenProjects(List<MavenProject> mavenProjects) {
+        if (mavenProjects.size() == 1) {
+            MavenProject mavenProject = mavenProjects.get(0);
+            long start = System.currentTimeMillis();
+            resolveMavenProject(mavenProject.getProject(), mavenProject);
+            return Collections.singletonMap(mavenProject, System.currentTimeMillis() - start);
+        }
+
+        Map<Pair<List<String>, List<String>>, List<MavenProject>> byProfiles = new LinkedHashMap<>();
+        for (MavenProject mavenProject : mavenProjects) {
+            byProfiles.computeIfAbsent(Pair.of(mavenProject.getActiveProfiles(), mavenProject.getInactiveProfiles()),
+                                       key -> new ArrayList<>())
+                      .add(mavenProject);
+        }
+
+        Map<MavenProject, Long> resolveTimes = new HashMap<>();
+        MavenServerWrapper mavenServer = wrapperManager.getMavenServer(MavenWrapperManager.ServerType.RESOLVE);
+        try {
+            mavenNotifier.setText("Resolving projects: " + mavenProjects.stream()
+                                                                        .map(MavenProject::getName)
+                                                                        .collect(Collectors.joining(", ")));
+            mavenServer.customize(copyWorkspaceCache(), terminal, mavenNotifier, false, true);
+            MavenModelReader reader = new MavenModelReader();
+            for (Map.Entry<Pair<List<String>, List<String>>, List<MavenProject>> entry : byProfiles.entrySet()) {
+                List<MavenProject> group = entry.getValue();
+                List<File> poms = group.stream().map(MavenProject::getPomFile).collect(Collectors.toList());
+                List<MavenModelReaderResult> results;
+                Lock localRepositoryLock = wrapperManager.getLocalRepositoryLock().readLock();
+                localRepositoryLock.lock();
+                try {
+                    results = reader.resolveMavenProjects(poms,
+                                                          mavenServer,
+                                                          entry.getKey().first,
+                                                          entry.getKey().second,
+                                                          serverManager);
+                } finally {
+                    localRepositoryLock.unlock();
+                }
+                for (int i = 0; i < group.size(); i++) {
+                    MavenProjectModifications modifications = group.get(i).resolved(results.get(i));
+                    resolveTimes.put(group.get(i), results.get(i).getResolveTime());
+                    dispatcher.projectResolved(group.get(i), modifications);
+                }
+            }
+        } finally {
+            wrapperManager.release(mavenServer);
+        }
+        return resolveTimes;
     }
 
 
@@ -196,7 +265,7 @@ public class MavenProjectManager {
         }
         MavenProjectModifications modifications = new MavenProjectModifications();
         //re read maven project meta info from pom.xml
-        modifications = modifications.addChanges(mavenProject.read(serverManager));
+        modifications = modifications.addChanges(mavenProject.read(serverManager, modelCache));
 
         writeLock.lock();
         try {
@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server.core;
+
+import org.eclipse.che.maven.data.MavenArtifact;
+import org.eclipse.che.maven.data.MavenKey;
+import org.eclipse.che.plugin.maven.server.core.project.MavenProject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * Resolves set of maven projects in parallel with help of {@link MavenExecutorService#submitResolve(Runnable)}.
+ * <p/>
+ * Projects are resolved in order of their dependencies: project is submitted for resolving only when its parent and all
+ * the projects it depends on (if they are in the same set) are resolved, so independent modules are resolved at the same
+ * time. When there are more ready projects than resolving threads they are split into batches, each batch is resolved with
+ * one call to maven server. Time spent on resolving of each project is reported with {@link MavenProgressNotifier}.
+ */
+public class MavenProjectsResolveTask implements MavenProjectTask {
+    private static final Logger LOG = LoggerFactory.getLogger(MavenProjectsResolveTask.class);
+
+    private static final int MAX_BATCH_SIZE = 8;
+
+    private final Collection<MavenProject> projects;
+    private final MavenProjectManager      projectManager;
+    private final MavenExecutorService     executorService;
+    private final MavenProgressNotifier    notifier;
+    private final Consumer<MavenProject>   afterResolve;
+
+    public MavenProjectsResolveTask(Collection<MavenProject> projects,
+                                    MavenProjectManager projectManager,
+                                    MavenExecutorService executorService,
+                                    MavenProgressNotifier notifier,
+                                    Consumer<MavenProject> afterResolve) {
+        this.projects = projects;
+        this.projectManager = projectManager;
+        this.executorService = executorService;
+        this.notifier = notifier;
+        this.afterResolve = afterResolve;
+    }
+
+    @Override
+    public void perform() {
+        final Map<MavenProject, Set<MavenProject>> dependencies = new HashMap<>();
+        final Map<MavenProject, Set<MavenProject>> dependents = new HashMap<>();
+        buildGraph(dependencies, dependents);
+
+        final BlockingQueue<MavenProject> resolved = new LinkedBlockingQueue<>();
+        final Set<MavenProject> pending = new HashSet<>(projects);
+        int running = 0;
+        int done = 0;
+        while (!pending.isEmpty() || running > 0) {
+            final Set<MavenProject> ready = new HashSet<>();
+            for (MavenProject project : pending) {
+                if (dependencies.get(project).isEmpty()) {
+                    ready.add(project);
+                }
+            }
+            if (ready.isEmpty() && running == 0) {
+                // cyclic dependencies, nothing to wait for so break the cycle
+                ready.add(pending.iterator().next());
+            }
+            pending.removeAll(ready);
+            running += ready.size();
+            for (List<MavenProject> batch : split(new ArrayList<>(ready))) {
+                executorService.submitResolve(() -> {
+                    try {
+                        resolve(batch);
+                    } finally {
+                        resolved.addAll(batch);
+                    }
+                });
+            }
+
+            final MavenProject project;
+            try {
+                project = resolved.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            running--;
+            done++;
+            notifier.setPercent((double)done / projects.size());
+            for (MavenProject dependent : dependents.get(project)) {
+                dependencies.get(dependent).remove(project);
+            }
+        }
+    }
+
+    private List<List<MavenProject>> split(List<MavenProject> ready) {
+        final int batches = Math.min(ready.size(), MavenExecutorService.RESOLVE_POOL_SIZE);
+        final int batchSize = Math.min(MAX_BATCH_SIZE, (ready.size() + batches - 1) / batches);
+        final List<List<MavenProject>> result = new ArrayList<>();
+        for (int i = 0; i < ready.size(); i += batchSize) {
+            result.add(ready.subList(i, Math.min(ready.size(), i + batchSize)));
+        }
+        return result;
+    }
+
+    private void resolve(List<MavenProject> batch) {
+        try {
+            final Map<MavenProject, Long> resolveTimes = projectManager.resolveMavenProjects(batch);
+            for (MavenProject project : batch) {
+                final Long time = resolveTimes.get(project);
+                if (time != null) {
+                    notifier.setText(String.format("Project %s resolved in %d ms", project.getName(), time));
+                }
+            }
+            if (afterResolve != null) {
+                batch.forEach(afterResolve);
+            }
+        } catch (Throwable throwable) {
+            LOG.error(throwable.getMessage(), throwable);
+        }
+    }
+
+    private void buildGraph(Map<MavenProject, Set<MavenProject>> dependencies, Map<MavenProject, Set<MavenProject>> dependents) {
+        final Map<MavenKey, MavenProject> keyToProject = new HashMap<>();
+        for (MavenProject project : projects) {
+            keyToProject.put(project.getMavenKey(), project);
+            dependencies.put(project, new HashSet<>());
+            dependents.put(project, new HashSet<>());
+        }
+
+        for (MavenProject project : projects) {
+            final Set<MavenProject> projectDependencies = dependencies.get(project);
+            final MavenProject parent = keyToProject.get(project.getParentKey());
+            if (parent != null) {
+                projectDependencies.add(parent);
+            }
+            for (MavenArtifact artifact : project.getDependencies()) {
+                final MavenProject dependency = keyToProject.get(new MavenKey(artifact.getGroupId(),
+                                                                              artifact.getArtifactId(),
+                                                                              artifact.getVersion()));
+                if (dependency != null) {
+                    projectDependencies.add(dependency);
+                }
+            }
+            projectDependencies.remove(project);
+            for (MavenProject dependency : projectDependencies) {
+                dependents.get(dependency).add(project);
+            }
+        }
+    }
+}
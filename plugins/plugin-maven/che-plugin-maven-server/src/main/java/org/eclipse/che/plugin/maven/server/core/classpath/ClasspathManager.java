@@ -42,6 +42,7 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.locks.Lock;
 
 /**
  * @author Evgen Vidolob
@@ -185,7 +186,7 @@ public class ClasspathManager {
         MavenArtifactKey artifactKey = getArtifactKey(classpathEntry);
         if (artifactKey != null) {
             MavenServerWrapper mavenServer = wrapperManager.getMavenServer(MavenWrapperManager.ServerType.DOWNLOAD);
-
+            MavenArtifact mavenArtifact;
             try {
                 mavenServer.customize(projectManager.copyWorkspaceCache(), terminal, notifier, false, false);
 
@@ -193,14 +194,20 @@ public class ClasspathManager {
                         new MavenArtifactKey(artifactKey.getGroupId(), artifactKey.getArtifactId(), artifactKey.getVersion(),
                                              artifactKey.getPackaging(),
                                              SOURCES);
-                MavenArtifact mavenArtifact = mavenServer.resolveArtifact(sourceKey, Collections.emptyList());
-                if (mavenArtifact.isResolved()) {
-                    updateClasspath(projectManager.findMavenProject(fragmentRoot.getJavaProject().getProject()));
+                Lock localRepositoryLock = wrapperManager.getLocalRepositoryLock().writeLock();
+                localRepositoryLock.lock();
+                try {
+                    mavenArtifact = mavenServer.resolveArtifact(sourceKey, Collections.emptyList());
+                } finally {
+                    localRepositoryLock.unlock();
                 }
-                return mavenArtifact.isResolved();
             } finally {
-               wrapperManager.release(mavenServer);
+                wrapperManager.release(mavenServer);
+            }
+            if (mavenArtifact.isResolved()) {
+                updateClasspath(projectManager.findMavenProject(fragmentRoot.getJavaProject().getProject()));
             }
+            return mavenArtifact.isResolved();
         }
         return false;
     }
@@ -0,0 +1,274 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server.core.project;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+
+import org.eclipse.che.maven.data.MavenModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Cache of maven models read from {@code pom.xml} files and interpolated by maven server.
+ * <p/>
+ * Entry is keyed by the content hash of the pom file, content hashes of its parents (located by {@code relativePath}) and
+ * location of the project, so unchanged poms are neither read nor sent to the maven server for interpolation again. Cache is
+ * shared by all the projects and, if the cache directory is configured, entries are stored on the disk so they survive
+ * restart of the workspace agent. Total size of the entries on the disk is limited, when it is exceeded the least recently
+ * used entries are removed. Order of the entries is restored from modification time of the files on startup.
+ */
+@Singleton
+public class MavenModelCache {
+    private static final Logger LOG = LoggerFactory.getLogger(MavenModelCache.class);
+
+    private static final String  TMP_SUFFIX            = ".tmp";
+    private static final int     MAX_PARENTS           = 16;
+    private static final int     MAX_MEMORY_ENTRIES    = 512;
+    private static final Pattern PARENT_PATTERN        = Pattern.compile("<parent>(.*?)</parent>", Pattern.DOTALL);
+    private static final Pattern RELATIVE_PATH_PATTERN = Pattern.compile("<relativePath>\\s*(.*?)\\s*</relativePath>");
+
+    private final Path                      cacheDir;
+    private final long                      maxDiskSize;
+    private final Map<String, byte[]>       entries;
+    /** Size of the entries stored on the disk in the access order. */
+    private final LinkedHashMap<Path, Long> diskEntries;
+
+    private long diskSize;
+
+    /** Creates cache which keeps entries in memory only. */
+    public MavenModelCache() {
+        this(null, 0);
+    }
+
+    @Inject
+    public MavenModelCache(@Named("che.maven.model.cache.dir") String cacheDir,
+                           @Named("che.maven.model.cache.max_size") long maxDiskSize) {
+        this.cacheDir = cacheDir == null ? null : Paths.get(cacheDir);
+        this.maxDiskSize = maxDiskSize;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<String, byte[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                return size() > MAX_MEMORY_ENTRIES;
+            }
+        });
+        this.diskEntries = new LinkedHashMap<>(16, 0.75f, true);
+        loadDiskEntries();
+    }
+
+    /**
+     * Computes key of the cache entry for the given pom file.
+     *
+     * @return key or {@code null} if the pom can't be read
+     */
+    public String computeKey(File pom) {
+        final Hasher hasher = Hashing.sha1().newHasher();
+        hasher.putString(pom.getAbsoluteFile().getParent(), StandardCharsets.UTF_8);
+        File current = pom;
+        for (int i = 0; current != null && i < MAX_PARENTS; i++) {
+            final byte[] content;
+            try {
+                content = Files.readAllBytes(current.toPath());
+            } catch (IOException e) {
+                if (current == pom) {
+                    return null;
+                }
+                // parent isn't in the workspace
+                break;
+            }
+            hasher.putInt(content.length).putBytes(content);
+            current = findParentPom(current, new String(content, StandardCharsets.UTF_8));
+        }
+        return hasher.hash().toString();
+    }
+
+    /** Returns model which is stored with the given key or {@code null} if there is no such entry. */
+    public MavenModelReaderResult get(String key) {
+        byte[] bytes = entries.get(key);
+        if (bytes == null && cacheDir != null) {
+            final Path entryFile = cacheDir.resolve(key);
+            if (Files.exists(entryFile)) {
+                try {
+                    bytes = Files.readAllBytes(entryFile);
+                    entries.put(key, bytes);
+                    touch(entryFile);
+                } catch (IOException e) {
+                    LOG.warn("Can't read maven model cache entry {}: {}", entryFile, e.getMessage());
+                }
+            }
+        }
+        if (bytes == null) {
+            return null;
+        }
+
+        // each caller gets own copy of the model, callers are free to modify it
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            final CachedModel cached = (CachedModel)in.readObject();
+            return new MavenModelReaderResult(cached.model,
+                                              new ArrayList<>(cached.activeProfiles),
+                                              new ArrayList<>(cached.inactiveProfiles),
+                                              new ArrayList<>(),
+                                              Collections.emptySet());
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            LOG.warn("Maven model cache entry {} is broken and will be ignored: {}", key, e.getMessage());
+            entries.remove(key);
+            return null;
+        }
+    }
+
+    /** Stores result of reading of the pom. Results with problems are not cached. */
+    public void put(String key, MavenModelReaderResult result) {
+        if (!result.getProblems().isEmpty()) {
+            return;
+        }
+
+        final byte[] bytes;
+        final ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bout)) {
+            out.writeObject(new CachedModel(result.getMavenModel(), result.getActiveProfiles(), result.getInactiveProfiles()));
+        } catch (IOException e) {
+            LOG.warn("Can't cache maven model: {}", e.getMessage());
+            return;
+        }
+        bytes = bout.toByteArray();
+        entries.put(key, bytes);
+
+        if (cacheDir != null) {
+            try {
+                Files.createDirectories(cacheDir);
+                final Path tmp = Files.createTempFile(cacheDir, key, TMP_SUFFIX);
+                Files.write(tmp, bytes);
+                final Path entryFile = cacheDir.resolve(key);
+                Files.move(tmp, entryFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                addDiskEntry(entryFile, bytes.length);
+            } catch (IOException e) {
+                LOG.warn("Can't store maven model cache entry {}: {}", key, e.getMessage());
+            }
+        }
+    }
+
+    private synchronized void addDiskEntry(Path entryFile, long size) {
+        final Long previous = diskEntries.put(entryFile, size);
+        diskSize += size - (previous == null ? 0 : previous);
+        evict();
+    }
+
+    private void touch(Path entryFile) {
+        synchronized (this) {
+            diskEntries.get(entryFile);
+        }
+        try {
+            Files.setLastModifiedTime(entryFile, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ignored) {
+            // modification time is used only for ordering of entries after restart
+        }
+    }
+
+    private synchronized void evict() {
+        final Iterator<Map.Entry<Path, Long>> iterator = diskEntries.entrySet().iterator();
+        while (diskSize > maxDiskSize && iterator.hasNext()) {
+            final Map.Entry<Path, Long> eldest = iterator.next();
+            iterator.remove();
+            diskSize -= eldest.getValue();
+            try {
+                Files.deleteIfExists(eldest.getKey());
+            } catch (IOException e) {
+                LOG.warn("Can't remove maven model cache entry {}: {}", eldest.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    /** Restores entries stored by previous runs, the least recently used entries go first, and prunes the cache. */
+    private synchronized void loadDiskEntries() {
+        if (cacheDir == null || !Files.isDirectory(cacheDir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            final List<Path> found = files.filter(Files::isRegularFile).collect(Collectors.toList());
+            found.stream()
+                 .filter(file -> file.getFileName().toString().endsWith(TMP_SUFFIX))
+                 .forEach(file -> file.toFile().delete());
+            found.stream()
+                 .filter(file -> !file.getFileName().toString().endsWith(TMP_SUFFIX))
+                 .sorted(Comparator.comparingLong(file -> file.toFile().lastModified()))
+                 .forEach(file -> {
+                     final long size = file.toFile().length();
+                     diskEntries.put(file, size);
+                     diskSize += size;
+                 });
+        } catch (IOException e) {
+            LOG.warn("Can't read maven model cache directory {}: {}", cacheDir, e.getMessage());
+        }
+        evict();
+    }
+
+    private File findParentPom(File pom, String content) {
+        final Matcher parent = PARENT_PATTERN.matcher(content);
+        if (!parent.find()) {
+            return null;
+        }
+        String relativePath = "../pom.xml";
+        final Matcher relativePathMatcher = RELATIVE_PATH_PATTERN.matcher(parent.group(1));
+        if (relativePathMatcher.find()) {
+            relativePath = relativePathMatcher.group(1);
+        }
+        if (relativePath.isEmpty()) {
+            return null;
+        }
+        File parentPom = new File(pom.getAbsoluteFile().getParentFile(), relativePath);
+        if (parentPom.isDirectory()) {
+            parentPom = new File(parentPom, "pom.xml");
+        }
+        return parentPom;
+    }
+
+    private static class CachedModel implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        final MavenModel   model;
+        final List<String> activeProfiles;
+        final List<String> inactiveProfiles;
+
+        CachedModel(MavenModel model, List<String> activeProfiles, List<String> inactiveProfiles) {
+            this.model = model;
+            this.activeProfiles = new ArrayList<>(activeProfiles);
+            this.inactiveProfiles = new ArrayList<>(inactiveProfiles);
+        }
+    }
+}
@@ -51,24 +51,24 @@ import static org.eclipse.che.plugin.maven.shared.MavenAttributes.DEFAULT_TEST_S
 public class MavenModelReader {
     private static final Logger LOG = LoggerFactory.getLogger(MavenModelReader.class);
 
+    private final MavenModelCache modelCache;
+
+    public MavenModelReader() {
+        this(null);
+    }
+
+    /**
+     * @param modelCache
+     *         cache of models read by {@link #readMavenProject(File, MavenServerManager)}, may be {@code null}
+     */
+    public MavenModelReader(MavenModelCache modelCache) {
+        this.modelCache = modelCache;
+    }
+
     public MavenModelReaderResult resolveMavenProject(File pom, MavenServerWrapper mavenServer, List<String> activeProfiles,
                                                       List<String> inactiveProfiles, MavenServerManager serverManager) {
         try {
-            MavenServerResult resolveProject = mavenServer.resolveProject(pom, activeProfiles, inactiveProfiles);
-            MavenProjectInfo projectInfo = resolveProject.getProjectInfo();
-            if (projectInfo != null) {
-                return new MavenModelReaderResult(projectInfo.getMavenModel(),
-                                                  projectInfo.getActiveProfiles(),
-                                                  Collections.emptyList(),
-                                                  resolveProject.getProblems(),
-                                                  resolveProject.getUnresolvedArtifacts());
-            } else {
-                MavenModelReaderResult readMavenProject = readMavenProject(pom, serverManager);
-                readMavenProject.getProblems().addAll(resolveProject.getProblems());
-                readMavenProject.getUnresolvedArtifacts().addAll(resolveProject.getUnresolvedArtifacts());
-                return readMavenProject;
-            }
-
+            return toReaderResult(pom, mavenServer.resolveProject(pom, activeProfiles, inactiveProfiles), serverManager);
         } catch (Throwable t) {
             String message = t.getMessage();
             LOG.info(message, t);
@@ -82,17 +82,81 @@ public class MavenModelReader {
         }
     }
 
+    /**
+     * Resolves several projects with the same profiles in one call to maven server. If the call fails projects are resolved one
+     * by one, so the failure is reported for the right project.
+     *
+     * @return results in the same order as {@code poms}
+     */
+    public List<MavenModelReaderResult> resolveMavenProjects(List<File> poms, MavenServerWrapper mavenServer, List<String> activeProfiles,
+                                                             List<String> inactiveProfiles, MavenServerManager serverManager) {
+        List<MavenServerResult> serverResults = null;
+        try {
+            serverResults = mavenServer.resolveProjects(poms, activeProfiles, inactiveProfiles);
+        } catch (Throwable t) {
+            LOG.info(t.getMessage(), t);
+        }
+        if (serverResults != null && serverResults.size() != poms.size()) {
+            LOG.warn("Maven server returned {} results for {} projects, projects are resolved one by one",
+                     serverResults.size(), poms.size());
+            serverResults = null;
+        }
+
+        List<MavenModelReaderResult> results = new ArrayList<>(poms.size());
+        for (int i = 0; i < poms.size(); i++) {
+            File pom = poms.get(i);
+            if (serverResults == null) {
+                results.add(resolveMavenProject(pom, mavenServer, activeProfiles, inactiveProfiles, serverManager));
+            } else {
+                results.add(toReaderResult(pom, serverResults.get(i), serverManager));
+            }
+        }
+        return results;
+    }
+
+    private MavenModelReaderResult toReaderResult(File pom, MavenServerResult resolveProject, MavenServerManager serverManager) {
+        MavenProjectInfo projectInfo = resolveProject.getProjectInfo();
+        if (projectInfo != null) {
+            return new MavenModelReaderResult(projectInfo.getMavenModel(),
+                                              projectInfo.getActiveProfiles(),
+                                              Collections.emptyList(),
+                                              resolveProject.getProblems(),
+                                              resolveProject.getUnresolvedArtifacts(),
+                                              resolveProject.getResolveTime());
+        } else {
+            MavenModelReaderResult readMavenProject = readMavenProject(pom, serverManager);
+            readMavenProject.getProblems().addAll(resolveProject.getProblems());
+            readMavenProject.getUnresolvedArtifacts().addAll(resolveProject.getUnresolvedArtifacts());
+            return readMavenProject;
+        }
+    }
+
     public MavenModelReaderResult readMavenProject(File pom, MavenServerManager serverManager) {
+        String cacheKey = null;
+        if (modelCache != null) {
+            cacheKey = modelCache.computeKey(pom);
+            if (cacheKey != null) {
+                MavenModelReaderResult cached = modelCache.get(cacheKey);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+        }
+
         Pair<ModelReadingResult, Pair<List<String>, List<String>>> readResult = readModel(pom);
         MavenModel model = readResult.first.model;
         model = serverManager.interpolateModel(model, pom.getParentFile());
 
         Pair<List<String>, List<String>> profilesPair = readResult.second;
-        return new MavenModelReaderResult(model,
-                                          profilesPair.first,
-                                          profilesPair.first,
-                                          readResult.first.problems,
-                                          Collections.emptySet());
+        MavenModelReaderResult result = new MavenModelReaderResult(model,
+                                                                   profilesPair.first,
+                                                                   profilesPair.first,
+                                                                   readResult.first.problems,
+                                                                   Collections.emptySet());
+        if (cacheKey != null) {
+            modelCache.put(cacheKey, result);
+        }
+        return result;
     }
 
     private Pair<ModelReadingResult, Pair<List<String>, List<String>>> readModel(File pom) {
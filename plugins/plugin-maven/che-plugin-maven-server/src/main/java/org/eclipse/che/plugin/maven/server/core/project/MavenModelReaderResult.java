@@ -28,14 +28,21 @@ public class MavenModelReaderResult {
     private final List<String>              inactiveProfiles;
     private final List<MavenProjectProblem> problems;
     private final Set<MavenKey>             unresolvedArtifacts;
+    private final long                      resolveTime;
 
     public MavenModelReaderResult(MavenModel mavenModel, List<String> activeProfiles, List<String> inactiveProfiles,
                                   List<MavenProjectProblem> problems, Set<MavenKey> unresolvedArtifacts) {
+        this(mavenModel, activeProfiles, inactiveProfiles, problems, unresolvedArtifacts, 0);
+    }
+
+    public MavenModelReaderResult(MavenModel mavenModel, List<String> activeProfiles, List<String> inactiveProfiles,
+                                  List<MavenProjectProblem> problems, Set<MavenKey> unresolvedArtifacts, long resolveTime) {
         this.mavenModel = mavenModel;
         this.activeProfiles = activeProfiles;
         this.inactiveProfiles = inactiveProfiles;
         this.problems = problems;
         this.unresolvedArtifacts = unresolvedArtifacts;
+        this.resolveTime = resolveTime;
     }
 
     public Set<MavenKey> getUnresolvedArtifacts() {
@@ -57,4 +64,9 @@ public class MavenModelReaderResult {
     public List<MavenProjectProblem> getProblems() {
         return problems;
     }
+
+    /** Returns time in milliseconds spent by maven server on resolving of the project, {@code 0} if it wasn't resolved. */
+    public long getResolveTime() {
+        return resolveTime;
+    }
 }
@@ -163,6 +163,15 @@ public class MavenProject {
         MavenModelReaderResult modelReaderResult =
                 reader.resolveMavenProject(getPom(project), mavenServer, info.activeProfiles, info.inactiveProfiles, serverManager);
 
+        return resolved(modelReaderResult);
+    }
+
+    /**
+     * Applies result of resolving which was done outside of this project, e.g. by resolving several projects at once.
+     *
+     * @return the modification types that applied to this project
+     */
+    public MavenProjectModifications resolved(MavenModelReaderResult modelReaderResult) {
         return setModel(modelReaderResult, modelReaderResult.getProblems().isEmpty(), false);
     }
 
@@ -170,8 +179,16 @@ public class MavenProject {
         return read(project, manager);
     }
 
+    public MavenProjectModifications read(MavenServerManager manager, MavenModelCache modelCache) {
+        return read(project, manager, modelCache);
+    }
+
     public MavenProjectModifications read(IProject project, MavenServerManager serverManager) {
-        MavenModelReader reader = new MavenModelReader();
+        return read(project, serverManager, null);
+    }
+
+    public MavenProjectModifications read(IProject project, MavenServerManager serverManager, MavenModelCache modelCache) {
+        MavenModelReader reader = new MavenModelReader(modelCache);
         return setModel(reader.readMavenProject(getPom(project), serverManager), false, true);
     }
 
@@ -289,6 +306,14 @@ public class MavenProject {
         return getPom(project);
     }
 
+    public List<String> getActiveProfiles() {
+        return info.activeProfiles;
+    }
+
+    public List<String> getInactiveProfiles() {
+        return info.inactiveProfiles;
+    }
+
     public boolean containsAsModule(IPath modulePath) {
         if (!project.getFullPath().equals(modulePath)) {
             return false;
@@ -17,7 +17,7 @@ import com.google.inject.name.Named;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.notification.EventSubscriber;
 import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent;
-import org.eclipse.che.commons.schedule.executor.ThreadPullLauncher;
+import org.eclipse.che.commons.schedule.Launcher;
 import org.eclipse.che.plugin.maven.server.core.EclipseWorkspaceProvider;
 import org.eclipse.che.plugin.maven.server.core.MavenWorkspace;
 import org.eclipse.che.ide.maven.tools.Model;
@@ -49,7 +49,7 @@ public class PomChangeListener {
     public PomChangeListener(EventService eventService,
                              MavenWorkspace mavenWorkspace,
                              EclipseWorkspaceProvider eclipseWorkspaceProvider,
-                             ThreadPullLauncher launcher,
+                             Launcher launcher,
                              @Named("che.user.workspaces.storage") String workspacePath) {
         this.mavenWorkspace = mavenWorkspace;
         this.eclipseWorkspaceProvider = eclipseWorkspaceProvider;
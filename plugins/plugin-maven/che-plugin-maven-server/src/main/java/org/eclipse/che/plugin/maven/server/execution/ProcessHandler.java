@@ -10,17 +10,20 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.maven.server.execution;
 
+import org.eclipse.che.api.core.util.LineConsumer;
+import org.eclipse.che.api.core.util.ProcessOutputMultiplexer;
+import org.eclipse.che.api.core.util.ProcessOutputMultiplexer.ProcessOutput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.SynchronousQueue;
@@ -91,21 +94,16 @@ public class ProcessHandler implements Executor {
             @Override
             public void onStart(ProcessEvent event) {
                 try {
-                    OutputReader stdOutReader = createStdOutReader();
-                    stdOutReader.start();
-
-                    OutputReader stdErrReader = createStdErrReader();
-                    stdErrReader.start();
+                    ProcessOutput output = ProcessOutputMultiplexer.getDefault().attach(process);
+                    Future<?> outputReader = execute(() -> readOutput(output));
 
                     waitForProcess.setEndCallback(exitCode -> {
                         try {
-                            stdErrReader.stop();
-                            stdOutReader.stop();
-                            try {
-                                stdErrReader.waitFor();
-                                stdOutReader.waitFor();
-                            } catch (InterruptedException ignore) {
-                            }
+                            // output is finished when everything written by the process before termination is read
+                            outputReader.get();
+                        } catch (InterruptedException ignore) {
+                        } catch (ExecutionException e) {
+                            LOG.error(e.getMessage(), e);
                         } finally {
                             ProcessHandler.this.onProcessTerminated(exitCode);
                             latch.countDown();
@@ -151,8 +149,12 @@ public class ProcessHandler implements Executor {
         listeners.remove(listener);
     }
 
-    private OutputReader createStdErrReader() {
-        return new OutputReader(new InputStreamReader(process.getErrorStream()), this, (s -> notifyOnText(s, ProcessOutputType.STDERR)));
+    private void readOutput(ProcessOutput output) {
+        try {
+            output.readLines(new TextNotifier(ProcessOutputType.STDOUT), new TextNotifier(ProcessOutputType.STDERR));
+        } catch (IOException e) {
+            LOG.error(e.getMessage(), e);
+        }
     }
 
     private void notifyOnTerminating() {
@@ -163,12 +165,6 @@ public class ProcessHandler implements Executor {
         listenerNotifier.onText(new ProcessEvent(this, text), type);
     }
 
-    private OutputReader createStdOutReader() {
-        return new OutputReader(new InputStreamReader(process.getInputStream()), this, (s -> {
-            notifyOnText(s, ProcessOutputType.STDOUT);
-        }));
-    }
-
     @Override
     public Future<?> execute(Runnable runnable) {
         return executorService.submit(runnable);
@@ -209,6 +205,24 @@ public class ProcessHandler implements Executor {
         }
     }
 
+    /** Notifies listeners about every line of output, line is passed with its line separator. */
+    private class TextNotifier implements LineConsumer {
+        private final ProcessOutputType type;
+
+        TextNotifier(ProcessOutputType type) {
+            this.type = type;
+        }
+
+        @Override
+        public void writeLine(String line) {
+            notifyOnText(line + '\n', type);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
     private enum ProcessState {
         INITIAL, RUNNING, TERMINATING, TERMINATED
     }
@@ -11,14 +11,17 @@
 package org.eclipse.che.plugin.maven.server.inject;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.Provides;
 import com.google.inject.Singleton;
 import com.google.inject.multibindings.Multibinder;
+import com.google.inject.name.Named;
 
 import org.eclipse.che.api.project.server.handlers.ProjectHandler;
 import org.eclipse.che.api.project.server.type.ProjectTypeDef;
 import org.eclipse.che.api.project.server.type.ValueProviderFactory;
 import org.eclipse.che.inject.DynaModule;
 import org.eclipse.che.maven.server.MavenTerminal;
+import org.eclipse.che.plugin.maven.server.MavenServerManager;
 import org.eclipse.che.plugin.maven.server.core.MavenProgressNotifier;
 import org.eclipse.che.plugin.maven.server.core.MavenServerNotifier;
 import org.eclipse.che.plugin.maven.server.core.MavenTerminalImpl;
@@ -31,6 +34,8 @@ import org.eclipse.che.plugin.maven.server.projecttype.handler.MavenProjectGener
 import org.eclipse.che.plugin.maven.server.projecttype.handler.MavenProjectInitHandler;
 import org.eclipse.che.plugin.maven.server.rest.MavenServerService;
 
+import java.nio.file.Paths;
+
 import static com.google.inject.multibindings.Multibinder.newSetBinder;
 
 /** @author Artem Zatsarynnyi */
@@ -58,5 +63,14 @@ public class MavenModule extends AbstractModule {
         bind(MavenServerService.class);
 
         bind(PomChangeListener.class).asEagerSingleton();
+        // maven server processes are started right after the agent start, not when the first project is imported
+        bind(MavenServerManager.class).asEagerSingleton();
+    }
+
+    @Provides
+    @Named("che.maven.model.cache.dir")
+    @Singleton
+    protected String provideModelCacheDir(@Named("che.workspace.metadata") String wsMetadata) {
+        return Paths.get(System.getProperty("user.home"), wsMetadata, "maven", "model-cache").toString();
     }
 }
@@ -234,6 +234,20 @@ public abstract class RmiClient<Remote> {
         return info != null;
     }
 
+    /**
+     * Destroys process which was started by {@link #acquire(Object, Object)} with the same target and param.
+     * Next call of {@link #acquire(Object, Object)} starts new process.
+     */
+    public void stop(Object target, Object param) {
+        ProcessInfo info;
+        synchronized (infoMap) {
+            info = infoMap.get(Pair.of(target, param));
+        }
+        if (info != null && info.processHandler != null) {
+            info.processHandler.destroyProcess();
+        }
+    }
+
     public void stopAll(boolean wait) {
         List<ProcessInfo> processList;
         synchronized (infoMap) {
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.che.maven.data.MavenKey;
+import org.eclipse.che.maven.data.MavenModel;
+import org.eclipse.che.plugin.maven.server.core.project.MavenModelCache;
+import org.eclipse.che.plugin.maven.server.core.project.MavenModelReaderResult;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class MavenModelCacheTest {
+
+    private File root;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        root = Files.createTempDirectory("model-cache").toFile();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        IoUtil.deleteRecursive(root);
+    }
+
+    @Test
+    public void keyShouldDependOnParentPom() throws Exception {
+        write("pom.xml", "<project><artifactId>parent</artifactId></project>");
+        File module = write("module/pom.xml", "<project><parent><artifactId>parent</artifactId></parent></project>");
+        MavenModelCache cache = new MavenModelCache();
+
+        String key = cache.computeKey(module);
+        assertThat(cache.computeKey(module)).isEqualTo(key);
+
+        write("pom.xml", "<project><artifactId>parent</artifactId><version>2</version></project>");
+        assertThat(cache.computeKey(module)).isNotEqualTo(key);
+    }
+
+    @Test
+    public void modelShouldBeReadFromDiskCache() throws Exception {
+        File pom = write("pom.xml", "<project><artifactId>test</artifactId></project>");
+        String cacheDir = new File(root, "cache").getAbsolutePath();
+        MavenModel model = new MavenModel();
+        model.setMavenKey(new MavenKey("org.test", "test", "1.0"));
+
+        MavenModelCache cache = new MavenModelCache(cacheDir, 1024 * 1024);
+        String key = cache.computeKey(pom);
+        cache.put(key, new MavenModelReaderResult(model,
+                                                  Collections.singletonList("default"),
+                                                  Collections.emptyList(),
+                                                  new ArrayList<>(),
+                                                  Collections.emptySet()));
+
+        MavenModelReaderResult result = new MavenModelCache(cacheDir, 1024 * 1024).get(key);
+        assertThat(result).isNotNull();
+        assertThat(result.getMavenModel().getMavenKey()).isEqualTo(model.getMavenKey());
+        assertThat(result.getActiveProfiles()).containsOnly("default");
+    }
+
+    @Test
+    public void leastRecentlyUsedEntriesShouldBeRemovedWhenCacheIsFull() throws Exception {
+        File cacheDir = new File(root, "cache");
+        MavenModelCache cache = new MavenModelCache(cacheDir.getAbsolutePath(), 1024 * 1024);
+        cache.put("first", result("first"));
+        long entrySize = new File(cacheDir, "first").length();
+
+        cache = new MavenModelCache(cacheDir.getAbsolutePath(), entrySize * 2 + entrySize / 2);
+        cache.put("second", result("second"));
+        cache = new MavenModelCache(cacheDir.getAbsolutePath(), entrySize * 2 + entrySize / 2);
+        // read from the disk makes the first entry the most recently used one
+        assertThat(cache.get("first")).isNotNull();
+        cache.put("third", result("third"));
+
+        assertThat(new File(cacheDir, "first").exists()).isTrue();
+        assertThat(new File(cacheDir, "second").exists()).isFalse();
+        assertThat(new File(cacheDir, "third").exists()).isTrue();
+    }
+
+    @Test
+    public void cacheShouldBePrunedOnStartup() throws Exception {
+        File cacheDir = new File(root, "cache");
+        MavenModelCache cache = new MavenModelCache(cacheDir.getAbsolutePath(), 1024 * 1024);
+        cache.put("first", result("first"));
+        cache.put("second", result("second"));
+        new File(cacheDir, "first").setLastModified(System.currentTimeMillis() - 60_000);
+        write("cache/second1234.tmp", "broken");
+        long entrySize = new File(cacheDir, "second").length();
+
+        new MavenModelCache(cacheDir.getAbsolutePath(), entrySize);
+
+        assertThat(cacheDir.list()).containsOnly("second");
+    }
+
+    private MavenModelReaderResult result(String artifactId) {
+        MavenModel model = new MavenModel();
+        model.setMavenKey(new MavenKey("org.test", artifactId, "1.0"));
+        return new MavenModelReaderResult(model,
+                                          Collections.emptyList(),
+                                          Collections.emptyList(),
+                                          new ArrayList<>(),
+                                          Collections.emptySet());
+    }
+
+    private File write(String path, String content) throws Exception {
+        File file = new File(root, path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server;
+
+import org.eclipse.che.maven.data.MavenArtifact;
+import org.eclipse.che.maven.data.MavenKey;
+import org.eclipse.che.plugin.maven.server.core.MavenExecutorService;
+import org.eclipse.che.plugin.maven.server.core.MavenProgressNotifier;
+import org.eclipse.che.plugin.maven.server.core.MavenProjectManager;
+import org.eclipse.che.plugin.maven.server.core.MavenProjectsResolveTask;
+import org.eclipse.che.plugin.maven.server.core.project.MavenProject;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Listeners(value = {MockitoTestNGListener.class})
+public class MavenProjectsResolveTaskTest {
+
+    @Mock
+    private MavenProjectManager   projectManager;
+    @Mock
+    private MavenProgressNotifier notifier;
+
+    private MavenExecutorService executorService;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        executorService = new MavenExecutorService();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        executorService.shutdown();
+    }
+
+    @Test
+    public void projectShouldBeResolvedAfterParentAndDependencies() throws Exception {
+        MavenProject parent = mockProject("parent", null);
+        MavenProject api = mockProject("api", "parent");
+        MavenProject impl = mockProject("impl", "parent", "api");
+        MavenProject app = mockProject("app", "parent", "impl", "api");
+
+        List<MavenProject> resolved = new CopyOnWriteArrayList<>();
+        new MavenProjectsResolveTask(Arrays.asList(app, impl, api, parent),
+                                     projectManager,
+                                     executorService,
+                                     notifier,
+                                     resolved::add).perform();
+
+        assertThat(resolved).containsExactly(parent, api, impl, app);
+    }
+
+    @Test
+    public void projectsWithCyclicDependenciesShouldBeResolved() throws Exception {
+        MavenProject first = mockProject("first", null, "second");
+        MavenProject second = mockProject("second", null, "first");
+
+        List<MavenProject> resolved = new CopyOnWriteArrayList<>();
+        new MavenProjectsResolveTask(Arrays.asList(first, second),
+                                     projectManager,
+                                     executorService,
+                                     notifier,
+                                     resolved::add).perform();
+
+        assertThat(resolved).hasSize(2).contains(first, second);
+    }
+
+    @Test
+    public void independentProjectsShouldBeResolvedInBatches() throws Exception {
+        List<MavenProject> projects = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            projects.add(mockProject("module" + i, null));
+        }
+
+        List<MavenProject> resolved = new CopyOnWriteArrayList<>();
+        new MavenProjectsResolveTask(projects, projectManager, executorService, notifier, resolved::add).perform();
+
+        assertThat(resolved).hasSize(10).containsOnly(projects.toArray());
+        verify(projectManager, atLeastOnce()).resolveMavenProjects(anyListOf(MavenProject.class));
+    }
+
+    @Test
+    public void resolveTimeShouldBeReportedForEachProject() throws Exception {
+        List<MavenProject> projects = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            projects.add(mockProject("module" + i, null));
+        }
+        doAnswer(invocation -> {
+            Map<MavenProject, Long> resolveTimes = new HashMap<>();
+            for (Object project : (List<?>)invocation.getArguments()[0]) {
+                resolveTimes.put((MavenProject)project, 42L);
+            }
+            return resolveTimes;
+        }).when(projectManager).resolveMavenProjects(anyListOf(MavenProject.class));
+
+        new MavenProjectsResolveTask(projects, projectManager, executorService, notifier, null).perform();
+
+        for (int i = 0; i < 10; i++) {
+            verify(notifier).setText("Project module" + i + " resolved in 42 ms");
+        }
+    }
+
+    private MavenProject mockProject(String artifactId, String parentArtifactId, String... dependencies) {
+        MavenProject project = mock(MavenProject.class);
+        when(project.getName()).thenReturn(artifactId);
+        when(project.getMavenKey()).thenReturn(new MavenKey("org.test", artifactId, "1.0"));
+        when(project.getParentKey()).thenReturn(parentArtifactId == null ? null : new MavenKey("org.test", parentArtifactId, "1.0"));
+        if (dependencies.length == 0) {
+            when(project.getDependencies()).thenReturn(Collections.emptyList());
+        } else {
+            MavenArtifact[] artifacts = new MavenArtifact[dependencies.length];
+            for (int i = 0; i < dependencies.length; i++) {
+                artifacts[i] = mock(MavenArtifact.class);
+                when(artifacts[i].getGroupId()).thenReturn("org.test");
+                when(artifacts[i].getArtifactId()).thenReturn(dependencies[i]);
+                when(artifacts[i].getVersion()).thenReturn("1.0");
+            }
+            when(project.getDependencies()).thenReturn(Arrays.asList(artifacts));
+        }
+        return project;
+    }
+}
@@ -13,13 +13,18 @@ package org.eclipse.che.plugin.maven.server.rmi;
 import org.eclipse.che.plugin.maven.server.MavenServerManager;
 import org.eclipse.che.plugin.maven.server.MavenServerWrapper;
 import org.eclipse.che.plugin.maven.server.core.MavenProgressNotifier;
+import org.eclipse.che.plugin.maven.server.core.project.MavenModelReader;
+import org.eclipse.che.plugin.maven.server.core.project.MavenModelReaderResult;
 import org.eclipse.che.plugin.maven.server.execution.JavaParameters;
 import org.eclipse.che.maven.data.MavenArtifact;
 import org.eclipse.che.maven.data.MavenKey;
 import org.eclipse.che.maven.data.MavenModel;
 import org.eclipse.che.maven.data.MavenWorkspaceCache;
 import org.eclipse.che.maven.server.MavenProjectInfo;
+import org.eclipse.che.maven.server.MavenRemoteServer;
+import org.eclipse.che.maven.server.MavenServer;
 import org.eclipse.che.maven.server.MavenServerResult;
+import org.eclipse.che.maven.server.MavenSettings;
 import org.eclipse.che.maven.server.MavenTerminal;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
@@ -28,12 +33,23 @@ import org.testng.annotations.Test;
 import java.io.File;
 import java.io.Serializable;
 import java.rmi.RemoteException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -207,6 +223,137 @@ public class MavenServerManagerTest {
         mavenModel.getDependencies().forEach(mavenArtifact -> System.out.println(mavenArtifact.getFile().getAbsolutePath()));
     }
 
+    @Test
+    public void testWrapperIsBoundToLeastLoadedProcess() throws Exception {
+        FakeMavenServerManager pool = new FakeMavenServerManager(2, 0, 0);
+        try {
+            MavenServerWrapper first = pool.createMavenServer();
+            MavenServerWrapper second = pool.createMavenServer();
+            first.getLocalRepository();
+            second.getLocalRepository();
+            assertThat(pool.started).containsExactly(0, 1);
+
+            pool.disposed(first);
+            MavenServerWrapper third = pool.createMavenServer();
+            third.getLocalRepository();
+
+            assertThat(pool.started).containsExactly(0, 1);
+            verify(pool.servers.get(0), times(2)).createServer(any(MavenSettings.class));
+            verify(pool.servers.get(1)).createServer(any(MavenSettings.class));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testProcessIsRestartedAfterMaxTasksWhenItIsIdle() throws Exception {
+        FakeMavenServerManager pool = new FakeMavenServerManager(1, 2, 0);
+        try {
+            MavenServerWrapper wrapper = pool.createMavenServer();
+            pool.taskStarted(wrapper);
+            pool.interpolateModel(new MavenModel(), new File("."));
+            pool.interpolateModel(new MavenModel(), new File("."));
+            // the wrapper still runs its task
+            assertThat(pool.stopped).isEmpty();
+
+            pool.taskFinished(wrapper);
+            assertThat(pool.stopped).containsExactly(0);
+
+            pool.interpolateModel(new MavenModel(), new File("."));
+            assertThat(pool.started).containsExactly(0, 0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testHealthCheckRestartsProcessesWhichDoNotRespondOrUseTooMuchMemory() throws Exception {
+        FakeMavenServerManager pool = new FakeMavenServerManager(3, 0, 90);
+        try {
+            pool.checkServers();
+            assertThat(pool.started).containsExactly(0, 1, 2);
+
+            when(pool.servers.get(0).getUsedMemoryPercent()).thenThrow(new RemoteException("dead"));
+            when(pool.servers.get(1).getUsedMemoryPercent()).thenReturn(95);
+            when(pool.servers.get(2).getUsedMemoryPercent()).thenReturn(10);
+            pool.checkServers();
+            assertThat(pool.stopped).containsExactly(0, 1);
+
+            pool.checkServers();
+            assertThat(pool.started).containsExactly(0, 1, 2, 0, 1);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testProjectsAreResolvedInOneBatch() throws Exception {
+        MavenServerWrapper wrapper = mock(MavenServerWrapper.class);
+        List<File> poms = Arrays.asList(new File("a/pom.xml"), new File("b/pom.xml"));
+        when(wrapper.resolveProjects(eq(poms), anyListOf(String.class), anyListOf(String.class)))
+                .thenReturn(Arrays.asList(resolved("a"), resolved("b")));
+
+        List<MavenModelReaderResult> results = new MavenModelReader()
+                .resolveMavenProjects(poms, wrapper, Collections.emptyList(), Collections.emptyList(), manager);
+
+        assertThat(results).hasSize(2);
+        assertEquals("a", results.get(0).getMavenModel().getMavenKey().getArtifactId());
+        assertEquals("b", results.get(1).getMavenModel().getMavenKey().getArtifactId());
+        verify(wrapper, never()).resolveProject(any(File.class), anyListOf(String.class), anyListOf(String.class));
+    }
+
+    @Test
+    public void testProjectsAreResolvedOneByOneWhenBatchReturnsWrongNumberOfResults() throws Exception {
+        MavenServerWrapper wrapper = mock(MavenServerWrapper.class);
+        File first = new File("a/pom.xml");
+        File second = new File("b/pom.xml");
+        List<File> poms = Arrays.asList(first, second);
+        when(wrapper.resolveProjects(eq(poms), anyListOf(String.class), anyListOf(String.class)))
+                .thenReturn(Collections.singletonList(resolved("b")));
+        when(wrapper.resolveProject(eq(first), anyListOf(String.class), anyListOf(String.class))).thenReturn(resolved("a"));
+        when(wrapper.resolveProject(eq(second), anyListOf(String.class), anyListOf(String.class))).thenReturn(resolved("b"));
+
+        List<MavenModelReaderResult> results = new MavenModelReader()
+                .resolveMavenProjects(poms, wrapper, Collections.emptyList(), Collections.emptyList(), manager);
+
+        assertThat(results).hasSize(2);
+        assertEquals("a", results.get(0).getMavenModel().getMavenKey().getArtifactId());
+        assertEquals("b", results.get(1).getMavenModel().getMavenKey().getArtifactId());
+    }
+
+    private static MavenServerResult resolved(String artifactId) {
+        MavenModel model = new MavenModel();
+        model.setMavenKey(new MavenKey("org.test", artifactId, "1.0"));
+        return new MavenServerResult(new MavenProjectInfo(model, Collections.emptyMap(), Collections.emptyList()),
+                                     new ArrayList<>(),
+                                     Collections.emptySet());
+    }
+
+    /** Pool which doesn't start maven server processes but uses mocks instead of them. */
+    private static class FakeMavenServerManager extends MavenServerManager {
+        final Map<Integer, MavenRemoteServer> servers = new HashMap<>();
+        final List<Integer>                   started = new ArrayList<>();
+        final List<Integer>                   stopped = new ArrayList<>();
+
+        FakeMavenServerManager(int poolSize, int maxTasks, int maxMemoryPercent) {
+            super("test", poolSize, maxTasks, maxMemoryPercent, "512m");
+        }
+
+        @Override
+        protected synchronized MavenRemoteServer acquireServer(int id) throws Exception {
+            MavenRemoteServer server = mock(MavenRemoteServer.class);
+            when(server.createServer(any(MavenSettings.class))).thenAnswer(invocation -> mock(MavenServer.class));
+            servers.put(id, server);
+            started.add(id);
+            return server;
+        }
+
+        @Override
+        protected synchronized void stopServer(int id) {
+            stopped.add(id);
+        }
+    }
+
     private static class MyMavenTerminal implements MavenTerminal, Serializable {
         @Override
         public void print(int level, String message, Throwable throwable) throws RemoteException {
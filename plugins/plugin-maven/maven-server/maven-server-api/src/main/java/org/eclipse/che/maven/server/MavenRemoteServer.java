@@ -29,4 +29,10 @@ public interface MavenRemoteServer extends Remote {
     MavenServer createServer(MavenSettings settings) throws RemoteException;
 
     MavenModel interpolateModel(MavenModel model, File projectDir) throws RemoteException;
+
+    /**
+     * Returns percent of the max heap size which is currently used by maven server process.
+     * Is also used for checking whether maven server process is alive.
+     */
+    int getUsedMemoryPercent() throws RemoteException;
 }
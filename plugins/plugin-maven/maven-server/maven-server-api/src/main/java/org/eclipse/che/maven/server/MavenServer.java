@@ -34,6 +34,12 @@ public interface MavenServer extends Remote {
 
     MavenServerResult resolveProject(File pom, List<String> activeProfiles, List<String> inactiveProfiles) throws RemoteException;
 
+    /**
+     * Resolves several projects with the same profiles in one call, results are in the same order as {@code poms}.
+     */
+    List<MavenServerResult> resolveProjects(List<File> poms, List<String> activeProfiles, List<String> inactiveProfiles)
+            throws RemoteException;
+
     MavenArtifact resolveArtifact(MavenArtifactKey artifactKey, List<MavenRemoteRepository> remoteRepositories) throws RemoteException;
 
     void reset() throws RemoteException;
@@ -28,12 +28,20 @@ public class MavenServerResult implements Serializable {
     private final MavenProjectInfo          projectInfo;
     private final List<MavenProjectProblem> problems;
     private final Set<MavenKey>             unresolvedArtifacts;
+    private final long                      resolveTime;
 
     public MavenServerResult(MavenProjectInfo projectInfo, List<MavenProjectProblem> problems, Set<MavenKey> unresolvedArtifacts) {
+        this(projectInfo, problems, unresolvedArtifacts, 0);
+    }
+
+    public MavenServerResult(MavenProjectInfo projectInfo,
+                             List<MavenProjectProblem> problems,
+                             Set<MavenKey> unresolvedArtifacts,
+                             long resolveTime) {
         this.projectInfo = projectInfo;
         this.problems = problems;
         this.unresolvedArtifacts = unresolvedArtifacts;
-
+        this.resolveTime = resolveTime;
     }
 
     public MavenProjectInfo getProjectInfo() {
@@ -48,4 +56,9 @@ public class MavenServerResult implements Serializable {
         return unresolvedArtifacts;
     }
 
+    /** Returns time in milliseconds spent by maven server on resolving of the project. */
+    public long getResolveTime() {
+        return resolveTime;
+    }
+
 }
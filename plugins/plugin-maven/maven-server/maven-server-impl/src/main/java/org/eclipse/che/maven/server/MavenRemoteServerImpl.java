@@ -49,6 +49,13 @@ public class MavenRemoteServerImpl extends MavenRmiObject implements MavenRemote
         }
     }
 
+    @Override
+    public int getUsedMemoryPercent() throws RemoteException {
+        Runtime runtime = Runtime.getRuntime();
+        long used = runtime.totalMemory() - runtime.freeMemory();
+        return (int)(used * 100 / runtime.maxMemory());
+    }
+
     @Override
     public void unreferenced() {
         System.exit(0);
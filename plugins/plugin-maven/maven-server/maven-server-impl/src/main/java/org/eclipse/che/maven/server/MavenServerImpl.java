@@ -372,10 +372,25 @@ public class MavenServerImpl extends MavenRmiObject implements MavenServer {
 
     @Override
     public MavenServerResult resolveProject(File pom, List<String> activeProfiles, List<String> inactiveProfiles) throws RemoteException {
+        long start = System.currentTimeMillis();
         DependencyTreeResolutionListener listener = new DependencyTreeResolutionListener(terminalLogger);
         MavenResult mavenResult = internalResolveProject(pom, activeProfiles, inactiveProfiles, Collections.singletonList(listener));
 
-        return createResult(pom, mavenResult);
+        MavenServerResult result = createResult(pom, mavenResult);
+        return new MavenServerResult(result.getProjectInfo(),
+                                     result.getProblems(),
+                                     result.getUnresolvedArtifacts(),
+                                     System.currentTimeMillis() - start);
+    }
+
+    @Override
+    public List<MavenServerResult> resolveProjects(List<File> poms, List<String> activeProfiles, List<String> inactiveProfiles)
+            throws RemoteException {
+        List<MavenServerResult> results = new ArrayList<>(poms.size());
+        for (File pom : poms) {
+            results.add(resolveProject(pom, activeProfiles, inactiveProfiles));
+        }
+        return results;
     }
 
     @Override
@@ -40,6 +40,8 @@ import org.eclipse.che.ide.editor.orion.client.jso.OrionTextViewOverlay;
 import org.eclipse.che.ide.api.editor.codeassist.Completion;
 import org.eclipse.che.ide.api.editor.codeassist.CompletionProposal;
 import org.eclipse.che.ide.api.editor.codeassist.CompletionProposalExtension;
+import org.eclipse.che.ide.api.editor.codeassist.CompletionReadyCallback;
+import org.eclipse.che.ide.api.editor.codeassist.MoreCompletionProposals;
 import org.eclipse.che.ide.api.editor.events.CompletionRequestEvent;
 import org.eclipse.che.ide.ui.popup.PopupResources;
 import org.eclipse.che.ide.api.editor.text.LinearRange;
@@ -85,6 +87,10 @@ public class ContentAssistWidget implements EventListener {
     private Element   selectedElement;
     private FlowPanel docPopup;
 
+    /** The item of the proposals which aren't retrieved yet and the proposal behind it. */
+    private Element                 moreProposalsElement;
+    private MoreCompletionProposals moreProposals;
+
     private OrionTextViewOverlay.EventHandler<OrionModelChangedEventOverlay> handler;
 
     @AssistedInject
@@ -187,9 +193,19 @@ public class ContentAssistWidget implements EventListener {
         // add item to the popup
         listElement.appendChild(element);
 
+        if (proposal instanceof MoreCompletionProposals) {
+            moreProposalsElement = element;
+            moreProposals = (MoreCompletionProposals)proposal;
+        }
+
         final EventListener validateListener = new EventListener() {
             @Override
             public void handleEvent(final Event evt) {
+                if (proposal instanceof MoreCompletionProposals) {
+                    loadMoreProposals();
+                    return;
+                }
+
                 CompletionProposal.CompletionCallback callback = new CompletionProposal.CompletionCallback() {
                     @Override
                     public void onCompletion(final Completion completion) {
@@ -239,6 +255,46 @@ public class ContentAssistWidget implements EventListener {
         }, false);
     }
 
+    /**
+     * Replaces the item of the proposals which aren't retrieved yet with the next part of the proposals.
+     */
+    private void loadMoreProposals() {
+        if (moreProposals == null) {
+            return;
+        }
+
+        final Element placeholderElement = moreProposalsElement;
+        final MoreCompletionProposals placeholder = moreProposals;
+        // the next part is requested only once, the new part brings its own placeholder if there are still more proposals
+        moreProposalsElement = null;
+        moreProposals = null;
+
+        placeholder.getMoreProposals(new CompletionReadyCallback() {
+            @Override
+            public void onCompletionReady(List<CompletionProposal> proposals) {
+                // popup was hidden or filled with other proposals meanwhile
+                if (!visible || placeholderElement.getParentNode() != listElement) {
+                    return;
+                }
+
+                final Element previousElement = placeholderElement.getPreviousElementSibling();
+                final boolean placeholderSelected = placeholderElement == selectedElement;
+                listElement.removeChild(placeholderElement);
+
+                for (CompletionProposal proposal : proposals) {
+                    addProposalPopupItem(proposal);
+                }
+
+                final Element firstNewElement = previousElement != null ? previousElement.getNextElementSibling()
+                                                                        : listElement.getFirstElementChild();
+                final Element elementToSelect = firstNewElement != null ? firstNewElement : previousElement;
+                if (placeholderSelected && elementToSelect != null) {
+                    selectElement(elementToSelect);
+                }
+            }
+        });
+    }
+
     private void addPopupEventListeners() {
         Elements.getDocument().addEventListener(Event.MOUSEDOWN, this.popupListener, false);
 
@@ -387,6 +443,10 @@ public class ContentAssistWidget implements EventListener {
         selectedElement = element;
         selectedElement.setAttribute("selected", "true");
 
+        if (selectedElement == moreProposalsElement) {
+            loadMoreProposals();
+        }
+
         if (selectedElement.getOffsetTop() < this.popupBodyElement.getScrollTop()) {
             selectedElement.scrollIntoView(true);
         } else if ((selectedElement.getOffsetTop() + selectedElement.getOffsetHeight()) >
@@ -418,6 +478,8 @@ public class ContentAssistWidget implements EventListener {
 
         /** The fastest way to remove element children. Clear and add items. */
         listElement.setInnerHTML("");
+        moreProposalsElement = null;
+        moreProposals = null;
 
         /* Display an empty popup when it is nothing to show. */
         if (proposals == null || proposals.isEmpty()) {
@@ -549,6 +611,8 @@ public class ContentAssistWidget implements EventListener {
 
         visible = false;
         selectedElement = null;
+        moreProposalsElement = null;
+        moreProposals = null;
         showDocTimer.cancel();
 
         removePopupEventListeners();
@@ -139,7 +139,7 @@ public class UpstreamUtils {
 
         final Process process = processBuilder.start();
 
-        final Watchdog watcher;
+        Watchdog watcher = null;
 
         if (timeout > 0) {
             watcher = new Watchdog(timeout, TimeUnit.MILLISECONDS);
@@ -152,6 +152,10 @@ public class UpstreamUtils {
             process.waitFor();
         } catch (InterruptedException e) {
             throw new IOException(e);
+        } finally {
+            if (watcher != null) {
+                watcher.stop();
+            }
         }
 
         return new CommandLineResult(command, process.exitValue(), stdOutConsumer.getOutput(), stdErrConsumer.getOutput());
@@ -29,6 +29,7 @@ import org.testng.annotations.Test;
 import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 import static org.eclipse.che.dto.server.DtoFactory.newDto;
@@ -85,6 +86,33 @@ public class ShowFileContentTest {
         assertEquals("new file content", response.getContent());
     }
 
+    @Test(dataProvider = "GitConnectionFactory", dataProviderClass = GitConnectionFactoryProvider.class)
+    public void testShowFileContentInUtf8(GitConnectionFactory connectionFactory) throws Exception {
+        //given
+        GitConnection connection = connectToInitializedGitRepository(connectionFactory, repository);
+        String content = "Stra\u00dfe \u043f\u0440\u0438\u0432\u0456\u0442 \u20ac \u65e5\u672c";
+        Files.write(content.getBytes(StandardCharsets.UTF_8), new File(connection.getWorkingDir(), "newFile"));
+        connection.add(newDto(AddRequest.class).withFilepattern(Arrays.asList(".")));
+        connection.commit(newDto(CommitRequest.class).withMessage("Test commit"));
+        //when
+        final ShowFileContentResponse response = connection.showFileContent(newDto(ShowFileContentRequest.class).withFile("newFile").withVersion("HEAD"));
+        //then
+        assertEquals(response.getContent(), content);
+    }
+
+    @Test(dataProvider = "GitConnectionFactory", dataProviderClass = GitConnectionFactoryProvider.class)
+    public void testShowFileContentWithOriginalLineSeparators(GitConnectionFactory connectionFactory) throws Exception {
+        //given
+        GitConnection connection = connectToInitializedGitRepository(connectionFactory, repository);
+        String content = "first\r\nsecond\nthird\n\n";
+        addFile(connection, "newFile", content);
+        connection.add(newDto(AddRequest.class).withFilepattern(Arrays.asList(".")));
+        connection.commit(newDto(CommitRequest.class).withMessage("Test commit"));
+        //when
+        final ShowFileContentResponse response = connection.showFileContent(newDto(ShowFileContentRequest.class).withFile("newFile").withVersion("HEAD"));
+        //then
+        assertEquals(response.getContent(), content);
+    }
 
     @Test(dataProvider = "GitConnectionFactory", dataProviderClass = GitConnectionFactoryProvider.class,
           expectedExceptions = GitException.class, expectedExceptionsMessageRegExp = "fatal: Path 'dummyFile' does not exist in 'HEAD'\n")
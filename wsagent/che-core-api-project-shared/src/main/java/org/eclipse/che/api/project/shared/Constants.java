@@ -17,6 +17,7 @@ public class Constants {
 
     public static final String BLANK_ID                = "blank";
     public static final String ZIP_IMPORTER_ID         = "zip";
+    public static final String SYNC_IMPORTER_ID        = "sync";
     public static final String VCS_PROVIDER_NAME       = "vcs.provider.name";
     // rels for known project links
     public static final String LINK_REL_GET_PROJECTS   = "get projects";
@@ -15,6 +15,7 @@ import org.eclipse.che.api.core.rest.shared.dto.Link;
 import org.eclipse.che.api.workspace.shared.dto.ProjectConfigDto;
 import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.dto.shared.DTO;
+import org.eclipse.che.dto.shared.SerializationIndex;
 
 import java.util.List;
 import java.util.Map;
@@ -25,6 +26,7 @@ import java.util.Map;
 @DTO
 public interface ItemReference extends Hyperlinks {
     /** Get name of item. */
+    @SerializationIndex(2)
     String getName();
 
     /** Set name of item. */
@@ -33,6 +35,7 @@ public interface ItemReference extends Hyperlinks {
     ItemReference withName(String name);
 
     /** Get type of item, e.g. "file", "folder" or "project". */
+    @SerializationIndex(3)
     String getType();
 
     /** Set type of item, e.g. "file" or "folder" or "project". */
@@ -41,11 +44,13 @@ public interface ItemReference extends Hyperlinks {
     ItemReference withType(String type);
 
     /** Get project path. */
+    @SerializationIndex(4)
     String getProject();
 
     ItemReference withProject(String project);
 
     /** Get path of item. */
+    @SerializationIndex(5)
     String getPath();
 
     /** Set path of item. */
@@ -58,6 +63,7 @@ public interface ItemReference extends Hyperlinks {
     /**
      * Attributes
      */
+    @SerializationIndex(6)
     Map<String, String> getAttributes();
 
     void setAttributes(Map<String, String> attributes);
@@ -66,6 +72,7 @@ public interface ItemReference extends Hyperlinks {
 
 
     /** last modified date. */
+    @SerializationIndex(7)
     long getModified();
 
     void setModified(long modified);
@@ -74,6 +81,7 @@ public interface ItemReference extends Hyperlinks {
 
 
     /** content length for file */
+    @SerializationIndex(8)
     long getContentLength();
 
     void setContentLength(long length);
@@ -82,6 +90,7 @@ public interface ItemReference extends Hyperlinks {
 
     /** The method can return {@code null} value. {@link ProjectConfigDto} exist only for project and modules in other cases it is null. */
     @Nullable
+    @SerializationIndex(9)
     ProjectConfigDto getProjectConfig();
 
     void setProjectConfig(ProjectConfigDto config);
@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.shared.dto;
+
+import org.eclipse.che.api.project.shared.dto.event.VfsWatchEvent;
+import org.eclipse.che.dto.shared.DTO;
+
+import java.util.List;
+
+/**
+ * Changes of workspace items recorded by the change journal of the workspace agent since some version of the journal.
+ * <p/>
+ * If {@link #isTruncated()} returns {@code true} changes since requested version aren't available anymore, e.g. they are
+ * dropped from the journal or the journal is started again after restart of the agent, and client has to read all its
+ * items again.
+ */
+@DTO
+public interface ResourceChanges {
+    /** Returns identifier of the journal, it is changed when the journal is started again. */
+    String getJournalId();
+
+    void setJournalId(String journalId);
+
+    ResourceChanges withJournalId(String journalId);
+
+    /** Returns version of the journal which includes all returned changes. */
+    long getVersion();
+
+    void setVersion(long version);
+
+    ResourceChanges withVersion(long version);
+
+    /** Returns {@code true} if some changes since requested version aren't available. */
+    boolean isTruncated();
+
+    void setTruncated(boolean truncated);
+
+    ResourceChanges withTruncated(boolean truncated);
+
+    /** Returns changed items, each item is listed once with its last change. */
+    List<VfsWatchEvent> getChanges();
+
+    void setChanges(List<VfsWatchEvent> changes);
+
+    ResourceChanges withChanges(List<VfsWatchEvent> changes);
+}
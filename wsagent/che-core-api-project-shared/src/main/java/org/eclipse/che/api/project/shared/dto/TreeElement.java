@@ -11,6 +11,7 @@
 package org.eclipse.che.api.project.shared.dto;
 
 import org.eclipse.che.dto.shared.DTO;
+import org.eclipse.che.dto.shared.SerializationIndex;
 
 import java.util.List;
 
@@ -19,12 +20,14 @@ import java.util.List;
  */
 @DTO
 public interface TreeElement {
+    @SerializationIndex(1)
     ItemReference getNode();
 
     void setNode(ItemReference node);
 
     TreeElement withNode(ItemReference node);
 
+    @SerializationIndex(2)
     List<TreeElement> getChildren();
 
     void setChildren(List<TreeElement> children);
@@ -18,6 +18,7 @@ import org.eclipse.che.api.project.server.handlers.CreateBaseProjectTypeHandler;
 import org.eclipse.che.api.project.server.handlers.ProjectHandler;
 import org.eclipse.che.api.project.server.importer.ProjectImporter;
 import org.eclipse.che.api.project.server.importer.ProjectImportersService;
+import org.eclipse.che.api.project.server.notification.ResourceChangeJournal;
 import org.eclipse.che.api.project.server.type.BaseProjectType;
 import org.eclipse.che.api.project.server.type.InitBaseProjectTypeHandler;
 import org.eclipse.che.api.project.server.type.ProjectTypeDef;
@@ -44,6 +45,7 @@ public class ProjectApiModule extends AbstractModule {
     protected void configure() {
         Multibinder<ProjectImporter> projectImportersMultibinder = Multibinder.newSetBinder(binder(), ProjectImporter.class);
         projectImportersMultibinder.addBinding().to(ZipProjectImporter.class);
+        projectImportersMultibinder.addBinding().to(SyncProjectImporter.class);
 
         Multibinder.newSetBinder(binder(), ProjectTypeDef.class).addBinding().to(BaseProjectType.class);
 
@@ -52,6 +54,7 @@ public class ProjectApiModule extends AbstractModule {
         projectHandlersMultibinder.addBinding().to(InitBaseProjectTypeHandler.class);
 
         bind(ProjectRegistry.class).asEagerSingleton();
+        bind(ResourceChangeJournal.class).asEagerSingleton();
         bind(ProjectService.class);
         bind(ProjectTypeService.class);
         bind(ProjectImportersService.class);
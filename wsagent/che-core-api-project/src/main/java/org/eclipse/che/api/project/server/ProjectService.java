@@ -32,13 +32,16 @@ import org.eclipse.che.api.core.rest.annotations.Description;
 import org.eclipse.che.api.core.rest.annotations.GenerateLink;
 import org.eclipse.che.api.core.rest.shared.dto.Link;
 import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent;
+import org.eclipse.che.api.project.server.notification.ResourceChangeJournal;
 import org.eclipse.che.api.project.server.type.ProjectTypeResolution;
 import org.eclipse.che.api.project.shared.dto.CopyOptions;
 import org.eclipse.che.api.project.shared.dto.ItemReference;
 import org.eclipse.che.api.project.shared.dto.MoveOptions;
+import org.eclipse.che.api.project.shared.dto.ResourceChanges;
 import org.eclipse.che.api.project.shared.dto.SourceEstimation;
 import org.eclipse.che.api.project.shared.dto.TreeElement;
 import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.api.vfs.VirtualFileFilter;
 import org.eclipse.che.api.vfs.search.QueryExpression;
 import org.eclipse.che.api.vfs.search.SearchResult;
 import org.eclipse.che.api.vfs.search.SearchResultEntry;
@@ -67,6 +70,7 @@ import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriBuilder;
 import java.io.IOException;
 import java.io.InputStream;
@@ -86,6 +90,7 @@ import static javax.ws.rs.HttpMethod.PUT;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 import static org.eclipse.che.api.core.util.LinksHelper.createLink;
 import static org.eclipse.che.api.project.server.DtoConverter.asDto;
+import static org.eclipse.che.api.project.server.ProjectTreeWriter.PATH_PLACEHOLDER;
 import static org.eclipse.che.api.project.shared.Constants.LINK_REL_CHILDREN;
 import static org.eclipse.che.api.project.shared.Constants.LINK_REL_CREATE_PROJECT;
 import static org.eclipse.che.api.project.shared.Constants.LINK_REL_DELETE;
@@ -112,14 +117,19 @@ public class ProjectService extends Service {
     private static final Logger LOG  = LoggerFactory.getLogger(ProjectService.class);
     private static final Tika   TIKA = new Tika();
 
-    private final ProjectManager projectManager;
-    private final EventService   eventService;
-    private final String         workspace;
+    /** Fake item path which is used for building link templates, it must stay untouched after URI encoding. */
+    private static final String LINK_TEMPLATE_PATH = "/__path__";
+
+    private final ProjectManager        projectManager;
+    private final EventService          eventService;
+    private final ResourceChangeJournal changeJournal;
+    private final String                workspace;
 
     @Inject
-    public ProjectService(ProjectManager projectManager, EventService eventService) {
+    public ProjectService(ProjectManager projectManager, EventService eventService, ResourceChangeJournal changeJournal) {
         this.projectManager = projectManager;
         this.eventService = eventService;
+        this.changeJournal = changeJournal;
         this.workspace = WorkspaceIdProvider.getWorkspaceId();
     }
 
@@ -690,16 +700,81 @@ public class ProjectService extends Service {
                    @ApiResponse(code = 403, message = "User not authorized to call this operation"),
                    @ApiResponse(code = 404, message = "Not found"),
                    @ApiResponse(code = 500, message = "Internal Server Error")})
-    public InputStream exportZip(@ApiParam(value = "Path to resource to be exported")
-                                 @PathParam("path") String path) throws NotFoundException, ForbiddenException, ServerException {
+    public Response exportZip(@ApiParam(value = "Path to resource to be exported")
+                              @PathParam("path") String path) throws NotFoundException, ForbiddenException, ServerException {
+
+        final FolderEntry folder = projectManager.asFolder(path);
+
+        if (folder == null) {
+            throw new NotFoundException("Folder not found " + path);
+        }
+
+        final VirtualFile virtualFile = folder.getVirtualFile();
+        // archive is written straight to the response while folder is compressed
+        final StreamingOutput zip = output -> {
+            try {
+                virtualFile.zip(output);
+            } catch (ForbiddenException | ServerException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        };
+        return Response.ok(zip, ExtMediaType.APPLICATION_ZIP).build();
+    }
+
+    @GET
+    @Path("/manifest/{path:.*}")
+    @Produces(APPLICATION_JSON)
+    @ApiOperation(value = "Get manifest of folder",
+                  notes = "Get MD5 sums of all files of folder, keys are paths of files relative to the folder. " +
+                          "Manifest is used for synchronization of folder with its copy, see sync method")
+    @ApiResponses({@ApiResponse(code = 200, message = "OK"),
+                   @ApiResponse(code = 404, message = "Not found"),
+                   @ApiResponse(code = 500, message = "Internal Server Error")})
+    public Map<String, String> getManifest(@ApiParam(value = "Path to folder")
+                                           @PathParam("path") String path) throws NotFoundException, ServerException {
+        final FolderEntry folder = projectManager.asFolder(path);
+
+        if (folder == null) {
+            throw new NotFoundException("Folder not found " + path);
+        }
+
+        return ProjectSync.manifest(folder.getVirtualFile());
+    }
 
+    @POST
+    @Path("/sync/{path:.*}")
+    @Consumes(APPLICATION_JSON)
+    @Produces(ExtMediaType.APPLICATION_ZIP)
+    @ApiOperation(value = "Download changed files as ZIP",
+                  notes = "Export files of folder which are missing in the given manifest or have other MD5 sums in it. " +
+                          "Manifest of the receiver's copy of the folder is sent in the request body")
+    @ApiResponses({@ApiResponse(code = 200, message = "OK"),
+                   @ApiResponse(code = 404, message = "Not found"),
+                   @ApiResponse(code = 500, message = "Internal Server Error")})
+    public Response sync(@ApiParam(value = "Path to folder")
+                         @PathParam("path") String path,
+                         @ApiParam(value = "Manifest of the receiver's copy of the folder")
+                         Map<String, String> receiverManifest) throws NotFoundException, ServerException {
         final FolderEntry folder = projectManager.asFolder(path);
 
         if (folder == null) {
             throw new NotFoundException("Folder not found " + path);
         }
 
-        return folder.getVirtualFile().zip();
+        final VirtualFile virtualFile = folder.getVirtualFile();
+        final Map<String, String> manifest = ProjectSync.manifest(virtualFile);
+        final VirtualFileFilter changedFiles = ProjectSync.changedFilesFilter(virtualFile,
+                                                                              manifest,
+                                                                              receiverManifest == null ? Collections.emptyMap()
+                                                                                                       : receiverManifest);
+        final StreamingOutput zip = output -> {
+            try {
+                virtualFile.zip(output, changedFiles);
+            } catch (ForbiddenException | ServerException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        };
+        return Response.ok(zip, ExtMediaType.APPLICATION_ZIP).build();
     }
 
     @GET
@@ -782,6 +857,64 @@ public class ProjectService extends Service {
                                         .withChildren(getTree(folder, depth, includeFiles));
     }
 
+    @GET
+    @Path("/changes")
+    @Produces(MediaType.APPLICATION_JSON)
+    @ApiOperation(value = "Get changes of items",
+                  notes = "Get items changed since the given version of the change journal. If the changes aren't available " +
+                          "anymore the response is marked as truncated and client should read its items again",
+                  response = ResourceChanges.class)
+    @ApiResponses({@ApiResponse(code = 200, message = "OK"),
+                   @ApiResponse(code = 500, message = "Internal Server Error")})
+    public ResourceChanges getChanges(@ApiParam(value = "Identifier of the change journal received with the previous changes")
+                                      @QueryParam("journal") String journalId,
+                                      @ApiParam(value = "Version of the change journal received with the previous changes")
+                                      @DefaultValue("-1") @QueryParam("since") long since) {
+        return changeJournal.getChanges(journalId, since);
+    }
+
+    @GET
+    @Path("/stream/tree/{parent:.*}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @ApiOperation(value = "Stream project tree",
+                  notes = "Get project tree as a flat list of items which is written while the tree is walked. Link templates are " +
+                          "sent once instead of per item. If the number of items exceeds the limit, the response contains a " +
+                          "continuation token that should be passed to the next request to get the rest of the tree")
+    @ApiResponses({@ApiResponse(code = 200, message = "OK"),
+                   @ApiResponse(code = 400, message = "Invalid continuation token"),
+                   @ApiResponse(code = 403, message = "User not authorized to call this operation"),
+                   @ApiResponse(code = 404, message = "Not found"),
+                   @ApiResponse(code = 500, message = "Internal Server Error")})
+    public Response streamTree(@ApiParam(value = "Path to resource. Can be project or its folders", required = true)
+                               @PathParam("parent") String path,
+                               @ApiParam(value = "Tree depth. This parameter can be dropped. If not specified ?depth=1 is used by default")
+                               @DefaultValue("1") @QueryParam("depth") int depth,
+                               @ApiParam(value = "include children files (in addition to children folders). This parameter can be dropped" +
+                                                 ". If not specified ?includeFiles=false is used by default")
+                               @DefaultValue("false") @QueryParam("includeFiles") boolean includeFiles,
+                               @ApiParam(value = "Maximum items to send in one response. If this parameter is dropped, there are no limits")
+                               @DefaultValue("-1") @QueryParam("limit") int limit,
+                               @ApiParam(value = "Continuation token received in previous response")
+                               @QueryParam("continuation") String continuation) throws NotFoundException,
+                                                                                       BadRequestException,
+                                                                                       ServerException {
+        final FolderEntry folder = projectManager.asFolder(path);
+
+        if (folder == null) {
+            throw new NotFoundException("Folder not found " + path);
+        }
+
+        return Response.ok(new ProjectTreeWriter(folder,
+                                                 depth,
+                                                 includeFiles,
+                                                 limit,
+                                                 continuation,
+                                                 asLinkTemplates(injectFileLinks(newDto(ItemReference.class).withPath(LINK_TEMPLATE_PATH))),
+                                                 asLinkTemplates(injectFolderLinks(newDto(ItemReference.class).withPath(LINK_TEMPLATE_PATH)))),
+                           MediaType.APPLICATION_JSON)
+                       .build();
+    }
+
     @GET
     @Path("/item/{path:.*}")
     @Produces(MediaType.APPLICATION_JSON)
@@ -1083,6 +1216,15 @@ public class ProjectService extends Service {
         return itemReference.withLinks(links);
     }
 
+    /** Replaces fake item path in links of the given item with {@link ProjectTreeWriter#PATH_PLACEHOLDER}. */
+    private List<Link> asLinkTemplates(ItemReference itemReference) {
+        final String fakePath = LINK_TEMPLATE_PATH.substring(1);
+        for (Link link : itemReference.getLinks()) {
+            link.setHref(link.getHref().replace(fakePath, PATH_PLACEHOLDER));
+        }
+        return itemReference.getLinks();
+    }
+
     private ProjectConfigDto injectProjectLinks(ProjectConfigDto projectConfig) {
         final UriBuilder uriBuilder = getServiceContext().getServiceUriBuilder();
         final List<Link> links = new ArrayList<>();
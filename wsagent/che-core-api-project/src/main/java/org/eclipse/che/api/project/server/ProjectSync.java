@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.vfs.Path;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.api.vfs.VirtualFileFilter;
+import org.eclipse.che.commons.lang.Pair;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Helpers for delta synchronization of folders. Folders are compared by manifests, each manifest maps path of file
+ * relative to the folder to MD5 sum of its content, so only files which are missing or differ on the receiver side
+ * need to be transferred.
+ */
+public final class ProjectSync {
+
+    /**
+     * Counts manifest of the folder. Content of <i>.git</i> folders isn't included in the manifest since it is never
+     * exported.
+     */
+    public static Map<String, String> manifest(VirtualFile folder) throws ServerException {
+        final Map<String, String> manifest = new TreeMap<>();
+        for (Pair<String, String> hashSum : folder.countMd5Sums()) {
+            if (!isInDotGit(hashSum.second)) {
+                manifest.put(hashSum.second, hashSum.first);
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * Creates filter that accepts files of the folder which are missing in {@code receiverManifest} or have other MD5
+     * sum than in {@code manifest} and all the folders which contain such files.
+     *
+     * @param folder
+     *         folder which is compared
+     * @param manifest
+     *         manifest of the folder
+     * @param receiverManifest
+     *         manifest of the folder on the receiver side
+     */
+    public static VirtualFileFilter changedFilesFilter(VirtualFile folder,
+                                                       Map<String, String> manifest,
+                                                       Map<String, String> receiverManifest) {
+        final Set<Path> accepted = new HashSet<>();
+        final Path folderPath = folder.getPath();
+        accepted.add(folderPath);
+        for (Map.Entry<String, String> entry : manifest.entrySet()) {
+            if (!entry.getValue().equals(receiverManifest.get(entry.getKey()))) {
+                Path path = folderPath.newPath(entry.getKey());
+                while (accepted.add(path)) {
+                    path = path.getParent();
+                }
+            }
+        }
+        return file -> accepted.contains(file.getPath());
+    }
+
+    /** Returns paths of files which are present in {@code receiverManifest} but missing in {@code manifest}. */
+    public static List<String> removedFiles(Map<String, String> manifest, Map<String, String> receiverManifest) {
+        return receiverManifest.keySet()
+                               .stream()
+                               .filter(path -> !manifest.containsKey(path))
+                               .collect(toList());
+    }
+
+    private static boolean isInDotGit(String path) {
+        return path.startsWith(".git/") || path.contains("/.git/");
+    }
+
+    private ProjectSync() {
+    }
+}
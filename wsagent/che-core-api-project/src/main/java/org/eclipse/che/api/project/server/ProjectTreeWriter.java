@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+import com.google.gson.stream.JsonWriter;
+
+import org.eclipse.che.api.core.BadRequestException;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.rest.shared.dto.Link;
+
+import javax.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a folder tree straight to the response while walking it, instead of building the whole {@code TreeElement} structure
+ * in memory first.
+ * <p/>
+ * Items are written as a flat array in pre-order (parent before its children, siblings sorted by name), so the client may
+ * restore the hierarchy from item paths. Links are not injected into every item, link templates are written once at the
+ * beginning of the document instead and the client substitutes {@link #PATH_PLACEHOLDER} with the item path (without leading
+ * slash). Document looks like:
+ * <pre>
+ * {
+ *   "fileLinks"    : [{"rel" : "...", "href" : ".../file/{path}", "method" : "GET", ...}, ...],
+ *   "folderLinks"  : [...],
+ *   "node"         : {"name" : "a", "path" : "/project/a", "type" : "folder", ...},
+ *   "items"        : [{"name" : "b", "path" : "/project/a/b", "type" : "folder", ...}, ...],
+ *   "continuation" : "L3Byb2plY3QvYS9i"
+ * }
+ * </pre>
+ * If number of written items reaches the limit walking stops and {@code continuation} token is written. The same request with
+ * this token continues the walk right after the last written item. The token doesn't hold any state on the server side.
+ */
+class ProjectTreeWriter implements StreamingOutput {
+    static final String PATH_PLACEHOLDER = "{path}";
+
+    private static final Comparator<VirtualFileEntry> BY_NAME = Comparator.comparing(VirtualFileEntry::getName);
+
+    private final FolderEntry root;
+    private final int         depth;
+    private final boolean     includeFiles;
+    private final int         limit;
+    private final String[]    resumeSegments;
+    private final List<Link>  fileLinks;
+    private final List<Link>  folderLinks;
+
+    private int    written;
+    private String lastWrittenPath;
+
+    /**
+     * @param root
+     *         folder to start walking from
+     * @param depth
+     *         depth of the tree, {@code 1} means direct children of {@code root}
+     * @param includeFiles
+     *         if {@code true} files are written in addition to folders
+     * @param limit
+     *         max number of items to write in one response, value {@code <= 0} means no limit
+     * @param continuation
+     *         token received in previous response or {@code null} to start from the beginning
+     * @param fileLinks
+     *         link templates applicable to files
+     * @param folderLinks
+     *         link templates applicable to folders
+     * @throws BadRequestException
+     *         if continuation token is malformed or doesn't point inside {@code root}
+     */
+    ProjectTreeWriter(FolderEntry root,
+                      int depth,
+                      boolean includeFiles,
+                      int limit,
+                      String continuation,
+                      List<Link> fileLinks,
+                      List<Link> folderLinks) throws BadRequestException {
+        this.root = root;
+        this.depth = depth;
+        this.includeFiles = includeFiles;
+        this.limit = limit;
+        this.fileLinks = fileLinks;
+        this.folderLinks = folderLinks;
+        this.resumeSegments = continuation == null || continuation.isEmpty() ? null : parseContinuation(continuation);
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        final JsonWriter writer = new JsonWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        try {
+            writer.beginObject();
+            writer.name("fileLinks");
+            writeLinks(writer, fileLinks);
+            writer.name("folderLinks");
+            writeLinks(writer, folderLinks);
+            if (resumeSegments == null) {
+                writer.name("node");
+                writeItem(writer, root);
+            }
+            writer.name("items");
+            writer.beginArray();
+            final boolean completed = writeChildren(writer, root, depth, 0);
+            writer.endArray();
+            if (!completed) {
+                writer.name("continuation").value(Base64.getUrlEncoder().encodeToString(lastWrittenPath.getBytes(StandardCharsets.UTF_8)));
+            }
+            writer.endObject();
+        } catch (ServerException e) {
+            throw new IOException(e.getLocalizedMessage(), e);
+        }
+        writer.flush();
+    }
+
+    /**
+     * Writes children of the given folder recursively.
+     *
+     * @param level
+     *         level of the {@code folder} relative to the root, is used for locating position of continuation token
+     * @return {@code false} if limit is reached and walking must be stopped
+     */
+    private boolean writeChildren(JsonWriter writer, FolderEntry folder, int depth, int level) throws ServerException,
+                                                                                                      IOException {
+        if (depth == 0) {
+            return true;
+        }
+
+        final List<VirtualFileEntry> children;
+        if (includeFiles) {
+            children = folder.getChildFoldersFiles();
+        } else {
+            children = new ArrayList<>(folder.getChildFolders());
+        }
+        children.sort(BY_NAME);
+
+        // folder is on the path to the last item written in previous response
+        final boolean resuming = resumeSegments != null && level < resumeSegments.length;
+
+        for (VirtualFileEntry child : children) {
+            if (resuming) {
+                final int cmp = child.getName().compareTo(resumeSegments[level]);
+                if (cmp < 0) {
+                    continue;
+                }
+                if (cmp == 0) {
+                    // item was written already but its children may not be
+                    if (child.isFolder() && !writeChildren(writer, (FolderEntry)child, depth - 1, level + 1)) {
+                        return false;
+                    }
+                    continue;
+                }
+            }
+
+            if (limit > 0 && written >= limit) {
+                return false;
+            }
+            writeItem(writer, child);
+            written++;
+            lastWrittenPath = child.getPath().toString();
+
+            if (child.isFolder() && !writeChildren(writer, (FolderEntry)child, depth - 1, Integer.MAX_VALUE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeItem(JsonWriter writer, VirtualFileEntry item) throws ServerException, IOException {
+        writer.beginObject();
+        writer.name("name").value(item.getName());
+        writer.name("path").value(item.getPath().toString());
+        if (item.isFile()) {
+            writer.name("type").value("file");
+            writer.name("contentLength").value(item.getVirtualFile().getLength());
+        } else {
+            writer.name("type").value(((FolderEntry)item).isProject() ? "project" : "folder");
+        }
+        writer.name("modified").value(item.getModified());
+        final Map<String, String> attributes = item.getAttributes();
+        if (attributes != null && !attributes.isEmpty()) {
+            writer.name("attributes");
+            writer.beginObject();
+            for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+                writer.name(attribute.getKey()).value(attribute.getValue());
+            }
+            writer.endObject();
+        }
+        writer.endObject();
+    }
+
+    private void writeLinks(JsonWriter writer, List<Link> links) throws IOException {
+        writer.beginArray();
+        for (Link link : links) {
+            writer.beginObject();
+            writer.name("rel").value(link.getRel());
+            writer.name("href").value(link.getHref());
+            writer.name("method").value(link.getMethod());
+            if (link.getProduces() != null) {
+                writer.name("produces").value(link.getProduces());
+            }
+            if (link.getConsumes() != null) {
+                writer.name("consumes").value(link.getConsumes());
+            }
+            writer.endObject();
+        }
+        writer.endArray();
+    }
+
+    private String[] parseContinuation(String continuation) throws BadRequestException {
+        final String path;
+        try {
+            path = new String(Base64.getUrlDecoder().decode(continuation), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid continuation token: " + continuation);
+        }
+
+        final String rootPath = root.getPath().toString();
+        final String prefix = rootPath.endsWith("/") ? rootPath : rootPath + '/';
+        if (!path.startsWith(prefix) || path.length() == prefix.length()) {
+            throw new BadRequestException("Continuation token doesn't belong to " + rootPath);
+        }
+        return path.substring(prefix.length()).split("/");
+    }
+}
@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+import com.google.common.io.CharStreams;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import org.eclipse.che.api.core.ConflictException;
+import org.eclipse.che.api.core.ForbiddenException;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.model.project.SourceStorage;
+import org.eclipse.che.api.core.util.LineConsumer;
+import org.eclipse.che.api.core.util.LineConsumerFactory;
+import org.eclipse.che.api.project.server.importer.ProjectImporter;
+import org.eclipse.che.api.vfs.Path;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.commons.env.EnvironmentContext;
+import org.eclipse.che.commons.subject.Subject;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import javax.ws.rs.core.HttpHeaders;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import static org.eclipse.che.api.project.shared.Constants.SYNC_IMPORTER_ID;
+
+/**
+ * Imports project from project service of another workspace agent and keeps it in sync with the source on the
+ * next imports.
+ * <p/>
+ * Location of the source storage is URL of sync method of remote project service, e.g.
+ * <i>http://host:port/api/ext/project/workspace-id/sync/project</i>. Manifest of remote project is compared with
+ * manifest of local copy and only missing or changed files are downloaded. Files which are removed in remote project
+ * are removed from local copy together with folders which become empty. Requests are authorized with token of the
+ * current user only if location points to the same scheme, host and port as API endpoint, requests to any other host are
+ * sent without credentials.
+ */
+@Singleton
+public class SyncProjectImporter implements ProjectImporter {
+    private static final Type MANIFEST_TYPE = new TypeToken<Map<String, String>>() {}.getType();
+
+    private static final Gson GSON = new Gson();
+
+    private final URL apiEndpoint;
+
+    @Inject
+    public SyncProjectImporter(@Named("api.endpoint") String apiEndpoint) throws MalformedURLException {
+        this.apiEndpoint = new URL(apiEndpoint);
+    }
+
+    @Override
+    public String getId() {
+        return SYNC_IMPORTER_ID;
+    }
+
+    @Override
+    public boolean isInternal() {
+        return false;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Import project from another workspace agent, only changed files are transferred on re-import.";
+    }
+
+    @Override
+    public void importSources(FolderEntry baseFolder, SourceStorage storage) throws ForbiddenException,
+                                                                                    ConflictException,
+                                                                                    IOException,
+                                                                                    ServerException {
+        importSources(baseFolder, storage, LineConsumerFactory.NULL);
+    }
+
+    @Override
+    public void importSources(FolderEntry baseFolder,
+                              SourceStorage storage,
+                              LineConsumerFactory importOutputConsumerFactory) throws ForbiddenException,
+                                                                                      ConflictException,
+                                                                                      IOException,
+                                                                                      ServerException {
+        final String location = storage.getLocation();
+        final int syncSegment = location.lastIndexOf("/sync/");
+        if (!(location.startsWith("http://") || location.startsWith("https://")) || syncSegment == -1) {
+            throw new IOException(String.format("Invalid location %s, URL of sync method of project service is expected",
+                                                location));
+        }
+        final URL syncUrl = new URL(location);
+        final URL manifestUrl = new URL(location.substring(0, syncSegment) + "/manifest/"
+                                        + location.substring(syncSegment + "/sync/".length()));
+
+        final VirtualFile folder = baseFolder.getVirtualFile();
+        try (LineConsumer output = importOutputConsumerFactory.newLineConsumer()) {
+            final Map<String, String> remoteManifest = getManifest(manifestUrl);
+            final Map<String, String> localManifest = ProjectSync.manifest(folder);
+
+            if (!remoteManifest.equals(localManifest)) {
+                output.writeLine("Downloading changed files from " + location);
+                final HttpURLConnection conn = (HttpURLConnection)syncUrl.openConnection();
+                try {
+                    conn.setRequestMethod("POST");
+                    conn.setDoOutput(true);
+                    conn.setRequestProperty(HttpHeaders.CONTENT_TYPE, "application/json");
+                    authorize(conn);
+                    try (OutputStream body = conn.getOutputStream()) {
+                        body.write(GSON.toJson(localManifest).getBytes(StandardCharsets.UTF_8));
+                    }
+                    checkResponse(conn, syncUrl);
+                    try (InputStream zip = conn.getInputStream()) {
+                        folder.unzip(zip, true, 0);
+                    }
+                } finally {
+                    conn.disconnect();
+                }
+            }
+
+            final List<String> removed = ProjectSync.removedFiles(remoteManifest, localManifest);
+            // deepest folders go first, so folder which contains only empty folders is removed as well
+            final TreeSet<Path> parents = new TreeSet<>(Comparator.comparingInt(Path::length)
+                                                                  .reversed()
+                                                                  .thenComparing(Path::toString));
+            for (String path : removed) {
+                final Path relativePath = Path.of(path);
+                final VirtualFile file = folder.getChild(relativePath);
+                if (file != null) {
+                    file.delete();
+                }
+                for (Path parent = relativePath.getParent(); parent != null && !parent.isRoot(); parent = parent.getParent()) {
+                    parents.add(parent);
+                }
+            }
+            for (Path path : parents) {
+                final VirtualFile parent = folder.getChild(path);
+                if (parent != null && parent.isFolder() && parent.getChildren().isEmpty()) {
+                    parent.delete();
+                }
+            }
+            if (!removed.isEmpty()) {
+                output.writeLine(String.format("Removed %d files", removed.size()));
+            }
+        }
+    }
+
+    @Override
+    public ImporterCategory getCategory() {
+        return ImporterCategory.ARCHIVE;
+    }
+
+    private Map<String, String> getManifest(URL manifestUrl) throws IOException {
+        final HttpURLConnection conn = (HttpURLConnection)manifestUrl.openConnection();
+        try {
+            conn.setRequestProperty(HttpHeaders.ACCEPT, "application/json");
+            authorize(conn);
+            checkResponse(conn, manifestUrl);
+            try (Reader reader = new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8)) {
+                return GSON.fromJson(reader, MANIFEST_TYPE);
+            }
+        } finally {
+            conn.disconnect();
+        }
+    }
+
+    /**
+     * Adds token of the current user to the request, in the same way as {@code HttpJsonRequest} does. Location is given by
+     * user, so token is never sent to other origin than API endpoint.
+     */
+    private void authorize(HttpURLConnection conn) {
+        final Subject subject = EnvironmentContext.getCurrent().getSubject();
+        if (subject != null && subject.getToken() != null && isSameOrigin(conn.getURL(), apiEndpoint)) {
+            // redirect may lead to other host, headers of the request are sent there as well
+            conn.setInstanceFollowRedirects(false);
+            conn.setRequestProperty(HttpHeaders.AUTHORIZATION, subject.getToken());
+        }
+    }
+
+    private static boolean isSameOrigin(URL url, URL other) {
+        return url.getProtocol().equalsIgnoreCase(other.getProtocol())
+               && url.getHost().equalsIgnoreCase(other.getHost())
+               && port(url) == port(other);
+    }
+
+    private static int port(URL url) {
+        return url.getPort() == -1 ? url.getDefaultPort() : url.getPort();
+    }
+
+    private void checkResponse(HttpURLConnection conn, URL url) throws IOException {
+        final int responseCode = conn.getResponseCode();
+        if (responseCode / 100 != 2) {
+            String error = "";
+            final InputStream errorStream = conn.getErrorStream();
+            if (errorStream != null) {
+                try (Reader reader = new InputStreamReader(errorStream, StandardCharsets.UTF_8)) {
+                    error = CharStreams.toString(reader);
+                }
+            }
+            throw new IOException(String.format("Request to %s failed with status %d. %s", url, responseCode, error));
+        }
+    }
+}
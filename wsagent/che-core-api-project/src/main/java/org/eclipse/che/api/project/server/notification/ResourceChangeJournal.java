@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server.notification;
+
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.core.notification.EventSubscriber;
+import org.eclipse.che.api.project.shared.dto.ResourceChanges;
+import org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType;
+import org.eclipse.che.api.project.shared.dto.event.VfsWatchEvent;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.CREATED;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.DELETED;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.MODIFIED;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+
+/**
+ * Bounded journal of changes of workspace items.
+ * <p/>
+ * Journal records changes found by file watcher and changes made through project API. Each change gets next version
+ * of the journal, so client which remembers version of the journal may get all changes since that version instead of
+ * reading all its items again. Journal keeps last {@link #CAPACITY} changes only, older changes are dropped and client
+ * which asks for them gets {@link ResourceChanges#isTruncated() truncated} response.
+ */
+@Singleton
+public class ResourceChangeJournal {
+    static final int CAPACITY = 10000;
+
+    private final String                 id;
+    private final int                    capacity;
+    private final String[]               paths;
+    private final FileWatcherEventType[] types;
+    private final boolean[]              files;
+
+    /** Version of the last recorded change, version of the first change is 1. */
+    private long version;
+
+    @Inject
+    public ResourceChangeJournal(EventService eventService) {
+        this(eventService, CAPACITY);
+    }
+
+    ResourceChangeJournal(EventService eventService, int capacity) {
+        this.id = UUID.randomUUID().toString();
+        this.capacity = capacity;
+        this.paths = new String[capacity];
+        this.types = new FileWatcherEventType[capacity];
+        this.files = new boolean[capacity];
+        eventService.subscribe(new EventSubscriber<VfsWatchEvent>() {
+            @Override
+            public void onEvent(VfsWatchEvent event) {
+                record(event.getPath(), event.getType(), event.isFile());
+            }
+        });
+        eventService.subscribe(new EventSubscriber<ProjectItemModifiedEvent>() {
+            @Override
+            public void onEvent(ProjectItemModifiedEvent event) {
+                onProjectItemModified(event);
+            }
+        });
+    }
+
+    /** Returns identifier of the journal, it is different after each start of the agent. */
+    public String getId() {
+        return id;
+    }
+
+    /** Returns version of the last recorded change or {@code 0} if there are no changes yet. */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns changes recorded after the given version. Each changed item is listed once, in order of its last change.
+     *
+     * @param journalId
+     *         identifier of the journal which {@code since} belongs to, may be {@code null}
+     * @param since
+     *         version of the journal known to the client
+     * @return changes since the given version or truncated response if these changes aren't available in the journal
+     */
+    public synchronized ResourceChanges getChanges(String journalId, long since) {
+        final ResourceChanges changes = newDto(ResourceChanges.class).withJournalId(id)
+                                                                     .withVersion(version)
+                                                                     .withChanges(new ArrayList<>());
+        if (!id.equals(journalId) || since > version || since < version - Math.min(version, capacity)) {
+            return changes.withTruncated(true);
+        }
+        final Map<String, VfsWatchEvent> items = new LinkedHashMap<>();
+        for (long v = since + 1; v <= version; v++) {
+            final int index = index(v);
+            final VfsWatchEvent previous = items.remove(paths[index]);
+            final FileWatcherEventType type = previous != null && previous.getType() == CREATED && types[index] == MODIFIED
+                                              ? CREATED : types[index];
+            items.put(paths[index], newDto(VfsWatchEvent.class).withPath(paths[index])
+                                                               .withType(type)
+                                                               .withFile(files[index]));
+        }
+        changes.getChanges().addAll(items.values());
+        return changes;
+    }
+
+    synchronized void record(String path, FileWatcherEventType type, boolean file) {
+        final int index = index(++version);
+        paths[index] = path;
+        types[index] = type;
+        files[index] = file;
+    }
+
+    private void onProjectItemModified(ProjectItemModifiedEvent event) {
+        final boolean file = !event.isFolder();
+        switch (event.getType()) {
+            case CREATED:
+                record(event.getPath(), CREATED, file);
+                break;
+            case UPDATED:
+                record(event.getPath(), MODIFIED, file);
+                break;
+            case DELETED:
+                record(event.getPath(), DELETED, file);
+                break;
+            case MOVED:
+            case RENAMED:
+                if (event.getOldPath() != null) {
+                    record(event.getOldPath(), DELETED, file);
+                }
+                record(event.getPath(), CREATED, file);
+                break;
+        }
+    }
+
+    private int index(long version) {
+        return (int)((version - 1) % capacity);
+    }
+}
@@ -14,6 +14,7 @@ import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.notification.EventSubscriber;
 import org.eclipse.che.api.project.shared.dto.event.VfsWatchEvent;
 import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.everrest.JsonChannelBroadcastMessage;
 import org.everrest.websockets.WSConnectionContext;
 import org.everrest.websockets.message.ChannelBroadcastMessage;
 import org.slf4j.Logger;
@@ -43,9 +44,8 @@ public class VfsWatchBroadcaster implements EventSubscriber<VfsWatchEvent> {
     public void onEvent(VfsWatchEvent event) {
 
         try {
-            final ChannelBroadcastMessage bm = new ChannelBroadcastMessage();
-            bm.setChannel(VfsWatchEvent.VFS_CHANNEL);
-            bm.setBody(DtoFactory.getInstance().toJson(event));
+            final ChannelBroadcastMessage bm = new JsonChannelBroadcastMessage(VfsWatchEvent.VFS_CHANNEL,
+                                                                               DtoFactory.getInstance().toJson(event));
             WSConnectionContext.sendMessage(bm);
         } catch (Exception e) {
             LOG.error(e.getLocalizedMessage(), e);
@@ -10,9 +10,11 @@
  *******************************************************************************/
 package org.eclipse.che.api.vfs;
 
+import com.google.common.cache.Cache;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hasher;
 import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.ServerException;
@@ -21,6 +23,11 @@ import org.eclipse.che.commons.lang.Pair;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.hash.Funnels.asOutputStream;
@@ -28,17 +35,50 @@ import static com.google.common.hash.Funnels.asOutputStream;
 /**
  * Traverses recursively all files in folder given in constructor and calculates hash sum for each file.
  * Algorithm specified by {@code hashFunction} is used for calculating hash sum.
+ * <p/>
+ * Files are hashed in parallel on a pool shared by all counters. If {@code cache} is given hash sum of file is taken
+ * from it while modification date and length of file stay the same, so only changed files are read again.
+ * <p/>
+ * Note that the cache can't notice change of file which is rewritten outside of the virtual file system with content of
+ * the same length within resolution of modification date of the file system (one second on some file systems), such
+ * file keeps its stale hash sum until it is changed again or the entry is evicted. Updates of content with
+ * {@link VirtualFile#updateContent} invalidate cached entry explicitly.
  */
 public class HashSumsCounter implements VirtualFileVisitor {
-    private final VirtualFile                folder;
-    private final HashFunction               hashFunction;
-    private final List<Pair<String, String>> hashSums;
+    private static final ThreadPoolExecutor EXECUTOR;
 
+    static {
+        final int threads = Runtime.getRuntime().availableProcessors();
+        EXECUTOR = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                                          new ThreadFactoryBuilder().setNameFormat("HashSumsCounter-%d")
+                                                                    .setDaemon(true)
+                                                                    .build());
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    private final VirtualFile             folder;
+    private final HashFunction            hashFunction;
+    private final Cache<Path, CachedHash> cache;
+    private final List<VirtualFile>       files;
 
     public HashSumsCounter(VirtualFile folder, HashFunction hashFunction) {
+        this(folder, hashFunction, null);
+    }
+
+    /**
+     * @param folder
+     *         folder to traverse
+     * @param hashFunction
+     *         algorithm of hash sum
+     * @param cache
+     *         cache of already counted hash sums, may be {@code null}. Cache must not be shared between counters that use
+     *         different hash functions
+     */
+    public HashSumsCounter(VirtualFile folder, HashFunction hashFunction, Cache<Path, CachedHash> cache) {
         this.folder = folder;
         this.hashFunction = hashFunction;
-        hashSums = newArrayList();
+        this.cache = cache;
+        files = newArrayList();
     }
 
     /**
@@ -50,27 +90,88 @@ public class HashSumsCounter implements VirtualFileVisitor {
      * </pre>
      */
     public List<Pair<String, String>> countHashSums() throws ServerException {
+        files.clear();
         folder.accept(this);
+        final List<Pair<String, String>> hashSums = newArrayList();
+        if (files.size() < 2) {
+            for (VirtualFile file : files) {
+                hashSums.add(Pair.of(countHashSum(file), file.getPath().subPath(folder.getPath()).toString()));
+            }
+            return hashSums;
+        }
+        final List<Future<String>> futures = newArrayList();
+        try {
+            for (VirtualFile file : files) {
+                futures.add(EXECUTOR.submit(() -> countHashSum(file)));
+            }
+            for (int i = 0; i < files.size(); i++) {
+                hashSums.add(Pair.of(futures.get(i).get(), files.get(i).getPath().subPath(folder.getPath()).toString()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("Counting of hash sums is interrupted");
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof ServerException) {
+                throw (ServerException)cause;
+            }
+            throw new ServerException(cause.getMessage(), cause);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
         return hashSums;
     }
 
     @Override
     public void visit(VirtualFile virtualFile) throws ServerException {
         if (virtualFile.isFile()) {
-            try (InputStream in = virtualFile.getContent()) {
-                final Hasher hasher = hashFunction.newHasher();
-                ByteStreams.copy(in, asOutputStream(hasher));
-                final String hexHash = hasher.hash().toString();
-                hashSums.add(Pair.of(hexHash, virtualFile.getPath().subPath(folder.getPath()).toString()));
-            } catch (IOException e) {
-                throw new ServerException(e);
-            } catch (ForbiddenException e) {
-                throw new ServerException(e.getServiceError());
-            }
+            files.add(virtualFile);
         } else {
             for (VirtualFile child : virtualFile.getChildren()) {
                 child.accept(this);
             }
         }
     }
+
+    private String countHashSum(VirtualFile file) throws ServerException {
+        final long lastModified = file.getLastModificationDate();
+        final long length = file.getLength();
+        if (cache != null) {
+            final CachedHash cached = cache.getIfPresent(file.getPath());
+            if (cached != null && cached.lastModified == lastModified && cached.length == length) {
+                return cached.hash;
+            }
+        }
+        final String hexHash;
+        try (InputStream in = file.getContent()) {
+            final Hasher hasher = hashFunction.newHasher();
+            ByteStreams.copy(in, asOutputStream(hasher));
+            hexHash = hasher.hash().toString();
+        } catch (IOException e) {
+            throw new ServerException(e);
+        } catch (ForbiddenException e) {
+            throw new ServerException(e.getServiceError());
+        }
+        if (cache != null) {
+            cache.put(file.getPath(), new CachedHash(hexHash, lastModified, length));
+        }
+        return hexHash;
+    }
+
+    /** Hash sum of file together with modification date and length of file at the moment of counting. */
+    public static final class CachedHash {
+        private final String hash;
+        private final long   lastModified;
+        private final long   length;
+
+        public CachedHash(String hash, long lastModified, long length) {
+            this.hash = hash;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+
+        public String getHash() {
+            return hash;
+        }
+    }
 }
@@ -0,0 +1,537 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.eclipse.che.api.core.ForbiddenException;
+import org.eclipse.che.api.core.ServerException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Writes zip archive straight to the output while content of files is deflated in parallel.
+ * <p/>
+ * Files which aren't bigger than {@link #MAX_BLOCK_SIZE} are read and deflated by shared compressor threads, each file
+ * into independent block in memory. Blocks are written to the output in the order entries are added, not more than
+ * {@link #MAX_PENDING_BYTES} of files are kept in memory at once. Bigger files are deflated by the calling thread
+ * straight to the output. Files which are already compressed, e.g. jars, images or archives, and files which don't
+ * become smaller after deflating are stored without compression.
+ * <p/>
+ * Nothing is spooled in temporary files, so the output gets the first bytes as soon as the first entry is ready.
+ * Zip64 extensions are used when archive has too many entries or is too big for plain zip format.
+ */
+final class ParallelZipOutput implements Closeable {
+    static final int  MAX_BLOCK_SIZE    = 4 * 1024 * 1024;
+    static final long MAX_PENDING_BYTES = 32 * 1024 * 1024;
+
+    /** Extensions of files which are stored in archive without compression. */
+    static final Set<String> STORED_EXTENSIONS = ImmutableSet.of("zip", "jar", "war", "ear", "apk", "gz", "tgz", "bz2", "xz", "7z",
+                                                                 "rar", "png", "jpg", "jpeg", "gif", "ico", "webp", "mp3",
+                                                                 "mp4", "ogg", "avi", "mov", "woff", "woff2", "pdf");
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final int  LOCAL_HEADER_SIGNATURE    = 0x04034b50;
+    private static final int  DATA_DESCRIPTOR_SIGNATURE = 0x08074b50;
+    private static final int  CENTRAL_HEADER_SIGNATURE  = 0x02014b50;
+    private static final int  ZIP64_END_SIGNATURE       = 0x06064b50;
+    private static final int  ZIP64_LOCATOR_SIGNATURE   = 0x07064b50;
+    private static final int  END_SIGNATURE             = 0x06054b50;
+    private static final int  ZIP64_EXTRA_ID            = 0x0001;
+    private static final long ZIP64_MAGIC               = 0xFFFFFFFFL;
+    private static final int  ZIP64_MAGIC_COUNT         = 0xFFFF;
+
+    private static final int STORED   = 0;
+    private static final int DEFLATED = 8;
+
+    private static final int FLAG_DATA_DESCRIPTOR = 0x0008;
+    private static final int FLAG_UTF8            = 0x0800;
+
+    private static final int VERSION_STORED   = 10;
+    private static final int VERSION_DEFLATED = 20;
+    private static final int VERSION_ZIP64    = 45;
+
+    private static final ThreadLocal<Deflater> DEFLATERS = ThreadLocal.withInitial(() -> new Deflater(Deflater.DEFAULT_COMPRESSION, true));
+
+    private static class CompressorsHolder {
+        static final ThreadPoolExecutor COMPRESSORS;
+
+        static {
+            final int threads = Runtime.getRuntime().availableProcessors();
+            COMPRESSORS = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                                                 new ThreadFactoryBuilder().setNameFormat("ZipCompressor-%d")
+                                                                           .setDaemon(true)
+                                                                           .build());
+            COMPRESSORS.allowCoreThreadTimeOut(true);
+        }
+    }
+
+    private final OutputStream         output;
+    private final boolean              parallel;
+    private final Deque<Future<Entry>> pending;
+    private final List<Entry>          written;
+    private final byte[]               numberBuffer;
+
+    private long    offset;
+    private long    pendingBytes;
+    private boolean finished;
+
+    ParallelZipOutput(OutputStream output) {
+        this.output = output;
+        this.parallel = Runtime.getRuntime().availableProcessors() > 1;
+        this.pending = new ArrayDeque<>();
+        this.written = new ArrayList<>();
+        this.numberBuffer = new byte[8];
+    }
+
+    /**
+     * Adds folder entry.
+     *
+     * @param name
+     *         name of the entry, must end with '/'
+     * @param time
+     *         modification time of the folder
+     */
+    void putFolder(String name, long time) throws IOException, ServerException {
+        final Entry entry = new Entry(name, time);
+        entry.method = STORED;
+        entry.data = new byte[0];
+        entry.crc = new CRC32().getValue();
+        pending.add(CompletableFuture.completedFuture(entry));
+        writeCompleted(false);
+    }
+
+    /**
+     * Adds file entry. Content of the file is read and compressed asynchronously, so the file must not be changed until
+     * archive is finished.
+     *
+     * @param name
+     *         name of the entry
+     * @param file
+     *         file to add
+     */
+    void putFile(String name, VirtualFile file) throws IOException, ServerException {
+        final Entry entry = new Entry(name, file.getLastModificationDate());
+        final boolean store = isCompressed(file.getName());
+        final long length = file.getLength();
+        if (length > MAX_BLOCK_SIZE) {
+            writeCompleted(true);
+            writeStreamed(entry, file, length, store);
+            return;
+        }
+        if (parallel) {
+            entry.pendingBytes = length;
+            pendingBytes += length;
+            pending.add(CompressorsHolder.COMPRESSORS.submit(() -> compress(entry, file, store)));
+        } else {
+            try {
+                pending.add(CompletableFuture.completedFuture(compress(entry, file, store)));
+            } catch (ForbiddenException e) {
+                throw new ServerException(e.getServiceError());
+            }
+        }
+        writeCompleted(false);
+    }
+
+    /** Writes all pending entries and central directory. Output isn't closed. */
+    void finish() throws IOException, ServerException {
+        if (finished) {
+            return;
+        }
+        writeCompleted(true);
+        final long centralDirectoryOffset = offset;
+        for (Entry entry : written) {
+            writeCentralHeader(entry);
+        }
+        writeEnd(centralDirectoryOffset, offset - centralDirectoryOffset);
+        output.flush();
+        finished = true;
+    }
+
+    /** Cancels compression of pending entries and closes the output. Archive is incomplete if it isn't finished. */
+    @Override
+    public void close() throws IOException {
+        for (Future<Entry> future : pending) {
+            future.cancel(true);
+        }
+        pending.clear();
+        output.close();
+    }
+
+    static boolean isCompressed(String fileName) {
+        final int dot = fileName.lastIndexOf('.');
+        return dot > 0 && STORED_EXTENSIONS.contains(fileName.substring(dot + 1).toLowerCase(Locale.ENGLISH));
+    }
+
+    /**
+     * Writes pending entries in order they are added.
+     *
+     * @param all
+     *         if {@code true} all pending entries are written, otherwise entries are written until size of pending files
+     *         is less than {@link #MAX_PENDING_BYTES} and then while compression of the next entry is done
+     */
+    private void writeCompleted(boolean all) throws IOException, ServerException {
+        while (!pending.isEmpty() && (all || pendingBytes > MAX_PENDING_BYTES || pending.peek().isDone())) {
+            final Entry entry = await(pending.poll());
+            pendingBytes -= entry.pendingBytes;
+            entry.offset = offset;
+            writeLocalHeader(entry);
+            write(entry.data, 0, entry.data.length);
+            entry.data = null;
+            written.add(entry);
+        }
+    }
+
+    private Entry await(Future<Entry> future) throws IOException, ServerException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for compression of zip entry");
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            } else if (cause instanceof ServerException) {
+                throw (ServerException)cause;
+            } else if (cause instanceof ForbiddenException) {
+                throw new ServerException(((ForbiddenException)cause).getServiceError());
+            }
+            throw new ServerException(cause.getMessage(), cause);
+        }
+    }
+
+    /** Reads file and compresses its content into the entry, executed by compressor thread. */
+    private static Entry compress(Entry entry, VirtualFile file, boolean store) throws IOException, ForbiddenException, ServerException {
+        final byte[] content;
+        try (InputStream in = file.getContent()) {
+            content = ByteStreams.toByteArray(in);
+        }
+        final CRC32 crc = new CRC32();
+        crc.update(content);
+        entry.crc = crc.getValue();
+        entry.size = content.length;
+        entry.method = STORED;
+        entry.data = content;
+        if (!store && content.length > 0) {
+            final byte[] deflated = deflate(content);
+            if (deflated != null) {
+                entry.method = DEFLATED;
+                entry.data = deflated;
+            }
+        }
+        entry.compressedSize = entry.data.length;
+        return entry;
+    }
+
+    /** Returns deflated content or {@code null} if deflated content isn't smaller than original one. */
+    private static byte[] deflate(byte[] content) {
+        final Deflater deflater = DEFLATERS.get();
+        deflater.reset();
+        deflater.setInput(content);
+        deflater.finish();
+        final ByteArrayOutputStream deflated = new ByteArrayOutputStream(Math.min(content.length, BUFFER_SIZE));
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        while (!deflater.finished()) {
+            deflated.write(buffer, 0, deflater.deflate(buffer));
+            if (deflated.size() >= content.length) {
+                return null;
+            }
+        }
+        return deflated.toByteArray();
+    }
+
+    /** Writes big file by the calling thread. */
+    private void writeStreamed(Entry entry, VirtualFile file, long length, boolean store) throws IOException, ServerException {
+        entry.offset = offset;
+        try {
+            if (store) {
+                // stored entry must have size and crc in local header, so file is read twice
+                final CRC32 crc = new CRC32();
+                long size = 0;
+                final byte[] buffer = new byte[BUFFER_SIZE];
+                try (InputStream in = file.getContent()) {
+                    int r;
+                    while ((r = in.read(buffer)) != -1) {
+                        crc.update(buffer, 0, r);
+                        size += r;
+                    }
+                }
+                entry.method = STORED;
+                entry.crc = crc.getValue();
+                entry.size = entry.compressedSize = size;
+                writeLocalHeader(entry);
+                long copied = 0;
+                try (InputStream in = file.getContent()) {
+                    int r;
+                    while (copied < size && (r = in.read(buffer, 0, (int)Math.min(buffer.length, size - copied))) != -1) {
+                        write(buffer, 0, r);
+                        copied += r;
+                    }
+                }
+                if (copied != size) {
+                    throw new IOException(String.format("File '%s' is changed while it is added in archive", file.getPath()));
+                }
+            } else {
+                entry.method = DEFLATED;
+                entry.flags |= FLAG_DATA_DESCRIPTOR;
+                // sizes are unknown until file is deflated, so zip64 is chosen by the worst size of deflated file
+                entry.zip64 = deflateBound(length) >= ZIP64_MAGIC;
+                writeLocalHeader(entry);
+                writeDeflated(entry, file);
+                if (!entry.zip64 && (entry.size >= ZIP64_MAGIC || entry.compressedSize >= ZIP64_MAGIC)) {
+                    throw new IOException(String.format("File '%s' is changed while it is added in archive", file.getPath()));
+                }
+                writeDataDescriptor(entry);
+            }
+        } catch (ForbiddenException e) {
+            throw new ServerException(e.getServiceError());
+        }
+        written.add(entry);
+    }
+
+    private void writeDeflated(Entry entry, VirtualFile file) throws IOException, ForbiddenException, ServerException {
+        final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try (InputStream in = file.getContent()) {
+            final CRC32 crc = new CRC32();
+            final byte[] input = new byte[BUFFER_SIZE];
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            int r;
+            while ((r = in.read(input)) != -1) {
+                crc.update(input, 0, r);
+                deflater.setInput(input, 0, r);
+                while (!deflater.needsInput()) {
+                    write(buffer, 0, deflater.deflate(buffer));
+                }
+            }
+            deflater.finish();
+            while (!deflater.finished()) {
+                write(buffer, 0, deflater.deflate(buffer));
+            }
+            entry.crc = crc.getValue();
+            entry.size = deflater.getBytesRead();
+            entry.compressedSize = deflater.getBytesWritten();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /** Returns maximal size of deflated content of the given size, the same bound zlib uses. */
+    static long deflateBound(long size) {
+        return size + (size >>> 12) + (size >>> 14) + (size >>> 25) + 13;
+    }
+
+    /**
+     * Writes local header of the entry. Header of entry with data descriptor has zero crc and sizes, if such entry is
+     * marked as zip64 its header gets zip64 extra with zero sizes and data descriptor gets 8-byte sizes.
+     */
+    private void writeLocalHeader(Entry entry) throws IOException {
+        final boolean dataDescriptor = (entry.flags & FLAG_DATA_DESCRIPTOR) != 0;
+        final boolean zip64 = entry.zip64 || entry.size >= ZIP64_MAGIC || entry.compressedSize >= ZIP64_MAGIC;
+        writeInt(LOCAL_HEADER_SIGNATURE);
+        writeShort(zip64 ? VERSION_ZIP64 : entry.version());
+        writeShort(entry.flags);
+        writeShort(entry.method);
+        writeInt(entry.dosTime);
+        writeInt(dataDescriptor ? 0 : entry.crc);
+        writeInt(zip64 ? ZIP64_MAGIC : entry.compressedSize);
+        writeInt(zip64 ? ZIP64_MAGIC : entry.size);
+        writeShort(entry.name.length);
+        writeShort(zip64 ? 20 : 0);
+        write(entry.name, 0, entry.name.length);
+        if (zip64) {
+            writeShort(ZIP64_EXTRA_ID);
+            writeShort(16);
+            writeLong(entry.size);
+            writeLong(entry.compressedSize);
+        }
+    }
+
+    private void writeDataDescriptor(Entry entry) throws IOException {
+        writeInt(DATA_DESCRIPTOR_SIGNATURE);
+        writeInt(entry.crc);
+        if (entry.zip64) {
+            writeLong(entry.compressedSize);
+            writeLong(entry.size);
+        } else {
+            writeInt(entry.compressedSize);
+            writeInt(entry.size);
+        }
+    }
+
+    private void writeCentralHeader(Entry entry) throws IOException {
+        int zip64ExtraLength = 0;
+        if (entry.size >= ZIP64_MAGIC) {
+            zip64ExtraLength += 8;
+        }
+        if (entry.compressedSize >= ZIP64_MAGIC) {
+            zip64ExtraLength += 8;
+        }
+        if (entry.offset >= ZIP64_MAGIC) {
+            zip64ExtraLength += 8;
+        }
+        final boolean zip64 = zip64ExtraLength > 0;
+        final int version = zip64 ? VERSION_ZIP64 : entry.version();
+        writeInt(CENTRAL_HEADER_SIGNATURE);
+        writeShort(version);
+        writeShort(version);
+        writeShort(entry.flags);
+        writeShort(entry.method);
+        writeInt(entry.dosTime);
+        writeInt(entry.crc);
+        writeInt(Math.min(entry.compressedSize, ZIP64_MAGIC));
+        writeInt(Math.min(entry.size, ZIP64_MAGIC));
+        writeShort(entry.name.length);
+        writeShort(zip64 ? zip64ExtraLength + 4 : 0);
+        writeShort(0); // comment length
+        writeShort(0); // disk number
+        writeShort(0); // internal attributes
+        writeInt(0);   // external attributes
+        writeInt(Math.min(entry.offset, ZIP64_MAGIC));
+        write(entry.name, 0, entry.name.length);
+        if (zip64) {
+            writeShort(ZIP64_EXTRA_ID);
+            writeShort(zip64ExtraLength);
+            if (entry.size >= ZIP64_MAGIC) {
+                writeLong(entry.size);
+            }
+            if (entry.compressedSize >= ZIP64_MAGIC) {
+                writeLong(entry.compressedSize);
+            }
+            if (entry.offset >= ZIP64_MAGIC) {
+                writeLong(entry.offset);
+            }
+        }
+    }
+
+    private void writeEnd(long centralDirectoryOffset, long centralDirectoryLength) throws IOException {
+        final int count = written.size();
+        if (count >= ZIP64_MAGIC_COUNT || centralDirectoryOffset >= ZIP64_MAGIC || centralDirectoryLength >= ZIP64_MAGIC) {
+            final long zip64EndOffset = offset;
+            writeInt(ZIP64_END_SIGNATURE);
+            writeLong(44); // size of the rest of record
+            writeShort(VERSION_ZIP64);
+            writeShort(VERSION_ZIP64);
+            writeInt(0);
+            writeInt(0);
+            writeLong(count);
+            writeLong(count);
+            writeLong(centralDirectoryLength);
+            writeLong(centralDirectoryOffset);
+            writeInt(ZIP64_LOCATOR_SIGNATURE);
+            writeInt(0);
+            writeLong(zip64EndOffset);
+            writeInt(1);
+        }
+        writeInt(END_SIGNATURE);
+        writeShort(0);
+        writeShort(0);
+        writeShort(Math.min(count, ZIP64_MAGIC_COUNT));
+        writeShort(Math.min(count, ZIP64_MAGIC_COUNT));
+        writeInt(Math.min(centralDirectoryLength, ZIP64_MAGIC));
+        writeInt(Math.min(centralDirectoryOffset, ZIP64_MAGIC));
+        writeShort(0); // comment length
+    }
+
+    private void writeShort(int value) throws IOException {
+        numberBuffer[0] = (byte)value;
+        numberBuffer[1] = (byte)(value >>> 8);
+        write(numberBuffer, 0, 2);
+    }
+
+    private void writeInt(long value) throws IOException {
+        numberBuffer[0] = (byte)value;
+        numberBuffer[1] = (byte)(value >>> 8);
+        numberBuffer[2] = (byte)(value >>> 16);
+        numberBuffer[3] = (byte)(value >>> 24);
+        write(numberBuffer, 0, 4);
+    }
+
+    private void writeLong(long value) throws IOException {
+        for (int i = 0; i < 8; i++) {
+            numberBuffer[i] = (byte)(value >>> (i * 8));
+        }
+        write(numberBuffer, 0, 8);
+    }
+
+    private void write(byte[] bytes, int off, int len) throws IOException {
+        output.write(bytes, off, len);
+        offset += len;
+    }
+
+    /** Converts java time to MS-DOS date and time which is used in zip headers. */
+    static long toDosTime(long time) {
+        final LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault());
+        final int year = dateTime.getYear() - 1980;
+        if (year < 0) {
+            return (1 << 21) | (1 << 16);
+        }
+        return ((long)year << 25)
+               | (dateTime.getMonthValue() << 21)
+               | (dateTime.getDayOfMonth() << 16)
+               | (dateTime.getHour() << 11)
+               | (dateTime.getMinute() << 5)
+               | (dateTime.getSecond() >> 1);
+    }
+
+    private static class Entry {
+        final byte[] name;
+        final long   dosTime;
+
+        /** Size of the file accounted in pending bytes when entry is compressed asynchronously. */
+        long    pendingBytes;
+        int     flags;
+        int     method;
+        long    crc;
+        long    size;
+        long    compressedSize;
+        long    offset;
+        byte[]  data;
+        /** Whether sizes of entry with data descriptor are written as zip64, decided before the entry is written. */
+        boolean zip64;
+
+        Entry(String name, long time) {
+            this.name = name.getBytes(StandardCharsets.UTF_8);
+            this.dosTime = toDosTime(time);
+            this.flags = FLAG_UTF8;
+        }
+
+        int version() {
+            return method == DEFLATED ? VERSION_DEFLATED : VERSION_STORED;
+        }
+    }
+}
@@ -18,6 +18,7 @@ import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.commons.lang.Pair;
 
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -504,6 +505,35 @@ public interface VirtualFile extends Comparable<VirtualFile> {
      */
     InputStream zip() throws ForbiddenException, ServerException;
 
+    /**
+     * Writes content of folder denoted by this VirtualFile as zip archive to the output. Unlike {@link #zip()} archive
+     * is written while the folder is walked, so the output gets the first bytes before the whole folder is compressed.
+     *
+     * @param zipOutput
+     *         output for zipped content of folder, it is closed when archive is written
+     * @throws ForbiddenException
+     *         if this item does not denote a folder
+     * @throws ServerException
+     *         if other error occurs, e.g. writing to the output fails
+     */
+    void zip(OutputStream zipOutput) throws ForbiddenException, ServerException;
+
+    /**
+     * Writes items of folder denoted by this VirtualFile that are accepted by the filter as zip archive to the output.
+     * Folder that isn't accepted by the filter is skipped together with all its descendants.
+     *
+     * @param zipOutput
+     *         output for zipped content of folder, it is closed when archive is written
+     * @param filter
+     *         filter of items to add in archive
+     * @throws ForbiddenException
+     *         if this item does not denote a folder
+     * @throws ServerException
+     *         if other error occurs, e.g. writing to the output fails
+     * @see #zip(OutputStream)
+     */
+    void zip(OutputStream zipOutput, VirtualFileFilter filter) throws ForbiddenException, ServerException;
+
     /**
      * Extracts zip archive to the folder denoted by this VirtualFile.
      *
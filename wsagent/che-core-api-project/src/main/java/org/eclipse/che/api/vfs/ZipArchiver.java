@@ -12,20 +12,33 @@ package org.eclipse.che.api.vfs;
 
 import com.google.common.io.ByteStreams;
 
+import org.apache.commons.io.input.CountingInputStream;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.ServerException;
-import org.eclipse.che.api.vfs.util.NotClosableInputStream;
+import org.eclipse.che.api.core.util.FileCleaner;
 import org.eclipse.che.api.vfs.util.ZipContent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
-import java.util.zip.ZipOutputStream;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newLinkedHashMap;
 
 public class ZipArchiver extends Archiver {
+    private static final Logger LOG = LoggerFactory.getLogger(ZipArchiver.class);
+
     public ZipArchiver(VirtualFile folder) {
         super(folder);
     }
@@ -35,9 +48,15 @@ public class ZipArchiver extends Archiver {
         compress(zipOutput, VirtualFileFilter.ACCEPT_ALL);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Archive is written to the output while the folder is walked, content of files is deflated in parallel. Files
+     * which are already compressed, e.g. jars or images, are stored without compression. See {@link ParallelZipOutput}.
+     */
     @Override
     public void compress(OutputStream zipOutput, VirtualFileFilter filter) throws IOException, ServerException {
-        try (ZipOutputStream zipOutputStream = new ZipOutputStream(zipOutput)) {
+        try (ParallelZipOutput zipOutputStream = new ParallelZipOutput(zipOutput)) {
             folder.accept(new VirtualFileVisitor() {
                 @Override
                 public void visit(VirtualFile visitedVirtualFile) throws ServerException {
@@ -53,6 +72,7 @@ public class ZipArchiver extends Archiver {
                     }
                 }
             });
+            zipOutputStream.finish();
         }
     }
 
@@ -64,31 +84,33 @@ public class ZipArchiver extends Archiver {
         return zipPath.toString();
     }
 
-    private void addZipEntry(VirtualFile virtualFile, ZipOutputStream zipOutputStream) throws ServerException {
+    private void addZipEntry(VirtualFile virtualFile, ParallelZipOutput zipOutputStream) throws ServerException {
         try {
-            ZipEntry zipEntry = new ZipEntry(getZipEntryName(virtualFile));
-            zipOutputStream.putNextEntry(zipEntry);
             if (virtualFile.isFolder()) {
-                zipEntry.setTime(0);
+                zipOutputStream.putFolder(getZipEntryName(virtualFile), virtualFile.getLastModificationDate());
             } else {
-                try (InputStream content = virtualFile.getContent()) {
-                    ByteStreams.copy(content, zipOutputStream);
-                }
-                zipEntry.setTime(virtualFile.getLastModificationDate());
+                zipOutputStream.putFile(getZipEntryName(virtualFile), virtualFile);
             }
-            zipOutputStream.closeEntry();
-        } catch (ForbiddenException e) {
-            throw new ServerException(e.getServiceError());
         } catch (IOException e) {
             throw new ServerException(e.getMessage(), e);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Zip is read in single pass and compression ratio is checked while entries are written in the folder. If
+     * extraction fails, e.g. zip bomb is detected, created items are removed and content of overwritten files is
+     * restored.
+     */
     @Override
     public void extract(InputStream zipInput, boolean overwrite, int stripNumber)
             throws IOException, ForbiddenException, ConflictException, ServerException {
-        try (ZipInputStream zip = new ZipInputStream(ZipContent.of(zipInput).getContent())) {
-            InputStream notClosableInputStream = new NotClosableInputStream(zip);
+        final CountingInputStream compressedDataCounter = new CountingInputStream(zipInput);
+        final ZipInputStream zip = new ZipInputStream(compressedDataCounter);
+        final RatioCheckingInputStream entryContent = new RatioCheckingInputStream(zip, compressedDataCounter);
+        final ExtractedItems extractedItems = new ExtractedItems();
+        try {
             ZipEntry zipEntry;
             while ((zipEntry = zip.getNextEntry()) != null) {
                 VirtualFile extractFolder = folder;
@@ -104,7 +126,7 @@ public class ZipArchiver extends Archiver {
 
                 if (zipEntry.isDirectory()) {
                     if (!extractFolder.hasChild(relativePath)) {
-                        extractFolder.createFolder(relativePath.toString());
+                        extractedItems.createFolder(relativePath);
                     }
                     continue;
                 }
@@ -113,7 +135,7 @@ public class ZipArchiver extends Archiver {
                     Path neededParentPath = relativePath.getParent();
                     VirtualFile neededParent = extractFolder.getChild(neededParentPath);
                     if (neededParent == null) {
-                        neededParent = extractFolder.createFolder(neededParentPath.toString());
+                        neededParent = extractedItems.createFolder(neededParentPath);
                     }
                     extractFolder = neededParent;
                 }
@@ -121,16 +143,174 @@ public class ZipArchiver extends Archiver {
                 String fileName = relativePath.getName();
                 VirtualFile file = extractFolder.getChild(Path.of(fileName));
                 if (file == null) {
-                    extractFolder.createFile(fileName, notClosableInputStream);
+                    extractedItems.createFile(extractFolder, relativePath, entryContent);
                 } else {
                     if (overwrite) {
-                        file.updateContent(notClosableInputStream);
+                        extractedItems.updateContent(file, relativePath, entryContent);
                     } else {
                         throw new ConflictException(String.format("File '%s' already exists", file.getPath()));
                     }
                 }
                 zip.closeEntry();
             }
+        } catch (IOException | ForbiddenException | ConflictException | ServerException | RuntimeException e) {
+            extractedItems.rollback();
+            if (entryContent.isRatioExceeded()) {
+                // virtual filesystem doesn't keep cause of failed writing of file content
+                throw new IOException("Zip bomb detected");
+            }
+            throw e;
+        } finally {
+            extractedItems.release();
+            zip.close();
+        }
+    }
+
+    /**
+     * Content of the current zip entry. It counts uncompressed data and throws IOException if number of uncompressed
+     * bytes exceeds number of compressed bytes read from zip more than {@link ZipContent#ZIP_RATIO} times. Closing of
+     * this stream doesn't close the zip.
+     */
+    private static class RatioCheckingInputStream extends FilterInputStream {
+        private final CountingInputStream compressedDataCounter;
+
+        private long    uncompressedBytes;
+        private boolean ratioExceeded;
+
+        RatioCheckingInputStream(ZipInputStream zip, CountingInputStream compressedDataCounter) {
+            super(zip);
+            this.compressedDataCounter = compressedDataCounter;
+        }
+
+        @Override
+        public int read() throws IOException {
+            checkRatio();
+            final int b = super.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            checkRatio();
+            final int bytes = super.read(b, off, len);
+            if (bytes > 0) {
+                count(bytes);
+            }
+            return bytes;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        boolean isRatioExceeded() {
+            return ratioExceeded;
+        }
+
+        private void count(int bytes) throws IOException {
+            uncompressedBytes += bytes;
+            if (uncompressedBytes > ZipContent.ZIP_THRESHOLD
+                && uncompressedBytes > ZipContent.ZIP_RATIO * compressedDataCounter.getByteCount()) {
+                ratioExceeded = true;
+            }
+            checkRatio();
+        }
+
+        private void checkRatio() throws IOException {
+            if (ratioExceeded) {
+                throw new IOException("Zip bomb detected");
+            }
+        }
+    }
+
+    /** Keeps track of items created or overwritten in the folder while extracting zip. */
+    private class ExtractedItems {
+        /** Topmost created items, relative to the folder. */
+        private final List<Path>      created     = newArrayList();
+        /** Files with spooled original content of overwritten files, relative path of file is key. */
+        private final Map<Path, File> overwritten = newLinkedHashMap();
+
+        VirtualFile createFolder(Path relativePath) throws ForbiddenException, ConflictException, ServerException {
+            Path topmostCreated = relativePath;
+            for (int i = 1; i < relativePath.length(); i++) {
+                Path ancestor = relativePath.subPath(0, i);
+                if (!folder.hasChild(ancestor)) {
+                    topmostCreated = ancestor;
+                    break;
+                }
+            }
+            created.add(topmostCreated);
+            return folder.createFolder(relativePath.toString());
+        }
+
+        void createFile(VirtualFile parent, Path relativePath, InputStream content)
+                throws ForbiddenException, ConflictException, ServerException {
+            // file may be created even if writing of content fails
+            created.add(relativePath);
+            parent.createFile(relativePath.getName(), content);
+        }
+
+        void updateContent(VirtualFile file, Path relativePath, InputStream content) throws ForbiddenException, ServerException {
+            if (file.isLocked()) {
+                throw new ForbiddenException(String.format("Unable update content of file '%s'. File is locked", file.getPath()));
+            }
+            if (!overwritten.containsKey(relativePath)) {
+                overwritten.put(relativePath, spoolContent(file));
+            }
+            file.updateContent(content);
+        }
+
+        private File spoolContent(VirtualFile file) throws ForbiddenException, ServerException {
+            File spool = null;
+            try {
+                spool = File.createTempFile("import", ".bak");
+                try (InputStream original = file.getContent();
+                     FileOutputStream spoolOutput = new FileOutputStream(spool)) {
+                    ByteStreams.copy(original, spoolOutput);
+                }
+                return spool;
+            } catch (IOException e) {
+                if (spool != null && !spool.delete()) {
+                    FileCleaner.addFile(spool);
+                }
+                throw new ServerException(String.format("Unable keep original content of file '%s'", file.getPath()), e);
+            }
+        }
+
+        void rollback() {
+            for (Map.Entry<Path, File> entry : overwritten.entrySet()) {
+                try (InputStream original = new FileInputStream(entry.getValue())) {
+                    final VirtualFile file = folder.getChild(entry.getKey());
+                    if (file != null) {
+                        file.updateContent(original);
+                    }
+                } catch (IOException | ForbiddenException | ServerException e) {
+                    LOG.warn("Unable restore content of file {} in {}: {}", entry.getKey(), folder.getPath(), e.getMessage());
+                }
+            }
+            for (int i = created.size() - 1; i >= 0; i--) {
+                try {
+                    final VirtualFile item = folder.getChild(created.get(i));
+                    if (item != null) {
+                        item.delete();
+                    }
+                } catch (ForbiddenException | ServerException e) {
+                    LOG.warn("Unable remove item {} from {}: {}", created.get(i), folder.getPath(), e.getMessage());
+                }
+            }
+        }
+
+        void release() {
+            for (File spool : overwritten.values()) {
+                if (!spool.delete()) {
+                    FileCleaner.addFile(spool);
+                }
+            }
+            overwritten.clear();
+            created.clear();
         }
     }
 }
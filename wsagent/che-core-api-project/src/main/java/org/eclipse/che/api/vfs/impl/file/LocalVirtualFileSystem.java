@@ -10,10 +10,13 @@
  *******************************************************************************/
 package org.eclipse.che.api.vfs.impl.file;
 
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ConcurrentHashMultiset;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Multiset;
 import com.google.common.hash.Hashing;
 import com.google.common.io.ByteStreams;
 import com.google.common.io.Files;
@@ -52,6 +55,7 @@ import java.io.FileOutputStream;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -66,6 +70,7 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.eclipse.che.api.vfs.VirtualFileFilters.createAndFilter;
 import static org.eclipse.che.api.vfs.VirtualFileFilters.dotGitFilter;
 import static org.eclipse.che.commons.lang.IoUtil.deleteRecursive;
 
@@ -81,6 +86,7 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
 
     private static final long WAIT_FOR_FILE_LOCK_TIMEOUT = 60000; // 60 seconds
     private static final int  FILE_LOCK_MAX_THREADS      = 1024;
+    private static final int  MD5_SUMS_CACHE_SIZE        = 65536;
 
     private static final String   VFS_SERVICE_DIR        = ".vfs";
     private static final String   FILE_LOCKS_DIR         = VFS_SERVICE_DIR + File.separatorChar + "locks";
@@ -136,6 +142,12 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     private final FileMetadataSerializer                  metadataSerializer;
     private final LoadingCache<Path, Map<String, String>> metadataCache;
 
+    /** Folders where archives are extracted. Items in them are indexed when extraction is done, not one by one. */
+    private final Multiset<Path> extractionFolders;
+
+    /** MD5 sums of files, entry is valid while modification date and length of file are the same. */
+    private final Cache<Path, HashSumsCounter.CachedHash> md5SumsCache;
+
     @SuppressWarnings("unchecked")
     public LocalVirtualFileSystem(File ioRoot,
                                   ArchiverFactory archiverFactory,
@@ -162,6 +174,13 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
                                     .maximumSize(256)
                                     .expireAfterAccess(10, MINUTES)
                                     .build(new FilePropertiesCacheLoader());
+
+        extractionFolders = ConcurrentHashMultiset.create();
+
+        md5SumsCache = CacheBuilder.newBuilder()
+                                   .concurrencyLevel(8)
+                                   .maximumSize(MD5_SUMS_CACHE_SIZE)
+                                   .build();
     }
 
     @Override
@@ -208,6 +227,7 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     private void cleanUpCaches() {
         lockTokensCache.invalidateAll();
         metadataCache.invalidateAll();
+        md5SumsCache.invalidateAll();
     }
 
     /** Used in tests. Need this to check state of PathLockFactory. All locks MUST be released at the end of request lifecycle. */
@@ -530,6 +550,8 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
             } finally {
                 lock.release();
             }
+            // modification date may stay the same if file is updated twice in the same second
+            md5SumsCache.invalidate(virtualFile.getPath());
             updateInSearcher(virtualFile);
         } else {
             throw new ForbiddenException(String.format("Unable update content. Item '%s' is not file", virtualFile.getPath()));
@@ -607,6 +629,21 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
         }
     }
 
+    void zip(LocalVirtualFile folder, OutputStream zipOutput, VirtualFileFilter filter) throws ForbiddenException, ServerException {
+        if(archiverFactory == null)
+            throw new ServerException("VFS: Could not create zip archiver. Archiver Factory is not properly configured (is null)");
+
+        if (folder.isFolder()) {
+            try {
+                archiverFactory.createArchiver(folder, "zip").compress(zipOutput, createAndFilter(dotGitFilter(), filter));
+            } catch (IOException e) {
+                throw new ServerException(e.getMessage(), e);
+            }
+        } else {
+            throw new ForbiddenException(String.format("Unable export to zip. Item '%s' is not a folder", folder.getPath()));
+        }
+    }
+
 
     void unzip(LocalVirtualFile parent, InputStream zipped, boolean overwrite, int stripNumber)
             throws ForbiddenException, ConflictException, ServerException {
@@ -614,7 +651,7 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
             throw new ServerException("VFS: Could not create zip archiver. Archiver Factory is not properly configured (is null)");
 
         if (parent.isFolder()) {
-            extract(archiverFactory.createArchiver(parent, "zip"), zipped, overwrite, stripNumber);
+            extract(parent, archiverFactory.createArchiver(parent, "zip"), zipped, overwrite, stripNumber);
             addInSearcher(parent);
         } else {
             throw new ForbiddenException(String.format("Unable import zip content. Item '%s' is not a folder", parent.getPath()));
@@ -639,7 +676,7 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
             throw new ServerException("VFS: Could not create tar archiver. Archiver Factory is not properly configured (is null)");
 
         if (parent.isFolder()) {
-            extract(archiverFactory.createArchiver(parent, "tar"), tarArchive, overwrite, stripNumber);
+            extract(parent, archiverFactory.createArchiver(parent, "tar"), tarArchive, overwrite, stripNumber);
             addInSearcher(parent);
         } else {
             throw new ForbiddenException(String.format("Unable import tar archive. Item '%s' is not a folder", parent.getPath()));
@@ -662,13 +699,28 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
         }
     }
 
-    private void extract(Archiver archiver, InputStream compressed, boolean overwrite, int stripNumber)
+    private void extract(LocalVirtualFile parent, Archiver archiver, InputStream compressed, boolean overwrite, int stripNumber)
             throws ConflictException, ServerException, ForbiddenException {
+        extractionFolders.add(parent.getPath());
         try {
             archiver.extract(compressed, overwrite, stripNumber);
         } catch (IOException e) {
             throw new ServerException(e.getMessage(), e);
+        } finally {
+            extractionFolders.remove(parent.getPath());
+        }
+    }
+
+    private boolean isUnderExtraction(Path path) {
+        if (extractionFolders.isEmpty()) {
+            return false;
+        }
+        for (Path extractionFolder : extractionFolders.elementSet()) {
+            if (path.equals(extractionFolder) || path.isChild(extractionFolder)) {
+                return true;
+            }
         }
+        return false;
     }
 
     String lock(LocalVirtualFile virtualFile, long timeout) throws ForbiddenException, ConflictException, ServerException {
@@ -908,7 +960,7 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
         if (virtualFile.isFile()) {
             return emptyList();
         }
-        return new HashSumsCounter(virtualFile, Hashing.md5()).countHashSums();
+        return new HashSumsCounter(virtualFile, Hashing.md5(), md5SumsCache).countHashSums();
     }
 
 
@@ -931,7 +983,7 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
 
 
     private void addInSearcher(LocalVirtualFile newVirtualFile) {
-        if (searcherProvider != null) {
+        if (searcherProvider != null && !isUnderExtraction(newVirtualFile.getPath())) {
             try {
                 searcherProvider.getSearcher(this).add(newVirtualFile);
             } catch (ServerException e) {
@@ -941,7 +993,7 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     }
 
     private void updateInSearcher(LocalVirtualFile virtualFile) {
-        if (searcherProvider != null) {
+        if (searcherProvider != null && !isUnderExtraction(virtualFile.getPath())) {
             try {
                 searcherProvider.getSearcher(this).update(virtualFile);
             } catch (ServerException e) {
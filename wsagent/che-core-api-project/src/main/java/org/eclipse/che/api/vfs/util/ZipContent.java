@@ -27,13 +27,13 @@ public final class ZipContent {
     private static final int  KEEP_IN_MEMORY_THRESHOLD = 200 * 1024;
     private static final int  COPY_BUFFER_SIZE         = 8 * 1024;
     /** The threshold after that checking of ZIP ratio started. */
-    private static final long ZIP_THRESHOLD            = 1000000;
+    public static final  long ZIP_THRESHOLD            = 1000000;
     /**
      * Max compression ratio. If the number of bytes uncompressed data is exceed the number
      * of bytes of compressed stream more than this ratio (and number of uncompressed data
      * is more than threshold) then IOException is thrown.
      */
-    private static final int  ZIP_RATIO                = 100;
+    public static final  int  ZIP_RATIO                = 100;
 
     public static ZipContent of(InputStream in) throws IOException {
         java.io.File file = null;
@@ -10,6 +10,10 @@
  *******************************************************************************/
 package org.eclipse.che.api.project.server;
 
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
 import org.eclipse.che.WorkspaceIdProvider;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
@@ -29,6 +33,7 @@ import org.eclipse.che.api.project.server.handlers.CreateProjectHandler;
 import org.eclipse.che.api.project.server.handlers.ProjectHandlerRegistry;
 import org.eclipse.che.api.project.server.importer.ProjectImporter;
 import org.eclipse.che.api.project.server.importer.ProjectImporterRegistry;
+import org.eclipse.che.api.project.server.notification.ResourceChangeJournal;
 import org.eclipse.che.api.project.server.type.AttributeValue;
 import org.eclipse.che.api.project.server.type.ProjectTypeDef;
 import org.eclipse.che.api.project.server.type.ProjectTypeRegistry;
@@ -38,8 +43,11 @@ import org.eclipse.che.api.project.server.type.ValueStorageException;
 import org.eclipse.che.api.project.shared.dto.CopyOptions;
 import org.eclipse.che.api.project.shared.dto.ItemReference;
 import org.eclipse.che.api.project.shared.dto.MoveOptions;
+import org.eclipse.che.api.project.shared.dto.ResourceChanges;
 import org.eclipse.che.api.project.shared.dto.SourceEstimation;
 import org.eclipse.che.api.project.shared.dto.TreeElement;
+import org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType;
+import org.eclipse.che.api.project.shared.dto.event.VfsWatchEvent;
 import org.eclipse.che.api.user.server.spi.UserDao;
 import org.eclipse.che.api.vfs.VirtualFile;
 import org.eclipse.che.api.vfs.VirtualFileSystem;
@@ -104,6 +112,7 @@ import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 
 import static java.util.Collections.singletonList;
@@ -148,6 +157,7 @@ public class ProjectServiceTest {
     private ProjectManager         pm;
     private ResourceLauncher       launcher;
     private ProjectHandlerRegistry phRegistry;
+    private ResourceChangeJournal  changeJournal;
 
     private org.eclipse.che.commons.env.EnvironmentContext env;
 
@@ -199,6 +209,7 @@ public class ProjectServiceTest {
         vfsProvider = new LocalVirtualFileSystemProvider(root, sProvider);
 
         final EventService eventService = new EventService();
+        changeJournal = new ResourceChangeJournal(eventService);
 
         // PTs for test
         ProjectTypeDef chuck = new ProjectTypeDef("chuck_project_type", "chuck_project_type", true, false) {
@@ -255,6 +266,7 @@ public class ProjectServiceTest {
         dependencies.addComponent(ProjectImporterRegistry.class, importerRegistry);
         dependencies.addComponent(ProjectHandlerRegistry.class, phRegistry);
         dependencies.addComponent(EventService.class, eventService);
+        dependencies.addComponent(ResourceChangeJournal.class, changeJournal);
 
         ResourceBinder resources = new ResourceBinderImpl();
         ProviderBinder providers = new ApplicationProviderBinder();
@@ -1444,6 +1456,97 @@ public class ProjectServiceTest {
         assertEquals(response.getContentType().toString(), ExtMediaType.APPLICATION_ZIP);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGetManifest() throws Exception {
+        RegisteredProject myProject = pm.getProject("my_project");
+        myProject.getBaseFolder().createFolder("a/b").createFile("test.txt", "hello".getBytes());
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/manifest/my_project/a",
+                                                      "http://localhost:8080/api", null, null, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        Map<String, String> manifest = (Map<String, String>)response.getEntity();
+        assertEquals(manifest, Collections.singletonMap("b/test.txt", "5d41402abc4b2a76b9719d911017c592"));
+    }
+
+    @Test
+    public void testGetChangesSinceVersion() throws Exception {
+        final long since = changeJournal.getVersion();
+        launcher.service(POST, "http://localhost:8080/api/project/file/my_project?name=a.txt",
+                         "http://localhost:8080/api", null, "a".getBytes(), null);
+        launcher.service(POST, "http://localhost:8080/api/project/file/my_project?name=b.txt",
+                         "http://localhost:8080/api", null, "b".getBytes(), null);
+        launcher.service(PUT, "http://localhost:8080/api/project/file/my_project/a.txt",
+                         "http://localhost:8080/api", null, "updated".getBytes(), null);
+
+        ContainerResponse response = launcher.service(GET,
+                                                      String.format("http://localhost:8080/api/project/changes?journal=%s&since=%d",
+                                                                    changeJournal.getId(), since),
+                                                      "http://localhost:8080/api", null, null, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        ResourceChanges changes = (ResourceChanges)response.getEntity();
+        Assert.assertFalse(changes.isTruncated());
+        assertEquals(changes.getVersion(), since + 3);
+        assertEquals(changes.getChanges().size(), 2);
+        VfsWatchEvent b = changes.getChanges().get(0);
+        assertEquals(b.getPath(), "/my_project/b.txt");
+        assertEquals(b.getType(), FileWatcherEventType.CREATED);
+        VfsWatchEvent a = changes.getChanges().get(1);
+        assertEquals(a.getPath(), "/my_project/a.txt");
+        assertEquals(a.getType(), FileWatcherEventType.CREATED);
+        assertTrue(a.isFile());
+    }
+
+    @Test
+    public void testGetChangesOfUnknownJournalIsTruncated() throws Exception {
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/changes?journal=unknown&since=0",
+                                                      "http://localhost:8080/api", null, null, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        ResourceChanges changes = (ResourceChanges)response.getEntity();
+        assertTrue(changes.isTruncated());
+        assertEquals(changes.getJournalId(), changeJournal.getId());
+        assertTrue(changes.getChanges().isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSyncExportsOnlyChangedFiles() throws Exception {
+        RegisteredProject myProject = pm.getProject("my_project");
+        FolderEntry a = myProject.getBaseFolder().createFolder("a");
+        a.createFolder("b").createFile("test.txt", "hello".getBytes());
+        a.createFile("other.txt", "other".getBytes());
+        a.createFolder("c").createFile("new.txt", "new".getBytes());
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/manifest/my_project",
+                                                      "http://localhost:8080/api", null, null, null);
+        Map<String, String> receiverManifest = new HashMap<>((Map<String, String>)response.getEntity());
+        receiverManifest.put("a/other.txt", "outdated");
+        receiverManifest.remove("a/c/new.txt");
+        receiverManifest.put("a/removed.txt", "removed");
+
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put("Content-Type", singletonList(APPLICATION_JSON));
+        ByteArrayContainerResponseWriter writer = new ByteArrayContainerResponseWriter();
+        response = launcher.service(POST,
+                                    "http://localhost:8080/api/project/sync/my_project",
+                                    "http://localhost:8080/api",
+                                    headers,
+                                    JsonHelper.toJson(receiverManifest).getBytes(),
+                                    writer,
+                                    null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        assertEquals(response.getContentType().toString(), APPLICATION_ZIP);
+        Set<String> entries = new HashSet<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(writer.getBody()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.add(entry.getName());
+            }
+        }
+        assertEquals(entries, new HashSet<>(Arrays.asList("a/", "a/other.txt", "a/c/", "a/c/new.txt")));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testGetChildren() throws Exception {
@@ -1537,6 +1640,58 @@ public class ProjectServiceTest {
         Assert.assertTrue(names.contains("x"));
     }
 
+    @Test
+    public void testStreamTree() throws Exception {
+        RegisteredProject myProject = pm.getProject("my_project");
+        FolderEntry a = myProject.getBaseFolder().createFolder("a");
+        a.createFolder("b/c");
+        a.createFolder("x/y");
+        a.createFile("test.txt", "test".getBytes());
+        ByteArrayContainerResponseWriter writer = new ByteArrayContainerResponseWriter();
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/stream/tree/my_project/a?depth=2&includeFiles=true",
+                                                      "http://localhost:8080/api", null, null, writer, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        JsonObject tree = new JsonParser().parse(new String(writer.getBody())).getAsJsonObject();
+        assertEquals(tree.getAsJsonObject("node").get("path").getAsString(), "/my_project/a");
+        assertEquals(streamedPaths(tree), Arrays.asList("/my_project/a/b", "/my_project/a/b/c", "/my_project/a/test.txt",
+                                                        "/my_project/a/x", "/my_project/a/x/y"));
+        Assert.assertFalse(tree.has("continuation"));
+        for (JsonElement link : tree.getAsJsonArray("folderLinks")) {
+            Assert.assertTrue(link.getAsJsonObject().get("href").getAsString().endsWith("/{path}"));
+        }
+    }
+
+    @Test
+    public void testStreamTreeWithLimit() throws Exception {
+        RegisteredProject myProject = pm.getProject("my_project");
+        FolderEntry a = myProject.getBaseFolder().createFolder("a");
+        a.createFolder("b/c");
+        a.createFolder("x/y");
+        List<String> paths = new ArrayList<>();
+        String continuation = null;
+        do {
+            ByteArrayContainerResponseWriter writer = new ByteArrayContainerResponseWriter();
+            ContainerResponse response = launcher.service(GET,
+                                                          "http://localhost:8080/api/project/stream/tree/my_project/a?depth=2&limit=3" +
+                                                          (continuation == null ? "" : "&continuation=" + continuation),
+                                                          "http://localhost:8080/api", null, null, writer, null);
+            assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+            JsonObject tree = new JsonParser().parse(new String(writer.getBody())).getAsJsonObject();
+            paths.addAll(streamedPaths(tree));
+            continuation = tree.has("continuation") ? tree.get("continuation").getAsString() : null;
+        } while (continuation != null);
+        assertEquals(paths, Arrays.asList("/my_project/a/b", "/my_project/a/b/c", "/my_project/a/x", "/my_project/a/x/y"));
+    }
+
+    private List<String> streamedPaths(JsonObject tree) {
+        List<String> paths = new ArrayList<>();
+        for (JsonElement item : tree.getAsJsonArray("items")) {
+            paths.add(item.getAsJsonObject().get("path").getAsString());
+        }
+        return paths;
+    }
+
     @Test
     public void testGetTreeWithDepth() throws Exception {
         RegisteredProject myProject = pm.getProject("my_project");
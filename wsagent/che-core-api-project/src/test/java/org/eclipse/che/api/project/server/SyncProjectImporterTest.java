@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import org.eclipse.che.api.vfs.ArchiverFactory;
+import org.eclipse.che.api.vfs.Path;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.api.vfs.impl.memory.MemoryVirtualFileSystem;
+import org.eclipse.che.api.workspace.shared.dto.SourceStorageDto;
+import org.eclipse.che.commons.env.EnvironmentContext;
+import org.eclipse.che.commons.subject.SubjectImpl;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.util.Arrays.asList;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Tests import of the project from project service of another workspace agent, the remote service is emulated with
+ * simple http server which serves manifest and changed files of the source folder.
+ */
+public class SyncProjectImporterTest {
+    private static final Gson GSON = new Gson();
+
+    private HttpServer   server;
+    private List<String> requests;
+    private List<String> authorizations;
+    private VirtualFile  source;
+    private VirtualFile  project;
+    private String       location;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        source = new MemoryVirtualFileSystem(new ArchiverFactory(), null).getRoot().createFolder("source");
+        project = new MemoryVirtualFileSystem(new ArchiverFactory(), null).getRoot().createFolder("project");
+        requests = new CopyOnWriteArrayList<>();
+        authorizations = new CopyOnWriteArrayList<>();
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/project/manifest/source", exchange -> respond(exchange, manifest()));
+        server.createContext("/api/project/sync/source", exchange -> respond(exchange, sync(exchange)));
+        server.start();
+        location = "http://localhost:" + server.getAddress().getPort() + "/api/project/sync/source";
+
+        EnvironmentContext.getCurrent().setSubject(new SubjectImpl("user", "user", "user-token", false));
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        server.stop(0);
+        EnvironmentContext.reset();
+    }
+
+    @Test
+    public void shouldDownloadOnlyChangedFilesAndRemoveDeletedOnes() throws Exception {
+        source.createFolder("src").createFile("same.txt", "same");
+        source.getChild(Path.of("src")).createFile("changed.txt", "new content");
+        source.createFile("added.txt", "added");
+        project.createFolder("src").createFile("same.txt", "same");
+        project.getChild(Path.of("src")).createFile("changed.txt", "old content");
+        project.createFolder("old").createFolder("deep").createFile("removed.txt", "removed");
+        project.getChild(Path.of("old")).createFile("removed.txt", "removed");
+
+        importSources();
+
+        assertEquals(ProjectSync.manifest(project), ProjectSync.manifest(source));
+        assertEquals(project.getChild(Path.of("src/changed.txt")).getContentAsString(), "new content");
+        assertEquals(project.getChild(Path.of("added.txt")).getContentAsString(), "added");
+        // folders which become empty are removed, folders with remaining files stay
+        assertNull(project.getChild(Path.of("old")));
+        assertNotNull(project.getChild(Path.of("src")));
+        assertEquals(requests, asList("manifest", "sync"));
+    }
+
+    @Test
+    public void shouldNotDownloadAnythingWhenProjectIsInSync() throws Exception {
+        source.createFolder("src").createFile("same.txt", "same");
+        project.createFolder("src").createFile("same.txt", "same");
+
+        importSources();
+
+        assertEquals(requests, asList("manifest"));
+        assertEquals(project.getChild(Path.of("src/same.txt")).getContentAsString(), "same");
+    }
+
+    @Test
+    public void shouldAuthorizeRequestsWithTokenOfCurrentUser() throws Exception {
+        source.createFile("added.txt", "added");
+
+        importSources();
+
+        assertEquals(authorizations, asList("user-token", "user-token"));
+    }
+
+    @Test
+    public void shouldNotSendTokenToHostOtherThanApiEndpoint() throws Exception {
+        source.createFile("added.txt", "added");
+
+        importSources("http://che-host:8080/api");
+
+        assertEquals(authorizations, asList("null", "null"));
+        assertEquals(project.getChild(Path.of("added.txt")).getContentAsString(), "added");
+    }
+
+    private void importSources() throws Exception {
+        importSources("http://localhost:" + server.getAddress().getPort() + "/api");
+    }
+
+    private void importSources(String apiEndpoint) throws Exception {
+        new SyncProjectImporter(apiEndpoint).importSources(new FolderEntry(project), newDto(SourceStorageDto.class).withType("sync")
+                                                                                                     .withLocation(location));
+    }
+
+    private byte[] manifest() throws IOException {
+        try {
+            return GSON.toJson(ProjectSync.manifest(source)).getBytes(StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    private byte[] sync(HttpExchange exchange) throws IOException {
+        final Map<String, String> receiverManifest;
+        try (InputStreamReader reader = new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8)) {
+            receiverManifest = GSON.fromJson(reader, new TypeToken<Map<String, String>>() {}.getType());
+        }
+        final ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        try {
+            source.zip(zip, ProjectSync.changedFilesFilter(source, ProjectSync.manifest(source), receiverManifest));
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+        return zip.toByteArray();
+    }
+
+    private void respond(HttpExchange exchange, byte[] body) throws IOException {
+        final String path = exchange.getRequestURI().getPath();
+        requests.add(path.contains("/manifest/") ? "manifest" : "sync");
+        authorizations.add(String.valueOf(exchange.getRequestHeaders().getFirst("Authorization")));
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server.notification;
+
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.project.shared.dto.ResourceChanges;
+import org.eclipse.che.api.project.shared.dto.event.VfsWatchEvent;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent.EventType.MOVED;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.CREATED;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.DELETED;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.MODIFIED;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ResourceChangeJournalTest {
+    private EventService          eventService;
+    private ResourceChangeJournal journal;
+
+    @BeforeMethod
+    public void setUp() {
+        eventService = new EventService();
+        journal = new ResourceChangeJournal(eventService, 3);
+    }
+
+    @Test
+    public void returnsChangesSinceVersion() {
+        eventService.publish(newDto(VfsWatchEvent.class).withPath("/p/a").withType(CREATED).withFile(true));
+        final long since = journal.getVersion();
+        eventService.publish(newDto(VfsWatchEvent.class).withPath("/p/b").withType(MODIFIED).withFile(true));
+
+        final ResourceChanges changes = journal.getChanges(journal.getId(), since);
+
+        assertFalse(changes.isTruncated());
+        assertEquals(changes.getVersion(), 2);
+        assertEquals(changes.getChanges().size(), 1);
+        assertEquals(changes.getChanges().get(0).getPath(), "/p/b");
+        assertEquals(changes.getChanges().get(0).getType(), MODIFIED);
+    }
+
+    @Test
+    public void listsEachItemOnceWithItsLastChange() {
+        journal.record("/p/a", CREATED, true);
+        journal.record("/p/b", CREATED, true);
+        journal.record("/p/a", MODIFIED, true);
+
+        final List<VfsWatchEvent> changes = journal.getChanges(journal.getId(), 0).getChanges();
+
+        assertEquals(changes.size(), 2);
+        assertEquals(changes.get(0).getPath(), "/p/b");
+        assertEquals(changes.get(1).getPath(), "/p/a");
+        assertEquals(changes.get(1).getType(), CREATED);
+    }
+
+    @Test
+    public void recordsMoveAsRemovalAndCreation() {
+        eventService.publish(new ProjectItemModifiedEvent(MOVED, "ws", "p", "/p/b", true, "/p/a"));
+
+        final List<VfsWatchEvent> changes = journal.getChanges(journal.getId(), 0).getChanges();
+
+        assertEquals(changes.size(), 2);
+        assertEquals(changes.get(0).getPath(), "/p/a");
+        assertEquals(changes.get(0).getType(), DELETED);
+        assertFalse(changes.get(0).isFile());
+        assertEquals(changes.get(1).getPath(), "/p/b");
+        assertEquals(changes.get(1).getType(), CREATED);
+    }
+
+    @Test
+    public void returnsTruncatedChangesWhenRequestedChangesAreDropped() {
+        for (int i = 0; i < 4; i++) {
+            journal.record("/p/" + i, CREATED, true);
+        }
+
+        assertTrue(journal.getChanges(journal.getId(), 0).isTruncated());
+        assertFalse(journal.getChanges(journal.getId(), 1).isTruncated());
+        assertEquals(journal.getChanges(journal.getId(), 1).getChanges().size(), 3);
+    }
+
+    @Test
+    public void returnsTruncatedChangesForOtherJournal() {
+        journal.record("/p/a", CREATED, true);
+
+        assertTrue(journal.getChanges(null, 0).isTruncated());
+        assertTrue(journal.getChanges("other", 0).isTruncated());
+        assertTrue(journal.getChanges(journal.getId(), 2).isTruncated());
+    }
+}
@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.eclipse.che.api.vfs;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.hash.Hashing;
 import com.google.common.io.ByteSource;
 
@@ -27,6 +29,8 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class HashSumsCounterTest {
@@ -45,6 +49,29 @@ public class HashSumsCounterTest {
         assertEquals(expected, hashSums);
     }
 
+    @Test
+    public void takesHashSumsOfNotModifiedFilesFromCache() throws Exception {
+        VirtualFile fileAB = mockFile("/a/file", "file1".getBytes());
+        VirtualFile fileBA = mockFile("/a/b/file", "file2".getBytes());
+        VirtualFile folderB = mockFolder("/a/b", fileBA);
+        VirtualFile folderA = mockFolder("/a", folderB, fileAB);
+        when(fileAB.getLastModificationDate()).thenReturn(1000L);
+        when(fileAB.getLength()).thenReturn(5L);
+        when(fileBA.getLastModificationDate()).thenReturn(2000L);
+        when(fileBA.getLength()).thenReturn(5L);
+        Cache<Path, HashSumsCounter.CachedHash> cache = CacheBuilder.newBuilder().build();
+        cache.put(Path.of("/a/file"), new HashSumsCounter.CachedHash("cached", 1000L, 5L));
+        cache.put(Path.of("/a/b/file"), new HashSumsCounter.CachedHash("outdated", 1000L, 5L));
+        Set<Pair<String, String>> expected = newHashSet(Pair.of("cached", "file"),
+                                                        Pair.of(countMd5Sum("file2".getBytes()), "b/file"));
+
+        Set<Pair<String, String>> hashSums = newHashSet(new HashSumsCounter(folderA, Hashing.md5(), cache).countHashSums());
+
+        assertEquals(expected, hashSums);
+        verify(fileAB, never()).getContent();
+        assertEquals(countMd5Sum("file2".getBytes()), cache.getIfPresent(Path.of("/a/b/file")).getHash());
+    }
+
     private String countMd5Sum(byte[] bytes) throws Exception {
         return ByteSource.wrap(bytes).hash(Hashing.md5()).toString();
     }
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.api.vfs;
 
+import com.google.common.base.Strings;
 import com.google.common.io.ByteStreams;
 
 import org.eclipse.che.api.core.ConflictException;
@@ -32,8 +33,11 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
@@ -105,6 +109,80 @@ public class ZipArchiverTest {
         assertThatZipArchiveContainsAllEntries(new ByteArrayInputStream(compressedFolder.toByteArray()), entries);
     }
 
+    @Test
+    public void compressesFolderWithBigFilesToArchive() throws Exception {
+        VirtualFile folder = createFileTreeForArchiving();
+        byte[] randomContent = new byte[ParallelZipOutput.MAX_BLOCK_SIZE + 1];
+        new Random().nextBytes(randomContent);
+        folder.createFile("big.jar", new ByteArrayInputStream(randomContent));
+        folder.createFile("big.txt", Strings.repeat(TEST_CONTENT, ParallelZipOutput.MAX_BLOCK_SIZE / TEST_CONTENT.length() + 1));
+        ByteArrayOutputStream compressedFolder = new ByteArrayOutputStream();
+        Map<String, String> entries = getFileTreeAsList(folder).stream()
+                                                               .collect(toMap(f -> getZipEntryName(folder, f),
+                                                                              this::readContentUnchecked));
+
+        new ZipArchiver(folder).compress(compressedFolder);
+        assertThatZipArchiveContainsAllEntries(new ByteArrayInputStream(compressedFolder.toByteArray()), entries);
+    }
+
+    @Test
+    public void writesZip64ExtraInLocalHeaderOfStreamedEntryWhichMayBeBiggerThan4Gb() throws Exception {
+        byte[] content = Strings.repeat(TEST_CONTENT, 100).getBytes();
+        VirtualFile file = mock(VirtualFile.class);
+        when(file.getName()).thenReturn("huge.txt");
+        when(file.getLength()).thenReturn(5L * 1024 * 1024 * 1024);
+        when(file.getContent()).thenAnswer(invocation -> new ByteArrayInputStream(content));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (ParallelZipOutput zipOut = new ParallelZipOutput(out)) {
+            zipOut.putFile("huge.txt", file);
+            zipOut.finish();
+        }
+
+        ByteBuffer zip = ByteBuffer.wrap(out.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(0x04034b50, zip.getInt(0));
+        assertEquals("version needed to extract", 45, zip.getShort(4));
+        assertEquals("data descriptor flag", 0x0008, zip.getShort(6) & 0x0008);
+        assertEquals("compressed size", 0xFFFFFFFF, zip.getInt(18));
+        assertEquals("uncompressed size", 0xFFFFFFFF, zip.getInt(22));
+        assertEquals("file name length", 8, zip.getShort(26));
+        assertEquals("extra field length", 20, zip.getShort(28));
+        assertEquals("zip64 extra id", 0x0001, zip.getShort(38));
+        assertEquals("zip64 extra size", 16, zip.getShort(40));
+        assertEquals(0, zip.getLong(42));
+        assertEquals(0, zip.getLong(50));
+
+        int dataOffset = 58;
+        int descriptorOffset = zip.limit() - 4;
+        while (zip.getInt(descriptorOffset) != 0x02014b50) {
+            descriptorOffset--;
+        }
+        descriptorOffset -= 24;
+        assertEquals(0x08074b50, zip.getInt(descriptorOffset));
+        assertEquals("8-byte compressed size", descriptorOffset - dataOffset, zip.getLong(descriptorOffset + 8));
+        assertEquals("8-byte uncompressed size", content.length, zip.getLong(descriptorOffset + 16));
+    }
+
+    @Test
+    public void storesAlreadyCompressedFilesInArchiveWithoutCompression() throws Exception {
+        VirtualFile folder = createFileTreeForArchiving();
+        folder.createFile("lib.jar", Strings.repeat(TEST_CONTENT, 100));
+        folder.createFile("text.txt", Strings.repeat(TEST_CONTENT, 100));
+        ByteArrayOutputStream compressedFolder = new ByteArrayOutputStream();
+
+        new ZipArchiver(folder).compress(compressedFolder);
+        Map<String, Integer> methods = newHashMap();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(compressedFolder.toByteArray()))) {
+            ZipEntry zipEntry;
+            while ((zipEntry = zip.getNextEntry()) != null) {
+                methods.put(zipEntry.getName(), zipEntry.getMethod());
+            }
+        }
+
+        assertEquals(ZipEntry.STORED, (int)methods.get("lib.jar"));
+        assertEquals(ZipEntry.DEFLATED, (int)methods.get("text.txt"));
+    }
+
     @Test
     public void extractsArchiveToFolder() throws Exception {
         byte[] archive = createTestZipArchive();
@@ -185,6 +263,37 @@ public class ZipArchiverTest {
         }
     }
 
+    @Test
+    public void failsExtractZipBombAndRemovesExtractedItems() throws Exception {
+        byte[] archive = createZipBomb();
+        VirtualFile folder = vfsRoot.createFolder("folder");
+
+        try {
+            new ZipArchiver(folder).extract(new ByteArrayInputStream(archive), false, 0);
+            thrown.expect(IOException.class);
+        } catch (IOException expected) {
+            assertEquals("Zip bomb detected", expected.getMessage());
+            assertTrue(folder.getChildren().isEmpty());
+        }
+    }
+
+    @Test
+    public void restoresOverwrittenFilesWhenExtractionFails() throws Exception {
+        byte[] archive = createZipBomb();
+        VirtualFile folder = vfsRoot.createFolder("folder");
+        VirtualFile arc = folder.createFolder("arc");
+        VirtualFile overwrittenFile = arc.createFolder("a").createFile("_a.txt", "xxx");
+
+        try {
+            new ZipArchiver(folder).extract(new ByteArrayInputStream(archive), true, 0);
+            thrown.expect(IOException.class);
+        } catch (IOException expected) {
+            assertEquals("xxx", overwrittenFile.getContentAsString());
+            assertEquals(1, folder.getChildren().size());
+            assertEquals(1, arc.getChildren().size());
+        }
+    }
+
     private Map<String, String> readArchiveEntries(InputStream archive) throws Exception {
         Map<String, String> entries = newHashMap();
         try (ZipInputStream zip = new ZipInputStream(archive)) {
@@ -247,6 +356,26 @@ public class ZipArchiverTest {
         return byteOut.toByteArray();
     }
 
+    private byte[] createZipBomb() throws IOException {
+        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        ZipOutputStream zipOut = new ZipOutputStream(byteOut);
+        zipOut.putNextEntry(new ZipEntry("arc/"));
+
+        zipOut.putNextEntry(new ZipEntry("arc/a/"));
+        zipOut.putNextEntry(new ZipEntry("arc/a/_a.txt"));
+        zipOut.write(TEST_CONTENT_BYTES);
+
+        zipOut.putNextEntry(new ZipEntry("arc/bomb/"));
+        zipOut.putNextEntry(new ZipEntry("arc/bomb/zeros"));
+        byte[] zeros = new byte[1024 * 1024];
+        for (int i = 0; i < 20; i++) {
+            zipOut.write(zeros);
+        }
+
+        zipOut.close();
+        return byteOut.toByteArray();
+    }
+
     private List<VirtualFile> getFileTreeAsList(VirtualFile rootOfTree) throws Exception {
         List<VirtualFile> list = newArrayList();
 
@@ -26,6 +26,7 @@ import org.eclipse.che.api.vfs.Path;
 import org.eclipse.che.api.vfs.VirtualFile;
 import org.eclipse.che.api.vfs.VirtualFileFilter;
 import org.eclipse.che.api.vfs.VirtualFileVisitor;
+import org.eclipse.che.api.vfs.ZipArchiver;
 import org.eclipse.che.api.vfs.search.Searcher;
 import org.eclipse.che.api.vfs.search.SearcherProvider;
 import org.eclipse.che.commons.lang.IoUtil;
@@ -50,6 +51,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Sets.newHashSet;
@@ -1398,6 +1401,26 @@ public class LocalVirtualFileTest {
         verify(archiver).compress(any(OutputStream.class), any(VirtualFileFilter.class));
     }
 
+    @Test
+    public void compressesFolderToZipArchiveStraightToOutput() throws Exception {
+        VirtualFile folder = getRoot().createFolder(generateFolderName());
+        Archiver archiver = mock(Archiver.class);
+        when(archiverFactory.createArchiver(eq(folder), eq("zip"))).thenReturn(archiver);
+        OutputStream output = new ByteArrayOutputStream();
+        folder.zip(output);
+        verify(archiver).compress(eq(output), any(VirtualFileFilter.class));
+    }
+
+    @Test
+    public void failsZipFileStraightToOutput() throws Exception {
+        VirtualFile root = getRoot();
+        VirtualFile file = root.createFile(generateFileName(), DEFAULT_CONTENT);
+
+        thrown.expect(ForbiddenException.class);
+
+        file.zip(new ByteArrayOutputStream());
+    }
+
     @Test
     public void failsZipFile() throws Exception {
         VirtualFile root = getRoot();
@@ -1768,6 +1791,29 @@ public class LocalVirtualFileTest {
         verify(searcher).add(folder);
     }
 
+    @Test
+    public void addsOnlyFolderInSearcherWhenFilesAreExtractedFromZipArchive() throws Exception {
+        VirtualFile folder = getRoot().createFolder(generateFolderName());
+        VirtualFile existedFile = folder.createFile("existed.txt", "xxx");
+        Mockito.reset(searcher);
+        when(archiverFactory.createArchiver(eq(folder), eq("zip"))).thenReturn(new ZipArchiver(folder));
+
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOut = new ZipOutputStream(zip)) {
+            zipOut.putNextEntry(new ZipEntry("a/b/new.txt"));
+            zipOut.write(DEFAULT_CONTENT_BYTES);
+            zipOut.putNextEntry(new ZipEntry("existed.txt"));
+            zipOut.write(DEFAULT_CONTENT_BYTES);
+        }
+        folder.unzip(new ByteArrayInputStream(zip.toByteArray()), true, 0);
+
+        assertEquals(DEFAULT_CONTENT, folder.getChild(Path.of("a/b/new.txt")).getContentAsString());
+        assertEquals(DEFAULT_CONTENT, existedFile.getContentAsString());
+        verify(searcher).add(folder);
+        verify(searcher).add(any(VirtualFile.class));
+        verify(searcher, never()).update(any(VirtualFile.class));
+    }
+
     private VirtualFile getRoot() {
         return fileSystem.getRoot();
     }
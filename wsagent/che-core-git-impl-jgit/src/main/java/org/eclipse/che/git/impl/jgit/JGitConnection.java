@@ -147,6 +147,7 @@ import java.io.FileOutputStream;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.attribute.PosixFilePermission;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -612,7 +613,7 @@ class JGitConnection implements GitConnection {
                     }
                     ObjectId objectId = treeWalk.getObjectId(0);
                     ObjectLoader loader = repository.open(objectId);
-                    content = new String(loader.getBytes());
+                    content = new String(loader.getBytes(), StandardCharsets.UTF_8);
                 }
             }
         } catch (IOException exception) {
@@ -0,0 +1,271 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.nativegit;
+
+import org.eclipse.che.api.core.util.Watchdog;
+import org.eclipse.che.api.git.GitException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Long-living {@code git cat-file --batch} and {@code git cat-file --batch-check} processes of a repository.
+ * <p/>
+ * Objects are requested over stdin of the process and read from its stdout, so reading of many objects doesn't start
+ * a new git process for each of them. Processes are started when they are needed for the first time and stopped when
+ * they aren't used for {@link #IDLE_TIMEOUT_SECONDS}. Helper is forgotten when both its processes are stopped because of
+ * idleness, so helpers of removed repositories don't stay in memory.
+ */
+public class CatFileBatch {
+    private static final Logger LOG = LoggerFactory.getLogger(CatFileBatch.class);
+
+    static final int IDLE_TIMEOUT_SECONDS = 60;
+
+    private static final ConcurrentMap<File, CatFileBatch> BATCHES = new ConcurrentHashMap<>();
+
+    /**
+     * Returns helper of the repository, helper is shared by all connections to the repository.
+     *
+     * @param repository
+     *         working directory of the repository
+     */
+    public static CatFileBatch of(File repository) {
+        return BATCHES.computeIfAbsent(repository.getAbsoluteFile(), CatFileBatch::new);
+    }
+
+    private final File repository;
+    private final Pipe batch;
+    private final Pipe batchCheck;
+
+    private CatFileBatch(File repository) {
+        this.repository = repository;
+        this.batch = new Pipe("--batch");
+        this.batchCheck = new Pipe("--batch-check");
+    }
+
+    /**
+     * Reads git object.
+     *
+     * @param objectName
+     *         name of the object e.g. <i>HEAD:path/to/file</i> or SHA-1 of the object
+     * @return object or {@code null} if there is no such object
+     * @throws GitException
+     *         when git process fails
+     */
+    public GitObject read(String objectName) throws GitException {
+        return batch.request(objectName, true);
+    }
+
+    /**
+     * Returns type of the object, e.g. <i>commit</i>, <i>tree</i>, <i>blob</i> or <i>tag</i>, or {@code null} if there
+     * is no such object.
+     *
+     * @param objectName
+     *         name of the object e.g. <i>master</i> or SHA-1 of the object
+     * @throws GitException
+     *         when git process fails
+     */
+    public String getType(String objectName) throws GitException {
+        final GitObject object = batchCheck.request(objectName, false);
+        return object == null ? null : object.getType();
+    }
+
+    /** Stops git processes, they are started again on the next request. */
+    public void close() {
+        batch.close();
+        batchCheck.close();
+    }
+
+    private void removeIfStopped() {
+        if (batch.isStopped() && batchCheck.isStopped()) {
+            BATCHES.remove(repository, this);
+        }
+    }
+
+    /** Object read from the repository. */
+    public static class GitObject {
+        private final String id;
+        private final String type;
+        private final long   size;
+        private final byte[] content;
+
+        GitObject(String id, String type, long size, byte[] content) {
+            this.id = id;
+            this.type = type;
+            this.size = size;
+            this.content = content;
+        }
+
+        /** Returns SHA-1 of the object. */
+        public String getId() {
+            return id;
+        }
+
+        /** Returns type of the object, e.g. <i>blob</i>. */
+        public String getType() {
+            return type;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        /** Returns content of the object or {@code null} if content isn't requested. */
+        public byte[] getContent() {
+            return content;
+        }
+    }
+
+    /** One of cat-file processes. */
+    private class Pipe {
+        private final String   mode;
+        private final Watchdog idleWatchdog;
+
+        private Process      process;
+        private InputStream  stdout;
+        private OutputStream stdin;
+
+        Pipe(String mode) {
+            this.mode = mode;
+            this.idleWatchdog = new Watchdog(IDLE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+
+        synchronized GitObject request(String objectName, boolean withContent) throws GitException {
+            if (objectName.indexOf('\n') != -1) {
+                throw new GitException("Invalid object name " + objectName);
+            }
+            // process isn't idle while it serves the request, don't let the watchdog wait for the end of the request
+            idleWatchdog.stop();
+            try {
+                try {
+                    return doRequest(objectName, withContent);
+                } catch (IOException e) {
+                    // process might be stopped after previous request, e.g. killed by OS, try once again with new process
+                    LOG.debug(e.getMessage(), e);
+                    close();
+                    return doRequest(objectName, withContent);
+                }
+            } catch (IOException e) {
+                close();
+                throw new GitException(String.format("Unable to read object %s from repository %s: %s",
+                                                     objectName, repository, e.getMessage()), e);
+            } finally {
+                idleWatchdog.start(this::closeIdle);
+            }
+        }
+
+        private GitObject doRequest(String objectName, boolean withContent) throws IOException {
+            if (process == null) {
+                start();
+            }
+            stdin.write((objectName + '\n').getBytes(StandardCharsets.UTF_8));
+            stdin.flush();
+
+            // <sha1> SP <type> SP <size> LF or <object> SP missing LF
+            final String header = readLine();
+            if (header.endsWith(" missing") || header.endsWith(" ambiguous")) {
+                return null;
+            }
+            final String[] parts = header.split(" ");
+            if (parts.length != 3) {
+                throw new IOException("Unexpected output of git cat-file: " + header);
+            }
+            final long size = Long.parseLong(parts[2]);
+            byte[] content = null;
+            if (withContent) {
+                if (size > Integer.MAX_VALUE - 8) {
+                    throw new IOException("Object " + objectName + " is too big");
+                }
+                content = new byte[(int)size];
+                readFully(content);
+                if (stdout.read() != '\n') {
+                    throw new IOException("Unexpected output of git cat-file after content of " + objectName);
+                }
+            }
+            return new GitObject(parts[0], parts[1], size, content);
+        }
+
+        private void start() throws IOException {
+            final ProcessBuilder pb = new ProcessBuilder("git", "cat-file", mode).directory(repository)
+                                                                                 .redirectError(ProcessBuilder.Redirect.INHERIT);
+            pb.environment().put("LANG", "en_US.UTF-8");
+            process = pb.start();
+            stdout = new BufferedInputStream(process.getInputStream());
+            stdin = new BufferedOutputStream(process.getOutputStream());
+        }
+
+        private String readLine() throws IOException {
+            final StringBuilder line = new StringBuilder();
+            int b;
+            while ((b = stdout.read()) != '\n') {
+                if (b == -1) {
+                    throw new EOFException("git cat-file is terminated");
+                }
+                line.append((char)b);
+            }
+            return line.toString();
+        }
+
+        private void readFully(byte[] content) throws IOException {
+            int offset = 0;
+            while (offset < content.length) {
+                final int read = stdout.read(content, offset, content.length - offset);
+                if (read == -1) {
+                    throw new EOFException("git cat-file is terminated");
+                }
+                offset += read;
+            }
+        }
+
+        synchronized boolean isStopped() {
+            return process == null;
+        }
+
+        private void closeIdle() {
+            close();
+            removeIfStopped();
+        }
+
+        /**
+         * Stops the process without waiting for its exit. Idle processes are closed on the thread shared by all the
+         * watchdogs, so nothing here may block. cat-file has nothing to save, so it is destroyed right away, and its streams
+         * are closed after that, so flushing of stdin fails fast instead of waiting for the process to read it.
+         */
+        synchronized void close() {
+            idleWatchdog.stop();
+            if (process != null) {
+                process.destroy();
+                try {
+                    stdin.close();
+                } catch (IOException ignored) {
+                }
+                try {
+                    stdout.close();
+                } catch (IOException ignored) {
+                }
+                process = null;
+                stdout = null;
+                stdin = null;
+            }
+        }
+    }
+}
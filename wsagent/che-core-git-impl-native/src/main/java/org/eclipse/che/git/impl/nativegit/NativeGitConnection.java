@@ -686,15 +686,10 @@ public class NativeGitConnection implements GitConnection {
      *
      * @param gitObject
      *         revision object e.g. commit, tree, blob, tag.
-     * @return type of git object
+     * @return type of git object or {@code null} if there is no such object
      */
     private String getRevisionType(String gitObject) throws GitException {
-        EmptyGitCommand command = nativeGit.createEmptyGitCommand()
-                                           .setNextParameter("cat-file")
-                                           .setNextParameter("-t")
-                                           .setNextParameter(gitObject);
-        command.execute();
-        return command.getText();
+        return CatFileBatch.of(getWorkingDir()).getType(gitObject);
     }
 
     private String parseBranchName(String name) {
@@ -26,9 +26,10 @@ import java.util.List;
  */
 public class LogCommand extends GitCommand<List<Revision>> {
 
-    private int          count;
-    private String       branch;
-    private List<String> fileFilter;
+    private int            count;
+    private String         branch;
+    private List<String>   fileFilter;
+    private List<Revision> revisions;
 
     public LogCommand(File place) {
         super(place);
@@ -48,26 +49,46 @@ public class LogCommand extends GitCommand<List<Revision>> {
             commandLine.add("-" + count);
         }
         commandLine.add(fileFilter);
+        revisions = new LinkedList<>();
         start();
-        List<Revision> list = new LinkedList<>();
+        return revisions;
+    }
+
+    /** Parses revisions as soon as they are printed by git, other lines e.g. error messages are kept. */
+    @Override
+    public void writeLine(String line) {
+        final Revision revision = revisions == null ? null : parseRevision(line);
+        if (revision != null) {
+            revisions.add(revision);
+        } else {
+            super.writeLine(line);
+        }
+    }
+
+    private Revision parseRevision(String oneRev) {
+        String[] elements = oneRev.split("#");
+        if (elements.length < 6) {
+            return null;
+        }
+        int timeEnd = elements[4].indexOf(" ");
+        long commitTime;
+        try {
+            commitTime = Long.parseLong(timeEnd == -1 ? elements[4] : elements[4].substring(0, timeEnd)) * 1000L;
+        } catch (NumberFormatException e) {
+            return null;
+        }
         final DtoFactory dtoFactory = DtoFactory.getInstance();
-        for (String oneRev : lines) {
-            String[] elements = oneRev.split("#");
-            GitUser committer = dtoFactory.createDto(GitUser.class).withName(elements[2]).withEmail(elements[3]);
-            long commitTime = Long.parseLong(elements[4].substring(0, elements[4].indexOf(" "))) * 1000L;
-            String commitId = elements[5];
-            StringBuilder commitMessage = new StringBuilder();
-            for (int i = 6; i < elements.length; i++) {
-                commitMessage.append(elements[i]);
-            }
-            Revision revision = dtoFactory.createDto(Revision.class)
-                                          .withId(commitId)
-                                          .withMessage(commitMessage.toString())
-                                          .withCommitTime(commitTime)
-                                          .withCommitter(committer);
-            list.add(revision);
+        GitUser committer = dtoFactory.createDto(GitUser.class).withName(elements[2]).withEmail(elements[3]);
+        String commitId = elements[5];
+        StringBuilder commitMessage = new StringBuilder();
+        for (int i = 6; i < elements.length; i++) {
+            commitMessage.append(elements[i]);
         }
-        return list;
+        return dtoFactory.createDto(Revision.class)
+                         .withId(commitId)
+                         .withMessage(commitMessage.toString())
+                         .withCommitTime(commitTime)
+                         .withCommitter(committer);
     }
 
     /**
@@ -12,11 +12,13 @@ package org.eclipse.che.git.impl.nativegit.commands;
 
 import org.eclipse.che.api.git.GitException;
 import org.eclipse.che.api.git.shared.ShowFileContentResponse;
+import org.eclipse.che.git.impl.nativegit.CatFileBatch;
 
 import static java.lang.System.lineSeparator;
 import static org.eclipse.che.dto.server.DtoFactory.newDto;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.stream.Collectors;
 
 /**
@@ -34,6 +36,10 @@ public class ShowFileContentCommand extends GitCommand<ShowFileContentResponse>
     }
 
     /**
+     * Content of files is read with {@link CatFileBatch} of the repository and returned as is, decoded as UTF-8, with
+     * original line separators, the same as JGit implementation does. <i>git show</i> is used only for other objects e.g.
+     * directories.
+     *
      * @see GitCommand#execute()
      */
     @Override
@@ -41,6 +47,14 @@ public class ShowFileContentCommand extends GitCommand<ShowFileContentResponse>
         if (file == null) {
             throw new GitException("No file was set.");
         }
+        final CatFileBatch.GitObject object = CatFileBatch.of(getRepository()).read(version + ":" + file);
+        if (object == null) {
+            throw new GitException("fatal: Path '" + file + "' does not exist in '" + version + "'" + lineSeparator());
+        }
+        if ("blob".equals(object.getType())) {
+            return newDto(ShowFileContentResponse.class).withContent(new String(object.getContent(), StandardCharsets.UTF_8));
+        }
+
         reset();
         commandLine.add("show");
         commandLine.add(version + ":" + file);
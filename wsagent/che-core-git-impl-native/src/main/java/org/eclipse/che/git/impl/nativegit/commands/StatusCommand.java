@@ -15,6 +15,7 @@ import org.eclipse.che.api.git.shared.StatusFormat;
 
 import java.io.File;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Show repository status.
@@ -23,13 +24,19 @@ import java.util.List;
  */
 public class StatusCommand extends GitCommand<List<String>> {
 
-    private StatusFormat format;
+    private StatusFormat     format;
+    private Consumer<String> statusLineConsumer;
 
     public StatusCommand(File repository) {
         super(repository);
     }
 
-    /** @see GitCommand#execute() */
+    /**
+     * Returns output of the command, lines of porcelain status aren't included if they are passed to the
+     * {@link #setStatusLineConsumer(Consumer) consumer}.
+     *
+     * @see GitCommand#execute()
+     */
     @Override
     public List<String> execute() throws GitException {
         reset();
@@ -63,4 +70,27 @@ public class StatusCommand extends GitCommand<List<String>> {
         this.format = format;
         return this;
     }
+
+    /**
+     * Sets consumer which gets lines of {@link StatusFormat#PORCELAIN porcelain} status while they are printed by git,
+     * so they don't have to be collected before parsing.
+     *
+     * @param statusLineConsumer
+     *         consumer of the status lines
+     * @return StatusCommand with the established consumer
+     */
+    public StatusCommand setStatusLineConsumer(Consumer<String> statusLineConsumer) {
+        this.statusLineConsumer = statusLineConsumer;
+        return this;
+    }
+
+    @Override
+    public void writeLine(String line) {
+        // porcelain status line is 'XY PATH', other lines e.g. error messages are kept
+        if (statusLineConsumer != null && format == StatusFormat.PORCELAIN && line.length() > 3 && line.charAt(2) == ' ') {
+            statusLineConsumer.accept(line);
+        } else {
+            super.writeLine(line);
+        }
+    }
 }
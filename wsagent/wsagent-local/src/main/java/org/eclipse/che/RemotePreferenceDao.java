@@ -26,6 +26,7 @@ import javax.inject.Singleton;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Objects.requireNonNull;
 
@@ -38,6 +39,12 @@ import static java.util.Objects.requireNonNull;
 @Singleton
 public class RemotePreferenceDao implements PreferenceDao {
 
+    /**
+     * Preferences are read on many operations of the agent, cached preferences are evicted when they are updated
+     * through this dao, changes made by other clients become visible when cache entry expires.
+     */
+    private static final long PREFERENCES_CACHE_TTL_SECONDS = 10;
+
     private final String                 prefsUrl;
     private final HttpJsonRequestFactory requestFactory;
 
@@ -67,6 +74,7 @@ public class RemotePreferenceDao implements PreferenceDao {
         try {
             return requestFactory.fromUrl(prefsUrl)
                                  .useGetMethod()
+                                 .cacheFor(PREFERENCES_CACHE_TTL_SECONDS, TimeUnit.SECONDS)
                                  .request()
                                  .asProperties();
         } catch (IOException | UnauthorizedException | ForbiddenException | ConflictException | NotFoundException | BadRequestException ex) {
@@ -82,6 +90,7 @@ public class RemotePreferenceDao implements PreferenceDao {
             return requestFactory.fromUrl(prefsUrl)
                                  .useGetMethod()
                                  .addQueryParam("filter", filter)
+                                 .cacheFor(PREFERENCES_CACHE_TTL_SECONDS, TimeUnit.SECONDS)
                                  .request()
                                  .asProperties();
         } catch (IOException | UnauthorizedException | ForbiddenException | ConflictException | NotFoundException | BadRequestException ex) {
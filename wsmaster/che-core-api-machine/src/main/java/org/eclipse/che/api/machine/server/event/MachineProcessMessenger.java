@@ -14,6 +14,7 @@ import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.notification.EventSubscriber;
 import org.eclipse.che.api.machine.shared.dto.event.MachineProcessEvent;
 import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.everrest.JsonChannelBroadcastMessage;
 import org.everrest.websockets.WSConnectionContext;
 import org.everrest.websockets.message.ChannelBroadcastMessage;
 import org.slf4j.Logger;
@@ -43,9 +44,8 @@ public class MachineProcessMessenger implements EventSubscriber<MachineProcessEv
     @Override
     public void onEvent(MachineProcessEvent event) {
         try {
-            final ChannelBroadcastMessage bm = new ChannelBroadcastMessage();
-            bm.setChannel("machine:process:" + event.getMachineId());
-            bm.setBody(DtoFactory.getInstance().toJson(event));
+            final String channel = "machine:process:" + event.getMachineId();
+            final ChannelBroadcastMessage bm = new JsonChannelBroadcastMessage(channel, DtoFactory.getInstance().toJson(event));
             WSConnectionContext.sendMessage(bm);
         } catch (Exception e) {
             LOG.error(e.getLocalizedMessage(), e);
@@ -28,6 +28,7 @@ import javax.inject.Named;
 import javax.inject.Singleton;
 import javax.ws.rs.core.UriBuilder;
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Implementation of {@link SshServiceClient} that provide access to Ssh Service via http.
@@ -36,6 +37,9 @@ import java.io.IOException;
  */
 @Singleton
 public class HttpSshServiceClient implements SshServiceClient {
+    /** Pairs are requested on each ssh connection made by the agent, e.g. by git. */
+    private static final long PAIR_CACHE_TTL_SECONDS = 10;
+
     private final String                 sshUrl;
     private final HttpJsonRequestFactory requestFactory;
 
@@ -94,6 +98,7 @@ public class HttpSshServiceClient implements SshServiceClient {
 
             return requestFactory.fromUrl(url)
                                  .useGetMethod()
+                                 .cacheFor(PAIR_CACHE_TTL_SECONDS, TimeUnit.SECONDS)
                                  .request()
                                  .asDto(SshPairDto.class);
         } catch (IOException | ForbiddenException | BadRequestException | ConflictException | UnauthorizedException e) {
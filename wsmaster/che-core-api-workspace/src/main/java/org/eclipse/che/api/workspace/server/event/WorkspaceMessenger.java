@@ -14,6 +14,7 @@ import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.notification.EventSubscriber;
 import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent;
 import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.everrest.JsonChannelBroadcastMessage;
 import org.everrest.websockets.WSConnectionContext;
 import org.everrest.websockets.message.ChannelBroadcastMessage;
 import org.slf4j.Logger;
@@ -43,9 +44,8 @@ public class WorkspaceMessenger implements EventSubscriber<WorkspaceStatusEvent>
     @Override
     public void onEvent(WorkspaceStatusEvent event) {
         try {
-            final ChannelBroadcastMessage bm = new ChannelBroadcastMessage();
-            bm.setChannel("workspace:" + event.getWorkspaceId());
-            bm.setBody(DtoFactory.getInstance().toJson(event));
+            final String channel = "workspace:" + event.getWorkspaceId();
+            final ChannelBroadcastMessage bm = new JsonChannelBroadcastMessage(channel, DtoFactory.getInstance().toJson(event));
             WSConnectionContext.sendMessage(bm);
         } catch (Exception e) {
             LOG.error(e.getLocalizedMessage(), e);